@@ -42,6 +42,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.openecomp.sdc.asdctool.impl.validator.utils.VfModuleArtifactPayloadEx;
 import org.openecomp.sdc.be.components.distribution.engine.VfModuleArtifactPayload;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
@@ -86,7 +87,6 @@ import org.openecomp.sdc.common.api.ArtifactGroupTypeEnum;
 import org.openecomp.sdc.common.api.ArtifactTypeEnum;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -1079,7 +1079,7 @@ public class ArtifactUuidFix {
                 String uniqueId = UniqueIdBuilder.buildPropertyUniqueId(parent.getUniqueId(), toscaArtifact.getArtifactLabel());
                 toscaArtifact.setUniqueId(uniqueId);
                 toscaArtifact.setEsId(toscaArtifact.getUniqueId());
-                toscaArtifact.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(decodedPayload));
+                toscaArtifact.setArtifactChecksum(ArtifactDigestCalculator.calculateSdcChecksum(decodedPayload));
                 DAOArtifactData artifactData = new DAOArtifactData(toscaArtifact.getEsId(), decodedPayload);
                 artifactCassandraDao.saveArtifact(artifactData);
                 log.debug("Tosca yaml artifact esId  {} ", toscaArtifact.getEsId());
@@ -1101,7 +1101,7 @@ public class ArtifactUuidFix {
                 String uniqueId = UniqueIdBuilder.buildPropertyUniqueId(parent.getUniqueId(), csarArtifact.getArtifactLabel());
                 csarArtifact.setUniqueId(uniqueId);
                 csarArtifact.setEsId(csarArtifact.getUniqueId());
-                csarArtifact.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(decodedPayload));
+                csarArtifact.setArtifactChecksum(ArtifactDigestCalculator.calculateSdcChecksum(decodedPayload));
                 DAOArtifactData artifactData = new DAOArtifactData(csarArtifact.getEsId(), decodedPayload);
                 artifactCassandraDao.saveArtifact(artifactData);
                 log.debug("Tosca csar artifact esId  {} ", csarArtifact.getEsId());
@@ -1144,7 +1144,7 @@ public class ArtifactUuidFix {
             String vfModulePayloadString = gson.toJson(vfModulePayloadForCurrVF);
             log.debug("vfModulePayloadString {}", vfModulePayloadString);
             if (vfModulePayloadString != null) {
-                String newCheckSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(vfModulePayloadString.getBytes());
+                String newCheckSum = ArtifactDigestCalculator.calculateSdcChecksum(vfModulePayloadString.getBytes());
                 vfModuleArtifact.setArtifactChecksum(newCheckSum);
                 DAOArtifactData artifactData = new DAOArtifactData(vfModuleArtifact.getEsId(), vfModulePayloadString.getBytes());
                 artifactCassandraDao.saveArtifact(artifactData);
@@ -42,6 +42,7 @@ import org.openecomp.sdc.be.dao.DAOJanusGraphStrategy;
 import org.openecomp.sdc.be.dao.JanusGraphClientStrategy;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraClient;
+import org.openecomp.sdc.be.dao.cassandra.CatalogChangeCassandraDao;
 import org.openecomp.sdc.be.dao.config.DAOSpringConfig;
 import org.openecomp.sdc.be.dao.impl.HealingPipelineDao;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphClient;
@@ -51,10 +52,12 @@ import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
 import org.openecomp.sdc.be.model.DerivedNodeTypeResolver;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ArchiveOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ByToscaNameDerivedNodeTypeResolver;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.CatalogProjection;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.GroupsOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.NodeTemplateOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.NodeTypeOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaElementRequestCache;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.operations.api.IGraphLockOperation;
 import org.openecomp.sdc.be.model.operations.impl.GraphLockOperation;
@@ -172,6 +175,22 @@ public class ValidationToolConfiguration {
         return new TopologyTemplateOperation();
     }
 
+    @Bean(name = "tosca-element-request-cache")
+    public ToscaElementRequestCache toscaElementRequestCache(HealingJanusGraphDao janusGraphDao) {
+        return new ToscaElementRequestCache(janusGraphDao);
+    }
+
+    @Bean(name = "catalog-change-cassandra-dao")
+    public CatalogChangeCassandraDao catalogChangeCassandraDao(CassandraClient cassandraClient) {
+        return new CatalogChangeCassandraDao(cassandraClient);
+    }
+
+    @Bean(name = "catalog-projection")
+    public CatalogProjection catalogProjection(TopologyTemplateOperation topologyTemplateOperation,
+                                               CatalogChangeCassandraDao catalogChangeCassandraDao) {
+        return new CatalogProjection(topologyTemplateOperation, catalogChangeCassandraDao);
+    }
+
     @Bean(name = "node-template-operation")
     public NodeTemplateOperation nodeTemplateOperation() {
         return new NodeTemplateOperation();
@@ -22,10 +22,17 @@ package org.openecomp.sdc.be.plugins.etsi.nfv.nsd.security;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.cert.Certificate;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
 import org.openecomp.sdc.be.csar.security.api.CertificateManager;
 import org.openecomp.sdc.be.csar.security.api.CmsContentSigner;
 import org.openecomp.sdc.be.csar.security.api.model.CertificateInfo;
@@ -34,6 +41,8 @@ import org.openecomp.sdc.be.plugins.etsi.nfv.nsd.builder.NsdCsarManifestBuilder;
 import org.openecomp.sdc.be.plugins.etsi.nfv.nsd.model.NsdCsar;
 import org.openecomp.sdc.be.plugins.etsi.nfv.nsd.security.exception.NsdSignatureException;
 import org.openecomp.sdc.be.plugins.etsi.nfv.nsd.security.exception.NsdSignatureExceptionSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
@@ -47,10 +56,13 @@ public class NsdCsarEtsiOption2Signer {
 
     public static final String SDC_NSD_CERT_NAME = "SDC_NSD_CERT_NAME";
     public static final String SIGNATURE_EXTENSION = ".sig.cms";
+    private static final Logger LOGGER = LoggerFactory.getLogger(NsdCsarEtsiOption2Signer.class);
+    private static final int SIGNING_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
 
     private final CertificateManager certificateManager;
     private final CmsContentSigner cmsContentSigner;
     private final Environment environment;
+    private final ExecutorService signingExecutor;
 
     public NsdCsarEtsiOption2Signer(final CertificateManager certificateManager,
                                     final CmsContentSigner cmsContentSigner,
@@ -58,11 +70,23 @@ public class NsdCsarEtsiOption2Signer {
         this.certificateManager = certificateManager;
         this.cmsContentSigner = cmsContentSigner;
         this.environment = environment;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.signingExecutor = Executors.newFixedThreadPool(SIGNING_THREADS, runnable -> {
+            final Thread thread = new Thread(runnable, "NsdCsarSigner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        signingExecutor.shutdownNow();
     }
 
     /**
      * Sign each NSD CSAR artifact (files), generating a cms file for each. The manifest, though, have its signature added in its body instead of a separate
-     * CMS file. Modifies the given NSD CSAR by adding the file signatures and the modified manifest.
+     * CMS file. Modifies the given NSD CSAR by adding the file signatures and the modified manifest. The files are signed in parallel, with the
+     * certificate retrieved once for the package.
      *
      * @param nsdCsar the NSD CSAR
      * @throws NsdSignatureException when there was a problem while creating a file signature
@@ -74,17 +98,41 @@ public class NsdCsarEtsiOption2Signer {
         //ignore the manifest, the signature of the manifest goes inside the manifest itself ETSI 3.3.1 section 5.3
         final Map<String, byte[]> fileMap = nsdCsar.getFileMap().entrySet().stream()
             .filter(entry -> !nsdCsar.isManifest(entry.getKey()))
-            .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+            .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (first, second) -> first, LinkedHashMap::new));
 
-        for (final Entry<String, byte[]> fileEntry : fileMap.entrySet()) {
-            final byte[] signatureBytes = sign(fileEntry.getValue());
-            final String filePath = fileEntry.getKey();
-            nsdCsar.addFile(filePath + SIGNATURE_EXTENSION, signatureBytes);
+        if (!fileMap.isEmpty()) {
+            final long start = System.currentTimeMillis();
+            final Map<String, byte[]> signatureMap = signAll(fileMap, getValidCertificate());
+            signatureMap.forEach((filePath, signatureBytes) -> nsdCsar.addFile(filePath + SIGNATURE_EXTENSION, signatureBytes));
+            LOGGER.debug("Signed {} NSD CSAR files in {} ms", signatureMap.size(), System.currentTimeMillis() - start);
         }
 
         signManifest(nsdCsar);
     }
 
+    private Map<String, byte[]> signAll(final Map<String, byte[]> fileMap, final CertificateInfo certificateInfo) throws NsdSignatureException {
+        final Map<String, Future<byte[]>> signatureFutureMap = new LinkedHashMap<>();
+        fileMap.forEach((filePath, fileBytes) -> signatureFutureMap.put(filePath, signingExecutor.submit(() ->
+            createFileSignature(certificateInfo.getCertificate(), certificateInfo.getPrivateKey(), fileBytes).getBytes(StandardCharsets.UTF_8))));
+        final Map<String, byte[]> signatureMap = new LinkedHashMap<>();
+        try {
+            for (final Entry<String, Future<byte[]>> signatureFuture : signatureFutureMap.entrySet()) {
+                signatureMap.put(signatureFuture.getKey(), signatureFuture.getValue().get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw NsdSignatureExceptionSupplier.unableToCreateSignature(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof NsdSignatureException) {
+                throw (NsdSignatureException) e.getCause();
+            }
+            throw NsdSignatureExceptionSupplier.unableToCreateSignature(e);
+        } finally {
+            signatureFutureMap.values().forEach(signatureFuture -> signatureFuture.cancel(true));
+        }
+        return signatureMap;
+    }
+
     private void signManifest(final NsdCsar nsdCsar) throws NsdSignatureException {
         final Optional<Entry<String, byte[]>> manifestEntryOpt = nsdCsar.getFileMap().entrySet().stream()
             .filter(entry -> nsdCsar.isManifest(entry.getKey())).findFirst();
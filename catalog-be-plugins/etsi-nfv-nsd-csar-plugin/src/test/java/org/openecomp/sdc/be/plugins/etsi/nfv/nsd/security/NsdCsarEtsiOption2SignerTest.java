@@ -26,6 +26,8 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.openecomp.sdc.be.plugins.etsi.nfv.nsd.security.NsdCsarEtsiOption2Signer.SDC_NSD_CERT_NAME;
 import static org.openecomp.sdc.be.plugins.etsi.nfv.nsd.security.NsdCsarEtsiOption2Signer.SIGNATURE_EXTENSION;
@@ -88,6 +90,37 @@ class NsdCsarEtsiOption2SignerTest {
             nsdCsar.getFile("aFile" + SIGNATURE_EXTENSION), is(aFileSignedPemString.getBytes(StandardCharsets.UTF_8)));
     }
 
+    @Test
+    void signNsdWithManyFilesTest() throws NsdSignatureException, CmsSignatureException {
+        final NsdCsar nsdCsar = new NsdCsar("");
+        final int fileCount = 10;
+        for (int i = 0; i < fileCount; i++) {
+            nsdCsar.addFile("file" + i, ("file" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        when(cmsContentSigner.signData(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cmsContentSigner.formatToPemSignature(any()))
+            .thenAnswer(invocation -> new String((byte[]) invocation.getArgument(0), StandardCharsets.UTF_8) + "Pem");
+        nsdCsarEtsiOption2Signer.signArtifacts(nsdCsar);
+        assertThat("The NSD CSAR should contain the original files and their signatures",
+            nsdCsar.getFileMap().keySet(), hasSize(fileCount * 2));
+        for (int i = 0; i < fileCount; i++) {
+            assertThat("The signed file should be as expected",
+                nsdCsar.getFile("file" + i + SIGNATURE_EXTENSION), is(("file" + i + "Pem").getBytes(StandardCharsets.UTF_8)));
+        }
+        verify(certificateManager, times(1)).getCertificate(CERT_NAME);
+    }
+
+    @Test
+    void signNsdSignatureCreationErrorTest() throws CmsSignatureException {
+        final NsdCsar nsdCsar = new NsdCsar("");
+        nsdCsar.addFile("aFile", "aFile".getBytes(StandardCharsets.UTF_8));
+        nsdCsar.addFile("anotherFile", "anotherFile".getBytes(StandardCharsets.UTF_8));
+        when(cmsContentSigner.signData(any(), any(), any())).thenThrow(new CmsSignatureException(null, null));
+        final NsdSignatureException actualException = assertThrows(NsdSignatureException.class,
+            () -> nsdCsarEtsiOption2Signer.signArtifacts(nsdCsar));
+        assertThat(actualException.getMessage(), is(unableToCreateSignature(null).getMessage()));
+    }
+
     @Test
     void dontCreateNsdManifestSignatureFileTest() throws NsdSignatureException {
         final NsdCsar nsdCsar = new NsdCsar("nsdCsar");
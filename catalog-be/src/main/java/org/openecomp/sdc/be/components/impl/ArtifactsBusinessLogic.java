@@ -29,6 +29,7 @@ import com.google.gson.GsonBuilder;
 import fj.data.Either;
 import io.vavr.control.Option;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -56,6 +57,7 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.components.ArtifactsResolver;
 import org.openecomp.sdc.be.components.impl.ImportUtils.ResultStatusEnum;
 import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
+import org.openecomp.sdc.be.components.impl.artifact.ArtifactPayload;
 import org.openecomp.sdc.be.components.impl.artifact.ArtifactTypeToPayloadTypeSelector;
 import org.openecomp.sdc.be.components.impl.artifact.PayloadTypeEnum;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
@@ -73,6 +75,7 @@ import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.Configuration;
 import org.openecomp.sdc.be.config.Configuration.ArtifactTypeConfig;
 import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
@@ -350,11 +353,12 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return decodeToscaArtifactPayload(component, isInCertificationRequest, fetchTemplatesFromDB, artifactDefinition.getArtifactType()).left()
             .bind(payload -> {
                 // TODO: Avoid output argument
+                ArtifactPayload artifactPayload = ArtifactPayload.of(payload);
                 artifactDefinition.setPayload(payload);
                 artifactDefinition.setEsId(artifactDefinition.getUniqueId());
-                artifactDefinition.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(payload));
+                artifactDefinition.setArtifactChecksum(artifactPayload.getChecksum());
                 return lockComponentAndUpdateArtifact(component.getUniqueId(), artifactDefinition, AuditingActionEnum.ARTIFACT_PAYLOAD_UPDATE,
-                    artifactDefinition.getUniqueId(), user, component.getComponentType(), component, payload, shouldLock, inTransaction);
+                    artifactDefinition.getUniqueId(), user, component.getComponentType(), component, artifactPayload, shouldLock, inTransaction);
             }).right().map(ex -> {
                 // TODO: This should not be done but in order to keep this refactoring small enough, we stop here.
 
@@ -440,7 +444,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
 
     @VisibleForTesting
     public Either<ArtifactDefinition, Operation> handleUpdate(String componentId, ComponentTypeEnum componentType, ArtifactOperationInfo operation,
-                                                              String artifactId, ArtifactDefinition artifactInfo, byte[] decodedPayload,
+                                                              String artifactId, ArtifactDefinition artifactInfo, ArtifactPayload decodedPayload,
                                                               String origMd5, String originData, String interfaceName, String operationName,
                                                               AuditingActionEnum auditingAction, User user, Component parent,
                                                               boolean needUpdateGroup) {
@@ -830,8 +834,8 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                                                                AuditingActionEnum auditingAction, User user, ComponentTypeEnum componentType,
                                                                Component parent, String origMd5, String originData, String interfaceType,
                                                                String operationName) {
-        byte[] decodedPayload = validateInput(componentId, artifactInfo, operation, auditingAction, null, user, componentType, parent, origMd5,
-            originData, interfaceType, operationName);
+        ArtifactPayload decodedPayload = validateInput(componentId, artifactInfo, operation, auditingAction, null, user, componentType, parent,
+            origMd5, originData, interfaceType, operationName);
         return createArtifact(parent, componentId, artifactInfo, decodedPayload, componentType, auditingAction, interfaceType, operationName);
     }
 
@@ -855,8 +859,8 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
 
     private <T> Either<ArtifactDefinition, T> lockComponentAndUpdateArtifact(String parentId, ArtifactDefinition artifactInfo,
                                                                              AuditingActionEnum auditingAction, String artifactId, User user,
-                                                                             ComponentTypeEnum componentType, Component parent, byte[] decodedPayload,
-                                                                             boolean shouldLock, boolean inTransaction) {
+                                                                             ComponentTypeEnum componentType, Component parent,
+                                                                             ArtifactPayload decodedPayload, boolean shouldLock, boolean inTransaction) {
         boolean failed = false;
         boolean writeAudit = true;
         try {
@@ -880,17 +884,17 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         }
     }
 
-    private byte[] validateInput(String componentId, ArtifactDefinition artifactInfo, ArtifactOperationInfo operation,
-                                 AuditingActionEnum auditingAction, String artifactId, User user, ComponentTypeEnum componentType, Component parent,
-                                 String origMd5, String originData, String interfaceType, String operationName) {
+    private ArtifactPayload validateInput(String componentId, ArtifactDefinition artifactInfo, ArtifactOperationInfo operation,
+                                          AuditingActionEnum auditingAction, String artifactId, User user, ComponentTypeEnum componentType,
+                                          Component parent, String origMd5, String originData, String interfaceType, String operationName) {
         validateMd5(origMd5, originData, artifactInfo.getPayloadData(), operation);
         return getValidPayload(componentId, artifactInfo, operation, auditingAction, artifactId, user, componentType, parent, interfaceType,
             operationName);
     }
 
-    private byte[] getValidPayload(String componentId, ArtifactDefinition artifactInfo, ArtifactOperationInfo operation,
-                                   AuditingActionEnum auditingAction, String artifactId, User user, ComponentTypeEnum componentType, Component parent,
-                                   String interfaceType, String operationName) {
+    private ArtifactPayload getValidPayload(String componentId, ArtifactDefinition artifactInfo, ArtifactOperationInfo operation,
+                                            AuditingActionEnum auditingAction, String artifactId, User user, ComponentTypeEnum componentType,
+                                            Component parent, String interfaceType, String operationName) {
         // step 11
         Either<ArtifactDefinition, ResponseFormat> validateResult = validateInput(componentId, artifactInfo, operation, artifactId, user,
             interfaceType, operationName, componentType, parent);
@@ -899,7 +903,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             handleAuditing(auditingAction, parent, componentId, user, null, null, artifactId, responseFormat, componentType, null);
             throw new ByResponseFormatComponentException(responseFormat);
         }
-        Either<byte[], ResponseFormat> payloadEither = handlePayload(artifactInfo, isArtifactMetadataUpdate(auditingAction));
+        Either<ArtifactPayload, ResponseFormat> payloadEither = handlePayload(artifactInfo, isArtifactMetadataUpdate(auditingAction));
         if (payloadEither.isRight()) {
             ResponseFormat responseFormat = payloadEither.right().value();
             handleAuditing(auditingAction, parent, componentId, user, null, null, artifactId, responseFormat, componentType, null);
@@ -1633,7 +1637,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
 
     // ***************************************************************
     private Either<ArtifactDefinition, Operation> createArtifact(Component parent, String parentId, ArtifactDefinition artifactInfo,
-                                                                 byte[] decodedPayload, ComponentTypeEnum componentTypeEnum,
+                                                                 ArtifactPayload decodedPayload, ComponentTypeEnum componentTypeEnum,
                                                                  AuditingActionEnum auditingActionEnum, String interfaceType, String operationName) {
         DAOArtifactData artifactData = createEsArtifactData(artifactInfo, decodedPayload);
         if (artifactData == null) {
@@ -1779,10 +1783,10 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             .findFirst();
     }
 
-    private Either<Boolean, ResponseFormat> extractHeatParameters(ArtifactDefinition artifactInfo) {
+    private Either<Boolean, ResponseFormat> extractHeatParameters(ArtifactDefinition artifactInfo, byte[] decodedPayload) {
         // extract heat parameters
-        if (artifactInfo.getPayloadData() != null) {
-            String heatDecodedPayload = new String(Base64.decodeBase64(artifactInfo.getPayloadData()));
+        if (decodedPayload != null) {
+            String heatDecodedPayload = new String(decodedPayload);
             Either<List<HeatParameterDefinition>, ResultStatusEnum> heatParameters = ImportUtils
                 .getHeatParamsWithoutImplicitTypes(heatDecodedPayload, artifactInfo.getArtifactType());
             if (heatParameters.isRight() && (heatParameters.right().value() != ResultStatusEnum.ELEMENT_NOT_FOUND)) {
@@ -1818,36 +1822,49 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     @VisibleForTesting
     void validateHeatEnvDeploymentArtifact(final Component parentComponent, final String parentId, final ArtifactDefinition artifactInfo) {
         final Wrapper<ArtifactDefinition> heatMDWrapper = new Wrapper<>();
-        final Wrapper<byte[]> payloadWrapper = new Wrapper<>();
         validateYaml(artifactInfo);
         validateHeatExist(parentComponent.getUniqueId(), parentId, heatMDWrapper, artifactInfo, parentComponent.getComponentType());
         if (!heatMDWrapper.isEmpty()) {
-            fillArtifactPayload(payloadWrapper, heatMDWrapper.getInnerElement());
+            final ArtifactDefinition heatArtifact = heatMDWrapper.getInnerElement();
+            validateEnvVsHeat(artifactInfo, heatArtifact, getDecodedPayload(heatArtifact));
         }
-        if (!heatMDWrapper.isEmpty()) {
-            validateEnvVsHeat(artifactInfo, heatMDWrapper.getInnerElement(), payloadWrapper.getInnerElement());
+    }
+
+    /**
+     * @return the raw payload of the artifact, read from cassandra when the artifact does not hold it
+     */
+    private ArtifactPayload getDecodedPayload(ArtifactDefinition artifactDefinition) {
+        if (ArrayUtils.isEmpty(artifactDefinition.getPayloadData())) {
+            return readStoredPayload(artifactDefinition);
+        }
+        return decodePayload(artifactDefinition);
+    }
+
+    private static ArtifactPayload decodePayload(ArtifactDefinition artifactDefinition) {
+        return ArtifactPayload.decode(artifactDefinition.getPayloadData());
+    }
+
+    private ArtifactPayload readStoredPayload(ArtifactDefinition artifactDefinition) {
+        Either<DAOArtifactData, CassandraOperationStatus> eitherArtifactData = artifactCassandraDao.getArtifact(artifactDefinition.getEsId());
+        if (eitherArtifactData.isRight()) {
+            log.debug("Error getting payload for artifact:{}", artifactDefinition.getArtifactName());
+            throw new StorageException(DaoStatusConverter.convertCassandraStatusToStorageStatus(eitherArtifactData.right().value()));
         }
+        return ArtifactPayload.of(eitherArtifactData.left().value());
     }
 
     public void fillArtifactPayload(Wrapper<byte[]> payloadWrapper, ArtifactDefinition artifactDefinition) {
         if (ArrayUtils.isEmpty(artifactDefinition.getPayloadData())) {
-            Either<DAOArtifactData, CassandraOperationStatus> eitherArtifactData = artifactCassandraDao.getArtifact(artifactDefinition.getEsId());
-            if (eitherArtifactData.isLeft()) {
-                byte[] data = eitherArtifactData.left().value().getDataAsArray();
-                payloadWrapper.setInnerElement(Base64.encodeBase64(data));
-            } else {
-                log.debug("Error getting payload for artifact:{}", artifactDefinition.getArtifactName());
-                throw new StorageException(DaoStatusConverter.convertCassandraStatusToStorageStatus(eitherArtifactData.right().value()));
-            }
+            payloadWrapper.setInnerElement(Base64.encodeBase64(readStoredPayload(artifactDefinition).getContent()));
         } else {
             payloadWrapper.setInnerElement(artifactDefinition.getPayloadData());
         }
     }
 
-    private void validateEnvVsHeat(ArtifactDefinition envArtifact, ArtifactDefinition heatArtifact, byte[] heatPayloadData) {
-        String envPayload = new String(Base64.decodeBase64(envArtifact.getPayloadData()));
+    private void validateEnvVsHeat(ArtifactDefinition envArtifact, ArtifactDefinition heatArtifact, ArtifactPayload heatPayload) {
+        String envPayload = new String(decodePayload(envArtifact).getContent());
         Map<String, Object> heatEnvToscaJson = (Map<String, Object>) new Yaml().load(envPayload);
-        String heatDecodedPayload = new String(Base64.decodeBase64(heatPayloadData));
+        String heatDecodedPayload = new String(heatPayload.getContent());
         Map<String, Object> heatToscaJson = (Map<String, Object>) new Yaml().load(heatDecodedPayload);
         Either<Map<String, Object>, ResultStatusEnum> eitherHeatEnvProperties = ImportUtils
             .findFirstToscaMapElement(heatEnvToscaJson, TypeUtils.ToscaTagNamesEnum.PARAMETERS);
@@ -1874,7 +1891,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
 
     private void validateYaml(ArtifactDefinition artifactInfo) {
         YamlToObjectConverter yamlConverter = new YamlToObjectConverter();
-        boolean isYamlValid = yamlConverter.isValidYamlEncoded64(artifactInfo.getPayloadData());
+        boolean isYamlValid = yamlConverter.isValidYaml(decodePayload(artifactInfo).getContent());
         if (!isYamlValid) {
             log.debug("Yaml is not valid for artifact : {}", artifactInfo.getArtifactName());
             throw new ByActionStatusComponentException(ActionStatus.INVALID_YAML, artifactInfo.getArtifactType());
@@ -2243,7 +2260,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     }
 
     private <T> Either<ArtifactDefinition, T> updateArtifactFlow(Component parent, String parentId, String artifactId,
-                                                                 ArtifactDefinition artifactInfo, byte[] decodedPayload,
+                                                                 ArtifactDefinition artifactInfo, ArtifactPayload decodedPayload,
                                                                  ComponentTypeEnum componentType, AuditingActionEnum auditingAction) {
         DAOArtifactData artifactData = createEsArtifactData(artifactInfo, decodedPayload);
         if (artifactData == null) {
@@ -2333,21 +2350,22 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     }
 
     @VisibleForTesting
-    private Either<byte[], ResponseFormat> handlePayload(ArtifactDefinition artifactInfo, boolean isArtifactMetadataUpdate) {
+    private Either<ArtifactPayload, ResponseFormat> handlePayload(ArtifactDefinition artifactInfo, boolean isArtifactMetadataUpdate) {
         log.trace("Starting payload handling");
         byte[] payload = artifactInfo.getPayloadData();
-        byte[] decodedPayload = null;
+        ArtifactPayload artifactPayload = null;
         if (payload != null && payload.length != 0) {
             // the generated artifacts were already decoded by the handler
-            decodedPayload = artifactInfo.getGenerated() ? payload : Base64.decodeBase64(payload);
-            if (decodedPayload.length == 0) {
+            artifactPayload = artifactInfo.getGenerated() ? ArtifactPayload.of(payload) : decodePayload(artifactInfo);
+            if (artifactPayload.isEmpty()) {
                 log.debug("Failed to decode the payload.");
                 ResponseFormat responseFormat = componentsUtils.getResponseFormat(ActionStatus.INVALID_CONTENT);
                 return Either.right(responseFormat);
             }
-            String checkSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(decodedPayload);
+            byte[] decodedPayload = artifactPayload.getContent();
+            String checkSum = artifactPayload.getChecksum();
             artifactInfo.setArtifactChecksum(checkSum);
-            log.trace("Calculated checksum, base64 payload: {},  checksum: {}", payload, checkSum);
+            log.trace("Calculated checksum, payload length: {},  checksum: {}", artifactPayload.getLength(), checkSum);
             // Specific payload validations of different types
             Either<Boolean, ResponseFormat> result = Either.left(true);
             if (isDeploymentArtifact(artifactInfo)) {
@@ -2366,7 +2384,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                 }
                 if (payloadType.isHeatRelated()) {
                     log.trace("Payload is heat related so going to extract heat parameters for artifact type {}", artifactType);
-                    result = extractHeatParameters(artifactInfo);
+                    result = extractHeatParameters(artifactInfo, decodedPayload);
                 }
             }
             if (result.isRight()) {
@@ -2385,7 +2403,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             }
         }
         log.trace("Ended payload handling");
-        return Either.left(decodedPayload);
+        return Either.left(artifactPayload);
     }
 
     private Optional<ResponseFormat> validateIfPmDictionary(String artifactType, byte[] decodedPayload) {
@@ -2696,6 +2714,24 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     }
 
     private ImmutablePair<String, byte[]> downloadArtifact(ArtifactDefinition artifactDefinition) {
+        ArtifactPayload payload = ArtifactPayload.of(readArtifactData(artifactDefinition));
+        String artifactName = artifactDefinition.getArtifactName();
+        log.trace("Download of artifact succeeded, uniqueId {}, artifact file name {}", artifactDefinition.getUniqueId(), artifactName);
+        return new ImmutablePair<>(artifactName, payload.getContent());
+    }
+
+    /**
+     * @return a view of the payload as read from cassandra, so that it can be written out without being copied. The view is not read only,
+     * as that would hide its backing array, so it must not be modified.
+     */
+    private ByteBuffer readArtifactPayload(ArtifactDefinition artifactDefinition) {
+        ByteBuffer data = readArtifactData(artifactDefinition).getData().duplicate();
+        log.trace("Download of artifact succeeded, uniqueId {}, artifact file name {}", artifactDefinition.getUniqueId(),
+            artifactDefinition.getArtifactName());
+        return data;
+    }
+
+    private DAOArtifactData readArtifactData(ArtifactDefinition artifactDefinition) {
         String esArtifactId = artifactDefinition.getEsId();
         Either<DAOArtifactData, CassandraOperationStatus> artifactfromES = artifactCassandraDao.getArtifact(esArtifactId);
         if (artifactfromES.isRight()) {
@@ -2706,18 +2742,18 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             throw new ByActionStatusComponentException(actionStatus, artifactDefinition.getArtifactDisplayName());
         }
         DAOArtifactData DAOArtifactData = artifactfromES.left().value();
-        byte[] data = DAOArtifactData.getDataAsArray();
-        if (data == null) {
+        if (DAOArtifactData.getData() == null) {
             log.debug("Artifact data from cassandra is null");
             throw new ByActionStatusComponentException(ActionStatus.ARTIFACT_NOT_FOUND, artifactDefinition.getArtifactDisplayName());
         }
-        String artifactName = artifactDefinition.getArtifactName();
-        log.trace("Download of artifact succeeded, uniqueId {}, artifact file name {}", artifactDefinition.getUniqueId(), artifactName);
-        return new ImmutablePair<>(artifactName, data);
+        return DAOArtifactData;
     }
 
-    public DAOArtifactData createEsArtifactData(ArtifactDataDefinition artifactInfo, byte[] artifactPayload) {
-        return new DAOArtifactData(artifactInfo.getEsId(), artifactPayload);
+    public DAOArtifactData createEsArtifactData(ArtifactDataDefinition artifactInfo, ArtifactPayload artifactPayload) {
+        if (artifactPayload == null) {
+            return new DAOArtifactData(artifactInfo.getEsId(), null);
+        }
+        return artifactPayload.toArtifactData(artifactInfo.getEsId());
     }
 
     private void saveArtifactInCassandra(DAOArtifactData artifactData, Component parent, ArtifactDefinition artifactInfo, String currArtifactId,
@@ -2818,8 +2854,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
     }
 
     private Either<DAOArtifactData, ResponseFormat> createEsHeatEnvArtifactDataFromString(ArtifactDefinition artifactDefinition, String payloadStr) {
-        byte[] payload = payloadStr.getBytes();
-        DAOArtifactData artifactData = createEsArtifactData(artifactDefinition, payload);
+        DAOArtifactData artifactData = createEsArtifactData(artifactDefinition, ArtifactPayload.of(payloadStr.getBytes()));
         return Either.left(artifactData);
     }
 
@@ -2994,7 +3029,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                     resourceInstanceName);
                 return Either.right(artifactDataRes.right().value());
             }
-            String newCheckSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(artifactData.getDataAsArray());
+            String newCheckSum = ArtifactDigestCalculator.calculateSdcChecksum(artifactData.getDataAsArray());
             String oldCheckSum;
             String esArtifactId = artifactDefinition.getEsId();
             Either<DAOArtifactData, CassandraOperationStatus> artifactfromES;
@@ -3010,7 +3045,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                     return Either.right(componentsUtils.getResponseFormatByArtifactId(actionStatus, artifactDefinition.getArtifactDisplayName()));
                 }
                 DAOArtifactData = artifactfromES.left().value();
-                oldCheckSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(DAOArtifactData.getDataAsArray());
+                oldCheckSum = ArtifactDigestCalculator.calculateSdcChecksum(DAOArtifactData.getDataAsArray());
             } else {
                 oldCheckSum = artifactDefinition.getArtifactChecksum();
             }
@@ -3468,8 +3503,12 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return ret;
     }
 
-    public byte[] downloadComponentArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID,
-                                                   ResourceCommonInfo resourceCommonInfo) {
+    /**
+     * @return the artifact and a view of its payload, which must not be modified
+     */
+    public ImmutablePair<ArtifactDefinition, ByteBuffer> downloadComponentArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid,
+                                                                                         String artifactUUID,
+                                                                                         ResourceCommonInfo resourceCommonInfo) {
         Component component = getComponentByUuid(componentType, componentUuid);
         resourceCommonInfo.setResourceName(component.getName());
         return downloadArtifact(component.getAllArtifacts(), artifactUUID, component.getName());
@@ -3482,10 +3521,12 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
      * @param componentUuid
      * @param resourceInstanceName
      * @param artifactUUID
-     * @return
+     * @return the artifact and a view of its payload, which must not be modified
      */
-    public byte[] downloadResourceInstanceArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String resourceInstanceName,
-                                                          String artifactUUID) {
+    public ImmutablePair<ArtifactDefinition, ByteBuffer> downloadResourceInstanceArtifactByUUIDs(ComponentTypeEnum componentType,
+                                                                                                String componentUuid,
+                                                                                                String resourceInstanceName,
+                                                                                                String artifactUUID) {
         ComponentInstance resourceInstance = getRelatedComponentInstance(componentType, componentUuid, resourceInstanceName);
         if (resourceInstance != null) {
             return downloadArtifact(resourceInstance.getDeploymentArtifacts(), artifactUUID, resourceInstance.getName());
@@ -4144,8 +4185,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         };
     }
 
-    private byte[] downloadArtifact(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
-        ImmutablePair<String, byte[]> downloadArtifact;
+    private ImmutablePair<ArtifactDefinition, ByteBuffer> downloadArtifact(Map<String, ArtifactDefinition> artifacts, String artifactUUID,
+                                                                           String componentName) {
+        ByteBuffer payload;
         List<ArtifactDefinition> artifactsList = null;
         ArtifactDefinition deploymentArtifact;
         if (artifacts != null && !artifacts.isEmpty()) {
@@ -4157,9 +4199,9 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             throw new ByActionStatusComponentException(ActionStatus.ARTIFACT_NOT_FOUND, artifactUUID);
         }
         deploymentArtifact = artifactsList.get(0);
-        downloadArtifact = downloadArtifact(deploymentArtifact);
+        payload = readArtifactPayload(deploymentArtifact);
         log.trace("Succeeded to download artifact with uniqueId {}", deploymentArtifact.getUniqueId());
-        return downloadArtifact.getRight();
+        return new ImmutablePair<>(deploymentArtifact, payload);
     }
 
     private Component getLatestComponentByUuid(ComponentTypeEnum componentType, String componentUuid) {
@@ -52,6 +52,7 @@ import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.utils.MapUtil;
 import org.openecomp.sdc.be.datamodel.api.HighestFilterEnum;
+import org.openecomp.sdc.be.datatypes.components.ComponentMetadataDataDefinition;
 import org.openecomp.sdc.be.datatypes.components.ServiceMetadataDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
@@ -663,6 +664,33 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
         return Either.left(result);
     }
 
+    /**
+     * Reads the metadata of the component only, to version the data returned by {@link #getComponentDataFilteredByParams}.
+     *
+     * @param componentId
+     * @param user
+     * @return the version of the component data, empty when the component is checked out, as not every change to a checked out component
+     * updates its last update date
+     */
+    public Optional<String> getComponentDataVersion(String componentId, User user) {
+        if (user != null) {
+            validateUserExists(user);
+        }
+        Either<ComponentMetadataData, StorageOperationStatus> metadataEither = toscaOperationFacade.getComponentMetadata(componentId);
+        if (metadataEither.isRight()) {
+            log.debug("failed to get the metadata of component {}, error {}", componentId, metadataEither.right().value());
+            return Optional.empty();
+        }
+        ComponentMetadataDataDefinition metadata = metadataEither.left().value().getMetadataDataDefinition();
+        if (LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT.name().equals(metadata.getState())) {
+            return Optional.empty();
+        }
+        String distributionStatus =
+            metadata instanceof ServiceMetadataDataDefinition ? ((ServiceMetadataDataDefinition) metadata).getDistributionStatus() : null;
+        return Optional.of(String.join(":", metadata.getUniqueId(), String.valueOf(metadata.getLastUpdateDate()), metadata.getState(),
+            String.valueOf(metadata.isArchived()), String.valueOf(distributionStatus)));
+    }
+
     protected <T extends Component> void generateAndAddInputsFromGenericTypeProperties(T component, Resource genericType) {
         List<InputDefinition> genericAndComponentInputs = new ArrayList<>();
         List<InputDefinition> genericInputs = genericTypeBusinessLogic.generateInputsFromGenericTypeProperties(genericType);
@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +39,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -79,9 +82,12 @@ import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.ForwardingPathUtils;
 import org.openecomp.sdc.be.impl.ServiceFilterUtils;
 import org.openecomp.sdc.be.info.CreateAndAssotiateInfo;
+import org.openecomp.sdc.be.info.TopologyMutationRequest;
+import org.openecomp.sdc.be.info.TopologyMutationResult;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.AttributeDefinition;
 import org.openecomp.sdc.be.model.CapabilityDefinition;
+import org.openecomp.sdc.be.model.CapabilityRequirementRelationship;
 import org.openecomp.sdc.be.model.Component;
 import org.openecomp.sdc.be.model.ComponentInstance;
 import org.openecomp.sdc.be.model.ComponentInstanceAttribute;
@@ -1283,31 +1289,10 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
         }
         ComponentInstance componentInstance = componentInstanceOptional.get();
         try {
-            if (containerComponent instanceof Service || containerComponent instanceof Resource) {
-                final Either<String, StorageOperationStatus> deleteServiceFilterEither = nodeFilterOperation
-                    .deleteNodeFilter(containerComponent, componentInstanceId);
-                if (deleteServiceFilterEither.isRight()) {
-                    final ActionStatus status = componentsUtils
-                        .convertFromStorageResponse(deleteServiceFilterEither.right().value(), containerComponentType);
-                    janusGraphDao.rollback();
-                    throw new ByResponseFormatComponentException(componentsUtils.getResponseFormat(status, componentInstanceId));
-                }
-                final Either<ComponentInstance, ResponseFormat> resultOp = deleteNodeFiltersFromComponentInstance(containerComponent,
-                    componentInstance, containerComponentType, userId);
-                if (resultOp.isRight()) {
-                    janusGraphDao.rollback();
-                    throw new ByResponseFormatComponentException(resultOp.right().value());
-                }
-            }
+            deleteNodeFiltersOfComponentInstance(containerComponent, componentInstance, containerComponentType, userId);
             lockComponent(containerComponent, "deleteComponentInstance");
             final ComponentInstance deletedCompInstance = deleteComponentInstance(containerComponent, componentInstanceId, containerComponentType);
-            componentInstance = deleteForwardingPathsRelatedTobeDeletedComponentInstance(containerComponentId, containerComponentType,
-                deletedCompInstance);
-            final ActionStatus onDeleteOperationsStatus = onChangeInstanceOperationOrchestrator
-                .doOnDeleteInstanceOperations(containerComponent, componentInstanceId);
-            if (ActionStatus.OK != onDeleteOperationsStatus) {
-                throw new ByActionStatusComponentException(onDeleteOperationsStatus);
-            }
+            componentInstance = onComponentInstanceDeleted(containerComponent, containerComponentType, deletedCompInstance);
         } catch (final ComponentException e) {
             failed = true;
             throw e;
@@ -1317,6 +1302,47 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
         return componentInstance;
     }
 
+    /**
+     * Deletes the node filter of an instance and the node filters of the other instances of the container that refer to it.
+     */
+    private void deleteNodeFiltersOfComponentInstance(final Component containerComponent, final ComponentInstance componentInstance,
+                                                      final ComponentTypeEnum containerComponentType, final String userId) {
+        if (!(containerComponent instanceof Service || containerComponent instanceof Resource)) {
+            return;
+        }
+        final String componentInstanceId = componentInstance.getUniqueId();
+        final Either<String, StorageOperationStatus> deleteServiceFilterEither = nodeFilterOperation
+            .deleteNodeFilter(containerComponent, componentInstanceId);
+        if (deleteServiceFilterEither.isRight()) {
+            final ActionStatus status = componentsUtils.convertFromStorageResponse(deleteServiceFilterEither.right().value(), containerComponentType);
+            janusGraphDao.rollback();
+            throw new ByResponseFormatComponentException(componentsUtils.getResponseFormat(status, componentInstanceId));
+        }
+        final Either<ComponentInstance, ResponseFormat> resultOp = deleteNodeFiltersFromComponentInstance(containerComponent, componentInstance,
+            containerComponentType, userId);
+        if (resultOp.isRight()) {
+            janusGraphDao.rollback();
+            throw new ByResponseFormatComponentException(resultOp.right().value());
+        }
+    }
+
+    /**
+     * Deletes the forwarding paths going through a deleted instance and runs the operations that follow the deletion of an instance.
+     *
+     * @return the deleted instance
+     */
+    private ComponentInstance onComponentInstanceDeleted(final Component containerComponent, final ComponentTypeEnum containerComponentType,
+                                                         final ComponentInstance deletedInstance) {
+        final ComponentInstance componentInstance = deleteForwardingPathsRelatedTobeDeletedComponentInstance(containerComponent.getUniqueId(),
+            containerComponentType, deletedInstance);
+        final ActionStatus onDeleteOperationsStatus = onChangeInstanceOperationOrchestrator
+            .doOnDeleteInstanceOperations(containerComponent, deletedInstance.getUniqueId());
+        if (ActionStatus.OK != onDeleteOperationsStatus) {
+            throw new ByActionStatusComponentException(onDeleteOperationsStatus);
+        }
+        return componentInstance;
+    }
+
     /**
      * Try to modify the delete and return two cases
      *
@@ -1475,33 +1501,39 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
         }
         log.debug("The component instance {} has been removed from container component {}. ", componentInstanceId, containerComponent);
         ComponentInstance deletedInstance = findAndRemoveComponentInstanceFromContainerComponent(componentInstanceId, containerComponent);
+        deleteInputsAndOutputsOfComponentInstances(containerComponent, Collections.singletonList(componentInstanceId), containerComponentType);
+        return deletedInstance;
+    }
+
+    private void deleteInputsAndOutputsOfComponentInstances(Component containerComponent, Collection<String> componentInstanceIds,
+                                                            ComponentTypeEnum containerComponentType) {
+        String componentInstanceIdsParam = String.join(", ", componentInstanceIds);
         if (CollectionUtils.isNotEmpty(containerComponent.getInputs())) {
             List<InputDefinition> inputsToDelete = containerComponent.getInputs().stream()
-                .filter(i -> i.getInstanceUniqueId() != null && i.getInstanceUniqueId().equals(componentInstanceId)).collect(Collectors.toList());
+                .filter(i -> i.getInstanceUniqueId() != null && componentInstanceIds.contains(i.getInstanceUniqueId())).collect(Collectors.toList());
             if (CollectionUtils.isNotEmpty(inputsToDelete)) {
                 StorageOperationStatus deleteInputsRes = toscaOperationFacade
                     .deleteComponentInstanceInputsFromTopologyTemplate(containerComponent, inputsToDelete);
                 if (deleteInputsRes != StorageOperationStatus.OK) {
-                    log.debug("Failed to delete inputs of the component instance {} from container component. ", componentInstanceId);
+                    log.debug("Failed to delete inputs of the component instances {} from container component. ", componentInstanceIdsParam);
                     throw new ByActionStatusComponentException(componentsUtils.convertFromStorageResponse(deleteInputsRes, containerComponentType),
-                        componentInstanceId);
+                        componentInstanceIdsParam);
                 }
             }
         }
         if (CollectionUtils.isNotEmpty(containerComponent.getOutputs())) {
             final List<OutputDefinition> outputsToDelete = containerComponent.getOutputs().stream()
-                .filter(i -> i.getInstanceUniqueId() != null && i.getInstanceUniqueId().equals(componentInstanceId)).collect(Collectors.toList());
+                .filter(i -> i.getInstanceUniqueId() != null && componentInstanceIds.contains(i.getInstanceUniqueId())).collect(Collectors.toList());
             if (CollectionUtils.isNotEmpty(outputsToDelete)) {
                 final StorageOperationStatus deleteOutputsRes = toscaOperationFacade
                     .deleteComponentInstanceOutputsFromTopologyTemplate(containerComponent, outputsToDelete);
                 if (deleteOutputsRes != StorageOperationStatus.OK) {
-                    log.debug("Failed to delete outputs of the component instance {} from container component. ", componentInstanceId);
+                    log.debug("Failed to delete outputs of the component instances {} from container component. ", componentInstanceIdsParam);
                     throw new ByActionStatusComponentException(componentsUtils.convertFromStorageResponse(deleteOutputsRes, containerComponentType),
-                        componentInstanceId);
+                        componentInstanceIdsParam);
                 }
             }
         }
-        return deletedInstance;
     }
 
     private ComponentInstance findAndRemoveComponentInstanceFromContainerComponent(String componentInstanceId, Component containerComponent) {
@@ -1584,6 +1616,9 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
     }
 
     /**
+     * Dissociates several relations under a single lock. The relations are removed from the graph at once, so either all of them are removed or
+     * none is.
+     *
      * @param componentId
      * @param userId
      * @param requirementDefList
@@ -1597,21 +1632,47 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
         org.openecomp.sdc.be.model.Component containerComponent = validateComponentExists(componentId, componentTypeEnum, null);
         validateCanWorkOnComponent(containerComponent, userId);
         boolean failed = false;
-        List<RequirementCapabilityRelDef> delOkResult = new ArrayList<>();
         try {
             lockComponent(containerComponent, ASSOCIATE_RI_TO_RI);
-            for (RequirementCapabilityRelDef requirementDef : requirementDefList) {
-                RequirementCapabilityRelDef requirementCapabilityRelDef = dissociateRIFromRI(componentId, userId, requirementDef,
-                    containerComponent.getComponentType());
-                delOkResult.add(requirementCapabilityRelDef);
-            }
+            return dissociateRIFromRIOnGraph(containerComponent, requirementDefList);
         } catch (ComponentException e) {
             failed = true;
             throw e;
         } finally {
             unlockComponent(failed, containerComponent);
         }
-        return delOkResult;
+    }
+
+    private List<RequirementCapabilityRelDef> dissociateRIFromRIOnGraph(Component containerComponent,
+                                                                        List<RequirementCapabilityRelDef> requirementDefList) {
+        if (requirementDefList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        log.debug(TRY_TO_CREATE_ENTRY_ON_GRAPH);
+        Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> result = toscaOperationFacade
+            .dissociateResourceInstances(containerComponent.getUniqueId(), requirementDefList);
+        if (result.isRight()) {
+            log.debug("Failed to dissociate {} relations of component {}", requirementDefList.size(), containerComponent.getUniqueId());
+            throw buildDissociateException(containerComponent, requirementDefList.get(0), result.right().value());
+        }
+        log.debug(ENTITY_ON_GRAPH_IS_CREATED);
+        return new ArrayList<>(result.left().value());
+    }
+
+    private ByActionStatusComponentException buildDissociateException(Component containerComponent, RequirementCapabilityRelDef requirementDef,
+                                                                      StorageOperationStatus status) {
+        String fromNameOrId = requirementDef.getFromNode();
+        String toNameOrId = requirementDef.getToNode();
+        Either<ComponentInstance, StorageOperationStatus> fromResult = getResourceInstanceById(containerComponent, requirementDef.getFromNode());
+        Either<ComponentInstance, StorageOperationStatus> toResult = getResourceInstanceById(containerComponent, requirementDef.getToNode());
+        if (fromResult.isLeft()) {
+            fromNameOrId = fromResult.left().value().getName();
+        }
+        if (toResult.isLeft()) {
+            toNameOrId = toResult.left().value().getName();
+        }
+        return new ByActionStatusComponentException(componentsUtils.convertFromStorageResponseForResourceInstance(status, true), fromNameOrId,
+            toNameOrId, requirementDef.getRelationships().get(0).getRelation().getRequirement());
     }
 
     public RequirementCapabilityRelDef dissociateRIFromRI(String componentId, String userId, RequirementCapabilityRelDef requirementDef,
@@ -1630,22 +1691,7 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
                 return result.left().value();
             } else {
                 log.debug("Failed to dissocaite node  {} from node {}", requirementDef.getFromNode(), requirementDef.getToNode());
-                String fromNameOrId = "";
-                String toNameOrId = "";
-                Either<ComponentInstance, StorageOperationStatus> fromResult = getResourceInstanceById(containerComponent,
-                    requirementDef.getFromNode());
-                Either<ComponentInstance, StorageOperationStatus> toResult = getResourceInstanceById(containerComponent, requirementDef.getToNode());
-                toNameOrId = requirementDef.getFromNode();
-                fromNameOrId = requirementDef.getFromNode();
-                if (fromResult.isLeft()) {
-                    fromNameOrId = fromResult.left().value().getName();
-                }
-                if (toResult.isLeft()) {
-                    toNameOrId = toResult.left().value().getName();
-                }
-                throw new ByActionStatusComponentException(
-                    componentsUtils.convertFromStorageResponseForResourceInstance(result.right().value(), true), fromNameOrId, toNameOrId,
-                    requirementDef.getRelationships().get(0).getRelation().getRequirement());
+                throw buildDissociateException(containerComponent, requirementDef, result.right().value());
             }
         } catch (ComponentException e) {
             failed = true;
@@ -3692,6 +3738,314 @@ public class ComponentInstanceBusinessLogic extends BaseBusinessLogic {
         }
     }
 
+    /**
+     * Applies several changes to the topology of a container under a single lock. The instances are added one by one as by
+     * {@link #createComponentInstance(String, String, String, ComponentInstance, boolean)}, after which the container is read again. Then the
+     * instances are moved and persisted at once, the property values of every instance are written at once, the instances are deleted at once,
+     * the relations are dissociated at once and associated at once. The changes writing the composition of the container from the container read
+     * come before the ones reading it from the graph, so that the container does not need to be read again between them. Dissociations of
+     * relations of deleted instances are done by the deletion. The changes are all or nothing: once an item fails, the remaining items are not
+     * applied and the transaction is rolled back.
+     *
+     * @param containerComponentParam the container component type param name
+     * @param containerComponentId    the container unique id
+     * @param userId                  the user id
+     * @param request                 the changes to apply
+     * @return the result of every item of the request
+     */
+    public TopologyMutationResult bulkUpdateTopology(String containerComponentParam, String containerComponentId, String userId,
+                                                     TopologyMutationRequest request) {
+        validateUserExists(userId);
+        final ComponentTypeEnum containerComponentType = validateComponentType(containerComponentParam);
+        final Component containerComponent = validateComponentExists(containerComponentId, containerComponentType, null);
+        validateCanWorkOnComponent(containerComponent, userId);
+        final TopologyMutationResult result = new TopologyMutationResult();
+        boolean failed = false;
+        try {
+            lockComponent(containerComponent, "bulkUpdateTopology");
+            Component updatedContainer = containerComponent;
+            if (addComponentInstances(containerComponentParam, containerComponentId, userId, request.getAddInstances(), result)) {
+                updatedContainer = refreshContainerComponent(updatedContainer);
+                resolveAddedInstanceIds(request, result.getAddedInstanceIds());
+            }
+            moveComponentInstances(updatedContainer, containerComponentParam, userId, request.getMoveInstances(), result);
+            updateInstancesProperties(updatedContainer, request.getInstanceProperties(), result);
+            deleteComponentInstances(updatedContainer, containerComponentType, userId, request.getDeleteInstances(), result);
+            dissociateRelations(updatedContainer, request.getDissociateRelations(), request.getDeleteInstances(), result);
+            associateRelations(updatedContainer, request.getAssociateRelations(), result);
+            failed = result.hasFailures();
+        } catch (ComponentException e) {
+            failed = true;
+            throw e;
+        } finally {
+            unlockComponent(failed, containerComponent);
+        }
+        result.setApplied(!failed);
+        return result;
+    }
+
+    private Component refreshContainerComponent(Component containerComponent) {
+        Either<Component, StorageOperationStatus> refreshed = toscaOperationFacade.getToscaElement(containerComponent.getUniqueId());
+        if (refreshed.isRight()) {
+            log.debug("Failed to read the component {} again after adding instances to it", containerComponent.getUniqueId());
+            throw new ByActionStatusComponentException(componentsUtils.convertFromStorageResponse(refreshed.right().value()));
+        }
+        return refreshed.left().value();
+    }
+
+    private boolean addComponentInstances(String containerComponentParam, String containerComponentId, String userId,
+                                          List<ComponentInstance> componentInstances, TopologyMutationResult result) {
+        if (CollectionUtils.isEmpty(componentInstances)) {
+            return false;
+        }
+        boolean added = false;
+        for (ComponentInstance componentInstance : componentInstances) {
+            String requestId = componentInstance.getUniqueId();
+            String itemId = requestId != null ? requestId : componentInstance.getName();
+            if (result.hasFailures()) {
+                result.addItem("add", itemId, TopologyMutationResult.Status.NOT_APPLIED, null);
+                continue;
+            }
+            try {
+                // the unique id is generated on creation
+                componentInstance.setUniqueId(null);
+                ComponentInstance createdInstance = createComponentInstance(containerComponentParam, containerComponentId, userId,
+                    componentInstance, false);
+                if (requestId != null) {
+                    result.getAddedInstanceIds().put(requestId, createdInstance.getUniqueId());
+                }
+                result.addItem("add", itemId, TopologyMutationResult.Status.OK, null);
+                added = true;
+            } catch (ComponentException e) {
+                log.debug("Failed to add the component instance {} to component {}", itemId, containerComponentId);
+                result.addItem("add", itemId, TopologyMutationResult.Status.FAILED, getErrorMessage(e));
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Replaces the ids the added instances were given in the request by the unique ids of the created instances.
+     */
+    private void resolveAddedInstanceIds(TopologyMutationRequest request, Map<String, String> addedInstanceIds) {
+        if (addedInstanceIds.isEmpty()) {
+            return;
+        }
+        UnaryOperator<String> resolve = id -> addedInstanceIds.getOrDefault(id, id);
+        if (CollectionUtils.isNotEmpty(request.getMoveInstances())) {
+            request.getMoveInstances().forEach(instance -> instance.setUniqueId(resolve.apply(instance.getUniqueId())));
+        }
+        if (MapUtils.isNotEmpty(request.getInstanceProperties())) {
+            Map<String, List<ComponentInstanceProperty>> instanceProperties = new LinkedHashMap<>();
+            request.getInstanceProperties().forEach((id, properties) -> instanceProperties.put(resolve.apply(id), properties));
+            request.setInstanceProperties(instanceProperties);
+        }
+        if (CollectionUtils.isNotEmpty(request.getDeleteInstances())) {
+            request.setDeleteInstances(request.getDeleteInstances().stream().map(resolve).collect(Collectors.toList()));
+        }
+        Stream.of(request.getDissociateRelations(), request.getAssociateRelations()).filter(Objects::nonNull).flatMap(List::stream)
+            .forEach(relation -> {
+                relation.setFromNode(resolve.apply(relation.getFromNode()));
+                relation.setToNode(resolve.apply(relation.getToNode()));
+                if (relation.getRelationships() != null) {
+                    relation.getRelationships().stream().map(CapabilityRequirementRelationship::getRelation).filter(Objects::nonNull)
+                        .forEach(relationshipInfo -> {
+                            relationshipInfo.setCapabilityOwnerId(resolve.apply(relationshipInfo.getCapabilityOwnerId()));
+                            relationshipInfo.setRequirementOwnerId(resolve.apply(relationshipInfo.getRequirementOwnerId()));
+                        });
+                }
+            });
+    }
+
+    private void moveComponentInstances(Component containerComponent, String containerComponentParam, String userId,
+                                        List<ComponentInstance> componentInstances, TopologyMutationResult result) {
+        if (CollectionUtils.isEmpty(componentInstances)) {
+            return;
+        }
+        List<String> ids = componentInstances.stream().map(ComponentInstance::getUniqueId).collect(Collectors.toList());
+        if (result.hasFailures()) {
+            addTopologyItems(result, "move", ids, TopologyMutationResult.Status.NOT_APPLIED, null);
+            return;
+        }
+        try {
+            // also updates the instances of the container
+            updateComponentInstance(containerComponentParam, containerComponent, containerComponent.getUniqueId(), userId, componentInstances, false);
+            addTopologyItems(result, "move", ids, TopologyMutationResult.Status.OK, null);
+        } catch (ComponentException e) {
+            log.debug("Failed to move the component instances {} of component {}", ids, containerComponent.getUniqueId());
+            addTopologyItems(result, "move", ids, TopologyMutationResult.Status.FAILED, getErrorMessage(e));
+        }
+    }
+
+    private void deleteComponentInstances(Component containerComponent, ComponentTypeEnum containerComponentType, String userId,
+                                          List<String> componentInstanceIds, TopologyMutationResult result) {
+        if (CollectionUtils.isEmpty(componentInstanceIds)) {
+            return;
+        }
+        if (result.hasFailures()) {
+            addTopologyItems(result, "delete", componentInstanceIds, TopologyMutationResult.Status.NOT_APPLIED, null);
+            return;
+        }
+        try {
+            List<ComponentInstance> componentInstances = new ArrayList<>();
+            for (String componentInstanceId : componentInstanceIds) {
+                ComponentInstance componentInstance = containerComponent.getComponentInstanceById(componentInstanceId)
+                    .orElseThrow(() -> new ByActionStatusComponentException(ActionStatus.COMPONENT_INSTANCE_NOT_FOUND, componentInstanceId));
+                deleteNodeFiltersOfComponentInstance(containerComponent, componentInstance, containerComponentType, userId);
+                componentInstances.add(componentInstance);
+            }
+            Either<Component, StorageOperationStatus> deleteResult = toscaOperationFacade
+                .deleteComponentInstancesFromTopologyTemplate(containerComponent, componentInstanceIds);
+            if (deleteResult.isRight()) {
+                log.debug("Failed to delete the component instances {} of component {}", componentInstanceIds, containerComponent.getUniqueId());
+                ActionStatus status = componentsUtils.convertFromStorageResponse(deleteResult.right().value(), containerComponentType);
+                addTopologyItems(result, "delete", componentInstanceIds, TopologyMutationResult.Status.FAILED, status.name());
+                return;
+            }
+            deleteInputsAndOutputsOfComponentInstances(containerComponent, componentInstanceIds, containerComponentType);
+            for (ComponentInstance componentInstance : componentInstances) {
+                onComponentInstanceDeleted(containerComponent, containerComponentType, componentInstance);
+            }
+            addTopologyItems(result, "delete", componentInstanceIds, TopologyMutationResult.Status.OK, null);
+        } catch (ComponentException e) {
+            addTopologyItems(result, "delete", componentInstanceIds, TopologyMutationResult.Status.FAILED, getErrorMessage(e));
+        }
+    }
+
+    private void dissociateRelations(Component containerComponent, List<RequirementCapabilityRelDef> relations, List<String> deletedInstanceIds,
+                                     TopologyMutationResult result) {
+        if (CollectionUtils.isEmpty(relations)) {
+            return;
+        }
+        List<String> ids = relations.stream().map(this::getRelationItemId).collect(Collectors.toList());
+        if (result.hasFailures()) {
+            addTopologyItems(result, "dissociate", ids, TopologyMutationResult.Status.NOT_APPLIED, null);
+            return;
+        }
+        // the relations of the deleted instances were removed with them
+        Collection<String> deleted = deletedInstanceIds != null ? deletedInstanceIds : Collections.emptyList();
+        List<RequirementCapabilityRelDef> remainingRelations = relations.stream()
+            .filter(relation -> !deleted.contains(relation.getFromNode()) && !deleted.contains(relation.getToNode())).collect(Collectors.toList());
+        try {
+            dissociateRIFromRIOnGraph(containerComponent, remainingRelations);
+            addTopologyItems(result, "dissociate", ids, TopologyMutationResult.Status.OK, null);
+        } catch (ComponentException e) {
+            addTopologyItems(result, "dissociate", ids, TopologyMutationResult.Status.FAILED, getErrorMessage(e));
+        }
+    }
+
+    private void associateRelations(Component containerComponent, List<RequirementCapabilityRelDef> relations, TopologyMutationResult result) {
+        if (CollectionUtils.isEmpty(relations)) {
+            return;
+        }
+        List<String> ids = relations.stream().map(this::getRelationItemId).collect(Collectors.toList());
+        if (result.hasFailures()) {
+            addTopologyItems(result, "associate", ids, TopologyMutationResult.Status.NOT_APPLIED, null);
+            return;
+        }
+        Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> associateResult = toscaOperationFacade
+            .associateResourceInstances(null, containerComponent.getUniqueId(), relations);
+        if (associateResult.isRight()) {
+            log.debug("Failed to associate {} relations of component {}", relations.size(), containerComponent.getUniqueId());
+            addTopologyItems(result, "associate", ids, TopologyMutationResult.Status.FAILED, associateResult.right().value().name());
+            return;
+        }
+        addTopologyItems(result, "associate", ids, TopologyMutationResult.Status.OK, null);
+    }
+
+    private void updateInstancesProperties(Component containerComponent, Map<String, List<ComponentInstanceProperty>> instancesProperties,
+                                           TopologyMutationResult result) {
+        if (MapUtils.isEmpty(instancesProperties)) {
+            return;
+        }
+        for (Entry<String, List<ComponentInstanceProperty>> instanceProperties : instancesProperties.entrySet()) {
+            if (result.hasFailures()) {
+                result.addItem("properties", instanceProperties.getKey(), TopologyMutationResult.Status.NOT_APPLIED, null);
+                continue;
+            }
+            try {
+                updateInstanceProperties(containerComponent, instanceProperties.getKey(), instanceProperties.getValue());
+                result.addItem("properties", instanceProperties.getKey(), TopologyMutationResult.Status.OK, null);
+            } catch (ComponentException e) {
+                log.debug("Failed to update the properties of the component instance {} of component {}", instanceProperties.getKey(),
+                    containerComponent.getUniqueId());
+                result.addItem("properties", instanceProperties.getKey(), TopologyMutationResult.Status.FAILED, getErrorMessage(e));
+            }
+        }
+        if (!result.hasFailures()) {
+            // persists the new customization UUIDs of the instances
+            Either<Component, StorageOperationStatus> updateContainerRes = toscaOperationFacade
+                .updateComponentInstanceMetadataOfTopologyTemplate(containerComponent);
+            if (updateContainerRes.isRight()) {
+                ActionStatus actionStatus = componentsUtils.convertFromStorageResponseForResourceInstanceProperty(updateContainerRes.right().value());
+                throw new ByResponseFormatComponentException(componentsUtils.getResponseFormatForResourceInstanceProperty(actionStatus, ""));
+            }
+        }
+    }
+
+    /**
+     * Validates the property values of an instance like {@link #createOrUpdatePropertiesValues}, and writes all the properties of the instance
+     * at once. Capability properties are written one by one.
+     */
+    private void updateInstanceProperties(Component containerComponent, String componentInstanceId, List<ComponentInstanceProperty> properties) {
+        Either<ComponentInstance, StorageOperationStatus> resourceInstanceStatus = getResourceInstanceById(containerComponent, componentInstanceId);
+        if (resourceInstanceStatus.isRight()) {
+            throw new ByActionStatusComponentException(ActionStatus.COMPONENT_INSTANCE_NOT_FOUND_ON_CONTAINER, componentInstanceId,
+                RESOURCE_INSTANCE, SERVICE, containerComponent.getUniqueId());
+        }
+        ComponentInstance foundResourceInstance = resourceInstanceStatus.left().value();
+        List<ComponentInstanceProperty> updatedProperties = new ArrayList<>();
+        for (ComponentInstanceProperty property : properties) {
+            validateMandatoryFields(property);
+            ComponentInstanceProperty componentInstanceProperty = validatePropertyExistsOnComponent(property, containerComponent,
+                foundResourceInstance);
+            Either<String, ResponseFormat> updatedPropertyValue = updatePropertyObjectValue(property, false);
+            if (updatedPropertyValue.isRight()) {
+                throw new ByResponseFormatComponentException(updatedPropertyValue.right().value());
+            }
+            String updatedValue = updatedPropertyValue.left().value();
+            Optional<CapabilityDefinition> capPropDefinition = getPropertyCapabilityOfChildInstance(property.getParentUniqueId(),
+                foundResourceInstance.getCapabilities());
+            if (capPropDefinition.isPresent()) {
+                ResponseFormat capabilityPropertyResponse = updateCapabilityPropFromUpdateInstProp(property, updatedValue, containerComponent,
+                    foundResourceInstance, capPropDefinition.get().getType(), capPropDefinition.get().getName());
+                if (capabilityPropertyResponse.getStatus() != 200) {
+                    throw new ByResponseFormatComponentException(capabilityPropertyResponse);
+                }
+            } else {
+                componentInstanceProperty.setValue(updatedValue);
+                property.setValue(updatedValue);
+                updatedProperties.add(property);
+            }
+        }
+        if (!updatedProperties.isEmpty()) {
+            StorageOperationStatus status = toscaOperationFacade
+                .updateComponentInstanceProperties(containerComponent, componentInstanceId, updatedProperties);
+            if (status != StorageOperationStatus.OK) {
+                ActionStatus actionStatus = componentsUtils.convertFromStorageResponseForResourceInstanceProperty(status);
+                throw new ByResponseFormatComponentException(componentsUtils.getResponseFormatForResourceInstanceProperty(actionStatus, ""));
+            }
+            foundResourceInstance.setCustomizationUUID(UUID.randomUUID().toString());
+        }
+    }
+
+    private String getRelationItemId(RequirementCapabilityRelDef relation) {
+        return relation.getFromNode() + "->" + relation.getToNode();
+    }
+
+    private void addTopologyItems(TopologyMutationResult result, String operation, List<String> ids, TopologyMutationResult.Status status,
+                                  String message) {
+        ids.forEach(id -> result.addItem(operation, id, status, message));
+    }
+
+    private String getErrorMessage(ComponentException e) {
+        ResponseFormat responseFormat = e.getResponseFormat();
+        if (e.getActionStatus() == null && responseFormat != null && responseFormat.getRequestError() != null) {
+            return responseFormat.getFormattedMessage();
+        }
+        return String.valueOf(e.getActionStatus());
+    }
+
     private Either<ComponentInstance, ResponseFormat> batchDeleteComponentInstance(Component containerComponent, String containerComponentType,
                                                                                    String componentInstanceId) {
         ComponentInstance resultOp;
@@ -911,6 +911,22 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
     }
 
+    /**
+     * @return the version of the catalog returned by {@link #getCatalogComponents}, empty if it could not be read
+     */
+    public Optional<String> getCatalogComponentsVersion() {
+        try {
+            Either<String, StorageOperationStatus> version = toscaOperationFacade.getCatalogOrArchiveComponentsVersion(true);
+            if (version.isRight()) {
+                log.debug("failed to get the catalog version, error {}", version.right().value());
+                return Optional.empty();
+            }
+            return Optional.of(version.left().value());
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
     private Map<String, List<CatalogComponent>> groupByComponentType(List<CatalogComponent> components) {
         Map<String, List<CatalogComponent>> map = components.stream()
             .collect(Collectors.groupingBy(cmpt -> cmptTypeToString(cmpt.getComponentType())));
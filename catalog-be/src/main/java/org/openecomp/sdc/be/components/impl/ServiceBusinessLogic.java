@@ -64,6 +64,7 @@ import org.openecomp.sdc.be.components.distribution.engine.IDistributionEngine;
 import org.openecomp.sdc.be.components.distribution.engine.INotificationData;
 import org.openecomp.sdc.be.components.distribution.engine.VfModuleArtifactPayload;
 import org.openecomp.sdc.be.components.health.HealthCheckBusinessLogic;
+import org.openecomp.sdc.be.components.impl.artifact.ArtifactPayload;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ByResponseFormatComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
@@ -86,6 +87,7 @@ import org.openecomp.sdc.be.components.validation.service.ServiceTypeValidator;
 import org.openecomp.sdc.be.components.validation.service.ServiceValidator;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
@@ -155,7 +157,6 @@ import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.datastructure.Wrapper;
 import org.openecomp.sdc.common.kpi.api.ASDCKpiApi;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.common.util.ThreadLocalsHolder;
 import org.openecomp.sdc.common.util.ValidationUtils;
 import org.openecomp.sdc.exception.ResponseFormat;
@@ -1693,8 +1694,8 @@ public class ServiceBusinessLogic extends ComponentBusinessLogic {
         ArtifactDefinition result = null;
         Either<ArtifactDefinition, ResponseFormat> eitherPayload = artifactsBusinessLogic
             .generateArtifactPayload(vfModuleArtifact, ComponentTypeEnum.RESOURCE_INSTANCE, service, currVF.getName(), modifier, shouldLock,
-                inTransaction, System::currentTimeMillis, () -> Either.left(
-                    artifactsBusinessLogic.createEsArtifactData(vfModuleArtifact, payloadWrapper.getInnerElement().getBytes(StandardCharsets.UTF_8))),
+                inTransaction, System::currentTimeMillis, () -> Either.left(artifactsBusinessLogic
+                    .createEsArtifactData(vfModuleArtifact, ArtifactPayload.of(payloadWrapper.getInnerElement().getBytes(StandardCharsets.UTF_8)))),
                 currVF.getUniqueId());
         if (eitherPayload.isLeft()) {
             result = eitherPayload.left().value();
@@ -1720,7 +1721,7 @@ public class ServiceBusinessLogic extends ComponentBusinessLogic {
         vfModuleArtifactDefinition.setArtifactName(currVF.getNormalizedName() + "_modules.json");
         vfModuleArtifactDefinition.setPayloadData(vfModulePayloadString);
         if (vfModulePayloadString != null) {
-            newCheckSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(vfModulePayloadString.getBytes());
+            newCheckSum = ArtifactDigestCalculator.calculateSdcChecksum(vfModulePayloadString.getBytes());
         }
         vfModuleArtifactDefinition.setArtifactChecksum(newCheckSum);
         Either<ArtifactDefinition, StorageOperationStatus> addArtifactToComponent = artifactToscaOperation
@@ -0,0 +1,83 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.impl.artifact;
+
+import org.apache.commons.codec.binary.Base64;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
+import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+
+/**
+ * The raw content of an artifact. The Base64 payload of a request is decoded into it once, and the content is then kept as is down to
+ * cassandra and back to the download, only the json responses encoding it again. The content is shared, not copied, so it must not be
+ * modified.
+ */
+public final class ArtifactPayload {
+
+    private final byte[] content;
+
+    private ArtifactPayload(byte[] content) {
+        this.content = content;
+    }
+
+    public static ArtifactPayload of(byte[] content) {
+        return new ArtifactPayload(content);
+    }
+
+    /**
+     * @param encodedContent the Base64 encoded content, as sent in a request
+     */
+    public static ArtifactPayload decode(byte[] encodedContent) {
+        return new ArtifactPayload(Base64.decodeBase64(encodedContent));
+    }
+
+    public static ArtifactPayload of(DAOArtifactData artifactData) {
+        return new ArtifactPayload(artifactData.getDataAsArray());
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public int getLength() {
+        return content.length;
+    }
+
+    public boolean isEmpty() {
+        return content.length == 0;
+    }
+
+    /**
+     * @return the SDC checksum of the content
+     */
+    public String getChecksum() {
+        return ArtifactDigestCalculator.calculateSdcChecksum(content);
+    }
+
+    /**
+     * @return the content encoded in Base64, for the json responses
+     */
+    public String encode() {
+        return Base64.encodeBase64String(content);
+    }
+
+    public DAOArtifactData toArtifactData(String esId) {
+        return new DAOArtifactData(esId, content);
+    }
+}
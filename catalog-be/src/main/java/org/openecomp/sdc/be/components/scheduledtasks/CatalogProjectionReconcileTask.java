@@ -0,0 +1,82 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.scheduledtasks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.CatalogProjection;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the catalog projection at startup and then reconciles it against the graph periodically.
+ */
+@Component("catalogProjectionReconcileTask")
+public class CatalogProjectionReconcileTask extends AbstractScheduleTaskRunner implements Runnable {
+
+    private static final Logger log = Logger.getLogger(CatalogProjectionReconcileTask.class);
+    private static final long RECONCILE_INTERVAL_MINUTES = 10;
+    private final CatalogProjection catalogProjection;
+    private final JanusGraphDao janusGraphDao;
+    private final ScheduledExecutorService scheduledService = Executors
+        .newScheduledThreadPool(1, new BasicThreadFactory.Builder().namingPattern("CatalogProjectionThread-%d").build());
+
+    public CatalogProjectionReconcileTask(CatalogProjection catalogProjection, JanusGraphDao janusGraphDao) {
+        this.catalogProjection = catalogProjection;
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        log.debug("Start catalog projection task. interval {} minutes", RECONCILE_INTERVAL_MINUTES);
+        scheduledService.scheduleWithFixedDelay(this, 0, RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        shutdownExecutor();
+    }
+
+    @Override
+    public void run() {
+        try {
+            StorageOperationStatus status = catalogProjection.reconcile();
+            if (status != StorageOperationStatus.OK) {
+                log.error("failed to reconcile the catalog projection, error {}", status);
+            }
+        } catch (Exception e) {
+            log.error("unexpected error while reconciling the catalog projection", e);
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        return scheduledService;
+    }
+}
@@ -29,11 +29,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -44,9 +44,13 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic.ArtifactOperationEnum;
 import org.openecomp.sdc.be.components.impl.ComponentInstanceBusinessLogic;
@@ -65,6 +69,7 @@ import org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum;
 import org.openecomp.sdc.be.resources.data.auditing.model.DistributionData;
 import org.openecomp.sdc.be.resources.data.auditing.model.ResourceCommonInfo;
 import org.openecomp.sdc.be.servlets.AbstractValidationsServlet;
+import org.openecomp.sdc.be.servlets.ArtifactPayloadOutput;
 import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
@@ -88,6 +93,11 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
 
     private static final String FAILED_TO_UPDATE_ARTIFACT = "failed to update artifact";
     private static final String DOUBLE_CURLY_BRACKETS = "{} {}";
+    private static final String RANGE_HEADER = "Range";
+    private static final String IF_RANGE_HEADER = "If-Range";
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
+    private static final String ACCEPT_RANGES_HEADER = "Accept-Ranges";
+    private static final String BYTES_UNIT = "bytes";
     private static final Logger log = Logger.getLogger(ArtifactExternalServlet.class);
     private static String startLog = "Start handle request of ";
     private final ArtifactsBusinessLogic artifactsBusinessLogic;
@@ -722,7 +732,10 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         @Parameter(schema = @Schema(allowableValues = {
             "resources,services"}), description = "The requested asset type", required = true) @PathParam("assetType") final String assetType,
         @Parameter(description = "The uuid of the asset as published in the metadata", required = true) @PathParam("uuid") final String uuid,
-        @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID) {
+        @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID,
+        @Parameter(description = "A single byte range of the artifact to download", required = false) @HeaderParam(value = RANGE_HEADER) String range,
+        @Parameter(description = "Entity tag the range applies to", required = false) @HeaderParam(value = IF_RANGE_HEADER) String ifRange,
+        @Parameter(description = "Entity tag of the artifact held by the client", required = false) @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
         Wrapper<Response> responseWrapper = new Wrapper<>();
         ResponseFormat responseFormat = null;
         String requestURI = request.getRequestURI();
@@ -747,17 +760,14 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     requestId, artifactUUID, userId);
             return responseWrapper.getInnerElement();
         }
-        byte[] value = artifactsBusinessLogic.downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
-        try (InputStream is = new ByteArrayInputStream(value)) {
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
+        try {
+            ImmutablePair<ArtifactDefinition, ByteBuffer> artifact = artifactsBusinessLogic
+                .downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
             responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
+            responseWrapper.setInnerElement(buildArtifactPayloadResponse(artifact, range, ifRange, ifNoneMatch));
         } catch (ComponentException e) {
             responseFormat = getComponentsUtils().getResponseFormat(e);
             throw e;
-        } catch (IOException e) {
-            log.debug("close ByteArrayInputStream error");
         } finally {
             getComponentsUtils()
                 .auditExternalDownloadArtifact(responseFormat, resourceCommonInfo, new DistributionData(instanceIdHeader, requestURI), requestId,
@@ -792,7 +802,10 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         @Parameter(description = "The requested asset type", required = true) @PathParam("assetType") final String assetType,
         @Parameter(description = "The uuid of the asset as published in the metadata", required = true) @PathParam("uuid") final String uuid,
         @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID,
-        @Parameter(description = "The component instance name (as publishedin the response of the detailed query)", required = true) @PathParam("resourceInstanceName") final String resourceInstanceName) {
+        @Parameter(description = "The component instance name (as publishedin the response of the detailed query)", required = true) @PathParam("resourceInstanceName") final String resourceInstanceName,
+        @Parameter(description = "A single byte range of the artifact to download", required = false) @HeaderParam(value = RANGE_HEADER) String range,
+        @Parameter(description = "Entity tag the range applies to", required = false) @HeaderParam(value = IF_RANGE_HEADER) String ifRange,
+        @Parameter(description = "Entity tag of the artifact held by the client", required = false) @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
         Wrapper<Response> responseWrapper = new Wrapper<>();
         ResponseFormat responseFormat = null;
         String requestURI = request.getRequestURI();
@@ -815,22 +828,61 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID, userId);
             return responseWrapper.getInnerElement();
         }
-        byte[] value = artifactsBusinessLogic
+        try {
+            ImmutablePair<ArtifactDefinition, ByteBuffer> artifact = artifactsBusinessLogic
                 .downloadResourceInstanceArtifactByUUIDs(componentType, uuid, resourceInstanceName, artifactUUID);
-        try (InputStream is = new ByteArrayInputStream(value)) {
-            Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
             responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
-            responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
+            responseWrapper.setInnerElement(buildArtifactPayloadResponse(artifact, range, ifRange, ifNoneMatch));
         } catch (ComponentException e) {
             responseFormat = getComponentsUtils().getResponseFormat(e);
             throw e;
-        } catch (IOException e) {
-            log.debug("close ByteArrayInputStream error");
         } finally {
             getComponentsUtils().auditExternalDownloadArtifact(responseFormat, new ResourceCommonInfo(resourceInstanceName, componentTypeValue),
                 new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID, userId);
         }
         return responseWrapper.getInnerElement();
     }
+
+    /**
+     * Streams the artifact payload, or the requested byte range of it, tagged with the artifact checksum. The checksum held in the artifact
+     * metadata only identifies the version of the artifact, so the Content-MD5 of a whole payload is calculated from the bytes sent.
+     */
+    private Response buildArtifactPayloadResponse(ImmutablePair<ArtifactDefinition, ByteBuffer> artifact, String range, String ifRange,
+                                                  String ifNoneMatch) {
+        ArtifactPayloadOutput payload = new ArtifactPayloadOutput(artifact.getRight());
+        int length = payload.getLength();
+        String checksum = artifact.getLeft().getArtifactChecksum();
+        if (StringUtils.isEmpty(checksum)) {
+            checksum = payload.getChecksum();
+        }
+        EntityTag entityTag = new EntityTag(checksum);
+        if (isNotModified(ifNoneMatch, entityTag)) {
+            return buildNotModifiedResponse(entityTag);
+        }
+        // a range of another version of the artifact can't be resumed, so the whole payload is sent
+        Optional<int[]> byteRange =
+            ifRange == null || ifRange.trim().equals(quote(entityTag)) ? ArtifactPayloadOutput.parseRange(range, length) : Optional.empty();
+        if (byteRange.isPresent() && byteRange.get().length == 0) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE).header(CONTENT_RANGE_HEADER, BYTES_UNIT + " */" + length)
+                .build();
+        }
+        ResponseBuilder responseBuilder;
+        if (byteRange.isPresent()) {
+            int first = byteRange.get()[0];
+            int last = byteRange.get()[1];
+            log.debug("sending bytes {}-{} of artifact {}", first, last, artifact.getLeft().getArtifactUUID());
+            payload = payload.range(first, last);
+            responseBuilder = Response.status(Response.Status.PARTIAL_CONTENT)
+                .header(CONTENT_RANGE_HEADER, BYTES_UNIT + " " + first + "-" + last + "/" + length);
+        } else {
+            String contentMd5 = payload.getChecksum();
+            if (!contentMd5.equals(checksum)) {
+                log.warn("the checksum {} of artifact {} doesn't match its payload, sending the payload checksum {}", checksum,
+                    artifact.getLeft().getArtifactUUID(), contentMd5);
+            }
+            responseBuilder = Response.status(Response.Status.OK).header(Constants.MD5_HEADER, contentMd5);
+        }
+        return responseBuilder.entity(payload).header(HttpHeaders.CONTENT_LENGTH, payload.getLength())
+            .header(HttpHeaders.ETAG, quote(entityTag)).header(ACCEPT_RANGES_HEADER, BYTES_UNIT).build();
+    }
 }
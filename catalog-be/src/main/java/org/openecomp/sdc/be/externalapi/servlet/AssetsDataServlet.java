@@ -63,6 +63,7 @@ import org.openecomp.sdc.be.components.impl.aaf.AafPermission;
 import org.openecomp.sdc.be.components.impl.aaf.PermissionAllowed;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.FilterKeyEnum;
@@ -80,7 +81,6 @@ import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.stereotype.Controller;
 
@@ -337,7 +337,7 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             ImmutablePair<String, byte[]> csarArtifact = componentBusinessLogic.getToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo);
             byte[] value = csarArtifact.getRight();
             InputStream is = new ByteArrayInputStream(value);
-            String contenetMD5 = GeneralUtility.calculateMD5Base64EncodedByByteArray(value);
+            String contenetMD5 = ArtifactDigestCalculator.calculateSdcChecksum(value);
             Map<String, String> headers = new HashMap<>();
             headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarArtifact.getLeft()));
             headers.put(Constants.MD5_HEADER, contenetMD5);
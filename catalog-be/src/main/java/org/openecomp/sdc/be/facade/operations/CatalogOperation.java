@@ -32,6 +32,7 @@ import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.be.model.CatalogUpdateTimestamp;
 import org.openecomp.sdc.be.model.Component;
 import org.openecomp.sdc.be.model.Resource;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.CatalogProjection;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 
 @org.springframework.stereotype.Component
@@ -40,14 +41,17 @@ public class CatalogOperation {
     private static final Logger log = Logger.getLogger(CatalogOperation.class);
     private static final List<ResourceTypeEnum> EXCLUDE_TYPES = Arrays.asList(ResourceTypeEnum.VFCMT, ResourceTypeEnum.Configuration);
     private final DmaapProducer msProducer;
+    private final CatalogProjection catalogProjection;
 
-    public CatalogOperation(DmaapProducer msProducer) {
+    public CatalogOperation(DmaapProducer msProducer, CatalogProjection catalogProjection) {
         this.msProducer = msProducer;
+        this.catalogProjection = catalogProjection;
     }
 
     public ActionStatus updateCatalog(ChangeTypeEnum changeTypeEnum, Component component) {
         ActionStatus result = ActionStatus.OK;
         try {
+            catalogProjection.onComponentChange(component.getInvariantUUID());
             if (isNeedToUpdateCatalog(component)) {
                 IComponentMessage message = new ComponentMessage(component, changeTypeEnum,
                     CatalogUpdateTimestamp.buildDummyCatalogUpdateTimestamp());
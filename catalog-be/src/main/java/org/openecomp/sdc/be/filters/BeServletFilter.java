@@ -24,11 +24,15 @@ import java.io.IOException;
 import javax.annotation.Priority;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
 import org.onap.logging.filter.base.AuditLogContainerFilter;
 import org.onap.logging.ref.slf4j.ONAPLogConstants;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
@@ -36,8 +40,11 @@ import org.openecomp.sdc.be.config.Configuration;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationMetrics;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphTransactionOutcome;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.WebAppContextWrapper;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaElementRequestCache;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.api.ILogConfiguration;
 import org.openecomp.sdc.common.log.enums.Severity;
@@ -49,11 +56,14 @@ import org.springframework.web.context.WebApplicationContext;
 
 @Provider
 @Priority(1)
-public class BeServletFilter extends AuditLogContainerFilter {
+public class BeServletFilter extends AuditLogContainerFilter implements WriterInterceptor {
 
     private static final Logger log = Logger.getLogger(BeServletFilter.class);
+    private static final String RELEASE_TRANSACTION_AFTER_RESPONSE = "sdc.releaseTransactionAfterResponse";
     @Context
     private HttpServletRequest sr;
+    @Context
+    private ResourceInfo resourceInfo;
 
     @Override
     public void filter(ContainerRequestContext requestContext) {
@@ -68,9 +78,12 @@ public class BeServletFilter extends AuditLogContainerFilter {
                 ThreadLocalsHolder.setMdcProcessed(true);
                 // Timing HTTP request
                 ThreadLocalsHolder.setRequestStartTime(System.currentTimeMillis());
+                JanusGraphOperationMetrics.getInstance().startRequest();
                 processMdcFields(requestContext);
                 ThreadLocalsHolder.setUuid(MDC.get(ONAPLogConstants.MDCs.REQUEST_ID));
                 inHttpRequest();
+                releaseLeftoverTransaction();
+                beginRequestCache();
             } catch (Exception e) {
                 BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Error during request filter");
                 log.debug("Error during request filter: {} ", e);
@@ -89,7 +102,6 @@ public class BeServletFilter extends AuditLogContainerFilter {
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
         if (isLoggedRequest()) {
             try {
-                super.filter(requestContext, responseContext);
                 // Formatting the response in case of 405
                 if (responseContext.getStatus() == Response.Status.METHOD_NOT_ALLOWED.getStatusCode()) {
                     ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.NOT_ALLOWED);
@@ -101,35 +113,136 @@ public class BeServletFilter extends AuditLogContainerFilter {
                     // flow
                     responseContext.getHeaders().add(Constants.X_ECOMP_REQUEST_ID_HEADER, ThreadLocalsHolder.getUuid());
                 }
-                writeToJanusGraph(responseContext);
+                try {
+                    writeToJanusGraph(requestContext, responseContext);
+                } finally {
+                    // the transaction is ended first, so that its commit is part of the audit record
+                    putGraphOperationsInAuditRecord();
+                    super.filter(requestContext, responseContext);
+                }
                 outHttpResponse(responseContext);
             } catch (Exception e) {
                 BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Error during request filter");
                 log.debug("Error during response filter: {} ", e);
             } finally {
                 // Cleaning up
+                JanusGraphOperationMetrics.getInstance().endRequest();
+                endRequestCache();
                 MDC.clear();
                 ThreadLocalsHolder.cleanup();
             }
         }
     }
 
-    private void writeToJanusGraph(ContainerResponseContext responseContext) {
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        try {
+            context.proceed();
+        } finally {
+            if (Boolean.TRUE.equals(context.getProperty(RELEASE_TRANSACTION_AFTER_RESPONSE))) {
+                context.removeProperty(RELEASE_TRANSACTION_AFTER_RESPONSE);
+                releaseTransactionAfterResponse();
+            }
+        }
+    }
+
+    private void writeToJanusGraph(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         log.debug("Close transaction from filter");
         HealingJanusGraphDao janusGraphDao = getJanusGraphDao();
         if (janusGraphDao != null) {
             int status = responseContext.getStatus();
-            if (status == Response.Status.OK.getStatusCode() || status == Response.Status.CREATED.getStatusCode()
-                || status == Response.Status.NO_CONTENT.getStatusCode()) {
-                janusGraphDao.commit();
-                log.debug("Doing commit from filter");
-            } else {
+            boolean succeeded = status == Response.Status.OK.getStatusCode() || status == Response.Status.CREATED.getStatusCode()
+                || status == Response.Status.NO_CONTENT.getStatusCode();
+            if (succeeded && responseContext.hasEntity() && isReleasedAfterResponse(janusGraphDao)) {
+                // nothing to commit, the transaction is closed once the body is written
+                requestContext.setProperty(RELEASE_TRANSACTION_AFTER_RESPONSE, Boolean.TRUE);
+                log.debug("Releasing transaction after the response from filter");
+                return;
+            }
+            endTransaction(janusGraphDao, succeeded);
+        }
+    }
+
+    private void endTransaction(HealingJanusGraphDao janusGraphDao, boolean succeeded) {
+        JanusGraphTransactionOutcome outcome = janusGraphDao.endTransaction(succeeded, isReadOnlyRequest());
+        log.debug("Transaction {} from filter", outcome);
+    }
+
+    private void releaseTransactionAfterResponse() {
+        try {
+            HealingJanusGraphDao janusGraphDao = getJanusGraphDao();
+            if (janusGraphDao != null) {
+                endTransaction(janusGraphDao, true);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to release the transaction after the response: {} ", e);
+        }
+    }
+
+    /**
+     * A transaction left open by a previous request on this thread, whose response body could not be written, must not be reused.
+     */
+    private void releaseLeftoverTransaction() {
+        if (getConfiguration().isReleaseReadOnlyTransactionsAfterResponse()) {
+            HealingJanusGraphDao janusGraphDao = getJanusGraphDao();
+            if (janusGraphDao != null && janusGraphDao.getCurrentThreadTransaction().isPresent()) {
+                log.debug("Rolling back a transaction left open by a previous request");
                 janusGraphDao.rollback();
-                log.debug("Doing rollback from filter");
             }
         }
     }
 
+    private boolean isReleasedAfterResponse(HealingJanusGraphDao janusGraphDao) {
+        return getConfiguration().isReleaseReadOnlyTransactionsAfterResponse() && isIdempotentRead() && janusGraphDao.getCurrentThreadTransaction()
+            .map(transaction -> !transaction.hasModifications()).orElse(false);
+    }
+
+    private boolean isReadOnlyRequest() {
+        return getConfiguration().isJanusGraphReadOnlyGetRequests() && isIdempotentRead();
+    }
+
+    private boolean isIdempotentRead() {
+        return HttpMethod.GET.equals(sr.getMethod()) || HttpMethod.HEAD.equals(sr.getMethod());
+    }
+
+    private Configuration getConfiguration() {
+        return ConfigurationManager.getConfigurationManager().getConfiguration();
+    }
+
+    // the audit record written by the response filter of the parent class holds the graph operations of the request in its custom field 4
+    private void putGraphOperationsInAuditRecord() {
+        JanusGraphOperationMetrics.RequestSummary graphOperations = JanusGraphOperationMetrics.getInstance().getRequestSummary();
+        if (!graphOperations.isEmpty()) {
+            MDC.put(ILogConfiguration.MDC_OPT_FIELD4, "GraphOperations=" + graphOperations);
+        }
+    }
+
+    private void beginRequestCache() {
+        try {
+            ToscaElementRequestCache toscaElementRequestCache = getToscaElementRequestCache();
+            // entries left by a request that did not end are dropped
+            toscaElementRequestCache.endRequest();
+            toscaElementRequestCache.beginRequest();
+        } catch (Exception e) {
+            log.debug("Failed to begin the request cache: {} ", e);
+        }
+    }
+
+    private void endRequestCache() {
+        try {
+            getToscaElementRequestCache().endRequest(getEndpointName());
+        } catch (Exception e) {
+            log.debug("Failed to end the request cache: {} ", e);
+        }
+    }
+
+    private String getEndpointName() {
+        if (resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+            return sr.getMethod();
+        }
+        return resourceInfo.getResourceClass().getSimpleName() + "." + resourceInfo.getResourceMethod().getName();
+    }
+
     private void processMdcFields(ContainerRequestContext requestContext) {
         // UserId for logging
         String userId = requestContext.getHeaderString(Constants.USER_ID_HEADER);
@@ -156,6 +269,14 @@ public class BeServletFilter extends AuditLogContainerFilter {
         return webApplicationContext.getBean(HealingJanusGraphDao.class);
     }
 
+    private ToscaElementRequestCache getToscaElementRequestCache() {
+        ServletContext context = this.sr.getSession().getServletContext();
+        WebAppContextWrapper webApplicationContextWrapper = (WebAppContextWrapper) context
+            .getAttribute(Constants.WEB_APPLICATION_CONTEXT_WRAPPER_ATTR);
+        WebApplicationContext webApplicationContext = webApplicationContextWrapper.getWebAppContext(context);
+        return webApplicationContext.getBean(ToscaElementRequestCache.class);
+    }
+
     // Extracted for purpose of clear method name, for logback %M parameter
     private void inHttpRequest() {
         log.info("{} {} {}", sr.getMethod(), sr.getRequestURI(), sr.getProtocol());
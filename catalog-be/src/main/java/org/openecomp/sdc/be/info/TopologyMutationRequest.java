@@ -0,0 +1,47 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.info;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.openecomp.sdc.be.model.ComponentInstance;
+import org.openecomp.sdc.be.model.ComponentInstanceProperty;
+import org.openecomp.sdc.be.model.RequirementCapabilityRelDef;
+
+/**
+ * The changes applied at once to the topology of a container. Instances are added first, then moved, the property values of instances are
+ * updated by instance unique id, instances are deleted, relations are dissociated and relations are associated. The unique id an added
+ * instance is given in the request can be used by the other changes to refer to it, and is replaced by the unique id of the created instance.
+ */
+@Getter
+@Setter
+public class TopologyMutationRequest {
+
+    private List<ComponentInstance> addInstances = new ArrayList<>();
+    private List<ComponentInstance> moveInstances = new ArrayList<>();
+    private List<RequirementCapabilityRelDef> dissociateRelations = new ArrayList<>();
+    private List<String> deleteInstances = new ArrayList<>();
+    private List<RequirementCapabilityRelDef> associateRelations = new ArrayList<>();
+    private Map<String, List<ComponentInstanceProperty>> instanceProperties = new LinkedHashMap<>();
+}
@@ -0,0 +1,67 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.info;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The outcome of a {@link TopologyMutationRequest}. The changes are applied all or nothing, every item reports whether it was applied, failed or
+ * was not applied because another item failed.
+ */
+@Getter
+@Setter
+public class TopologyMutationResult {
+
+    private boolean applied;
+    private List<Item> items = new ArrayList<>();
+    // unique id of every added instance, by the id it was given in the request
+    private Map<String, String> addedInstanceIds = new LinkedHashMap<>();
+
+    public void addItem(final String operation, final String id, final Status status, final String message) {
+        items.add(new Item(operation, id, status, message));
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(item -> item.getStatus() == Status.FAILED);
+    }
+
+    public enum Status {
+        OK, FAILED, NOT_APPLIED
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        private String operation;
+        private String id;
+        private Status status;
+        private String message;
+    }
+}
@@ -0,0 +1,121 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.ws.rs.core.StreamingOutput;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
+
+/**
+ * Writes an artifact payload, or a byte range of it, to the response straight from the buffer read from cassandra.
+ */
+public class ArtifactPayloadOutput implements StreamingOutput {
+
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    private final ByteBuffer payload;
+
+    public ArtifactPayloadOutput(ByteBuffer payload) {
+        this.payload = payload.duplicate();
+    }
+
+    public int getLength() {
+        return payload.remaining();
+    }
+
+    /**
+     * @return the SDC checksum of the bytes written, calculated from the buffer without copying it
+     */
+    public String getChecksum() {
+        return ArtifactDigestCalculator.calculateSdcChecksum(payload);
+    }
+
+    /**
+     * @return an output of the bytes first to last of the payload, both inclusive
+     */
+    public ArtifactPayloadOutput range(int first, int last) {
+        ByteBuffer range = payload.duplicate();
+        range.position(payload.position() + first);
+        range.limit(payload.position() + last + 1);
+        return new ArtifactPayloadOutput(range);
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        ByteBuffer data = payload.duplicate();
+        if (data.hasArray()) {
+            output.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            WritableByteChannel channel = Channels.newChannel(output);
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Parses a Range header holding a single byte range. Several ranges or another unit are not supported, and as allowed by RFC 7233, lead
+     * to the whole payload being sent.
+     *
+     * @return the first and last bytes of the range, an empty array if the range can't be satisfied, or empty if the whole payload is to be
+     * sent
+     */
+    public static Optional<int[]> parseRange(String range, int length) {
+        if (range == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return Optional.empty();
+        }
+        if (matcher.group(1).isEmpty()) {
+            long suffixLength = parsePosition(matcher.group(2));
+            if (suffixLength == 0 || length == 0) {
+                return Optional.of(new int[0]);
+            }
+            return Optional.of(new int[]{(int) Math.max(0, length - suffixLength), length - 1});
+        }
+        long first = parsePosition(matcher.group(1));
+        long last = matcher.group(2).isEmpty() ? length - 1L : Math.min(parsePosition(matcher.group(2)), length - 1L);
+        if (first >= length) {
+            return Optional.of(new int[0]);
+        }
+        if (last < first) {
+            return Optional.empty();
+        }
+        return Optional.of(new int[]{(int) first, (int) last});
+    }
+
+    // only digits are matched, so a position that can't be parsed is past the end of any payload
+    private static long parsePosition(String position) {
+        try {
+            return Long.parseLong(position);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
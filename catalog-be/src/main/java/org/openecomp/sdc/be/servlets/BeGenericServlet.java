@@ -29,6 +29,7 @@ import com.google.gson.reflect.TypeToken;
 import fj.data.Either;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -40,8 +41,11 @@ import java.util.function.Supplier;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -85,6 +89,7 @@ public class BeGenericServlet extends BasicServlet {
 
     private static final Logger log = Logger.getLogger(BeGenericServlet.class);
     private static final String PROPERTY_NAME_REGEX = "[\\w,\\d,_]+";
+    private static final String REVALIDATE_CACHE_CONTROL = "private, no-cache";
     @Context
     protected HttpServletRequest servletRequest;
     protected ComponentsUtils componentsUtils;
@@ -148,6 +153,66 @@ public class BeGenericServlet extends BasicServlet {
         return responseBuilder.build();
     }
 
+    /**
+     * Builds a strong entity tag for a representation that only changes with the given version markers.
+     */
+    protected EntityTag buildEntityTag(Object... versionMarkers) {
+        return new EntityTag(DigestUtils.sha256Hex(Arrays.deepToString(versionMarkers)));
+    }
+
+    /**
+     * @param ifNoneMatch the If-None-Match header of the request, may be null
+     * @return true if the client already holds the representation tagged with entityTag
+     */
+    protected boolean isNotModified(String ifNoneMatch, EntityTag entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String quotedTag = quote(entityTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match uses the weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || quotedTag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected Response buildNotModifiedResponse(EntityTag entityTag) {
+        return Response.status(Response.Status.NOT_MODIFIED).header(HttpHeaders.ETAG, quote(entityTag))
+            .header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL).build();
+    }
+
+    /**
+     * Builds an ok response the client may cache, revalidating it with the entity tag on every use. A null entity tag builds a plain ok
+     * response.
+     */
+    protected Response buildRevalidatedOkResponse(ResponseFormat errorResponseWrapper, Object entity, EntityTag entityTag) {
+        if (entityTag == null) {
+            return buildOkResponse(errorResponseWrapper, entity);
+        }
+        Map<String, String> revalidationHeaders = new HashMap<>();
+        revalidationHeaders.put(HttpHeaders.ETAG, quote(entityTag));
+        revalidationHeaders.put(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+        return buildOkResponse(errorResponseWrapper, entity, revalidationHeaders);
+    }
+
+    protected Response buildRevalidatedOkResponse(Object entity, EntityTag entityTag) {
+        if (entityTag == null) {
+            return buildOkResponse(entity);
+        }
+        return Response.status(Response.Status.OK).entity(entity).header(HttpHeaders.ETAG, quote(entityTag))
+            .header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL).build();
+    }
+
+    protected static String quote(EntityTag entityTag) {
+        return "\"" + entityTag.getValue() + "\"";
+    }
+
     /*******************************************************************************************************/
     protected Either<User, ResponseFormat> getUser(final HttpServletRequest request, String userId) {
         User user;
@@ -84,6 +84,8 @@ import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.ServletUtils;
 import org.openecomp.sdc.be.info.CreateAndAssotiateInfo;
 import org.openecomp.sdc.be.info.GroupDefinitionInfo;
+import org.openecomp.sdc.be.info.TopologyMutationRequest;
+import org.openecomp.sdc.be.info.TopologyMutationResult;
 import org.openecomp.sdc.be.model.ComponentInstance;
 import org.openecomp.sdc.be.model.ComponentInstanceAttribute;
 import org.openecomp.sdc.be.model.ComponentInstanceInput;
@@ -1482,6 +1484,50 @@ public class ComponentInstanceServlet extends AbstractValidationsServlet {
         }
     }
 
+    @POST
+    @Path("/{containerComponentType}/{componentId}/resourceInstance/bulkUpdate")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(description = "Add, move and delete ResourceInstances, associate and dissociate RelationShips and update property values at once", method = "POST", summary = "Returns the result of every change", responses = {
+        @ApiResponse(content = @Content(schema = @Schema(implementation = TopologyMutationResult.class))),
+        @ApiResponse(responseCode = "200", description = "Changes processed"),
+        @ApiResponse(responseCode = "403", description = "Restricted Operation"),
+        @ApiResponse(responseCode = "400", description = "Invalid Content / Missing Content")})
+    public Response bulkUpdateTopology(
+        @Parameter(description = "allowed values are resources/services/products", schema = @Schema(allowableValues = {
+            ComponentTypeEnum.RESOURCE_PARAM_NAME, ComponentTypeEnum.SERVICE_PARAM_NAME,
+            ComponentTypeEnum.PRODUCT_PARAM_NAME}), required = true) @PathParam("containerComponentType") final String containerComponentType,
+        @Parameter(description = "unique id of the container component") @PathParam("componentId") final String componentId,
+        @HeaderParam(value = Constants.USER_ID_HEADER) String userId, @Parameter(description = "Topology changes", required = true) String data,
+        @Context final HttpServletRequest request) {
+        try {
+            if (data == null || data.length() == 0) {
+                log.info("Empty JSON was sent");
+                return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.INVALID_CONTENT));
+            }
+            if (componentInstanceBusinessLogic == null) {
+                log.debug(UNSUPPORTED_COMPONENT_TYPE, containerComponentType);
+                return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.UNSUPPORTED_ERROR, containerComponentType));
+            }
+            Either<TopologyMutationRequest, ResponseFormat> convertResponse = getComponentsUtils()
+                .convertJsonToObjectUsingObjectMapper(data, new User(), TopologyMutationRequest.class, null, null);
+            if (convertResponse.isRight()) {
+                BeEcompErrorManager.getInstance().logBeSystemError("Resource Instance - bulkUpdateTopology");
+                log.debug(FAILED_TO_CONVERT_RECEIVED_DATA_TO_BE_FORMAT);
+                return buildErrorResponse(convertResponse.right().value());
+            }
+            TopologyMutationResult result = componentInstanceBusinessLogic
+                .bulkUpdateTopology(containerComponentType, componentId, userId, convertResponse.left().value());
+            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), result);
+        } catch (ComponentException e) {
+            throw e;
+        } catch (Exception e) {
+            BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Bulk Update Topology");
+            log.debug("bulk update of the topology of component {} failed with exception", componentId, e);
+            return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.GENERAL_ERROR));
+        }
+    }
+
     private Either<List<String>, ResponseFormat> convertToStringList(String datalist) {
         Either<String[], ResponseFormat> convertStatus = getComponentsUtils()
             .convertJsonToObjectUsingObjectMapper(datalist, new User(), String[].class, null, null);
@@ -49,6 +49,8 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.collections.CollectionUtils;
@@ -342,7 +344,8 @@ public class ComponentServlet extends BeGenericServlet {
                                                      @PathParam("componentId") final String componentId,
                                                      @QueryParam("include") final List<String> dataParamsToReturn,
                                                      @Context final HttpServletRequest request,
-                                                     @HeaderParam(value = Constants.USER_ID_HEADER) String userId) throws IOException {
+                                                     @HeaderParam(value = Constants.USER_ID_HEADER) String userId,
+                                                     @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) throws IOException {
         String url = request.getMethod() + " " + request.getRequestURI();
         log.debug(START_HANDLE_REQUEST_OF, url);
         // get modifier id
@@ -353,6 +356,11 @@ public class ComponentServlet extends BeGenericServlet {
             String resourceIdLower = componentId.toLowerCase();
             ComponentTypeEnum componentTypeEnum = ComponentTypeEnum.findByParamName(componentType);
             ComponentBusinessLogic businessLogic = componentBusinessLogicProvider.getInstance(componentTypeEnum);
+            EntityTag entityTag = businessLogic.getComponentDataVersion(resourceIdLower, modifier)
+                .map(version -> buildEntityTag(version, dataParamsToReturn)).orElse(null);
+            if (entityTag != null && isNotModified(ifNoneMatch, entityTag)) {
+                return buildNotModifiedResponse(entityTag);
+            }
             log.trace("get component with id {} filtered by ui params", componentId);
             Either<UiComponentDataTransfer, ResponseFormat> actionResponse = businessLogic
                 .getComponentDataFilteredByParams(resourceIdLower, modifier, dataParamsToReturn);
@@ -361,7 +369,7 @@ public class ComponentServlet extends BeGenericServlet {
                 return buildErrorResponse(actionResponse.right().value());
             }
             RepresentationUtils.toRepresentation(actionResponse.left().value());
-            return buildOkResponse(actionResponse.left().value());
+            return buildRevalidatedOkResponse(actionResponse.left().value(), entityTag);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get component filtered by ui params");
             log.debug("get resource failed with exception", e);
@@ -21,9 +21,11 @@ package org.openecomp.sdc.be.servlets;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.inject.Inject;
 import javax.servlet.ServletContext;
@@ -38,6 +40,8 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -65,6 +69,8 @@ import org.openecomp.sdc.be.model.PropertyScope;
 import org.openecomp.sdc.be.model.Tag;
 import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogField;
+import org.openecomp.sdc.be.model.catalog.CompactCatalog;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.category.GroupingDefinition;
 import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
@@ -103,6 +109,7 @@ public class ElementServlet extends BeGenericServlet {
 
     private static final Logger log = Logger.getLogger(ElementServlet.class);
     private static final String START_HANDLE_REQUEST_OF = "Start handle request of {}";
+    private static final String COMPACT_FORMAT = "compact";
     private final ComponentsCleanBusinessLogic componentsCleanBusinessLogic;
     private final ElementBusinessLogic elementBusinessLogic;
     private final ArtifactsBusinessLogic artifactsBusinessLogic;
@@ -513,7 +520,8 @@ public class ElementServlet extends BeGenericServlet {
         @ApiResponse(responseCode = "500", description = "Internal Server Error")})
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
     public Response getFollowedResourcesServices(@Context final HttpServletRequest request,
-                                                 @HeaderParam(value = Constants.USER_ID_HEADER) String userId) throws IOException {
+                                                 @HeaderParam(value = Constants.USER_ID_HEADER) String userId,
+                                                 @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) throws IOException {
         try {
             String url = request.getMethod() + " " + request.getRequestURI();
             log.debug(START_HANDLE_REQUEST_OF, url);
@@ -526,7 +534,12 @@ public class ElementServlet extends BeGenericServlet {
                 return buildErrorResponse(followedResourcesServices.right().value());
             }
             Object data = RepresentationUtils.toRepresentation(followedResourcesServices.left().value());
-            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data);
+            // the followed components are found by a query, so only the representation itself versions them
+            EntityTag entityTag = buildEntityTag(data);
+            if (isNotModified(ifNoneMatch, entityTag)) {
+                return buildNotModifiedResponse(entityTag);
+            }
+            return buildRevalidatedOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data, entityTag);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get Followed Resources / Services Categories");
             log.debug("Getting followed resources/services failed with exception", e);
@@ -548,18 +561,57 @@ public class ElementServlet extends BeGenericServlet {
         @ApiResponse(responseCode = "500", description = "Internal Server Error")})
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
     public Response getCatalogComponents(@Context final HttpServletRequest request, @HeaderParam(value = Constants.USER_ID_HEADER) String userId,
-                                         @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes) throws IOException {
+                                         @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes,
+                                         @Parameter(description = "compact: one column per field, repeated values replaced by indexes into a dictionary")
+                                         @QueryParam("format") String format,
+                                         @Parameter(description = "fields of the compact format, all of them when not set. Rejected without format=compact")
+                                         @QueryParam("fields") List<String> fields,
+                                         @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) throws IOException {
         try {
             String url = request.getMethod() + " " + request.getRequestURI();
             log.debug(START_HANDLE_REQUEST_OF, url);
-            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = getElementBL(request.getSession().getServletContext())
-                .getCatalogComponents(userId, excludeTypes);
+            boolean compact = COMPACT_FORMAT.equals(format);
+            if (format != null && !compact) {
+                log.info("catalog format is not valid: {}", format);
+                return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.INVALID_CONTENT));
+            }
+            if (!compact && !fields.isEmpty()) {
+                log.info("catalog fields are only supported by the compact format: {}", fields);
+                return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.INVALID_CONTENT));
+            }
+            List<CatalogField> catalogFields = new ArrayList<>();
+            for (String field : fields) {
+                Optional<CatalogField> catalogField = CatalogField.findByName(field);
+                if (!catalogField.isPresent()) {
+                    log.info("catalog field is not valid: {}", field);
+                    return buildErrorResponse(getComponentsUtils().getResponseFormat(ActionStatus.INVALID_CONTENT));
+                }
+                catalogFields.add(catalogField.get());
+            }
+            if (catalogFields.isEmpty()) {
+                catalogFields.addAll(Arrays.asList(CatalogField.values()));
+            }
+            ElementBusinessLogic elementBL = getElementBL(request.getSession().getServletContext());
+            EntityTag entityTag = elementBL.getCatalogComponentsVersion()
+                .map(version -> compact ? buildEntityTag(version, excludeTypes, format, catalogFields) : buildEntityTag(version, excludeTypes))
+                .orElse(null);
+            if (entityTag != null && isNotModified(ifNoneMatch, entityTag)) {
+                return buildNotModifiedResponse(entityTag);
+            }
+            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = elementBL.getCatalogComponents(userId, excludeTypes);
             if (catalogData.isRight()) {
                 log.debug("failed to get catalog data");
                 return buildErrorResponse(catalogData.right().value());
             }
-            Object data = RepresentationUtils.toRepresentation(catalogData.left().value());
-            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data);
+            Object data;
+            if (compact) {
+                Map<String, CompactCatalog> compactCatalog = new HashMap<>();
+                catalogData.left().value().forEach((type, components) -> compactCatalog.put(type, CompactCatalog.of(components, catalogFields)));
+                data = RepresentationUtils.toRepresentation(compactCatalog);
+            } else {
+                data = RepresentationUtils.toRepresentation(catalogData.left().value());
+            }
+            return buildRevalidatedOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data, entityTag);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get Catalog Components");
             log.debug("Getting catalog components failed with exception", e);
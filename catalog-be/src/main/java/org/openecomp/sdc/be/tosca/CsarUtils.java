@@ -75,6 +75,7 @@ import org.openecomp.sdc.be.config.ArtifactConfigManager;
 import org.openecomp.sdc.be.config.ArtifactConfiguration;
 import org.openecomp.sdc.be.config.ComponentType;
 import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
@@ -99,6 +100,7 @@ import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
 import org.openecomp.sdc.be.model.operations.impl.ModelOperation;
 import org.openecomp.sdc.be.plugins.CsarEntryGenerator;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+import org.openecomp.sdc.be.tosca.model.ToscaTemplate;
 import org.openecomp.sdc.be.tosca.utils.OperationArtifactUtil;
 import org.openecomp.sdc.be.utils.TypeUtils.ToscaTagNamesEnum;
 import org.openecomp.sdc.common.api.ArtifactGroupTypeEnum;
@@ -109,7 +111,6 @@ import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
 import org.openecomp.sdc.common.log.enums.LoggerSupportabilityActions;
 import org.openecomp.sdc.common.log.enums.StatusCode;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.common.util.ValidationUtils;
 import org.openecomp.sdc.common.zip.ZipUtils;
 import org.openecomp.sdc.exception.ResponseFormat;
@@ -300,7 +301,7 @@ public class CsarUtils {
             artifact.setArtifactLabel(ValidationUtils.normalizeArtifactLabel(artifact.getArtifactName()));
             artifact.setDescription(ARTIFACT_CREATED_FROM_CSAR);
             artifact.setIsFromCsar(true);
-            artifact.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(entry.getValue()));
+            artifact.setArtifactChecksum(ArtifactDigestCalculator.calculateSdcChecksum(entry.getValue()));
             return artifact;
         };
     }
@@ -494,7 +495,7 @@ public class CsarUtils {
             String serviceType = component.getCategories().get(0).getName();
             String description = component.getDescription();
             String serviceTemplate = DEFINITIONS_PATH + fileName;
-            String hash = GeneralUtility.calculateMD5Base64EncodedByByteArray(mainYaml);
+            String hash = ArtifactDigestCalculator.calculateSdcChecksum(mainYaml);
             String nsMfBlock0 = createNsMfBlock0(serviceName, createdBy, serviceVersion, releaseTime, serviceType, description, serviceTemplate,
                 hash);
             byte[] nsMfBlock0Byte = nsMfBlock0.getBytes();
@@ -772,28 +773,23 @@ public class CsarUtils {
         String fileName,
         boolean isAssociatedComponent
     ){
-        final Either<ToscaRepresentation, ToscaError> interfaceRepresentation = toscaExportUtils.exportComponentInterface(component, false);
-        writeComponentInterface(interfaceRepresentation, zip, fileName, false);
-        return interfaceRepresentation.left().value().getDependencies().getOrElse(new ArrayList<>());
+        final Either<ToscaTemplate, ToscaError> interfaceTemplate = toscaExportUtils.exportComponentInterfaceTemplate(component, false);
+        writeComponentInterface(interfaceTemplate, zip, fileName, false);
+        return interfaceTemplate.left().value().getDependencies();
     }
 
 
     private Either<ZipOutputStream, ResponseFormat> writeComponentInterface(
-        Either<ToscaRepresentation,ToscaError> interfaceRepresentation, ZipOutputStream zip, String fileName,
-                                                                            boolean isAssociatedComponent) {
-        // TODO: This should not be done but we need this to keep the refactoring small enough to be easily reviewable
-        return writeComponentInterface(interfaceRepresentation, fileName, isAssociatedComponent, ZipWriter.live(zip))
-            .map(void0 -> Either.<ZipOutputStream, ResponseFormat>left(zip)).recover(th -> {
-                log.error("#writeComponentInterface - zip writing failed with error: ", th);
-                return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
-            }).get();
-    }
-
-    private Try<Void> writeComponentInterface(
-            Either<ToscaRepresentation,ToscaError> interfaceRepresentation, String fileName, boolean isAssociatedComponent, ZipWriter zw) {
-        Either<byte[], ToscaError> yml = interfaceRepresentation.left()
-            .map(ToscaRepresentation::getMainYaml);
-        return fromEither(yml, ToscaErrorException::new).flatMap(zw.write(DEFINITIONS_PATH + ToscaExportHandler.getInterfaceFilename(fileName)));
+        Either<ToscaTemplate, ToscaError> interfaceTemplate, ZipOutputStream zip, String fileName, boolean isAssociatedComponent) {
+        // the yaml is written straight to the zip entry instead of being built in memory first
+        return fromEither(interfaceTemplate, ToscaErrorException::new).flatMap(toscaTemplate -> Try.<Void>of(() -> {
+            zip.putNextEntry(new ZipEntry(DEFINITIONS_PATH + ToscaExportHandler.getInterfaceFilename(fileName)));
+            toscaExportUtils.writeToscaRepresentation(toscaTemplate, zip);
+            return null;
+        })).map(void0 -> Either.<ZipOutputStream, ResponseFormat>left(zip)).recover(th -> {
+            log.error("#writeComponentInterface - zip writing failed with error: ", th);
+            return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+        }).get();
     }
 
     private Either<byte[], ActionStatus> getEntryData(String cassandraId, Component childComponent) {
@@ -1356,7 +1352,7 @@ public class CsarUtils {
                 this.artifactChecksum = null;
             } else {
                 this.payloadData = Base64.encodeBase64String(payloadData);
-                this.artifactChecksum = GeneralUtility.calculateMD5Base64EncodedByByteArray(payloadData);
+                this.artifactChecksum = ArtifactDigestCalculator.calculateSdcChecksum(payloadData);
             }
             this.artifactUniqueId = artifactUniqueId;
         }
@@ -0,0 +1,71 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.tosca;
+
+import fj.data.Either;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+/**
+ * Components read while resolving the imports and dependencies of one export. The instances of a component usually share origins and the
+ * origins share their derived from types, so every component is read once per export and view, failures included.
+ */
+class ExportComponentResolver {
+
+    private final ToscaOperationFacade toscaOperationFacade;
+    private final Map<String, Either<Component, StorageOperationStatus>> fullElements = new HashMap<>();
+    private final Map<String, Either<Component, StorageOperationStatus>> elements = new HashMap<>();
+
+    ExportComponentResolver(final ToscaOperationFacade toscaOperationFacade) {
+        this.toscaOperationFacade = toscaOperationFacade;
+    }
+
+    /**
+     * @see ToscaOperationFacade#getToscaFullElement(String)
+     */
+    Either<Component, StorageOperationStatus> getFullElement(final String componentId) {
+        return fullElements.computeIfAbsent(componentId, toscaOperationFacade::getToscaFullElement);
+    }
+
+    /**
+     * @see ToscaOperationFacade#getToscaElement(String)
+     */
+    Either<Component, StorageOperationStatus> getElement(final String componentId) {
+        return elements.computeIfAbsent(componentId, toscaOperationFacade::getToscaElement);
+    }
+
+    /**
+     * Reads the distinct ids of a level of the dependency tree, in encounter order.
+     */
+    <T> Map<String, Either<Component, StorageOperationStatus>> getElements(final Iterable<T> referencing, final Function<T, String> idOf) {
+        final Set<String> componentIds = new LinkedHashSet<>();
+        referencing.forEach(element -> componentIds.add(idOf.apply(element)));
+        final Map<String, Either<Component, StorageOperationStatus>> levelElements = new LinkedHashMap<>();
+        componentIds.forEach(componentId -> levelElements.put(componentId, getElement(componentId)));
+        return levelElements;
+    }
+}
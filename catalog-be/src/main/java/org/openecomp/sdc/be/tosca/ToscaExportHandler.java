@@ -28,6 +28,14 @@ import static org.openecomp.sdc.tosca.datatypes.ToscaFunctions.GET_INPUT;
 import static org.openecomp.sdc.tosca.datatypes.ToscaFunctions.GET_PROPERTY;
 
 import fj.data.Either;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -159,6 +167,8 @@ public class ToscaExportHandler {
     private static final List<String> EXCLUDED_CATEGORY_SPECIFIC_METADATA = List
         .of("Service Function", "Service Role", "Naming Policy", "Service Type");
     private static final YamlUtil yamlUtil = new YamlUtil();
+    // Yaml is not thread safe, the dumper is kept per thread so the bean introspection of the template classes is done once
+    private static final ThreadLocal<Yaml> toscaTemplateDumper = ThreadLocal.withInitial(ToscaExportHandler::createToscaTemplateDumper);
     private final ApplicationDataTypeCache applicationDataTypeCache;
     private final ToscaOperationFacade toscaOperationFacade;
     private final CapabilityRequirementConverter capabilityRequirementConverter;
@@ -216,6 +226,13 @@ public class ToscaExportHandler {
     }
 
     public Either<ToscaRepresentation, ToscaError> exportComponentInterface(final Component component, final boolean isAssociatedComponent) {
+        return exportComponentInterfaceTemplate(component, isAssociatedComponent).left().map(this::createToscaRepresentation);
+    }
+
+    /**
+     * Builds the tosca template of the interface of a component, which {@link #writeToscaRepresentation} can write to a stream.
+     */
+    public Either<ToscaTemplate, ToscaError> exportComponentInterfaceTemplate(final Component component, final boolean isAssociatedComponent) {
         final List<Map<String, Map<String, String>>> imports = new ArrayList<>(getDefaultToscaImports(component.getModel()));
         if (CollectionUtils.isEmpty(imports)) {
             log.debug(FAILED_TO_GET_DEFAULT_IMPORTS_CONFIGURATION);
@@ -227,7 +244,7 @@ public class ToscaExportHandler {
             final Either<Component, StorageOperationStatus> baseType = toscaOperationFacade
                 .getByToscaResourceNameAndVersion(component.getDerivedFromGenericType(), component.getDerivedFromGenericVersion(), component.getModel());
             if (baseType.isLeft() && baseType.left().value() != null) {
-                addDependencies(imports, dependencies, baseType.left().value());
+                addDependencies(new ExportComponentResolver(toscaOperationFacade), imports, dependencies, baseType.left().value());
             } else {
                 log.debug("Failed to fetch derived from type {}", component.getDerivedFromGenericType());
             }
@@ -247,26 +264,46 @@ public class ToscaExportHandler {
         }
         toscaTemplate = toscaTemplateRes.left().value();
         toscaTemplate.setDependencies(dependencies);
-        ToscaRepresentation toscaRepresentation = this.createToscaRepresentation(toscaTemplate);
-        return Either.left(toscaRepresentation);
+        return Either.left(toscaTemplate);
     }
 
-    public ToscaRepresentation createToscaRepresentation(ToscaTemplate toscaTemplate) {
+    private static Yaml createToscaTemplateDumper() {
         CustomRepresenter representer = new CustomRepresenter();
         DumperOptions options = new DumperOptions();
         options.setAllowReadOnlyProperties(false);
         options.setPrettyFlow(true);
         options.setDefaultFlowStyle(FlowStyle.FLOW);
         options.setCanonical(false);
-        representer.addClassTag(toscaTemplate.getClass(), Tag.MAP);
+        representer.addClassTag(ToscaTemplate.class, Tag.MAP);
         representer.setPropertyUtils(new UnsortedPropertyUtils());
         Yaml yaml = new Yaml(representer, options);
-        String yamlAsString = yaml.dumpAsMap(toscaTemplate);
-        StringBuilder sb = new StringBuilder();
-        sb.append(getConfiguration().getHeatEnvArtifactHeader());
-        sb.append(yamlAsString);
-        sb.append(getConfiguration().getHeatEnvArtifactFooter());
-        return ToscaRepresentation.make(sb.toString().getBytes(), toscaTemplate);
+        // the yaml takes the flow style of the options, while the template has always been dumped as a map, in the block style
+        representer.setDefaultFlowStyle(FlowStyle.BLOCK);
+        return yaml;
+    }
+
+    public ToscaRepresentation createToscaRepresentation(ToscaTemplate toscaTemplate) {
+        ByteArrayOutputStream mainYaml = new ByteArrayOutputStream();
+        try {
+            writeToscaRepresentation(toscaTemplate, mainYaml);
+        } catch (IOException e) {
+            // not thrown by a byte array output stream
+            throw new UncheckedIOException(e);
+        }
+        return ToscaRepresentation.make(mainYaml.toByteArray(), toscaTemplate);
+    }
+
+    /**
+     * Writes the yaml of a tosca template, between the configured header and footer, straight to the output stream instead of
+     * building it as a string first. The output is encoded with the default charset, as the bytes of {@link #createToscaRepresentation}
+     * always were.
+     */
+    public void writeToscaRepresentation(ToscaTemplate toscaTemplate, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()));
+        writer.write(String.valueOf(getConfiguration().getHeatEnvArtifactHeader()));
+        toscaTemplateDumper.get().dump(toscaTemplate, writer);
+        writer.write(String.valueOf(getConfiguration().getHeatEnvArtifactFooter()));
+        writer.flush();
     }
 
     public Either<ToscaTemplate, ToscaError> getDependencies(Component component) {
@@ -559,7 +596,8 @@ public class ToscaExportHandler {
             }
             List<ComponentInstance> componentInstances = component.getComponentInstances();
             if (componentInstances != null && !componentInstances.isEmpty()) {
-                componentInstances.forEach(ci -> createDependency(componentCache, additionalImports, dependencies, ci));
+                final ExportComponentResolver componentResolver = new ExportComponentResolver(toscaOperationFacade);
+                componentInstances.forEach(ci -> createDependency(componentResolver, componentCache, additionalImports, dependencies, ci));
             }
             toscaTemplate.setDependencies(dependencies);
             toscaTemplate.setImports(additionalImports);
@@ -573,34 +611,35 @@ public class ToscaExportHandler {
         return getConfiguration().getDefaultImports();
     }
 
-    private void createDependency(final Map<String, Component> componentCache, final List<Map<String, Map<String, String>>> imports,
-                                  final List<Triple<String, String, Component>> dependencies, final ComponentInstance componentInstance) {
+    private void createDependency(final ExportComponentResolver componentResolver, final Map<String, Component> componentCache,
+                                  final List<Map<String, Map<String, String>>> imports, final List<Triple<String, String, Component>> dependencies,
+                                  final ComponentInstance componentInstance) {
         log.debug("createDependency componentCache {}", componentCache);
         Component componentRI = componentCache.get(componentInstance.getComponentUid());
         if (componentRI == null || componentInstance.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
             // all resource must be only once!
-            final Either<Component, StorageOperationStatus> resource = toscaOperationFacade.getToscaFullElement(componentInstance.getComponentUid());
+            final Either<Component, StorageOperationStatus> resource = componentResolver.getFullElement(componentInstance.getComponentUid());
             if ((resource.isRight()) && (log.isDebugEnabled())) {
                 log.debug("Failed to fetch resource with id {} for instance {}", componentInstance.getComponentUid(),
                     componentInstance.getUniqueId());
                 return;
             }
             final Component fetchedComponent = resource.left().value();
-            componentRI = setComponentCache(componentCache, componentInstance, fetchedComponent);
-            addDependencies(imports, dependencies, componentRI);
+            componentRI = setComponentCache(componentResolver, componentCache, componentInstance, fetchedComponent);
+            addDependencies(componentResolver, imports, dependencies, componentRI);
         }
     }
 
     /**
      * Sets a componentCache from the given component/resource.
      */
-    private Component setComponentCache(final Map<String, Component> componentCache, final ComponentInstance componentInstance,
-                                        final Component fetchedComponent) {
+    private Component setComponentCache(final ExportComponentResolver componentResolver, final Map<String, Component> componentCache,
+                                        final ComponentInstance componentInstance, final Component fetchedComponent) {
         componentCache.put(fetchedComponent.getUniqueId(), fetchedComponent);
         if (componentInstance.getOriginType() == OriginTypeEnum.ServiceProxy
             || componentInstance.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
-            final Either<Component, StorageOperationStatus> sourceService = toscaOperationFacade
-                .getToscaFullElement(componentInstance.getSourceModelUid());
+            final Either<Component, StorageOperationStatus> sourceService = componentResolver
+                .getFullElement(componentInstance.getSourceModelUid());
             if (sourceService.isRight() && (log.isDebugEnabled())) {
                 log.debug("Failed to fetch source service with id {} for proxy {}", componentInstance.getSourceModelUid(),
                     componentInstance.getUniqueId());
@@ -615,17 +654,18 @@ public class ToscaExportHandler {
     /**
      * Retrieves all derived_from nodes and stores it in a predictable order.
      */
-    private void addDependencies(final List<Map<String, Map<String, String>>> imports, final List<Triple<String, String, Component>> dependencies,
-                                 final Component fetchedComponent) {
+    private void addDependencies(final ExportComponentResolver componentResolver, final List<Map<String, Map<String, String>>> imports,
+                                 final List<Triple<String, String, Component>> dependencies, final Component fetchedComponent) {
         final Set<Component> componentsList = new LinkedHashSet<>();
         if (fetchedComponent instanceof Resource) {
             log.debug("fetchedComponent is a resource {}", fetchedComponent);
-            final Optional<Map<String, String>> derivedFromMapOfIdToName = getDerivedFromMapOfIdToName(fetchedComponent, componentsList);
+            final Optional<Map<String, String>> derivedFromMapOfIdToName = getDerivedFromMapOfIdToName(componentResolver, fetchedComponent,
+                componentsList);
             if (derivedFromMapOfIdToName.isPresent() && !derivedFromMapOfIdToName.get().isEmpty()) {
                 derivedFromMapOfIdToName.get().entrySet().forEach(entry -> {
                     log.debug("Started entry.getValue() : {}", entry.getValue());
                     if (!NATIVE_ROOT.equals(entry.getValue())) {
-                        Either<Resource, StorageOperationStatus> resourcefetched = toscaOperationFacade.getToscaElement(entry.getKey());
+                        Either<Component, StorageOperationStatus> resourcefetched = componentResolver.getElement(entry.getKey());
                         if (resourcefetched != null && resourcefetched.isLeft()) {
                             componentsList.add(resourcefetched.left().value());
                         }
@@ -641,16 +681,17 @@ public class ToscaExportHandler {
     /**
      * Returns all derived_from nodes found.
      */
-    private Optional<Map<String, String>> getDerivedFromMapOfIdToName(final Component fetchedComponent, final Set<Component> componentsList) {
+    private Optional<Map<String, String>> getDerivedFromMapOfIdToName(final ExportComponentResolver componentResolver,
+                                                                      final Component fetchedComponent, final Set<Component> componentsList) {
         final Resource parentResource = (Resource) fetchedComponent;
         Map<String, String> derivedFromMapOfIdToName = new HashMap<>();
         if (CollectionUtils.isNotEmpty(parentResource.getComponentInstances())) {
             componentsList.add(fetchedComponent);
-            for (final ComponentInstance componentInstance : parentResource.getComponentInstances()) {
-                final Either<Resource, StorageOperationStatus> resourcefetched = toscaOperationFacade
-                    .getToscaElement(componentInstance.getComponentUid());
-                if (resourcefetched != null && resourcefetched.isLeft()) {
-                    final Map<String, String> derivedWithId = resourcefetched.left().value().getDerivedFromMapOfIdToName();
+            // the instances of a resource usually share their origins, each one is read once
+            for (final Either<Component, StorageOperationStatus> resourcefetched : componentResolver
+                .getElements(parentResource.getComponentInstances(), ComponentInstance::getComponentUid).values()) {
+                if (resourcefetched != null && resourcefetched.isLeft() && resourcefetched.left().value() instanceof Resource) {
+                    final Map<String, String> derivedWithId = ((Resource) resourcefetched.left().value()).getDerivedFromMapOfIdToName();
                     if (MapUtils.isNotEmpty(derivedWithId)) {
                         derivedFromMapOfIdToName.putAll(derivedWithId);
                     }
@@ -1570,7 +1611,7 @@ public class ToscaExportHandler {
         Map<String, List<Object>> propertyMapCopy = new HashMap<>();
         for (RequirementNodeFilterPropertyDataDefinition propertyDataDefinition : origProperties.getListToscaDataDefinition()) {
             for (String propertyInfoEntry : propertyDataDefinition.getConstraints()) {
-                Map<String, List<Object>> propertyValObj = new YamlUtil().yamlToObject(propertyInfoEntry, Map.class);
+                Map<String, List<Object>> propertyValObj = yamlUtil.yamlToObject(propertyInfoEntry, Map.class);
                 String propertyName = propertyDataDefinition.getName();
                 if (propertyMapCopy.containsKey(propertyName)) {
                     addPropertyConstraintValueToList(propertyName, propertyValObj, propertyMapCopy.get(propertyName));
@@ -1596,7 +1637,7 @@ public class ToscaExportHandler {
         final Map<String, List<Object>> propertyMapCopy = new HashMap<>();
         for (final RequirementSubstitutionFilterPropertyDataDefinition propertyDataDefinition : origProperties.getListToscaDataDefinition()) {
             for (final String propertyInfoEntry : propertyDataDefinition.getConstraints()) {
-                final Map<String, List<Object>> propertyValObj = new YamlUtil().yamlToObject(propertyInfoEntry, Map.class);
+                final Map<String, List<Object>> propertyValObj = yamlUtil.yamlToObject(propertyInfoEntry, Map.class);
                 final String propertyName = propertyDataDefinition.getName();
                 if (propertyMapCopy.containsKey(propertyName)) {
                     addPropertyConstraintValueToList(propertyName, propertyValObj, propertyMapCopy.get(propertyName));
@@ -1776,22 +1817,25 @@ public class ToscaExportHandler {
                 final ToscaPropertyAssignment toscaOperationAssignment = (ToscaPropertyAssignment) data;
                 if (toscaOperationAssignment.getValue() instanceof String) {
                     final String stringValue = (String) toscaOperationAssignment.getValue();
-                    if (isPropertyOrAttributeFunction(stringValue)) {
-                        return representGetAttribute(stringValue);
+                    final Object yamlObj = loadFunction(stringValue);
+                    if (isPropertyOrAttributeFunction(yamlObj)) {
+                        return represent(yamlObj);
                     }
                     return representScalar(Tag.STR, stringValue);
                 }
                 return represent(null);
             }
 
-            public Node representGetAttribute(final String getAttributeFunction) {
-                return represent(new Yaml().load(getAttributeFunction));
+            private Object loadFunction(final String value) {
+                try {
+                    return YamlUtil.read(value);
+                } catch (final Exception ignored) {
+                    return null;
+                }
             }
 
-            public boolean isPropertyOrAttributeFunction(final String value) {
+            public boolean isPropertyOrAttributeFunction(final Object yamlObj) {
                 try {
-                    final Yaml yaml = new Yaml();
-                    final Object yamlObj = yaml.load(value);
                     if (!(yamlObj instanceof Map)) {
                         return false;
                     }
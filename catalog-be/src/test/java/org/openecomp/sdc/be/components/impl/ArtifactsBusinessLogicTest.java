@@ -30,6 +30,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,6 +80,7 @@ import org.openecomp.sdc.be.MockGenerator;
 import org.openecomp.sdc.be.components.ArtifactsResolver;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic.ArtifactOperationEnum;
 import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
+import org.openecomp.sdc.be.components.impl.artifact.ArtifactPayload;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
 import org.openecomp.sdc.be.components.lifecycle.LifecycleBusinessLogic;
@@ -1253,6 +1255,17 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         testSubject.fillArtifactPayload(payloadWrapper, artifactDefinition);
     }
 
+    @Test
+    public void testFillArtifactPayloadFromCassandraIsEncoded() {
+        Wrapper<byte[]> payloadWrapper = new Wrapper<>();
+        ArtifactDefinition artifactDefinition = buildArtifactPayload();
+        artifactDefinition.setPayload(null);
+        when(artifactCassandraDao.getArtifact(ES_ARTIFACT_ID)).thenReturn(Either.left(new DAOArtifactData(ES_ARTIFACT_ID, PAYLOAD)));
+
+        getTestSubject().fillArtifactPayload(payloadWrapper, artifactDefinition);
+        assertArrayEquals(Base64.encodeBase64(PAYLOAD), payloadWrapper.getInnerElement());
+    }
+
     @Test(expected = ByActionStatusComponentException.class)
     public void testHeatTimeoutValue() {
         final ArtifactsBusinessLogic artifactsBusinessLogic = createTestSubject();
@@ -1447,9 +1460,9 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         final boolean isArtifactMetadataUpdate = false;
         ArtifactsBusinessLogic testSubject = getTestSubject();
 
-        Either<byte[], ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
+        Either<ArtifactPayload, ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
                 new Object[] { artifactInfo, isArtifactMetadataUpdate });
-        assertArrayEquals(payload, result.left().value());
+        assertArrayEquals(payload, result.left().value().getContent());
     }
 
 
@@ -1467,7 +1480,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         ArtifactsBusinessLogic testSubject = getTestSubject();
         testSubject.setComponentsUtils(componentsUtils);
 
-        Either<byte[], ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
+        Either<ArtifactPayload, ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
                 new Object[]{artifactInfo, isArtifactMetadataUpdate});
 
         int status = result.right().value().getStatus();
@@ -1485,7 +1498,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         ArtifactsBusinessLogic testSubject = getTestSubject();
         testSubject.setComponentsUtils(componentsUtils);
 
-        Either<byte[], ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
+        Either<ArtifactPayload, ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
                 new Object[]{artifactInfo, isArtifactMetadataUpdate});
 
 		int status = result.right().value().getStatus();
@@ -1501,9 +1514,13 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         final boolean isArtifactMetadataUpdate = false;
         ArtifactsBusinessLogic testSubject = getTestSubject();
 
-        Either<byte[], ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
+        Either<ArtifactPayload, ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
                 new Object[]{artifactInfo, isArtifactMetadataUpdate});
-        assertArrayEquals(payload, result.left().value());
+        assertArrayEquals(payload, result.left().value().getContent());
+        assertArrayEquals(Base64.encodeBase64(payload), artifactInfo.getPayloadData());
+
+        result = Deencapsulation.invoke(testSubject, "handlePayload", new Object[]{artifactInfo, isArtifactMetadataUpdate});
+        assertArrayEquals(payload, result.left().value().getContent());
     }
 
     @Test
@@ -1517,7 +1534,7 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         ArtifactsBusinessLogic testSubject = getTestSubject();
         testSubject.setComponentsUtils(componentsUtils);
 
-        Either<byte[], ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
+        Either<ArtifactPayload, ResponseFormat> result = Deencapsulation.invoke(testSubject, "handlePayload",
                 new Object[]{artifactInfo, isArtifactMetadataUpdate});
 
         int status = result.right().value().getStatus();
@@ -1592,8 +1609,9 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
 
         // default test
         testSubject = createTestSubject();
-        result = testSubject.createEsArtifactData(artifactInfo, artifactPayload);
+        result = testSubject.createEsArtifactData(artifactInfo, ArtifactPayload.of(artifactPayload));
         assertNotNull(result);
+        assertSame(artifactPayload, result.getDataAsArray());
     }
 
 
@@ -31,10 +31,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -69,6 +72,7 @@ import org.mockito.quality.Strictness;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ByResponseFormatComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ComponentException;
+import org.openecomp.sdc.be.components.impl.instance.ComponentInstanceChangeOperationOrchestrator;
 import org.openecomp.sdc.be.components.validation.UserValidations;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
@@ -89,6 +93,8 @@ import org.openecomp.sdc.be.datatypes.enums.OriginTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.be.exception.BusinessException;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
+import org.openecomp.sdc.be.info.TopologyMutationRequest;
+import org.openecomp.sdc.be.info.TopologyMutationResult;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.CapabilityDefinition;
 import org.openecomp.sdc.be.model.CapabilityRequirementRelationship;
@@ -113,6 +119,7 @@ import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache;
 import org.openecomp.sdc.be.model.jsonjanusgraph.config.ContainerInstanceTypesData;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ForwardingPathOperation;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.NodeFilterOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.exception.OperationException;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -194,6 +201,10 @@ class ComponentInstanceBusinessLogicTest {
     private ContainerInstanceTypesData containerInstanceTypeData;
     @Mock
     private CompositionBusinessLogic compositionBusinessLogic;
+    @Mock
+    private NodeFilterOperation nodeFilterOperation;
+    @Mock
+    private ComponentInstanceChangeOperationOrchestrator onChangeInstanceOperationOrchestrator;
 
     private Component service;
     private Component resource;
@@ -1479,11 +1490,11 @@ class ComponentInstanceBusinessLogicTest {
             .thenReturn(StorageOperationStatus.OK);
         when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
             .thenReturn(StorageOperationStatus.OK);
-        Either<RequirementCapabilityRelDef, StorageOperationStatus> resultEither;
+        Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> resultEither;
         resultEither = Either.right(StorageOperationStatus.OK);
         when(componentsUtils.convertFromStorageResponseForResourceInstance(eq(StorageOperationStatus.OK), eq(true)))
             .thenReturn(ActionStatus.GENERAL_ERROR);
-        when(toscaOperationFacade.dissociateResourceInstances(componentId, ref)).thenReturn(resultEither);
+        when(toscaOperationFacade.dissociateResourceInstances(componentId, requirementDefList)).thenReturn(resultEither);
 
         try {
             result = componentInstanceBusinessLogic
@@ -1520,9 +1531,9 @@ class ComponentInstanceBusinessLogicTest {
             .thenReturn(StorageOperationStatus.OK);
         when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
             .thenReturn(StorageOperationStatus.OK);
-        Either<RequirementCapabilityRelDef, StorageOperationStatus> resultEither;
-        resultEither = Either.left(ref);
-        when(toscaOperationFacade.dissociateResourceInstances(componentId, ref)).thenReturn(resultEither);
+        Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> resultEither;
+        resultEither = Either.left(requirementDefList);
+        when(toscaOperationFacade.dissociateResourceInstances(componentId, requirementDefList)).thenReturn(resultEither);
 
         result = componentInstanceBusinessLogic
             .batchDissociateRIFromRI(componentId, USER_ID, requirementDefList, componentTypeEnum);
@@ -1534,6 +1545,327 @@ class ComponentInstanceBusinessLogicTest {
         assertEquals(requirementDefList, result);
     }
 
+    @Test
+    void testBulkUpdateTopologySuccess() {
+        LifecycleStateEnum oldLifeCycleState = service.getLifecycleState();
+        String oldLastUpdatedUserId = service.getLastUpdaterUserId();
+        service.setLastUpdaterUserId(USER_ID);
+        service.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        String componentId = service.getUniqueId();
+        ((Service) service).setForwardingPaths(new HashMap<>());
+        ComponentInstance deletedInstance = createComponentInstance("deletedInstance");
+        deletedInstance.setUniqueId("deletedInstanceId");
+        service.getComponentInstances().add(deletedInstance);
+        RequirementCapabilityRelDef dissociate = new RequirementCapabilityRelDef();
+        dissociate.setFromNode(FROM_INSTANCE_ID);
+        dissociate.setToNode(TO_INSTANCE_ID);
+        RequirementCapabilityRelDef associate = new RequirementCapabilityRelDef();
+        associate.setFromNode(FROM_INSTANCE_ID);
+        associate.setToNode(TO_INSTANCE_ID);
+        TopologyMutationRequest request = new TopologyMutationRequest();
+        request.setDissociateRelations(List.of(dissociate));
+        request.setDeleteInstances(List.of(deletedInstance.getUniqueId()));
+        request.setAssociateRelations(List.of(associate));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(service));
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(toscaOperationFacade.dissociateResourceInstances(componentId, request.getDissociateRelations()))
+            .thenReturn(Either.left(request.getDissociateRelations()));
+        when(nodeFilterOperation.deleteNodeFilter(service, deletedInstance.getUniqueId()))
+            .thenReturn(Either.left(deletedInstance.getUniqueId()));
+        when(toscaOperationFacade.deleteComponentInstancesFromTopologyTemplate(service, request.getDeleteInstances()))
+            .thenReturn(Either.left(service));
+        when(onChangeInstanceOperationOrchestrator.doOnDeleteInstanceOperations(service, deletedInstance.getUniqueId()))
+            .thenReturn(ActionStatus.OK);
+        when(toscaOperationFacade.associateResourceInstances(null, componentId, request.getAssociateRelations()))
+            .thenReturn(Either.left(request.getAssociateRelations()));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+
+        TopologyMutationResult result = componentInstanceBusinessLogic
+            .bulkUpdateTopology(ComponentTypeEnum.SERVICE_PARAM_NAME, componentId, USER_ID, request);
+
+        service.setLastUpdaterUserId(oldLastUpdatedUserId);
+        service.setLifecycleState(oldLifeCycleState);
+        service.getComponentInstances().remove(deletedInstance);
+        assertTrue(result.isApplied());
+        assertEquals(3, result.getItems().size());
+        assertTrue(result.getItems().stream().allMatch(item -> item.getStatus() == TopologyMutationResult.Status.OK));
+        verify(toscaOperationFacade).dissociateResourceInstances(componentId, request.getDissociateRelations());
+        verify(toscaOperationFacade).deleteComponentInstancesFromTopologyTemplate(service, request.getDeleteInstances());
+        verify(nodeFilterOperation).deleteNodeFilter(service, deletedInstance.getUniqueId());
+        verify(onChangeInstanceOperationOrchestrator).doOnDeleteInstanceOperations(service, deletedInstance.getUniqueId());
+        verify(toscaOperationFacade, never()).getToscaElement(componentId);
+        verify(janusGraphDao).commit();
+    }
+
+    @Test
+    void testBulkUpdateTopologyDeletesTheRelationsOfTheDeletedInstancesWithThem() {
+        LifecycleStateEnum oldLifeCycleState = service.getLifecycleState();
+        String oldLastUpdatedUserId = service.getLastUpdaterUserId();
+        service.setLastUpdaterUserId(USER_ID);
+        service.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        String componentId = service.getUniqueId();
+        ((Service) service).setForwardingPaths(new HashMap<>());
+        RequirementCapabilityRelDef dissociate = new RequirementCapabilityRelDef();
+        dissociate.setFromNode(FROM_INSTANCE_ID);
+        dissociate.setToNode(TO_INSTANCE_ID);
+        TopologyMutationRequest request = new TopologyMutationRequest();
+        request.setDissociateRelations(List.of(dissociate));
+        request.setDeleteInstances(List.of(TO_INSTANCE_ID));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(service));
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(nodeFilterOperation.deleteNodeFilter(service, TO_INSTANCE_ID)).thenReturn(Either.left(TO_INSTANCE_ID));
+        when(toscaOperationFacade.deleteComponentInstancesFromTopologyTemplate(service, request.getDeleteInstances()))
+            .thenReturn(Either.left(service));
+        when(onChangeInstanceOperationOrchestrator.doOnDeleteInstanceOperations(service, TO_INSTANCE_ID)).thenReturn(ActionStatus.OK);
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+
+        TopologyMutationResult result = componentInstanceBusinessLogic
+            .bulkUpdateTopology(ComponentTypeEnum.SERVICE_PARAM_NAME, componentId, USER_ID, request);
+
+        service.setLastUpdaterUserId(oldLastUpdatedUserId);
+        service.setLifecycleState(oldLifeCycleState);
+        assertTrue(result.isApplied());
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.getItems().stream().allMatch(item -> item.getStatus() == TopologyMutationResult.Status.OK));
+        verify(toscaOperationFacade, never()).dissociateResourceInstances(anyString(), anyList());
+    }
+
+    @Test
+    void testBulkUpdateTopologyFailsWhenTheCleanupOfADeletedInstanceFails() {
+        LifecycleStateEnum oldLifeCycleState = service.getLifecycleState();
+        String oldLastUpdatedUserId = service.getLastUpdaterUserId();
+        service.setLastUpdaterUserId(USER_ID);
+        service.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        String componentId = service.getUniqueId();
+        ((Service) service).setForwardingPaths(new HashMap<>());
+        TopologyMutationRequest request = new TopologyMutationRequest();
+        request.setDeleteInstances(List.of(TO_INSTANCE_ID));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(service));
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(nodeFilterOperation.deleteNodeFilter(service, TO_INSTANCE_ID)).thenReturn(Either.left(TO_INSTANCE_ID));
+        when(toscaOperationFacade.deleteComponentInstancesFromTopologyTemplate(service, request.getDeleteInstances()))
+            .thenReturn(Either.left(service));
+        when(onChangeInstanceOperationOrchestrator.doOnDeleteInstanceOperations(service, TO_INSTANCE_ID))
+            .thenReturn(ActionStatus.GENERAL_ERROR);
+
+        TopologyMutationResult result = componentInstanceBusinessLogic
+            .bulkUpdateTopology(ComponentTypeEnum.SERVICE_PARAM_NAME, componentId, USER_ID, request);
+
+        service.setLastUpdaterUserId(oldLastUpdatedUserId);
+        service.setLifecycleState(oldLifeCycleState);
+        assertFalse(result.isApplied());
+        assertEquals(TopologyMutationResult.Status.FAILED, result.getItems().get(0).getStatus());
+        verify(janusGraphDao).rollback();
+    }
+
+    @Test
+    void testBulkUpdateTopologyRefersToAnAddedInstanceByItsRequestId() {
+        LifecycleStateEnum oldLifeCycleState = service.getLifecycleState();
+        String oldLastUpdatedUserId = service.getLastUpdaterUserId();
+        service.setLastUpdaterUserId(USER_ID);
+        service.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        String componentId = service.getUniqueId();
+        final Pair<ComponentInstance, Resource> p = prepareResourcesForCreateComponentInstanceTest();
+        final ComponentInstance instanceToBeAdded = p.getLeft();
+        final Resource originComponent = p.getRight();
+        instanceToBeAdded.setUniqueId("newInstance");
+        ComponentInstance addedInstance = createComponentInstance(COMPONENT_INSTANCE_NAME);
+        addedInstance.setUniqueId(COMPONENT_INSTANCE_ID);
+        Service updatedService = new Service();
+        updatedService.setComponentInstances(List.of(addedInstance));
+        updatedService.setUniqueId(componentId);
+        RequirementCapabilityRelDef associate = new RequirementCapabilityRelDef();
+        associate.setFromNode("newInstance");
+        associate.setToNode(TO_INSTANCE_ID);
+        TopologyMutationRequest request = new TopologyMutationRequest();
+        request.setAddInstances(List.of(instanceToBeAdded));
+        request.setAssociateRelations(List.of(associate));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(service));
+        when(toscaOperationFacade.getToscaFullElement(ORIGIN_COMPONENT_ID)).thenReturn(Either.left(originComponent));
+        when(containerInstanceTypeData.isAllowedForServiceComponent(ResourceTypeEnum.VF)).thenReturn(true);
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(toscaOperationFacade.addComponentInstanceToTopologyTemplate(service, originComponent, instanceToBeAdded, false, user))
+            .thenReturn(Either.left(new ImmutablePair<>(updatedService, COMPONENT_INSTANCE_ID)));
+        when(artifactsBusinessLogic.getArtifacts(ORIGIN_COMPONENT_ID, NodeTypeEnum.Resource, ArtifactGroupTypeEnum.DEPLOYMENT, null))
+            .thenReturn(Either.left(new HashMap<>()));
+        when(toscaOperationFacade.addInformationalArtifactsToInstance(componentId, instanceToBeAdded, originComponent.getArtifacts()))
+            .thenReturn(StorageOperationStatus.OK);
+        when(toscaOperationFacade.getToscaElement(componentId)).thenReturn(Either.left(service));
+        when(toscaOperationFacade.associateResourceInstances(null, componentId, request.getAssociateRelations()))
+            .thenReturn(Either.left(request.getAssociateRelations()));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+
+        TopologyMutationResult result = componentInstanceBusinessLogic
+            .bulkUpdateTopology(ComponentTypeEnum.SERVICE_PARAM_NAME, componentId, USER_ID, request);
+
+        service.setLastUpdaterUserId(oldLastUpdatedUserId);
+        service.setLifecycleState(oldLifeCycleState);
+        assertTrue(result.isApplied());
+        assertEquals(2, result.getItems().size());
+        assertEquals("add", result.getItems().get(0).getOperation());
+        assertEquals(Map.of("newInstance", COMPONENT_INSTANCE_ID), result.getAddedInstanceIds());
+        assertEquals(COMPONENT_INSTANCE_ID, associate.getFromNode());
+        verify(toscaOperationFacade).getToscaElement(componentId);
+        verify(janusGraphDao).commit();
+    }
+
+    @Test
+    void testBulkUpdateTopologyRollsBackWhenAnItemFails() {
+        LifecycleStateEnum oldLifeCycleState = service.getLifecycleState();
+        String oldLastUpdatedUserId = service.getLastUpdaterUserId();
+        service.setLastUpdaterUserId(USER_ID);
+        service.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        String componentId = service.getUniqueId();
+        RequirementCapabilityRelDef associate = new RequirementCapabilityRelDef();
+        associate.setFromNode(FROM_INSTANCE_ID);
+        associate.setToNode(TO_INSTANCE_ID);
+        TopologyMutationRequest request = new TopologyMutationRequest();
+        request.setDeleteInstances(List.of(TO_INSTANCE_ID, FROM_INSTANCE_ID));
+        request.setAssociateRelations(List.of(associate));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(service));
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(nodeFilterOperation.deleteNodeFilter(eq(service), anyString())).thenAnswer(invocation -> Either.left(invocation.getArgument(1)));
+        when(toscaOperationFacade.deleteComponentInstancesFromTopologyTemplate(service, request.getDeleteInstances()))
+            .thenReturn(Either.right(StorageOperationStatus.NOT_FOUND));
+        when(componentsUtils.convertFromStorageResponse(StorageOperationStatus.NOT_FOUND, ComponentTypeEnum.SERVICE))
+            .thenReturn(ActionStatus.COMPONENT_INSTANCE_NOT_FOUND);
+
+        TopologyMutationResult result = componentInstanceBusinessLogic
+            .bulkUpdateTopology(ComponentTypeEnum.SERVICE_PARAM_NAME, componentId, USER_ID, request);
+
+        service.setLastUpdaterUserId(oldLastUpdatedUserId);
+        service.setLifecycleState(oldLifeCycleState);
+        assertFalse(result.isApplied());
+        assertEquals(TopologyMutationResult.Status.FAILED, result.getItems().get(0).getStatus());
+        assertEquals(ActionStatus.COMPONENT_INSTANCE_NOT_FOUND.name(), result.getItems().get(0).getMessage());
+        assertEquals(TopologyMutationResult.Status.FAILED, result.getItems().get(1).getStatus());
+        assertEquals(TopologyMutationResult.Status.NOT_APPLIED, result.getItems().get(2).getStatus());
+        verify(toscaOperationFacade, never()).associateResourceInstances(any(), anyString(), anyList());
+        verify(toscaOperationFacade, never()).getToscaElement(componentId);
+        verify(janusGraphDao).rollback();
+    }
+
+    @Test
+    void testBulkUpdateTopologyWritesThePropertiesOfAnInstanceAtOnce() {
+        String componentId = "containerId";
+        List<ComponentInstanceProperty> properties = new ArrayList<>();
+        for (String name : List.of("property1", "property2")) {
+            ComponentInstanceProperty property = new ComponentInstanceProperty();
+            property.setName(name);
+            property.setValue("newVal");
+            property.setType("string");
+            properties.add(property);
+        }
+        List<ComponentInstanceProperty> origProperties = new ArrayList<>();
+        for (String name : List.of("property1", "property2")) {
+            ComponentInstanceProperty origProperty = new ComponentInstanceProperty();
+            origProperty.setName(name);
+            origProperty.setValue("value");
+            origProperty.setType("string");
+            origProperties.add(origProperty);
+        }
+        Map<String, DataTypeDefinition> types = new HashMap<>();
+        types.put("string", new DataTypeDefinition());
+        Component component = new Service();
+        component.setUniqueId(componentId);
+        component.setLastUpdaterUserId(USER_ID);
+        component.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        component.setComponentInstancesProperties(Map.of("resourceId", origProperties));
+        ComponentInstance ci = createComponentInstance("ci1");
+        ci.setUniqueId("resourceId");
+        component.setComponentInstances(List.of(ci));
+        TopologyMutationRequest request = new TopologyMutationRequest();
+        request.setInstanceProperties(Map.of("resourceId", properties));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(component));
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(componentsUtils.getAllDataTypes(applicationDataTypeCache, component.getModel())).thenReturn(types);
+        when(propertyOperation.validateAndUpdatePropertyValue("string", "newVal", true, null, types))
+            .thenReturn(Either.left("newVal"));
+        when(propertyOperation.validateAndUpdateRules("string", null, null, types, true))
+            .thenReturn(ImmutablePair.of("string", null));
+        when(toscaOperationFacade.updateComponentInstanceProperties(component, "resourceId", properties))
+            .thenReturn(StorageOperationStatus.OK);
+        when(toscaOperationFacade.updateComponentInstanceMetadataOfTopologyTemplate(component))
+            .thenReturn(Either.left(component));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+
+        TopologyMutationResult result = componentInstanceBusinessLogic
+            .bulkUpdateTopology(ComponentTypeEnum.SERVICE_PARAM_NAME, componentId, USER_ID, request);
+
+        assertTrue(result.isApplied());
+        assertEquals(1, result.getItems().size());
+        assertEquals(TopologyMutationResult.Status.OK, result.getItems().get(0).getStatus());
+        assertTrue(origProperties.stream().allMatch(property -> "newVal".equals(property.getValue())));
+        verify(toscaOperationFacade).updateComponentInstanceProperties(component, "resourceId", properties);
+        verify(toscaOperationFacade, never()).updateComponentInstanceProperty(any(), anyString(), any());
+        verify(toscaOperationFacade).updateComponentInstanceMetadataOfTopologyTemplate(component);
+    }
+
+    @Test
+    void testDissociateErrorNamesTheTargetInstance() {
+        LifecycleStateEnum oldLifeCycleState = service.getLifecycleState();
+        String oldLastUpdatedUserId = service.getLastUpdaterUserId();
+        service.setLastUpdaterUserId(USER_ID);
+        service.setLifecycleState(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
+        String componentId = service.getUniqueId();
+        RequirementCapabilityRelDef relation = new RequirementCapabilityRelDef();
+        relation.setFromNode(FROM_INSTANCE_ID);
+        relation.setToNode(TO_INSTANCE_ID);
+        RelationshipInfo relationshipInfo = new RelationshipInfo();
+        relationshipInfo.setRequirement(REQUIREMENT_NAME);
+        CapabilityRequirementRelationship relationship = new CapabilityRequirementRelationship();
+        relationship.setRelation(relationshipInfo);
+        relation.setRelationships(List.of(relationship));
+
+        when(toscaOperationFacade.getToscaElement(eq(componentId), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(service));
+        when(graphLockOperation.lockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(Mockito.anyString(), eq(NodeTypeEnum.Service)))
+            .thenReturn(StorageOperationStatus.OK);
+        when(toscaOperationFacade.dissociateResourceInstances(componentId, relation))
+            .thenReturn(Either.right(StorageOperationStatus.NOT_FOUND));
+        when(componentsUtils.convertFromStorageResponseForResourceInstance(StorageOperationStatus.NOT_FOUND, true))
+            .thenReturn(ActionStatus.RESOURCE_INSTANCE_RELATION_NOT_FOUND);
+
+        ByActionStatusComponentException exception = assertThrows(ByActionStatusComponentException.class,
+            () -> componentInstanceBusinessLogic.dissociateRIFromRI(componentId, USER_ID, relation, ComponentTypeEnum.SERVICE));
+
+        service.setLastUpdaterUserId(oldLastUpdatedUserId);
+        service.setLifecycleState(oldLifeCycleState);
+        assertTrue(List.of(TO_INSTANCE_ID, TO_INSTANCE_NAME).contains(exception.getParams()[1]));
+    }
+
     @Test
     void testGetComponentInstancePropertyByPolicyId_success() {
         Optional<ComponentInstanceProperty> propertyCandidate =
@@ -0,0 +1,61 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.components.impl.artifact;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Test;
+import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+import org.openecomp.sdc.common.util.GeneralUtility;
+
+public class ArtifactPayloadTest {
+
+    private static final byte[] CONTENT = "heat_template_version: 2013-05-23".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testDecodeKeepsTheRawContentOnly() {
+        ArtifactPayload payload = ArtifactPayload.decode(Base64.encodeBase64(CONTENT));
+
+        assertArrayEquals(CONTENT, payload.getContent());
+        assertEquals(CONTENT.length, payload.getLength());
+        assertEquals(Base64.encodeBase64String(CONTENT), payload.encode());
+        assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(CONTENT), payload.getChecksum());
+    }
+
+    @Test
+    public void testContentIsSharedWithCassandra() {
+        ArtifactPayload payload = ArtifactPayload.of(CONTENT);
+        DAOArtifactData artifactData = payload.toArtifactData("esId");
+
+        assertEquals("esId", artifactData.getId());
+        assertSame(CONTENT, artifactData.getDataAsArray());
+        assertSame(CONTENT, ArtifactPayload.of(artifactData).getContent());
+    }
+
+    @Test
+    public void testInvalidBase64IsEmpty() {
+        assertTrue(ArtifactPayload.decode("%%%".getBytes(StandardCharsets.UTF_8)).isEmpty());
+    }
+}
@@ -0,0 +1,249 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.externalapi.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.http.HttpStatus;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic;
+import org.openecomp.sdc.be.components.impl.ComponentInstanceBusinessLogic;
+import org.openecomp.sdc.be.components.impl.ResourceImportManager;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.impl.ComponentsUtils;
+import org.openecomp.sdc.be.impl.ServletUtils;
+import org.openecomp.sdc.be.impl.WebAppContextWrapper;
+import org.openecomp.sdc.be.model.ArtifactDefinition;
+import org.openecomp.sdc.be.user.UserBusinessLogic;
+import org.openecomp.sdc.common.api.Constants;
+import org.openecomp.sdc.common.impl.ExternalConfiguration;
+import org.openecomp.sdc.common.util.GeneralUtility;
+import org.openecomp.sdc.exception.ResponseFormat;
+import org.springframework.web.context.WebApplicationContext;
+
+class ArtifactExternalServletTest extends JerseyTest {
+
+    private static final String SERVICE_UUID = "serviceUuid";
+    private static final String ARTIFACT_UUID = "artifactUuid";
+    private static final String RESOURCE_INSTANCE_NAME = "resourceInstanceName";
+    private static final String ARTIFACT_PATH = "/v1/catalog/services/" + SERVICE_UUID + "/artifacts/" + ARTIFACT_UUID;
+    private static final String RESOURCE_INSTANCE_ARTIFACT_PATH =
+        "/v1/catalog/services/" + SERVICE_UUID + "/resourceInstances/" + RESOURCE_INSTANCE_NAME + "/artifacts/" + ARTIFACT_UUID;
+    private static final byte[] PAYLOAD = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final String CHECKSUM = GeneralUtility.calculateMD5Base64EncodedByByteArray(PAYLOAD);
+    private static final String ENTITY_TAG = "\"" + CHECKSUM + "\"";
+    private static final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    private static final HttpSession session = Mockito.mock(HttpSession.class);
+    private static final ServletContext servletContext = Mockito.mock(ServletContext.class);
+    private static final WebAppContextWrapper webAppContextWrapper = Mockito.mock(WebAppContextWrapper.class);
+    private static final WebApplicationContext webApplicationContext = Mockito.mock(WebApplicationContext.class);
+    private static final ComponentsUtils componentsUtils = Mockito.mock(ComponentsUtils.class);
+    private static final ServletUtils servletUtils = Mockito.mock(ServletUtils.class);
+    private static final UserBusinessLogic userBusinessLogic = Mockito.mock(UserBusinessLogic.class);
+    private static final ComponentInstanceBusinessLogic componentInstanceBusinessLogic = Mockito.mock(ComponentInstanceBusinessLogic.class);
+    private static final ResourceImportManager resourceImportManager = Mockito.mock(ResourceImportManager.class);
+    private static final ArtifactsBusinessLogic artifactsBusinessLogic = Mockito.mock(ArtifactsBusinessLogic.class);
+    private static final ResponseFormat okResponseFormat = new ResponseFormat(HttpStatus.SC_OK);
+
+    @BeforeAll
+    public static void setup() {
+        ExternalConfiguration.setAppName("catalog-be");
+        when(request.getSession()).thenReturn(session);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn(ARTIFACT_PATH);
+        when(session.getServletContext()).thenReturn(servletContext);
+        when(servletContext.getAttribute(Constants.WEB_APPLICATION_CONTEXT_WRAPPER_ATTR)).thenReturn(webAppContextWrapper);
+        when(webAppContextWrapper.getWebAppContext(servletContext)).thenReturn(webApplicationContext);
+        when(webApplicationContext.getBean(ComponentsUtils.class)).thenReturn(componentsUtils);
+        when(componentsUtils.getResponseFormat(ActionStatus.OK)).thenReturn(okResponseFormat);
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        super.setUp();
+        Mockito.clearInvocations(componentsUtils);
+        mockArtifact(CHECKSUM);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+    }
+
+    @Test
+    void downloadsTheWholeArtifact() {
+        Response response = download(ARTIFACT_PATH).get();
+
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        assertEquals("0123456789", response.readEntity(String.class));
+        assertEquals(CHECKSUM, response.getHeaderString(Constants.MD5_HEADER));
+        assertEquals(ENTITY_TAG, response.getHeaderString(HttpHeaders.ETAG));
+        assertEquals("bytes", response.getHeaderString("Accept-Ranges"));
+        verifyAuditedOk();
+    }
+
+    @Test
+    void contentMd5IsCalculatedFromThePayloadAndNotTakenFromTheMetadata() {
+        mockArtifact("staleChecksum");
+
+        Response response = download(ARTIFACT_PATH).get();
+
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(CHECKSUM, response.getHeaderString(Constants.MD5_HEADER));
+        assertEquals("\"staleChecksum\"", response.getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void artifactWithoutChecksumIsTaggedWithThePayloadChecksum() {
+        mockArtifact(null);
+
+        Response response = download(ARTIFACT_PATH).get();
+
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(CHECKSUM, response.getHeaderString(Constants.MD5_HEADER));
+        assertEquals(ENTITY_TAG, response.getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void downloadsARange() {
+        Response response = download(ARTIFACT_PATH).header("Range", "bytes=2-5").get();
+
+        assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), response.getStatus());
+        assertEquals("2345", response.readEntity(String.class));
+        assertEquals("bytes 2-5/10", response.getHeaderString("Content-Range"));
+        assertEquals(ENTITY_TAG, response.getHeaderString(HttpHeaders.ETAG));
+        assertNull(response.getHeaderString(Constants.MD5_HEADER));
+        verifyAuditedOk();
+    }
+
+    @Test
+    void downloadsARangeOfAResourceInstanceArtifact() {
+        when(artifactsBusinessLogic
+            .downloadResourceInstanceArtifactByUUIDs(ComponentTypeEnum.SERVICE, SERVICE_UUID, RESOURCE_INSTANCE_NAME, ARTIFACT_UUID))
+            .thenReturn(new ImmutablePair<>(buildArtifact(CHECKSUM), ByteBuffer.wrap(PAYLOAD)));
+
+        Response response = download(RESOURCE_INSTANCE_ARTIFACT_PATH).header("Range", "bytes=-3").get();
+
+        assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), response.getStatus());
+        assertEquals("789", response.readEntity(String.class));
+        assertEquals("bytes 7-9/10", response.getHeaderString("Content-Range"));
+        verifyAuditedOk();
+    }
+
+    @Test
+    void rangePastTheEndIsNotSatisfiable() {
+        Response response = download(ARTIFACT_PATH).header("Range", "bytes=10-12").get();
+
+        assertEquals(Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(), response.getStatus());
+        assertEquals("bytes */10", response.getHeaderString("Content-Range"));
+        verifyAuditedOk();
+    }
+
+    @Test
+    void artifactHeldByTheClientIsNotModified() {
+        Response response = download(ARTIFACT_PATH).header(HttpHeaders.IF_NONE_MATCH, ENTITY_TAG).get();
+
+        assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(ENTITY_TAG, response.getHeaderString(HttpHeaders.ETAG));
+        verifyAuditedOk();
+    }
+
+    @Test
+    void rangeOfTheCurrentArtifactIsSent() {
+        Response response = download(ARTIFACT_PATH).header("Range", "bytes=5-").header("If-Range", ENTITY_TAG).get();
+
+        assertEquals(Status.PARTIAL_CONTENT.getStatusCode(), response.getStatus());
+        assertEquals("56789", response.readEntity(String.class));
+        assertEquals("bytes 5-9/10", response.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    void rangeOfAnotherArtifactVersionSendsTheWholePayload() {
+        Response response = download(ARTIFACT_PATH).header("Range", "bytes=5-").header("If-Range", "\"previousChecksum\"").get();
+
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        assertEquals("0123456789", response.readEntity(String.class));
+        assertEquals(CHECKSUM, response.getHeaderString(Constants.MD5_HEADER));
+        assertNull(response.getHeaderString("Content-Range"));
+    }
+
+    private static void mockArtifact(String checksum) {
+        when(artifactsBusinessLogic.downloadComponentArtifactByUUIDs(eq(ComponentTypeEnum.SERVICE), eq(SERVICE_UUID), eq(ARTIFACT_UUID), any()))
+            .thenReturn(new ImmutablePair<>(buildArtifact(checksum), ByteBuffer.wrap(PAYLOAD)));
+    }
+
+    private static ArtifactDefinition buildArtifact(String checksum) {
+        ArtifactDefinition artifact = new ArtifactDefinition();
+        artifact.setArtifactUUID(ARTIFACT_UUID);
+        artifact.setArtifactChecksum(checksum);
+        return artifact;
+    }
+
+    private Invocation.Builder download(String path) {
+        return target().path(path).request(MediaType.APPLICATION_OCTET_STREAM)
+            .header(Constants.X_ECOMP_INSTANCE_ID_HEADER, "mockXEcompInstanceId")
+            .header(Constants.USER_ID_HEADER, "mockAttID");
+    }
+
+    private static void verifyAuditedOk() {
+        verify(componentsUtils).auditExternalDownloadArtifact(eq(okResponseFormat), any(), any(), any(), eq(ARTIFACT_UUID), eq("mockAttID"));
+    }
+
+    @Override
+    protected Application configure() {
+        forceSet(TestProperties.CONTAINER_PORT, "0");
+        return new ResourceConfig()
+            .register(new ArtifactExternalServlet(userBusinessLogic, componentInstanceBusinessLogic, componentsUtils, servletUtils,
+                resourceImportManager, artifactsBusinessLogic))
+            .register(new AbstractBinder() {
+
+                @Override
+                protected void configure() {
+                    bind(request).to(HttpServletRequest.class);
+                }
+            });
+    }
+}
@@ -39,6 +39,7 @@ import org.openecomp.sdc.be.catalog.impl.DmaapProducer;
 import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.Resource;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.CatalogProjection;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CatalogOperationTest {
@@ -46,6 +47,8 @@ public class CatalogOperationTest {
     private DmaapProducer msProducer;
     @Mock
     private Resource component;
+    @Mock
+    private CatalogProjection catalogProjection;
     @Captor
     private ArgumentCaptor<ComponentMessage> messageCaptor;
 
@@ -53,7 +56,7 @@ public class CatalogOperationTest {
 
     @Before
     public void setUp() {
-        catalogOperation = new CatalogOperation(msProducer);
+        catalogOperation = new CatalogOperation(msProducer, catalogProjection);
     }
 
     @Test
@@ -63,10 +66,12 @@ public class CatalogOperationTest {
         when(component.getLastUpdateDate()).thenReturn(System.currentTimeMillis());
         when(component.getLastUpdaterUserId()).thenReturn("mock-id");
         when(component.getCategories()).thenReturn(null);
+        when(component.getInvariantUUID()).thenReturn("invariantUUID");
         when(msProducer.pushMessage(any(ComponentMessage.class))).thenReturn(IStatus.getSuccessStatus());
 
         catalogOperation.updateCatalog(ChangeTypeEnum.LIFECYCLE, component);
 
+        Mockito.verify(catalogProjection).onComponentChange("invariantUUID");
         Mockito.verify(msProducer).pushMessage(messageCaptor.capture());
         ComponentMessage message = messageCaptor.getValue();
         assertThat(message.getChangeType()).isEqualTo(ChangeTypeEnum.LIFECYCLE);
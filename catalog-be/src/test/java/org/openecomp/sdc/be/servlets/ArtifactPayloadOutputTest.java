@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ArtifactPayloadOutputTest {
+
+    private static final byte[] PAYLOAD = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void writesTheWholePayload() throws IOException {
+        assertEquals("0123456789", write(new ArtifactPayloadOutput(ByteBuffer.wrap(PAYLOAD))));
+    }
+
+    @Test
+    void writesASliceOfTheBufferReadFromCassandra() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap("--0123456789--".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        buffer.limit(12);
+        ArtifactPayloadOutput output = new ArtifactPayloadOutput(buffer.slice());
+
+        assertEquals(10, output.getLength());
+        assertEquals("0123456789", write(output));
+        assertEquals("345", write(output.range(3, 5)));
+    }
+
+    @Test
+    void writesAReadOnlyBuffer() throws IOException {
+        ArtifactPayloadOutput output = new ArtifactPayloadOutput(ByteBuffer.wrap(PAYLOAD).asReadOnlyBuffer());
+
+        assertEquals("0123456789", write(output));
+        assertEquals("89", write(output.range(8, 9)));
+    }
+
+    @Test
+    void parsesSingleByteRanges() {
+        assertArrayEquals(new int[]{0, 4}, ArtifactPayloadOutput.parseRange("bytes=0-4", PAYLOAD.length).get());
+        assertArrayEquals(new int[]{6, 9}, ArtifactPayloadOutput.parseRange("bytes=6-", PAYLOAD.length).get());
+        assertArrayEquals(new int[]{7, 9}, ArtifactPayloadOutput.parseRange("bytes=-3", PAYLOAD.length).get());
+        assertArrayEquals(new int[]{0, 9}, ArtifactPayloadOutput.parseRange("bytes=-30", PAYLOAD.length).get());
+        assertArrayEquals(new int[]{5, 9}, ArtifactPayloadOutput.parseRange("bytes=5-99999999999999999999", PAYLOAD.length).get());
+    }
+
+    @Test
+    void rangesPastTheEndCantBeSatisfied() {
+        assertEquals(0, ArtifactPayloadOutput.parseRange("bytes=10-12", PAYLOAD.length).get().length);
+        assertEquals(0, ArtifactPayloadOutput.parseRange("bytes=-0", PAYLOAD.length).get().length);
+    }
+
+    @Test
+    void unsupportedRangesSendTheWholePayload() {
+        assertFalse(ArtifactPayloadOutput.parseRange(null, PAYLOAD.length).isPresent());
+        assertFalse(ArtifactPayloadOutput.parseRange("bytes=0-1,4-5", PAYLOAD.length).isPresent());
+        assertFalse(ArtifactPayloadOutput.parseRange("items=0-1", PAYLOAD.length).isPresent());
+        assertFalse(ArtifactPayloadOutput.parseRange("bytes=5-2", PAYLOAD.length).isPresent());
+        assertFalse(ArtifactPayloadOutput.parseRange("bytes=-", PAYLOAD.length).isPresent());
+    }
+
+    private static String write(ArtifactPayloadOutput output) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        output.write(stream);
+        return stream.toString(StandardCharsets.UTF_8.name());
+    }
+}
@@ -25,11 +25,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import fj.data.Either;
 import java.util.Collections;
+import java.util.Optional;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -102,6 +106,23 @@ class ComponentServletTest extends JerseySpringBaseTest {
         verifyPolicyTypeFieldUsingJsonResponse(uiComponentDataTransfer);
     }
 
+    @Test
+    void filterDataByParam_unchangedComponent_returnNotModified() {
+        when(resourceBusinessLogic.getComponentDataVersion(eq(RESOURCE_ID.toLowerCase()), any(User.class)))
+            .thenReturn(Optional.of("componentVersion"));
+        when(resourceBusinessLogic.getComponentDataFilteredByParams(eq(RESOURCE_ID.toLowerCase()), any(User.class),
+            eq(Collections.singletonList("policies")))).thenReturn(Either.left(buildDataTransferWithPolicies()));
+        Response response = buildGetPolicyTypesCall().get();
+        String entityTag = response.getHeaderString(HttpHeaders.ETAG);
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(entityTag).isNotEmpty();
+
+        Response notModifiedResponse = buildGetPolicyTypesCall().header(HttpHeaders.IF_NONE_MATCH, entityTag).get();
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(Response.Status.NOT_MODIFIED.getStatusCode());
+        verify(resourceBusinessLogic, times(1)).getComponentDataFilteredByParams(eq(RESOURCE_ID.toLowerCase()), any(User.class),
+            eq(Collections.singletonList("policies")));
+    }
+
     private void verifyPolicyTypeFieldUsingJsonResponse(Response uiComponentDataTransfer) {
         JSONObject json = new JSONObject(uiComponentDataTransfer.readEntity(String.class));
         JSONArray policies = json.getJSONArray("policies");
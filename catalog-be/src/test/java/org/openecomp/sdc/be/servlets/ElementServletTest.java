@@ -25,19 +25,25 @@ package org.openecomp.sdc.be.servlets;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -1092,6 +1098,99 @@ class ElementServletTest extends JerseyTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
     }
 
+    @Test
+    void screenNotModifiedTest() {
+        String path = "/v1/screen";
+
+        Either<Map<String, List<CatalogComponent>>, ResponseFormat> screenEither = Either.left(new HashMap<>());
+        when(elementBusinessLogic.getCatalogComponentsVersion()).thenReturn(Optional.of("catalogVersion"));
+        when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
+            .thenReturn(screenEither);
+
+        Response response = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get();
+        String entityTag = response.getHeaderString(HttpHeaders.ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(entityTag).isNotEmpty();
+        assertThat(response.getHeaderString(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+
+        Response notModifiedResponse = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+            .get();
+
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(notModifiedResponse.getHeaderString(HttpHeaders.ETAG)).isEqualTo(entityTag);
+        verify(elementBusinessLogic, times(1)).getCatalogComponents(eq(designerUser.getUserId()), any());
+    }
+
+    @Test
+    void screenCompactTest() {
+        String path = "/v1/screen";
+        CatalogComponent catalogComponent = new CatalogComponent();
+        catalogComponent.setName("vf1");
+        catalogComponent.setLifecycleState("CERTIFIED");
+        Map<String, List<CatalogComponent>> catalog = new HashMap<>();
+        catalog.put("resources", Collections.singletonList(catalogComponent));
+        Either<Map<String, List<CatalogComponent>>, ResponseFormat> screenEither = Either.left(catalog);
+        when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
+            .thenReturn(screenEither);
+
+        Response response = target()
+            .path(path)
+            .queryParam("format", "compact")
+            .queryParam("fields", "name")
+            .queryParam("fields", "lifecycleState")
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.readEntity(String.class)).contains("\"dictionary\"").contains("\"columns\"").doesNotContain("uniqueId");
+    }
+
+    @Test
+    void screenUnknownFieldTest() {
+        String path = "/v1/screen";
+
+        Response response = target()
+            .path(path)
+            .queryParam("format", "compact")
+            .queryParam("fields", "unknownField")
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+        verify(elementBusinessLogic, never()).getCatalogComponents(any(), any());
+    }
+
+    @Test
+    void screenFieldsWithoutCompactFormatTest() {
+        String path = "/v1/screen";
+
+        Response response = target()
+            .path(path)
+            .queryParam("fields", "name")
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+        verify(elementBusinessLogic, never()).getCatalogComponents(any(), any());
+    }
+
     @Override
     protected Application configure() {
         ApplicationContext context = new AnnotationConfigApplicationContext(SpringConfig.class);
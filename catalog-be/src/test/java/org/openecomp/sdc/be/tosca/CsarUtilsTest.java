@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.openecomp.sdc.be.tosca.ComponentCache.MergeStrategy.overwriteIfSameVersions;
@@ -575,16 +576,19 @@ public class CsarUtilsTest extends BeConfDependentTest {
 	@Test
 	public void testWriteComponentInterface() throws IOException {
 		String fileName = "name.hello";
-		ToscaRepresentation tosca = ToscaRepresentation.make("value".getBytes());
+		ToscaTemplate toscaTemplate = new ToscaTemplate("tosca_simple_yaml_1_1");
+		List<Triple<String, String, Component>> dependencies = new ArrayList<>();
+		toscaTemplate.setDependencies(dependencies);
 
-		Mockito.when(toscaExportUtils.exportComponentInterface(Mockito.any(Component.class), Mockito.any(Boolean.class)))
-				.thenReturn(Either.left(tosca));
+		Mockito.when(toscaExportUtils.exportComponentInterfaceTemplate(Mockito.any(Component.class), Mockito.any(Boolean.class)))
+				.thenReturn(Either.left(toscaTemplate));
 
 
 		try (ByteArrayOutputStream out = new ByteArrayOutputStream(); ZipOutputStream zip = new ZipOutputStream(out)) {
 		    List<Triple<String, String, Component>> output = Deencapsulation.invoke(testSubject, "writeComponentInterface", new Resource(), zip, fileName, false);
 
-			assertNotNull(output);
+			assertSame(dependencies, output);
+			Mockito.verify(toscaExportUtils).writeToscaRepresentation(toscaTemplate, zip);
 		}
 	}
 
@@ -44,10 +44,12 @@ import static org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum.VF;
 import static org.openecomp.sdc.be.tosca.PropertyConvertor.PropertyType.PROPERTY;
 
 import fj.data.Either;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +67,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.sdc.be.components.BeConfDependentTest;
 import org.openecomp.sdc.be.components.utils.PropertyDataDefinitionBuilder;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.OperationDataDefinition;
@@ -105,15 +109,20 @@ import org.openecomp.sdc.be.model.operations.impl.InterfaceLifecycleOperation;
 import org.openecomp.sdc.be.tosca.exception.ToscaConversionException;
 import org.openecomp.sdc.be.tosca.model.SubstitutionMapping;
 import org.openecomp.sdc.be.tosca.model.ToscaCapability;
+import org.openecomp.sdc.be.tosca.model.ToscaGroupTemplate;
+import org.openecomp.sdc.be.tosca.model.ToscaMetadata;
 import org.openecomp.sdc.be.tosca.model.ToscaNodeTemplate;
 import org.openecomp.sdc.be.tosca.model.ToscaNodeType;
 import org.openecomp.sdc.be.tosca.model.ToscaProperty;
+import org.openecomp.sdc.be.tosca.model.ToscaSchemaDefinition;
 import org.openecomp.sdc.be.tosca.model.ToscaTemplate;
 import org.openecomp.sdc.be.tosca.model.ToscaTemplateArtifact;
+import org.openecomp.sdc.be.tosca.model.ToscaTemplateCapability;
 import org.openecomp.sdc.be.tosca.model.ToscaTemplateRequirement;
 import org.openecomp.sdc.be.tosca.model.ToscaTopolgyTemplate;
 import org.openecomp.sdc.be.tosca.utils.InputConverter;
 import org.openecomp.sdc.be.tosca.utils.OutputConverter;
+import org.yaml.snakeyaml.Yaml;
 
 public class ToscaExportHandlerTest extends BeConfDependentTest {
 
@@ -328,6 +337,101 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
         Assert.assertNotNull(result);
     }
 
+    @Test
+    public void testWriteToscaRepresentation() throws Exception {
+        ToscaTemplate toscaTemplate = buildRealisticToscaTemplate();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        testSubject.writeToscaRepresentation(toscaTemplate, outputStream);
+
+        // the main yaml as it was built before it was streamed
+        ThreadLocal<Yaml> toscaTemplateDumper = Deencapsulation.getField(ToscaExportHandler.class, "toscaTemplateDumper");
+        Configuration configuration = ConfigurationManager.getConfigurationManager().getConfiguration();
+        StringBuilder sb = new StringBuilder();
+        sb.append(configuration.getHeatEnvArtifactHeader());
+        sb.append(toscaTemplateDumper.get().dumpAsMap(toscaTemplate));
+        sb.append(configuration.getHeatEnvArtifactFooter());
+        byte[] expected = sb.toString().getBytes();
+        Assert.assertArrayEquals(expected, outputStream.toByteArray());
+        Assert.assertArrayEquals(expected, testSubject.createToscaRepresentation(toscaTemplate).getMainYaml());
+        String yaml = new String(expected);
+        assertTrue(yaml.contains("get_input: vf_input"));
+        assertTrue(yaml.contains("- resource 0"));
+        assertFalse(yaml.contains("!!"));
+        // the template is dumped in the block style, even though the dumper options ask for the flow style
+        assertFalse(yaml.contains(": {"));
+        assertFalse(yaml.contains(": ["));
+    }
+
+    private ToscaTemplate buildRealisticToscaTemplate() {
+        ToscaTemplate toscaTemplate = new ToscaTemplate(TOSCA_VERSION);
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put("invariantUUID", "c1a0b2f7-3d0e-4a6b-9d8e-0f1c2d3e4f50");
+        metadata.put("name", RESOURCE_NAME);
+        metadata.put("description", "A resource\nspanning \"two\" lines: with a colon");
+        toscaTemplate.setMetadata(metadata);
+        toscaTemplate.setImports(Collections.singletonList(
+            Collections.singletonMap("nodes", Collections.singletonMap("file", "nodes.yml"))));
+
+        ToscaProperty nodeTypeProperty = new ToscaProperty();
+        nodeTypeProperty.setType("list");
+        nodeTypeProperty.setRequired(false);
+        ToscaSchemaDefinition entrySchema = new ToscaSchemaDefinition();
+        entrySchema.setType("string");
+        nodeTypeProperty.setEntry_schema(entrySchema);
+        ToscaNodeType nodeType = new ToscaNodeType();
+        nodeType.setDerived_from("org.openecomp.resource.abstract.nodes.VF");
+        nodeType.setProperties(Collections.singletonMap("names", nodeTypeProperty));
+        toscaTemplate.setNode_types(Collections.singletonMap("org.openecomp.resource.vf.Resource", nodeType));
+
+        ToscaProperty input = new ToscaProperty();
+        input.setType("integer");
+        input.setDefaultp(3);
+        input.setDescription("number of instances");
+        Map<String, ToscaProperty> inputs = new LinkedHashMap<>();
+        inputs.put("vf_input", input);
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("count", Collections.singletonMap("get_input", "vf_input"));
+        properties.put("names", Arrays.asList("first", "second"));
+        properties.put("enabled", true);
+        ToscaTemplateRequirement requirement = new ToscaTemplateRequirement();
+        requirement.setCapability("tosca.capabilities.network.Linkable");
+        requirement.setNode("resource 1");
+        requirement.setRelationship("tosca.relationships.network.LinksTo");
+        ToscaTemplateCapability capability = new ToscaTemplateCapability();
+        capability.setProperties(Collections.singletonMap("min_instances", 1));
+        ToscaNodeTemplate nodeTemplate = new ToscaNodeTemplate();
+        nodeTemplate.setType("org.openecomp.resource.vf.Resource");
+        nodeTemplate.setMetadata(Collections.singletonMap("customizationUUID", "5f4e3d2c-1b0a-4968-8776-655443322110"));
+        nodeTemplate.setProperties(properties);
+        nodeTemplate.setRequirements(Collections.singletonList(Collections.singletonMap("link", requirement)));
+        nodeTemplate.setCapabilities(Collections.singletonMap("scalable", capability));
+        ToscaNodeTemplate otherNodeTemplate = new ToscaNodeTemplate();
+        otherNodeTemplate.setType("org.openecomp.resource.vl.VL");
+        Map<String, ToscaNodeTemplate> nodeTemplates = new LinkedHashMap<>();
+        nodeTemplates.put("resource 0", nodeTemplate);
+        nodeTemplates.put("resource 1", otherNodeTemplate);
+
+        ToscaMetadata groupMetadata = new ToscaMetadata();
+        groupMetadata.setName("Resource..module-0");
+        groupMetadata.setVersion("1");
+        ToscaGroupTemplate group = new ToscaGroupTemplate("org.openecomp.groups.VfModule", Collections.singletonList("resource 0"),
+            groupMetadata, Collections.singletonMap("isBase", true), null);
+
+        SubstitutionMapping substitutionMapping = new SubstitutionMapping();
+        substitutionMapping.setNode_type("org.openecomp.resource.vf.Resource");
+        substitutionMapping.setCapabilities(Collections.singletonMap("resource0.scalable", new String[]{"resource 0", "scalable"}));
+
+        ToscaTopolgyTemplate topologyTemplate = new ToscaTopolgyTemplate();
+        topologyTemplate.setInputs(inputs);
+        topologyTemplate.setNode_templates(nodeTemplates);
+        topologyTemplate.addGroups(Collections.singletonMap("resource_module_0", group));
+        topologyTemplate.setSubstitution_mappings(substitutionMapping);
+        toscaTemplate.setTopology_template(topologyTemplate);
+        return toscaTemplate;
+    }
+
     @Test
     public void testGetDependencies() throws Exception {
 
@@ -536,6 +640,53 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
         Assert.assertNotNull(result);
     }
 
+    @Test
+    public void testFillImportsReadsSharedDependenciesOnce() {
+        final Resource component = buildResource("service", ResourceTypeEnum.VF);
+        component.setComponentInstances(List.of(buildInstance("vf"), buildInstance("vf")));
+        final Resource vf = buildResource("vf", ResourceTypeEnum.VF);
+        vf.setComponentInstances(List.of(buildInstance("vfc"), buildInstance("vfc"), buildInstance("vfc")));
+        final Resource vfc = buildResource("vfc", ResourceTypeEnum.VFC);
+        final Map<String, String> derivedFrom = new HashMap<>();
+        derivedFrom.put("root", "tosca.nodes.Root");
+        derivedFrom.put("abstract", "org.openecomp.resource.abstract.nodes.VFC");
+        vfc.setDerivedFromMapOfIdToName(derivedFrom);
+        doReturn(Either.left(vf)).when(toscaOperationFacade).getToscaFullElement("vf");
+        doReturn(Either.left(vfc)).when(toscaOperationFacade).getToscaElement("vfc");
+        doReturn(Either.left(buildResource("abstract", ResourceTypeEnum.VFC))).when(toscaOperationFacade).getToscaElement("abstract");
+
+        final Either<ImmutablePair<ToscaTemplate, Map<String, Component>>, ToscaError> result = Deencapsulation
+            .invoke(testSubject, "fillImports", component, new ToscaTemplate(""));
+
+        assertTrue(result.isLeft());
+        verify(toscaOperationFacade, times(1)).getToscaFullElement("vf");
+        verify(toscaOperationFacade, times(1)).getToscaElement("vfc");
+        verify(toscaOperationFacade, times(1)).getToscaElement("abstract");
+        final List<String> dependencies = result.left().value().left.getDependencies().stream().map(Triple::getLeft)
+            .collect(Collectors.toList());
+        assertEquals(List.of("vf.yml", "abstract.yml"), dependencies);
+    }
+
+    private static Resource buildResource(final String name, final ResourceTypeEnum resourceType) {
+        final Resource resource = new Resource();
+        resource.setUniqueId(name);
+        resource.setName(name);
+        resource.setResourceType(resourceType);
+        final ArtifactDefinition artifact = new ArtifactDefinition();
+        artifact.setArtifactName(name + ".yml");
+        final Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+        toscaArtifacts.put("assettoscatemplate", artifact);
+        resource.setToscaArtifacts(toscaArtifacts);
+        return resource;
+    }
+
+    private static ComponentInstance buildInstance(final String componentUid) {
+        final ComponentInstance componentInstance = new ComponentInstance();
+        componentInstance.setComponentUid(componentUid);
+        componentInstance.setOriginType(OriginTypeEnum.VF);
+        return componentInstance;
+    }
+
     @Test
     public void testCreateDependency() throws Exception {
 
@@ -559,7 +710,8 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
         when(toscaOperationFacade.getToscaFullElement("modelName")).thenReturn(Either.left(new Service()));
 
         // default test
-        Deencapsulation.invoke(testSubject, "createDependency", componentCache, imports, dependecies, ci);
+        Deencapsulation.invoke(testSubject, "createDependency", new ExportComponentResolver(toscaOperationFacade), componentCache, imports,
+            dependecies, ci);
         Assert.assertFalse(componentCache.isEmpty());
     }
 
@@ -0,0 +1,37 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.mapping.annotations.Accessor;
+import com.datastax.driver.mapping.annotations.Param;
+import com.datastax.driver.mapping.annotations.Query;
+import java.util.UUID;
+
+@Accessor
+public interface CatalogChangeAccessor {
+
+    @Query("INSERT INTO sdcrepository.catalogchange (bucket, change_id, invariant_uuid) VALUES (:bucket, :changeId, :invariantUuid)"
+        + " USING TTL 7200")
+    ResultSet addChange(@Param("bucket") String bucket, @Param("changeId") UUID changeId, @Param("invariantUuid") String invariantUuid);
+
+    @Query("SELECT invariant_uuid FROM sdcrepository.catalogchange WHERE bucket = :bucket AND change_id >= :since")
+    ResultSet getChanges(@Param("bucket") String bucket, @Param("since") UUID since);
+}
@@ -0,0 +1,138 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.UUIDs;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.api.exception.CassandraDaoInitException;
+import org.openecomp.sdc.be.dao.api.exception.CassandraDaoInitExceptionProvider;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feed of the changes to the catalog data of the components, shared by the BE instances. The changes of an hour share a partition and
+ * expire after two hours.
+ */
+@Component("catalog-change-cassandra-dao")
+public class CatalogChangeCassandraDao extends CassandraDao {
+
+    static final long BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+    private static final String INVARIANT_UUID = "invariant_uuid";
+    private static final Logger LOGGER = Logger.getLogger(CatalogChangeCassandraDao.class.getName());
+
+    private CatalogChangeAccessor catalogChangeAccessor;
+
+    @Autowired
+    public CatalogChangeCassandraDao(final CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    /**
+     * For test purposes.
+     *
+     * @param catalogChangeAccessor the sdcrepository.catalogchange accessor
+     */
+    CatalogChangeCassandraDao(final CatalogChangeAccessor catalogChangeAccessor) {
+        super(null);
+        this.catalogChangeAccessor = catalogChangeAccessor;
+    }
+
+    @PostConstruct
+    public void init() {
+        final var keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (!client.isConnected()) {
+            LOGGER.error(EcompLoggerErrorCode.SCHEMA_ERROR, CatalogChangeCassandraDao.class.getName(), "Cassandra client isn't connected");
+            return;
+        }
+        final Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> connectionResult = client.connect(keyspace);
+        if (connectionResult.isRight()) {
+            final CassandraDaoInitException exception =
+                CassandraDaoInitExceptionProvider.keySpaceConnectError(keyspace, connectionResult.right().value()).get();
+            LOGGER.error(EcompLoggerErrorCode.SCHEMA_ERROR, CatalogChangeCassandraDao.class.getName(), exception.getMessage());
+            throw exception;
+        }
+        session = connectionResult.left().value().getLeft();
+        manager = connectionResult.left().value().getRight();
+        catalogChangeAccessor = manager.createAccessor(CatalogChangeAccessor.class);
+        LOGGER.info("{} successfully initialized", CatalogChangeCassandraDao.class.getName());
+    }
+
+    /**
+     * Records a change to the catalog data of the versions of a component.
+     *
+     * @param invariantUuid the invariant uuid of the component
+     */
+    public CassandraOperationStatus addChange(final String invariantUuid) {
+        if (catalogChangeAccessor == null) {
+            return CassandraOperationStatus.CLUSTER_NOT_CONNECTED;
+        }
+        final var changeId = UUIDs.timeBased();
+        try {
+            catalogChangeAccessor.addChange(getBucket(UUIDs.unixTimestamp(changeId)), changeId, invariantUuid);
+            return CassandraOperationStatus.OK;
+        } catch (final Exception e) {
+            LOGGER.debug("failed to record the catalog change of component {}", invariantUuid, e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+    }
+
+    /**
+     * @param time the time to read the changes from, in milliseconds since the epoch
+     * @return the invariant uuids of the components changed from the given time on
+     */
+    public Either<Set<String>, CassandraOperationStatus> getChangesSince(final long time) {
+        if (catalogChangeAccessor == null) {
+            return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
+        }
+        final Set<String> changed = new HashSet<>();
+        final var since = UUIDs.startOf(time);
+        final long now = System.currentTimeMillis();
+        try {
+            for (long bucketTime = time; bucketTime < now + BUCKET_MILLIS; bucketTime += BUCKET_MILLIS) {
+                for (final Row row : catalogChangeAccessor.getChanges(getBucket(bucketTime), since)) {
+                    changed.add(row.getString(INVARIANT_UUID));
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("failed to read the catalog changes since {}", time, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+        return Either.left(changed);
+    }
+
+    private static String getBucket(final long time) {
+        return BUCKET_FORMAT.format(Instant.ofEpochMilli(time));
+    }
+}
@@ -21,6 +21,7 @@ package org.openecomp.sdc.be.dao.cassandra.schema;
 
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.AuthEventTableDescription;
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.CatalogChangeTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.CategoryEventTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribDeployEventTableDesc;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribDownloadEventTableDesc;
@@ -63,7 +64,8 @@ public enum Table {
     SDC_OPERATIONAL_ENVIRONMENT(new OperationalEnvironmentsTableDescription()),
     AUDIT_ECOMP_OPERATIONAL_ENVIRONMENT(new EcompOperationalEnvironmentEventTableDesc()),
     FEATURE_TOGGLE_STATE(new FeatureToggleEventTableDesc()),
-    TOSCA_IMPORT_BY_MODEL(new ToscaImportByModelTableDescription());
+    TOSCA_IMPORT_BY_MODEL(new ToscaImportByModelTableDescription()),
+    CATALOG_CHANGE(new CatalogChangeTableDescription());
     // @formatter:on
 
     ITableDescription tableDescription;
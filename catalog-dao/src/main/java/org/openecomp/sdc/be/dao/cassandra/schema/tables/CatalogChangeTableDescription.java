@@ -0,0 +1,63 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+public class CatalogChangeTableDescription implements ITableDescription {
+
+    private static final String BUCKET = "bucket";
+    private static final String CHANGE_ID = "change_id";
+    private static final String INVARIANT_UUID = "invariant_uuid";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return List.of(new ImmutablePair<>(BUCKET, DataType.varchar()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return List.of(
+            new ImmutablePair<>(CHANGE_ID, DataType.timeuuid()),
+            new ImmutablePair<>(INVARIANT_UUID, DataType.varchar())
+        );
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.REPO_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return "catalogchange";
+    }
+}
@@ -22,6 +22,7 @@ package org.openecomp.sdc.be.dao.janusgraph;
 import fj.data.Either;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -38,6 +39,7 @@ import org.janusgraph.core.InvalidIDException;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphConfigurationException;
 import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.PropertyKey;
 import org.janusgraph.core.QueryException;
@@ -49,6 +51,7 @@ import org.janusgraph.diskstorage.BackendException;
 import org.janusgraph.diskstorage.ResourceUnavailableException;
 import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.janusgraph.graphdb.database.idassigner.IDPoolExhaustedException;
+import org.janusgraph.graphdb.tinkerpop.JanusGraphBlueprintsGraph;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.JanusGraphClientStrategy;
@@ -93,6 +96,8 @@ public class JanusGraphClient {
         this.healthCheckScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "JanusGraph-Health-Check-Task"));
         healthCheckReadTimeout = ConfigurationManager.getConfigurationManager().getConfiguration().getJanusGraphHealthCheckReadTimeout(2);
         reconnectInterval = ConfigurationManager.getConfigurationManager().getConfiguration().getJanusGraphReconnectIntervalInSeconds(3);
+        JanusGraphOperationMetrics.getInstance().setSlowOperationThresholdMillis(ConfigurationManager.getConfigurationManager().getConfiguration()
+            .getJanusGraphSlowOperationThresholdInMillis(JanusGraphOperationMetrics.DEFAULT_SLOW_OPERATION_THRESHOLD_MILLIS));
         logger.info("** JanusGraphClient created");
     }
 
@@ -270,6 +275,18 @@ public class JanusGraphClient {
         }
     }
 
+    /**
+     * Returns the transaction bound to the current thread, without starting a new one.
+     *
+     * @return the open transaction of the current thread, or empty if there is none
+     */
+    public Optional<JanusGraphTransaction> getCurrentThreadTransaction() {
+        if (!(graph instanceof JanusGraphBlueprintsGraph) || !graph.tx().isOpen()) {
+            return Optional.empty();
+        }
+        return Optional.of(((JanusGraphBlueprintsGraph) graph).getCurrentThreadTx());
+    }
+
     public boolean getHealth() {
         return this.lastHealthState;
     }
@@ -45,6 +45,7 @@ import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphEdge;
 import org.janusgraph.core.JanusGraphQuery;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.JanusGraphVertexQuery;
 import org.janusgraph.core.PropertyKey;
@@ -69,6 +70,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 public class JanusGraphDao {
 
     private static final Logger logger = Logger.getLogger(JanusGraphDao.class);
+    private static final String GET_BY_CRITERIA = "getByCriteria";
+    private static final JanusGraphOperationMetrics metrics = JanusGraphOperationMetrics.getInstance();
     JanusGraphClient janusGraphClient;
 
     public JanusGraphDao(@Qualifier("janusgraph-client") JanusGraphClient janusGraphClient) {
@@ -78,18 +81,51 @@ public class JanusGraphDao {
 
     public JanusGraphOperationStatus commit() {
         logger.debug("#commit - The operation succeeded. Doing commit...");
-        return janusGraphClient.commit();
+        return metrics.time("commit", null, null, janusGraphClient::commit);
     }
 
     public JanusGraphOperationStatus rollback() {
         logger.debug("#rollback - The operation failed. Doing rollback...");
-        return janusGraphClient.rollback();
+        return metrics.time("rollback", null, null, janusGraphClient::rollback);
     }
 
     public Either<JanusGraph, JanusGraphOperationStatus> getGraph() {
         return janusGraphClient.getGraph();
     }
 
+    public Optional<JanusGraphTransaction> getCurrentThreadTransaction() {
+        return janusGraphClient.getCurrentThreadTransaction();
+    }
+
+    /**
+     * Ends the transaction of the current thread at the end of a request. Only a transaction holding modifications is committed, the others are
+     * closed with a rollback, which does not reach the storage backend. The modifications of a read only request are never committed.
+     *
+     * @param succeeded whether the request succeeded
+     * @param readOnly  whether the request must not modify the graph
+     * @return how the transaction was ended
+     */
+    public JanusGraphTransactionOutcome endTransaction(final boolean succeeded, final boolean readOnly) {
+        final Optional<JanusGraphTransaction> transaction = getCurrentThreadTransaction();
+        if (transaction.isEmpty()) {
+            return JanusGraphTransactionOutcome.NO_TRANSACTION;
+        }
+        if (!transaction.get().hasModifications()) {
+            logger.debug("#endTransaction - The transaction holds no modifications. Releasing it...");
+            metrics.time(JanusGraphTransactionOutcome.RELEASED.getOperation(), null, null, janusGraphClient::rollback);
+            return JanusGraphTransactionOutcome.RELEASED;
+        }
+        if (succeeded && !readOnly) {
+            commit();
+            return JanusGraphTransactionOutcome.COMMITTED;
+        }
+        if (readOnly) {
+            logger.warn("A read only request modified the graph, its modifications are rolled back");
+        }
+        rollback();
+        return JanusGraphTransactionOutcome.ROLLED_BACK;
+    }
+
     /**
      * @param graphVertex
      * @return
@@ -150,6 +186,11 @@ public class JanusGraphDao {
      */
     public Either<GraphVertex, JanusGraphOperationStatus> getVertexByPropertyAndLabel(GraphPropertyEnum name, Object value, VertexTypeEnum label,
                                                                                       JsonParseFlagEnum parseFlag) {
+        return metrics.time("getVertexByPropertyAndLabel", label, parseFlag, () -> queryVertexByPropertyAndLabel(name, value, label, parseFlag));
+    }
+
+    private Either<GraphVertex, JanusGraphOperationStatus> queryVertexByPropertyAndLabel(GraphPropertyEnum name, Object value, VertexTypeEnum label,
+                                                                                         JsonParseFlagEnum parseFlag) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -194,6 +235,14 @@ public class JanusGraphDao {
      * @return
      */
     public Either<GraphVertex, JanusGraphOperationStatus> getVertexById(String id, JsonParseFlagEnum parseFlag) {
+        return metrics.time("getVertexById", parseFlag, () -> queryVertexById(id, parseFlag), JanusGraphDao::labelOf);
+    }
+
+    private static Object labelOf(Either<GraphVertex, JanusGraphOperationStatus> vertex) {
+        return vertex != null && vertex.isLeft() ? vertex.left().value().getLabel() : null;
+    }
+
+    private Either<GraphVertex, JanusGraphOperationStatus> queryVertexById(String id, JsonParseFlagEnum parseFlag) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (id == null) {
             if (logger.isDebugEnabled()) {
@@ -268,6 +317,16 @@ public class JanusGraphDao {
     }
 
     public void parseVertexProperties(GraphVertex graphVertex, JsonParseFlagEnum parseFlag) {
+        final long start = System.nanoTime();
+        VertexTypeEnum label = null;
+        try {
+            label = fillVertexProperties(graphVertex, parseFlag);
+        } finally {
+            metrics.record("parseVertexProperties", label, parseFlag, System.nanoTime() - start);
+        }
+    }
+
+    private VertexTypeEnum fillVertexProperties(GraphVertex graphVertex, JsonParseFlagEnum parseFlag) {
         JanusGraphVertex vertex = graphVertex.getVertex();
         Map<GraphPropertyEnum, Object> properties = getVertexProperties(vertex);
         VertexTypeEnum label = VertexTypeEnum.getByName((String) (properties.get(GraphPropertyEnum.LABEL)));
@@ -305,6 +364,7 @@ public class JanusGraphDao {
                     break;
             }
         }
+        return label;
     }
 
     public JanusGraphOperationStatus createEdge(GraphVertex from, GraphVertex to, EdgeLabelEnum label, Map<EdgePropertyEnum, Object> properties) {
@@ -397,6 +457,11 @@ public class JanusGraphDao {
 
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getByCriteria(VertexTypeEnum type, Map<GraphPropertyEnum, Object> props,
                                                                               JsonParseFlagEnum parseFlag) {
+        return metrics.time(GET_BY_CRITERIA, type, parseFlag, () -> queryByCriteria(type, props, parseFlag));
+    }
+
+    private Either<List<GraphVertex>, JanusGraphOperationStatus> queryByCriteria(VertexTypeEnum type, Map<GraphPropertyEnum, Object> props,
+                                                                                 JsonParseFlagEnum parseFlag) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -475,6 +540,17 @@ public class JanusGraphDao {
                                                                               final JsonParseFlagEnum parseFlag,
                                                                               final String model,
                                                                               final boolean includeNormativeExtensionModels) {
+        return metrics.time(GET_BY_CRITERIA, type, parseFlag,
+            () -> queryByCriteria(type, hasProps, hasNotProps, predicates, parseFlag, model, includeNormativeExtensionModels));
+    }
+
+    private Either<List<GraphVertex>, JanusGraphOperationStatus> queryByCriteria(final VertexTypeEnum type,
+                                                                                 final Map<GraphPropertyEnum, Object> hasProps,
+                                                                                 final Map<GraphPropertyEnum, Object> hasNotProps,
+                                                                                 final Map<String, Entry<JanusGraphPredicate, Object>> predicates,
+                                                                                 final JsonParseFlagEnum parseFlag,
+                                                                                 final String model,
+                                                                                 final boolean includeNormativeExtensionModels) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -546,6 +622,12 @@ public class JanusGraphDao {
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getByCriteria(final VertexTypeEnum type,
             final Map<GraphPropertyEnum, Object> hasProps, final Map<GraphPropertyEnum, Object> hasNotProps,
             final Map<String, Entry<JanusGraphPredicate, Object>> predicates, final JsonParseFlagEnum parseFlag) {
+        return metrics.time(GET_BY_CRITERIA, type, parseFlag, () -> queryByCriteria(type, hasProps, hasNotProps, predicates, parseFlag));
+    }
+
+    private Either<List<GraphVertex>, JanusGraphOperationStatus> queryByCriteria(final VertexTypeEnum type,
+            final Map<GraphPropertyEnum, Object> hasProps, final Map<GraphPropertyEnum, Object> hasNotProps,
+            final Map<String, Entry<JanusGraphPredicate, Object>> predicates, final JsonParseFlagEnum parseFlag) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -824,6 +906,12 @@ public class JanusGraphDao {
 
     private Either<List<GraphVertex>, JanusGraphOperationStatus> getAdjacentVertices(GraphVertex parentVertex, EdgeLabelEnum edgeLabel,
                                                                                      JsonParseFlagEnum parseFlag, Direction direction) {
+        return metrics.time(direction == Direction.OUT ? "getChildrenVertices" : "getParentVertices", parentVertex.getLabel(), parseFlag,
+            () -> fetchAdjacentVertices(parentVertex, edgeLabel, parseFlag, direction));
+    }
+
+    private Either<List<GraphVertex>, JanusGraphOperationStatus> fetchAdjacentVertices(GraphVertex parentVertex, EdgeLabelEnum edgeLabel,
+                                                                                       JsonParseFlagEnum parseFlag, Direction direction) {
         List<GraphVertex> list = new ArrayList<>();
         Either<List<Vertex>, JanusGraphOperationStatus> adjacentVerticies = getAdjacentVertices(parentVertex.getVertex(), edgeLabel, parseFlag,
             direction);
@@ -65,6 +65,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 public class JanusGraphGenericDao {
 
     private static final String LOCK_NODE_PREFIX = "lock_";
+    private static final String GET_BY_CRITERIA = "getByCriteria";
+    private static final JanusGraphOperationMetrics metrics = JanusGraphOperationMetrics.getInstance();
     private static Logger log = Logger.getLogger(JanusGraphGenericDao.class.getName());
     private JanusGraphClient janusGraphClient;
 
@@ -75,12 +77,12 @@ public class JanusGraphGenericDao {
 
     public JanusGraphOperationStatus commit() {
         log.debug("doing commit.");
-        return janusGraphClient.commit();
+        return metrics.time("commit", null, null, janusGraphClient::commit);
     }
 
     public JanusGraphOperationStatus rollback() {
         log.error("Going to execute rollback on graph.");
-        return janusGraphClient.rollback();
+        return metrics.time("rollback", null, null, janusGraphClient::rollback);
     }
 
     public <T, TStatus> void handleTransactionCommitRollback(boolean inTransaction, Either<T, TStatus> result) {
@@ -317,6 +319,14 @@ public class JanusGraphGenericDao {
      * @return
      */
     public <T extends GraphNode> Either<T, JanusGraphOperationStatus> getNode(String keyName, Object keyValue, Class<T> clazz) {
+        return metrics.time("getNode", null, () -> queryNode(keyName, keyValue, clazz), JanusGraphGenericDao::labelOf);
+    }
+
+    private static <T extends GraphNode> Object labelOf(Either<T, JanusGraphOperationStatus> node) {
+        return node != null && node.isLeft() ? NodeTypeEnum.getByName(node.left().value().getLabel()) : null;
+    }
+
+    private <T extends GraphNode> Either<T, JanusGraphOperationStatus> queryNode(String keyName, Object keyValue, Class<T> clazz) {
       log.debug("Try to get node for key [{}] with value [{}] ", keyName, keyValue);
       Either<JanusGraphVertex, JanusGraphOperationStatus> vertexByProperty = getVertexByProperty(keyName, keyValue);
       if (vertexByProperty.isLeft()) {
@@ -338,6 +348,11 @@ public class JanusGraphGenericDao {
     }
     
     public <T extends GraphNode> Either<T, JanusGraphOperationStatus> getNode(final String keyName, final Object keyValue, final Class<T> clazz, final String model) {
+        return metrics.time("getNode", null, () -> queryNode(keyName, keyValue, clazz, model), JanusGraphGenericDao::labelOf);
+    }
+
+    private <T extends GraphNode> Either<T, JanusGraphOperationStatus> queryNode(final String keyName, final Object keyValue, final Class<T> clazz,
+                                                                                 final String model) {
         log.debug("Try to get node for key [{}] with value [{}] ", keyName, keyValue);
         final Either<JanusGraphVertex, JanusGraphOperationStatus> vertexByProperty = getVertexByPropertyForModel(keyName, keyValue, model);
         if (vertexByProperty.isLeft()) {
@@ -724,6 +739,11 @@ public class JanusGraphGenericDao {
 
     public <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> getByCriteria(NodeTypeEnum type, Map<String, Object> hasProps,
                                                                                           Map<String, Object> hasNotProps, Class<T> clazz) {
+        return metrics.time(GET_BY_CRITERIA, type, null, () -> queryByCriteria(type, hasProps, hasNotProps, clazz));
+    }
+
+    private <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> queryByCriteria(NodeTypeEnum type, Map<String, Object> hasProps,
+                                                                                             Map<String, Object> hasNotProps, Class<T> clazz) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -776,6 +796,11 @@ public class JanusGraphGenericDao {
 
     public <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> getByCriteria(NodeTypeEnum type, Class<T> clazz,
                                                                                           List<ImmutableTriple<QueryType, String, Object>> props) {
+        return metrics.time(GET_BY_CRITERIA, type, null, () -> queryByCriteria(type, clazz, props));
+    }
+
+    private <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> queryByCriteria(NodeTypeEnum type, Class<T> clazz,
+                                                                                             List<ImmutableTriple<QueryType, String, Object>> props) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -826,6 +851,12 @@ public class JanusGraphGenericDao {
     
     public <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> getByCriteriaForModel(final NodeTypeEnum type, final Map<String, Object> props,
             final String model, final Class<T> clazz) {
+        return metrics.time(GET_BY_CRITERIA, type, null, () -> queryByCriteriaForModel(type, props, model, clazz));
+    }
+
+    private <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> queryByCriteriaForModel(final NodeTypeEnum type,
+                                                                                                     final Map<String, Object> props,
+                                                                                                     final String model, final Class<T> clazz) {
         try {
             final Either<Iterable<JanusGraphVertex>, JanusGraphOperationStatus> vertices = getVerticesByCriteria(type, props);
             
@@ -891,6 +922,12 @@ public class JanusGraphGenericDao {
     public <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> getByCriteriaWithPredicate(NodeTypeEnum type,
                                                                                                        Map<String, Entry<JanusGraphPredicate, Object>> props,
                                                                                                        Class<T> clazz, String modelName) {
+        return metrics.time("getByCriteriaWithPredicate", type, null, () -> queryByCriteriaWithPredicate(type, props, clazz, modelName));
+    }
+
+    private <T extends GraphNode> Either<List<T>, JanusGraphOperationStatus> queryByCriteriaWithPredicate(NodeTypeEnum type,
+                                                                                                          Map<String, Entry<JanusGraphPredicate, Object>> props,
+                                                                                                          Class<T> clazz, String modelName) {
         Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
         if (graph.isLeft()) {
             try {
@@ -1283,6 +1320,14 @@ public class JanusGraphGenericDao {
                                                                                                                        NodeTypeEnum nodeTypeEnum,
                                                                                                                        Class<T> clazz,
                                                                                                                        boolean withEdges) {
+        return metrics.time("getChildrenNodes", nodeTypeEnum, null, () -> fetchChildrenNodes(key, uniqueId, edgeType, nodeTypeEnum, clazz, withEdges));
+    }
+
+    private <T extends GraphNode> Either<List<ImmutablePair<T, GraphEdge>>, JanusGraphOperationStatus> fetchChildrenNodes(String key, String uniqueId,
+                                                                                                                          GraphEdgeLabels edgeType,
+                                                                                                                          NodeTypeEnum nodeTypeEnum,
+                                                                                                                          Class<T> clazz,
+                                                                                                                          boolean withEdges) {
         List<ImmutablePair<T, GraphEdge>> immutablePairs = new ArrayList<>();
         Either<JanusGraph, JanusGraphOperationStatus> graphRes = janusGraphClient.getGraph();
         if (graphRes.isRight()) {
@@ -1446,6 +1491,13 @@ public class JanusGraphGenericDao {
                                                                                                                      GraphEdgeLabels edgeType,
                                                                                                                      NodeTypeEnum nodeTypeEnum,
                                                                                                                      Class<T> clazz) {
+        return metrics.time("getParentNodes", nodeTypeEnum, null, () -> fetchParentNodes(key, uniqueId, edgeType, nodeTypeEnum, clazz));
+    }
+
+    private <T extends GraphNode> Either<List<ImmutablePair<T, GraphEdge>>, JanusGraphOperationStatus> fetchParentNodes(String key, String uniqueId,
+                                                                                                                        GraphEdgeLabels edgeType,
+                                                                                                                        NodeTypeEnum nodeTypeEnum,
+                                                                                                                        Class<T> clazz) {
         List<ImmutablePair<T, GraphEdge>> immutablePairs = new ArrayList<>();
         T data = null;
         GraphEdge graphEdge = null;
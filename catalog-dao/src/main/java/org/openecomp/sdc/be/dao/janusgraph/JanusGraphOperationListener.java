@@ -0,0 +1,36 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.janusgraph;
+
+/**
+ * Receives the timing of every graph operation measured by {@link JanusGraphOperationMetrics}, to export it to an external metrics system.
+ * Implementations are discovered with {@link java.util.ServiceLoader} or registered with {@link JanusGraphOperationMetrics#addListener}. They are
+ * called on the thread that ran the operation and must not block.
+ */
+public interface JanusGraphOperationListener {
+
+    /**
+     * @param operation      the DAO operation, e.g. getByCriteria
+     * @param label          the vertex or edge label the operation was run on
+     * @param parseFlag      the json parse flag of the operation
+     * @param durationNanos  the duration of the operation
+     */
+    void onOperation(String operation, String label, String parseFlag, long durationNanos);
+}
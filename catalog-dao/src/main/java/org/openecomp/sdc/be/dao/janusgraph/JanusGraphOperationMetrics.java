@@ -0,0 +1,314 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.janusgraph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Times the graph operations of {@link JanusGraphDao} and {@link JanusGraphGenericDao}. Every operation is aggregated by operation, vertex label and
+ * parse flag, operations slower than a threshold are logged, and the operations run by a request are summed up between {@link #startRequest()} and
+ * {@link #endRequest()}. Timings are also handed to the registered {@link JanusGraphOperationListener}s.
+ * <p>
+ * An operation timed while another one runs on the same thread, e.g. the parsing of the vertices fetched by a query, is only counted once: the
+ * duration recorded for the outer operation excludes the durations of the operations it ran.
+ */
+public final class JanusGraphOperationMetrics {
+
+    static final long DEFAULT_SLOW_OPERATION_THRESHOLD_MILLIS = 500;
+    private static final Logger log = Logger.getLogger(JanusGraphOperationMetrics.class);
+    private static final String NONE = "none";
+    private static final JanusGraphOperationMetrics instance = new JanusGraphOperationMetrics();
+    private final Map<String, OperationStatistics> statistics = new ConcurrentHashMap<>();
+    private final List<JanusGraphOperationListener> listeners = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<RequestSummary> requestSummary = new ThreadLocal<>();
+    private final ThreadLocal<Deque<long[]>> runningOperations = ThreadLocal.withInitial(ArrayDeque::new);
+    private volatile long slowOperationThresholdNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_OPERATION_THRESHOLD_MILLIS);
+
+    JanusGraphOperationMetrics() {
+        ServiceLoader.load(JanusGraphOperationListener.class).forEach(listeners::add);
+    }
+
+    public static JanusGraphOperationMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Runs a graph operation and records its duration, less the durations of the operations it ran.
+     *
+     * @param operation the DAO operation name
+     * @param label     the vertex label, may be null
+     * @param parseFlag the json parse flag, may be null
+     * @param call      the operation
+     * @return the result of the operation
+     */
+    public <T> T time(final String operation, final Object label, final Object parseFlag, final Supplier<T> call) {
+        return time(operation, parseFlag, call, result -> label);
+    }
+
+    /**
+     * Runs a graph operation whose vertex label is only known from its result, and records its duration, less the durations of the operations
+     * it ran.
+     *
+     * @param operation     the DAO operation name
+     * @param parseFlag     the json parse flag, may be null
+     * @param call          the operation
+     * @param labelOfResult gives the vertex label of the result, which is null if the operation failed, may return null
+     * @return the result of the operation
+     */
+    public <T> T time(final String operation, final Object parseFlag, final Supplier<T> call, final Function<T, Object> labelOfResult) {
+        final Deque<long[]> running = runningOperations.get();
+        final long[] nestedNanos = new long[1];
+        running.push(nestedNanos);
+        final long start = System.nanoTime();
+        T result = null;
+        try {
+            result = call.get();
+            return result;
+        } finally {
+            final long durationNanos = System.nanoTime() - start;
+            running.pop();
+            addToRunningOperation(running, durationNanos);
+            recordExclusive(operation, labelOfResult.apply(result), parseFlag, Math.max(0, durationNanos - nestedNanos[0]));
+        }
+    }
+
+    /**
+     * Records the duration of a graph operation which did not run any timed operation.
+     *
+     * @param operation     the DAO operation name
+     * @param label         the vertex label, may be null
+     * @param parseFlag     the json parse flag, may be null
+     * @param durationNanos the duration of the operation
+     */
+    public void record(final String operation, final Object label, final Object parseFlag, final long durationNanos) {
+        addToRunningOperation(runningOperations.get(), durationNanos);
+        recordExclusive(operation, label, parseFlag, durationNanos);
+    }
+
+    private static void addToRunningOperation(final Deque<long[]> running, final long durationNanos) {
+        final long[] nestedNanos = running.peek();
+        if (nestedNanos != null) {
+            nestedNanos[0] += durationNanos;
+        }
+    }
+
+    private void recordExclusive(final String operation, final Object label, final Object parseFlag, final long durationNanos) {
+        final String labelName = label == null ? NONE : label.toString();
+        final String parseFlagName = parseFlag == null ? NONE : parseFlag.toString();
+        final boolean slow = durationNanos >= slowOperationThresholdNanos;
+        statistics.computeIfAbsent(operation + '|' + labelName + '|' + parseFlagName,
+            key -> new OperationStatistics(operation, labelName, parseFlagName)).add(durationNanos, slow);
+        final RequestSummary summary = requestSummary.get();
+        if (summary != null) {
+            summary.add(operation, durationNanos);
+        }
+        if (slow) {
+            log.warn("Slow graph operation {} on label {} with parse flag {} took {} ms", operation, labelName, parseFlagName,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+        for (final JanusGraphOperationListener listener : listeners) {
+            try {
+                listener.onOperation(operation, labelName, parseFlagName, durationNanos);
+            } catch (final RuntimeException e) {
+                log.debug("Graph operation listener {} failed", listener.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Starts summing up the graph operations run on the current thread.
+     */
+    public void startRequest() {
+        requestSummary.set(new RequestSummary());
+    }
+
+    /**
+     * @return the operations run on the current thread since {@link #startRequest()}, empty if it was not called
+     */
+    public RequestSummary getRequestSummary() {
+        final RequestSummary summary = requestSummary.get();
+        return summary == null ? new RequestSummary() : summary;
+    }
+
+    /**
+     * Stops summing up the graph operations run on the current thread.
+     *
+     * @return the operations run since {@link #startRequest()}, empty if it was not called
+     */
+    public RequestSummary endRequest() {
+        final RequestSummary summary = requestSummary.get();
+        requestSummary.remove();
+        return summary == null ? new RequestSummary() : summary;
+    }
+
+    public void addListener(final JanusGraphOperationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(final JanusGraphOperationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void setSlowOperationThresholdMillis(final long slowOperationThresholdMillis) {
+        this.slowOperationThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowOperationThresholdMillis);
+    }
+
+    /**
+     * @return a snapshot of the statistics of every operation, label and parse flag timed so far
+     */
+    public List<OperationStatistics> getStatistics() {
+        return new ArrayList<>(statistics.values());
+    }
+
+    /**
+     * Aggregated timings of an operation run on a label with a parse flag. Durations are also counted in buckets, bounded by
+     * {@link #BUCKET_BOUNDS_MILLIS}, the last bucket holding the durations above the last bound.
+     */
+    public static final class OperationStatistics {
+
+        public static final long[] BUCKET_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 500, 1000};
+        private final String operation;
+        private final String label;
+        private final String parseFlag;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+
+        private OperationStatistics(final String operation, final String label, final String parseFlag) {
+            this.operation = operation;
+            this.label = label;
+            this.parseFlag = parseFlag;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void add(final long durationNanos, final boolean slow) {
+            count.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+            if (slow) {
+                slowCount.increment();
+            }
+            final long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && durationMillis > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getParseFlag() {
+            return parseFlag;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getSlowCount() {
+            return slowCount.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long[] getBucketCounts() {
+            final long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * The graph operations run by a single request, by operation.
+     */
+    public static final class RequestSummary {
+
+        private final Map<String, long[]> countAndNanosByOperation = new TreeMap<>();
+
+        private void add(final String operation, final long durationNanos) {
+            final long[] countAndNanos = countAndNanosByOperation.computeIfAbsent(operation, key -> new long[2]);
+            countAndNanos[0]++;
+            countAndNanos[1] += durationNanos;
+        }
+
+        public boolean isEmpty() {
+            return countAndNanosByOperation.isEmpty();
+        }
+
+        public long getCount(final String operation) {
+            final long[] countAndNanos = countAndNanosByOperation.get(operation);
+            return countAndNanos == null ? 0 : countAndNanos[0];
+        }
+
+        public long getTotalNanos(final String operation) {
+            final long[] countAndNanos = countAndNanosByOperation.get(operation);
+            return countAndNanos == null ? 0 : countAndNanos[1];
+        }
+
+        /**
+         * @return the summary as operation=count/total ms pairs, e.g. getByCriteria=12/40ms commit=1/3ms
+         */
+        @Override
+        public String toString() {
+            final StringBuilder summary = new StringBuilder();
+            countAndNanosByOperation.forEach((operation, countAndNanos) -> {
+                if (summary.length() > 0) {
+                    summary.append(' ');
+                }
+                summary.append(operation).append('=').append(countAndNanos[0]).append('/')
+                    .append(TimeUnit.NANOSECONDS.toMillis(countAndNanos[1])).append("ms");
+            });
+            return summary.toString();
+        }
+    }
+}
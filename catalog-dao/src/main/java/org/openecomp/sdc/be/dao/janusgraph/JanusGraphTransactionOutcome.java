@@ -0,0 +1,49 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.janusgraph;
+
+/**
+ * How the transaction of a request was ended by {@link JanusGraphDao#endTransaction(boolean, boolean)}.
+ */
+public enum JanusGraphTransactionOutcome {
+    /**
+     * The request did not open a transaction.
+     */
+    NO_TRANSACTION(null),
+    /**
+     * The transaction held no modifications and was closed without a commit.
+     */
+    RELEASED("release"),
+    COMMITTED("commit"),
+    ROLLED_BACK("rollback");
+
+    private final String operation;
+
+    JanusGraphTransactionOutcome(final String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * @return the operation name the outcome is timed under in {@link JanusGraphOperationMetrics}, null if there is nothing to time
+     */
+    public String getOperation() {
+        return operation;
+    }
+}
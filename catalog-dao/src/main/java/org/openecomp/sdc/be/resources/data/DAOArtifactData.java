@@ -43,7 +43,7 @@ public class DAOArtifactData {
     @Setter
     private String id;
     /*
-     * Base64 encoded Artifact file data
+     * Raw artifact file data
      */
     @Column
     private ByteBuffer data;
@@ -52,28 +52,39 @@ public class DAOArtifactData {
         this.id = id;
     }
 
+    /**
+     * The payload is wrapped, not copied, so the caller must not modify it afterwards.
+     */
     public DAOArtifactData(String artifactId, byte[] data) {
         super();
         this.id = artifactId;
         if (data != null) {
-            this.data = ByteBuffer.wrap(data.clone());
-            // this.data = data.clone();
+            this.data = ByteBuffer.wrap(data);
         }
     }
 
+    /**
+     * @return the backing array when it holds exactly the payload, otherwise a copy of the payload
+     */
     @Transient
     public byte[] getDataAsArray() {
-        // return data;
-        if (data != null) {
+        if (data == null) {
+            return null;
+        }
+        if (data.hasArray() && data.arrayOffset() == 0 && data.position() == 0 && data.remaining() == data.array().length) {
             return data.array();
         }
-        return null;
+        final byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return bytes;
     }
 
+    /**
+     * The payload is wrapped, not copied, so the caller must not modify it afterwards.
+     */
     public void setDataAsArray(byte[] data) {
         if (data != null) {
-            // this.data = data.clone();
-            this.data = ByteBuffer.wrap(data.clone());
+            this.data = ByteBuffer.wrap(data);
         }
     }
 
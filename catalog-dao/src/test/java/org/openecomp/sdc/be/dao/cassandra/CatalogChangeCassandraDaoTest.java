@@ -0,0 +1,125 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+class CatalogChangeCassandraDaoTest {
+
+    private CatalogChangeAccessor catalogChangeAccessor;
+    private CatalogChangeCassandraDao catalogChangeCassandraDao;
+
+    @BeforeEach
+    void setUp() {
+        catalogChangeAccessor = mock(CatalogChangeAccessor.class);
+        catalogChangeCassandraDao = new CatalogChangeCassandraDao(catalogChangeAccessor);
+    }
+
+    @Test
+    void addChangeTest() {
+        assertEquals(CassandraOperationStatus.OK, catalogChangeCassandraDao.addChange("invariant"));
+        verify(catalogChangeAccessor).addChange(anyString(), any(UUID.class), eq("invariant"));
+    }
+
+    @Test
+    void addChangeTest_failure() {
+        when(catalogChangeAccessor.addChange(anyString(), any(UUID.class), anyString())).thenThrow(new RuntimeException("timeout"));
+        assertEquals(CassandraOperationStatus.GENERAL_ERROR, catalogChangeCassandraDao.addChange("invariant"));
+    }
+
+    @Test
+    void getChangesSinceTest() {
+        final ResultSet changes = mockChanges("invariant1", "invariant2");
+        final ResultSet noChanges = mockChanges();
+        when(catalogChangeAccessor.getChanges(anyString(), any(UUID.class))).thenReturn(changes, noChanges);
+
+        final Either<Set<String>, CassandraOperationStatus> result =
+            catalogChangeCassandraDao.getChangesSince(System.currentTimeMillis() - CatalogChangeCassandraDao.BUCKET_MILLIS);
+
+        assertTrue(result.isLeft());
+        assertEquals(Set.of("invariant1", "invariant2"), result.left().value());
+        verify(catalogChangeAccessor, atLeast(2)).getChanges(anyString(), any(UUID.class));
+    }
+
+    @Test
+    void getChangesSinceTest_failure() {
+        when(catalogChangeAccessor.getChanges(anyString(), any(UUID.class))).thenThrow(new RuntimeException("timeout"));
+        final Either<Set<String>, CassandraOperationStatus> result = catalogChangeCassandraDao.getChangesSince(System.currentTimeMillis());
+        assertTrue(result.isRight());
+        assertEquals(CassandraOperationStatus.GENERAL_ERROR, result.right().value());
+    }
+
+    @Test
+    void initSuccessTest() {
+        final CassandraClient cassandraClient = mock(CassandraClient.class);
+        catalogChangeCassandraDao = new CatalogChangeCassandraDao(cassandraClient);
+        when(cassandraClient.isConnected()).thenReturn(true);
+        final MappingManager mappingManagerMock = mock(MappingManager.class);
+        when(cassandraClient.connect(AuditingTypesConstants.REPO_KEYSPACE))
+            .thenReturn(Either.left(new ImmutablePair<>(mock(Session.class), mappingManagerMock)));
+        catalogChangeCassandraDao.init();
+        verify(mappingManagerMock).createAccessor(CatalogChangeAccessor.class);
+    }
+
+    @Test
+    void initTest_clientNotConnected() {
+        final CassandraClient cassandraClient = mock(CassandraClient.class);
+        catalogChangeCassandraDao = new CatalogChangeCassandraDao(cassandraClient);
+        when(cassandraClient.isConnected()).thenReturn(false);
+        catalogChangeCassandraDao.init();
+        verify(cassandraClient, never()).connect(anyString());
+        assertEquals(CassandraOperationStatus.CLUSTER_NOT_CONNECTED, catalogChangeCassandraDao.addChange("invariant"));
+    }
+
+    private ResultSet mockChanges(final String... invariantUuids) {
+        final List<Row> rows = new ArrayList<>();
+        for (final String invariantUuid : invariantUuids) {
+            final Row row = mock(Row.class);
+            when(row.getString("invariant_uuid")).thenReturn(invariantUuid);
+            rows.add(row);
+        }
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenAnswer(invocation -> rows.iterator());
+        return resultSet;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.datastax.driver.core.DataType;
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.Test;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+public class CatalogChangeTableDescriptionTest {
+
+    private final CatalogChangeTableDescription testSubject = new CatalogChangeTableDescription();
+
+    @Test
+    public void testPrimaryKeys() throws Exception {
+        assertEquals(List.of(new ImmutablePair<>("bucket", DataType.varchar())), testSubject.primaryKeys());
+    }
+
+    @Test
+    public void testClusteringKeys() throws Exception {
+        assertEquals(List.of(new ImmutablePair<>("change_id", DataType.timeuuid()), new ImmutablePair<>("invariant_uuid", DataType.varchar())),
+            testSubject.clusteringKeys());
+    }
+
+    @Test
+    public void testGetColumnDescription() throws Exception {
+        assertTrue(testSubject.getColumnDescription().isEmpty());
+    }
+
+    @Test
+    public void testGetKeyspace() throws Exception {
+        assertEquals(AuditingTypesConstants.REPO_KEYSPACE, testSubject.getKeyspace());
+    }
+
+    @Test
+    public void testGetTableName() throws Exception {
+        assertEquals("catalogchange", testSubject.getTableName());
+    }
+}
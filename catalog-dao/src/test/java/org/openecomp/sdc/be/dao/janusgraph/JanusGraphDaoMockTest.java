@@ -20,17 +20,21 @@
 
 package org.openecomp.sdc.be.dao.janusgraph;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import fj.data.Either;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -542,4 +546,45 @@ class JanusGraphDaoMockTest extends DAOConfDependentTest {
 
         result = testSubject.moveEdge(vertexA, vertexB, EdgeLabelEnum.ADDITIONAL_INFORMATION, Direction.BOTH);
     }
+
+    @Test
+    void testEndTransactionWithoutTransaction() {
+        Mockito.when(janusGraphClient.getCurrentThreadTransaction()).thenReturn(Optional.empty());
+
+        assertEquals(JanusGraphTransactionOutcome.NO_TRANSACTION, testSubject.endTransaction(true, false));
+        Mockito.verify(janusGraphClient, Mockito.never()).commit();
+        Mockito.verify(janusGraphClient, Mockito.never()).rollback();
+    }
+
+    @Test
+    void testEndTransactionReleasesUnmodifiedTransaction() {
+        JanusGraphTransaction transaction = Mockito.mock(JanusGraphTransaction.class);
+        Mockito.when(janusGraphClient.getCurrentThreadTransaction()).thenReturn(Optional.of(transaction));
+
+        assertEquals(JanusGraphTransactionOutcome.RELEASED, testSubject.endTransaction(true, false));
+        Mockito.verify(janusGraphClient, Mockito.never()).commit();
+        Mockito.verify(janusGraphClient).rollback();
+    }
+
+    @Test
+    void testEndTransactionCommitsModifications() {
+        JanusGraphTransaction transaction = Mockito.mock(JanusGraphTransaction.class);
+        Mockito.when(transaction.hasModifications()).thenReturn(true);
+        Mockito.when(janusGraphClient.getCurrentThreadTransaction()).thenReturn(Optional.of(transaction));
+
+        assertEquals(JanusGraphTransactionOutcome.COMMITTED, testSubject.endTransaction(true, false));
+        Mockito.verify(janusGraphClient).commit();
+    }
+
+    @Test
+    void testEndTransactionRollsBackModificationsOfFailedOrReadOnlyRequests() {
+        JanusGraphTransaction transaction = Mockito.mock(JanusGraphTransaction.class);
+        Mockito.when(transaction.hasModifications()).thenReturn(true);
+        Mockito.when(janusGraphClient.getCurrentThreadTransaction()).thenReturn(Optional.of(transaction));
+
+        assertEquals(JanusGraphTransactionOutcome.ROLLED_BACK, testSubject.endTransaction(false, false));
+        assertEquals(JanusGraphTransactionOutcome.ROLLED_BACK, testSubject.endTransaction(true, true));
+        Mockito.verify(janusGraphClient, Mockito.never()).commit();
+        Mockito.verify(janusGraphClient, Mockito.times(2)).rollback();
+    }
 }
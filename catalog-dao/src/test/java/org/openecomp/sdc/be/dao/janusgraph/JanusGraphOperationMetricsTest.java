@@ -0,0 +1,136 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.janusgraph;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationMetrics.OperationStatistics;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationMetrics.RequestSummary;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+
+class JanusGraphOperationMetricsTest {
+
+    private JanusGraphOperationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new JanusGraphOperationMetrics();
+    }
+
+    @Test
+    void operationsAreAggregatedByOperationLabelAndParseFlag() {
+        metrics.record("getByCriteria", VertexTypeEnum.TOPOLOGY_TEMPLATE, JsonParseFlagEnum.ParseAll, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.record("getByCriteria", VertexTypeEnum.TOPOLOGY_TEMPLATE, JsonParseFlagEnum.ParseAll, TimeUnit.MILLISECONDS.toNanos(700));
+        metrics.record("getByCriteria", VertexTypeEnum.TOPOLOGY_TEMPLATE, JsonParseFlagEnum.NoParse, TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.record("commit", null, null, TimeUnit.MILLISECONDS.toNanos(2));
+
+        final List<OperationStatistics> statistics = metrics.getStatistics();
+        assertEquals(3, statistics.size());
+        final OperationStatistics parseAll = statistics.stream().filter(stats -> "ParseAll".equals(stats.getParseFlag())).findFirst().get();
+        assertEquals("getByCriteria", parseAll.getOperation());
+        assertEquals(VertexTypeEnum.TOPOLOGY_TEMPLATE.toString(), parseAll.getLabel());
+        assertEquals(2, parseAll.getCount());
+        assertEquals(1, parseAll.getSlowCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(703), parseAll.getTotalNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(700), parseAll.getMaxNanos());
+        assertArrayEquals(new long[]{0, 1, 0, 0, 0, 0, 1, 0}, parseAll.getBucketCounts());
+        assertTrue(statistics.stream().anyMatch(stats -> "commit".equals(stats.getOperation()) && "none".equals(stats.getLabel())));
+    }
+
+    @Test
+    void slowOperationThresholdIsConfigurable() {
+        metrics.setSlowOperationThresholdMillis(0);
+
+        metrics.time("getVertexById", null, JsonParseFlagEnum.ParseAll, () -> null);
+
+        assertEquals(1, metrics.getStatistics().get(0).getSlowCount());
+    }
+
+    @Test
+    void requestSummaryOnlyHoldsOperationsOfTheRequest() {
+        metrics.record("getByCriteria", null, null, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.startRequest();
+        metrics.record("getByCriteria", null, null, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.record("getByCriteria", null, null, TimeUnit.MILLISECONDS.toNanos(10));
+        metrics.record("commit", null, null, TimeUnit.MILLISECONDS.toNanos(2));
+
+        final RequestSummary summary = metrics.endRequest();
+
+        assertEquals(2, summary.getCount("getByCriteria"));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(15), summary.getTotalNanos("getByCriteria"));
+        assertEquals("commit=1/2ms getByCriteria=2/15ms", summary.toString());
+        assertTrue(metrics.endRequest().isEmpty());
+    }
+
+    @Test
+    void listenersReceiveEveryOperation() {
+        final JanusGraphOperationListener failingListener = mock(JanusGraphOperationListener.class);
+        final JanusGraphOperationListener listener = mock(JanusGraphOperationListener.class);
+        doThrow(new IllegalStateException()).when(failingListener).onOperation("commit", "none", "none", 42);
+        metrics.addListener(failingListener);
+        metrics.addListener(listener);
+
+        final String result = metrics.time("commit", null, null, () -> "done");
+        metrics.record("commit", null, null, 42);
+
+        assertEquals("done", result);
+        verify(listener).onOperation("commit", "none", "none", 42);
+        verify(listener, times(2)).onOperation(eq("commit"), eq("none"), eq("none"), anyLong());
+    }
+
+    @Test
+    void nestedOperationsAreOnlyCountedOnce() {
+        metrics.startRequest();
+
+        metrics.time("getByCriteria", VertexTypeEnum.TOPOLOGY_TEMPLATE, JsonParseFlagEnum.ParseAll, () -> {
+            metrics.record("parseVertexProperties", VertexTypeEnum.TOPOLOGY_TEMPLATE, JsonParseFlagEnum.ParseAll, TimeUnit.SECONDS.toNanos(5));
+            return null;
+        });
+
+        final RequestSummary summary = metrics.endRequest();
+        assertEquals(TimeUnit.SECONDS.toNanos(5), summary.getTotalNanos("parseVertexProperties"));
+        assertTrue(summary.getTotalNanos("getByCriteria") < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void operationsAreLabelledWithTheVertexLabelOfTheirResult() {
+        metrics.time("getVertexById", JsonParseFlagEnum.NoParse, () -> VertexTypeEnum.USER, label -> label);
+        metrics.time("getVertexById", JsonParseFlagEnum.NoParse, () -> null, label -> label);
+
+        final List<OperationStatistics> statistics = metrics.getStatistics();
+        assertEquals(2, statistics.size());
+        assertTrue(statistics.stream().anyMatch(stats -> VertexTypeEnum.USER.toString().equals(stats.getLabel())));
+        assertTrue(statistics.stream().anyMatch(stats -> "none".equals(stats.getLabel())));
+    }
+}
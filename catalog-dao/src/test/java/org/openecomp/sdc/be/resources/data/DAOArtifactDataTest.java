@@ -0,0 +1,63 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.resources.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class DAOArtifactDataTest {
+
+    @Test
+    public void testPayloadIsNotCopied() {
+        final byte[] payload = "heat_template_version: 2013-05-23".getBytes();
+
+        assertSame(payload, new DAOArtifactData("id", payload).getDataAsArray());
+    }
+
+    @Test
+    public void testPayloadOfSlicedBuffer() {
+        final ByteBuffer buffer = ByteBuffer.wrap("--payload--".getBytes());
+        buffer.position(2);
+        buffer.limit(9);
+        final DAOArtifactData artifactData = new DAOArtifactData("id");
+        artifactData.setData(buffer.slice());
+
+        assertArrayEquals("payload".getBytes(), artifactData.getDataAsArray());
+        assertArrayEquals("payload".getBytes(), artifactData.getDataAsArray());
+    }
+
+    @Test
+    public void testPayloadOfReadOnlyBuffer() {
+        final DAOArtifactData artifactData = new DAOArtifactData("id");
+        artifactData.setData(ByteBuffer.wrap("payload".getBytes()).asReadOnlyBuffer());
+
+        assertArrayEquals("payload".getBytes(), artifactData.getDataAsArray());
+    }
+
+    @Test
+    public void testNoPayload() {
+        assertNull(new DAOArtifactData("id").getDataAsArray());
+    }
+}
@@ -0,0 +1,78 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.catalog;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The fields of a {@link CatalogComponent} in a {@link CompactCatalog}. Fields holding a small set of values repeated across the catalog are
+ * dictionary encoded.
+ */
+public enum CatalogField {
+    // @formatter:off
+    UNIQUE_ID("uniqueId", false, CatalogComponent::getUniqueId),
+    UUID("uuid", false, CatalogComponent::getUuid),
+    INVARIANT_UUID("invariantUUID", false, CatalogComponent::getInvariantUUID),
+    NAME("name", false, CatalogComponent::getName),
+    SYSTEM_NAME("systemName", false, CatalogComponent::getSystemName),
+    DESCRIPTION("description", false, CatalogComponent::getDescription),
+    VERSION("version", true, CatalogComponent::getVersion),
+    ICON("icon", true, CatalogComponent::getIcon),
+    COMPONENT_TYPE("componentType", true, component -> component.getComponentType() == null ? null : component.getComponentType().name()),
+    RESOURCE_TYPE("resourceType", true, CatalogComponent::getResourceType),
+    LIFECYCLE_STATE("lifecycleState", true, CatalogComponent::getLifecycleState),
+    DISTRIBUTION_STATUS("distributionStatus", true, CatalogComponent::getDistributionStatus),
+    CATEGORY("categoryNormalizedName", true, CatalogComponent::getCategoryNormalizedName),
+    SUB_CATEGORY("subCategoryNormalizedName", true, CatalogComponent::getSubCategoryNormalizedName),
+    TAGS("tags", true, CatalogComponent::getTags),
+    MODEL("model", true, CatalogComponent::getModel),
+    LAST_UPDATER_USER_ID("lastUpdaterUserId", true, CatalogComponent::getLastUpdaterUserId),
+    LAST_UPDATE_DATE("lastUpdateDate", false, CatalogComponent::getLastUpdateDate),
+    IS_HIGHEST_VERSION("isHighestVersion", false, CatalogComponent::getIsHighestVersion);
+    // @formatter:on
+
+    private final String name;
+    private final boolean dictionaryEncoded;
+    private final Function<CatalogComponent, Object> extractor;
+
+    CatalogField(String name, boolean dictionaryEncoded, Function<CatalogComponent, Object> extractor) {
+        this.name = name;
+        this.dictionaryEncoded = dictionaryEncoded;
+        this.extractor = extractor;
+    }
+
+    public static Optional<CatalogField> findByName(String name) {
+        return Arrays.stream(values()).filter(field -> field.name.equals(name)).findFirst();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isDictionaryEncoded() {
+        return dictionaryEncoded;
+    }
+
+    public Object getValue(CatalogComponent component) {
+        return extractor.apply(component);
+    }
+}
@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Columnar representation of a list of {@link CatalogComponent}: one column per selected field, each holding the values of all the
+ * components in list order. The values of dictionary encoded fields are indexes into the shared dictionary, so repeated strings such as
+ * states, types and categories are sent once.
+ */
+@Getter
+public class CompactCatalog {
+
+    private final int count;
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, List<Object>> columns = new LinkedHashMap<>();
+
+    private CompactCatalog(int count) {
+        this.count = count;
+    }
+
+    public static CompactCatalog of(List<CatalogComponent> components, Collection<CatalogField> fields) {
+        CompactCatalog catalog = new CompactCatalog(components.size());
+        Map<String, Integer> dictionaryIndexes = new HashMap<>();
+        for (CatalogField field : fields) {
+            List<Object> column = new ArrayList<>(components.size());
+            for (CatalogComponent component : components) {
+                Object value = field.getValue(component);
+                column.add(field.isDictionaryEncoded() ? catalog.encode(value, dictionaryIndexes) : value);
+            }
+            catalog.columns.put(field.getName(), column);
+        }
+        return catalog;
+    }
+
+    private Object encode(Object value, Map<String, Integer> dictionaryIndexes) {
+        if (value instanceof String) {
+            return dictionaryIndexes.computeIfAbsent((String) value, string -> {
+                dictionary.add(string);
+                return dictionary.size() - 1;
+            });
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).stream().map(element -> encode(element, dictionaryIndexes)).collect(Collectors.toList());
+        }
+        return value;
+    }
+}
@@ -21,6 +21,7 @@ package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
 
 import fj.data.Either;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -651,6 +652,43 @@ public abstract class BaseOperation {
         return result;
     }
 
+    /**
+     * Deletes the blocks of several keys from a tosca data vertex, which is read and written once
+     *
+     * @param toscaElement the tosca element vertex
+     * @param edgeLabel    the edge label of the tosca data vertex
+     * @param vertexLabel  the vertex label of the tosca data vertex
+     * @param keys         the keys of the blocks to delete
+     * @return OK if the blocks were deleted or none of them exists
+     */
+    @SuppressWarnings("unchecked")
+    public StorageOperationStatus deleteToscaDataDeepElementsBlocksToToscaElement(GraphVertex toscaElement, EdgeLabelEnum edgeLabel,
+                                                                                 VertexTypeEnum vertexLabel, Collection<String> keys) {
+        Either<GraphVertex, JanusGraphOperationStatus> toscaDataVertexRes = janusGraphDao
+            .getChildVertex(toscaElement, edgeLabel, JsonParseFlagEnum.ParseJson);
+        if (toscaDataVertexRes.isRight()) {
+            JanusGraphOperationStatus status = toscaDataVertexRes.right().value();
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_CHILD_VERTEX_OF_THE_TOSCA_ELEMENT_BY_LABEL_STATUS_IS,
+                toscaElement.getUniqueId(), edgeLabel, status);
+            return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(status);
+        }
+        GraphVertex toscaDataVertex = toscaDataVertexRes.left().value();
+        Map<String, ?> currMap = (Map<String, ?>) toscaDataVertex.getJson();
+        if (currMap == null || !currMap.keySet().removeAll(keys)) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "None of the blocks {} of deep tosca data elements by label {} exists. ", keys,
+                vertexLabel);
+            return StorageOperationStatus.OK;
+        }
+        Either<GraphVertex, JanusGraphOperationStatus> updateOrCopyRes = updateOrCopyOnUpdate(toscaDataVertex, toscaElement, edgeLabel);
+        if (updateOrCopyRes.isRight()) {
+            JanusGraphOperationStatus status = updateOrCopyRes.right().value();
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to delete tosca data blocks {} from the tosca element {}. Status is {}. ",
+                edgeLabel, toscaElement.getUniqueId(), status);
+            return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(status);
+        }
+        return StorageOperationStatus.OK;
+    }
+
     @SuppressWarnings("rawtypes")
     public <T extends ToscaDataDefinition> StorageOperationStatus addToscaDataDeepElementsBlockToToscaElement(String toscaElementUid,
                                                                                                               EdgeLabelEnum edgeLabel,
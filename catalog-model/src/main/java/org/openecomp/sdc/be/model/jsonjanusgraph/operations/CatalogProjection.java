@@ -0,0 +1,355 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
+
+import fj.data.Either;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.apache.commons.collections4.CollectionUtils;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogChangeCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * In memory projection of the catalog and archive elements, serving the catalog and archive screens without walking the catalog root
+ * edges of the graph.
+ * <p>
+ * The projection is loaded and then periodically reconciled against the graph by {@link #reconcile()}. Components reported by
+ * {@link #onComponentChange(String)} are re-read from the graph on the next read, and are recorded in the catalog change feed of
+ * {@link CatalogChangeCassandraDao}. The reads scan that feed every few seconds, so that only the components changed by the other BE
+ * instances are re-read, and reload the whole projection only when the last scan is older than the feed keeps. Changes that are picked up by
+ * neither are found by the reconciliation, which counts them as drift. Until the first reconciliation completes, reads go to the graph.
+ */
+@org.springframework.stereotype.Component("catalog-projection")
+public class CatalogProjection {
+
+    /**
+     * How long a reported component keeps being re-read, so that a read running before the change was committed is not the last one.
+     */
+    static final long CHANGE_SETTLE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    /**
+     * How often the reads scan the catalog change feed.
+     */
+    static final long FEED_SCAN_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    /**
+     * How far back each scan of the feed starts before the previous one, so that a change committed with a slightly skewed clock is seen.
+     */
+    static final long FEED_SCAN_OVERLAP_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    /**
+     * Age of the last scan from which the projection is reloaded rather than caught up from the feed, well below the two hours it keeps.
+     */
+    static final long FEED_MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final Logger log = Logger.getLogger(CatalogProjection.class);
+    private final TopologyTemplateOperation topologyTemplateOperation;
+    private final CatalogChangeCassandraDao catalogChangeCassandraDao;
+    private final LongSupplier clock;
+    private final String instanceId = UUID.randomUUID().toString();
+    // invariant uuid of a reported component -> time it was reported
+    private final Map<String, Long> changedComponents = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong reconciliations = new AtomicLong();
+    private final AtomicLong totalDrift = new AtomicLong();
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+    // held while the projection is loaded or the feed scanned, the reads that find it held serving the projection as it is
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Map<String, CatalogComponent> catalogElements;
+    private volatile Map<String, CatalogComponent> archiveElements;
+    private volatile long lastDrift;
+    // time the feed was last scanned at, or the projection last loaded at
+    private volatile long lastScanTime;
+
+    @Autowired
+    public CatalogProjection(TopologyTemplateOperation topologyTemplateOperation, CatalogChangeCassandraDao catalogChangeCassandraDao) {
+        this(topologyTemplateOperation, catalogChangeCassandraDao, System::currentTimeMillis);
+    }
+
+    CatalogProjection(TopologyTemplateOperation topologyTemplateOperation, CatalogChangeCassandraDao catalogChangeCassandraDao,
+                      LongSupplier clock) {
+        this.topologyTemplateOperation = topologyTemplateOperation;
+        this.catalogChangeCassandraDao = catalogChangeCassandraDao;
+        this.clock = clock;
+    }
+
+    public boolean isLoaded() {
+        return catalogElements != null;
+    }
+
+    /**
+     * Same result as {@link ToscaElementOperation#getElementCatalogData(boolean, List)}.
+     */
+    public Either<List<CatalogComponent>, StorageOperationStatus> getElements(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+        if (!isLoaded() || refresh() != StorageOperationStatus.OK) {
+            return topologyTemplateOperation.getElementCatalogData(isCatalog, excludeTypes);
+        }
+        return Either.left(getElementsMap(isCatalog).values().stream().filter(element -> !isExcluded(element, excludeTypes))
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return a version of the elements returned by {@link #getElements}, read from the graph until the projection is loaded
+     */
+    public Either<String, StorageOperationStatus> getVersion(boolean isCatalog) {
+        if (!isLoaded() || refresh() != StorageOperationStatus.OK) {
+            return topologyTemplateOperation.getElementCatalogVersion(isCatalog);
+        }
+        return Either.left(instanceId + ":" + generation.get());
+    }
+
+    /**
+     * Reports a change to the catalog data of the versions of a component, to this and the other BE instances.
+     */
+    public void onComponentChange(String invariantUUID) {
+        if (invariantUUID != null) {
+            changedComponents.put(invariantUUID, clock.getAsLong());
+            CassandraOperationStatus status = catalogChangeCassandraDao.addChange(invariantUUID);
+            if (status != CassandraOperationStatus.OK) {
+                log.debug("failed to record the catalog change of component {}, error {}", invariantUUID, status);
+            }
+        }
+    }
+
+    /**
+     * Reloads the projection from the graph. The feed is scanned first, so that the elements found out of date are the ones missed by both
+     * the reported changes and the feed, which are counted as drift.
+     */
+    public StorageOperationStatus reconcile() {
+        loadLock.lock();
+        try {
+            long loadTime = clock.getAsLong();
+            boolean countDrift =
+                isLoaded() && loadTime - lastScanTime <= FEED_MAX_AGE_MILLIS && scanChanges(loadTime) == StorageOperationStatus.OK;
+            StorageOperationStatus status = load(loadTime, countDrift);
+            if (status == StorageOperationStatus.OK) {
+                reconciliations.incrementAndGet();
+            }
+            return status;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public long getReconciliations() {
+        return reconciliations.get();
+    }
+
+    /**
+     * @return the number of elements the last reconciliation found out of date
+     */
+    public long getLastDrift() {
+        return lastDrift;
+    }
+
+    public long getTotalDrift() {
+        return totalDrift.get();
+    }
+
+    /**
+     * @return the number of reported changes that altered the projection
+     */
+    public long getAppliedChanges() {
+        return appliedChanges.get();
+    }
+
+    /**
+     * @return the number of reloads caused by a last scan of the feed older than {@link #FEED_MAX_AGE_MILLIS}
+     */
+    public long getReloads() {
+        return reloads.get();
+    }
+
+    // the load time is taken before the elements are read, a change committed in between being seen by the next scan
+    private StorageOperationStatus load(long loadTime, boolean countDrift) {
+        Either<Map<String, CatalogComponent>, StorageOperationStatus> catalogEither = readAll(true);
+        if (catalogEither.isRight()) {
+            return catalogEither.right().value();
+        }
+        Either<Map<String, CatalogComponent>, StorageOperationStatus> archiveEither = readAll(false);
+        if (archiveEither.isRight()) {
+            return archiveEither.right().value();
+        }
+        replaceAll(catalogEither.left().value(), archiveEither.left().value(), countDrift);
+        lastScanTime = loadTime;
+        return StorageOperationStatus.OK;
+    }
+
+    private StorageOperationStatus refresh() {
+        long now = clock.getAsLong();
+        if (now - lastScanTime >= FEED_SCAN_INTERVAL_MILLIS && loadLock.tryLock()) {
+            try {
+                StorageOperationStatus status = now - lastScanTime > FEED_MAX_AGE_MILLIS ? reload(now) : scanChanges(now);
+                if (status != StorageOperationStatus.OK) {
+                    return status;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return applyChanges();
+    }
+
+    private StorageOperationStatus reload(long now) {
+        StorageOperationStatus status = load(now, false);
+        if (status != StorageOperationStatus.OK) {
+            log.debug("failed to reload the catalog projection, error {}", status);
+            return status;
+        }
+        reloads.incrementAndGet();
+        return StorageOperationStatus.OK;
+    }
+
+    // the components changed since the last scan are re-read by the reads until the change settles, as the reported ones
+    private StorageOperationStatus scanChanges(long now) {
+        Either<Set<String>, CassandraOperationStatus> changes = catalogChangeCassandraDao
+            .getChangesSince(lastScanTime - FEED_SCAN_OVERLAP_MILLIS);
+        if (changes.isRight()) {
+            log.debug("failed to scan the catalog change feed, error {}", changes.right().value());
+            return DaoStatusConverter.convertCassandraStatusToStorageStatus(changes.right().value());
+        }
+        changes.left().value().forEach(invariantUUID -> changedComponents.merge(invariantUUID, now, Math::max));
+        lastScanTime = now;
+        return StorageOperationStatus.OK;
+    }
+
+    private Either<Map<String, CatalogComponent>, StorageOperationStatus> readAll(boolean isCatalog) {
+        Either<List<CatalogComponent>, StorageOperationStatus> elements = topologyTemplateOperation.getElementCatalogData(isCatalog, null);
+        if (elements.isRight()) {
+            return Either.right(elements.right().value());
+        }
+        Map<String, CatalogComponent> elementsById = new ConcurrentHashMap<>();
+        elements.left().value().forEach(element -> elementsById.put(element.getUniqueId(), element));
+        return Either.left(elementsById);
+    }
+
+    // changes reported while the graph was read are applied again by the next read
+    private synchronized void replaceAll(Map<String, CatalogComponent> catalog, Map<String, CatalogComponent> archive, boolean countDrift) {
+        if (isLoaded() && countDrift) {
+            long drift = countDrift(catalogElements, catalog) + countDrift(archiveElements, archive);
+            lastDrift = drift;
+            totalDrift.addAndGet(drift);
+            if (drift > 0) {
+                log.warn("catalog projection drifted from the graph by {} elements", drift);
+            }
+        } else if (!isLoaded()) {
+            log.info("catalog projection loaded with {} catalog and {} archive elements", catalog.size(), archive.size());
+        }
+        // the catalog is assigned last as it marks the projection as loaded
+        archiveElements = archive;
+        catalogElements = catalog;
+        generation.incrementAndGet();
+    }
+
+    private Map<String, CatalogComponent> getElementsMap(boolean isCatalog) {
+        return isCatalog ? catalogElements : archiveElements;
+    }
+
+    private StorageOperationStatus applyChanges() {
+        for (Map.Entry<String, Long> change : changedComponents.entrySet()) {
+            StorageOperationStatus status = refreshComponent(change.getKey());
+            if (status != StorageOperationStatus.OK) {
+                log.debug("failed to refresh the catalog data of component {}, error {}", change.getKey(), status);
+                return status;
+            }
+            if (clock.getAsLong() - change.getValue() > CHANGE_SETTLE_MILLIS) {
+                changedComponents.remove(change.getKey(), change.getValue());
+            }
+        }
+        return StorageOperationStatus.OK;
+    }
+
+    private synchronized StorageOperationStatus refreshComponent(String invariantUUID) {
+        Either<List<CatalogComponent>, StorageOperationStatus> inCatalog = topologyTemplateOperation
+            .getElementCatalogDataOfComponent(true, invariantUUID);
+        if (inCatalog.isRight()) {
+            return inCatalog.right().value();
+        }
+        Either<List<CatalogComponent>, StorageOperationStatus> inArchive = topologyTemplateOperation
+            .getElementCatalogDataOfComponent(false, invariantUUID);
+        if (inArchive.isRight()) {
+            return inArchive.right().value();
+        }
+        boolean catalogChanged = replaceComponent(catalogElements, invariantUUID, inCatalog.left().value());
+        boolean archiveChanged = replaceComponent(archiveElements, invariantUUID, inArchive.left().value());
+        if (catalogChanged || archiveChanged) {
+            generation.incrementAndGet();
+            appliedChanges.incrementAndGet();
+        }
+        return StorageOperationStatus.OK;
+    }
+
+    private boolean replaceComponent(Map<String, CatalogComponent> elements, String invariantUUID, List<CatalogComponent> versions) {
+        List<CatalogComponent> current = elements.values().stream().filter(element -> invariantUUID.equals(element.getInvariantUUID()))
+            .collect(Collectors.toList());
+        boolean unchanged = current.size() == versions.size() && versions.stream()
+            .allMatch(version -> isSameCatalogData(elements.get(version.getUniqueId()), version));
+        if (unchanged) {
+            return false;
+        }
+        current.forEach(element -> elements.remove(element.getUniqueId()));
+        versions.forEach(version -> elements.put(version.getUniqueId(), version));
+        return true;
+    }
+
+    private long countDrift(Map<String, CatalogComponent> projected, Map<String, CatalogComponent> actual) {
+        long outdated = actual.values().stream().filter(element -> !isReported(element))
+            .filter(element -> !isSameCatalogData(projected.get(element.getUniqueId()), element)).count();
+        long removed = projected.values().stream().filter(element -> !isReported(element))
+            .filter(element -> !actual.containsKey(element.getUniqueId())).count();
+        return outdated + removed;
+    }
+
+    private boolean isReported(CatalogComponent element) {
+        return element.getInvariantUUID() != null && changedComponents.containsKey(element.getInvariantUUID());
+    }
+
+    private static boolean isExcluded(CatalogComponent element, List<ResourceTypeEnum> excludeTypes) {
+        if (CollectionUtils.isEmpty(excludeTypes) || element.getResourceType() == null) {
+            return false;
+        }
+        return excludeTypes.contains(ResourceTypeEnum.getType(element.getResourceType()));
+    }
+
+    private static boolean isSameCatalogData(CatalogComponent projected, CatalogComponent actual) {
+        return projected != null && projected.getLastUpdateDate() == actual.getLastUpdateDate() && Objects
+            .equals(projected.getLifecycleState(), actual.getLifecycleState()) && Objects.equals(projected.getVersion(), actual.getVersion())
+            && Objects.equals(projected.getName(), actual.getName()) && Objects.equals(projected.getIcon(), actual.getIcon()) && Objects
+            .equals(projected.getDescription(), actual.getDescription()) && Objects
+            .equals(projected.getDistributionStatus(), actual.getDistributionStatus()) && Objects
+            .equals(projected.getIsHighestVersion(), actual.getIsHighestVersion()) && Objects
+            .equals(projected.getLastUpdaterUserId(), actual.getLastUpdaterUserId()) && Objects
+            .equals(projected.getCategoryNormalizedName(), actual.getCategoryNormalizedName()) && Objects
+            .equals(projected.getSubCategoryNormalizedName(), actual.getSubCategoryNormalizedName()) && Objects
+            .equals(projected.getTags(), actual.getTags()) && Objects.equals(projected.getModel(), actual.getModel());
+    }
+}
@@ -23,10 +23,13 @@ import fj.data.Either;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -621,7 +624,7 @@ public class NodeTemplateOperation extends BaseOperation {
         if (result == null) {
             removedComponentInstance = container.getComponentInstances().remove(componentInstanceId);
             containerV = metadataVertex.left().value();
-            StorageOperationStatus status = removeRelationsOfInstance(container, componentInstanceId, containerV);
+            StorageOperationStatus status = removeRelationsOfInstances(container, Collections.singleton(componentInstanceId), containerV);
             if (status != StorageOperationStatus.OK) {
                 CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to delete relation for component instance {} in container. error {}",
                     componentInstanceId, container.getUniqueId(), status);
@@ -639,7 +642,8 @@ public class NodeTemplateOperation extends BaseOperation {
             }
         }
         if (result == null) {
-            StorageOperationStatus status = deleteComponentInstanceToscaDataFromContainerComponent(containerV, componentInstanceId);
+            StorageOperationStatus status = deleteComponentInstanceToscaDataFromContainerComponent(containerV,
+                Collections.singleton(componentInstanceId));
             if (status != StorageOperationStatus.OK) {
                 CommonUtility
                     .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to delete data  for instance {} in container {}. error {] ", componentInstanceId,
@@ -665,7 +669,69 @@ public class NodeTemplateOperation extends BaseOperation {
         return result;
     }
 
-    private StorageOperationStatus removeRelationsOfInstance(TopologyTemplate container, String ciToRemove, GraphVertex containerV) {
+    /**
+     * Deletes several component instances from a container. Their relations and tosca data are removed in memory and the container and every
+     * data vertex are written once.
+     *
+     * @param container            the container
+     * @param componentInstanceIds the unique ids of the instances to delete
+     * @return the updated container, or NOT_FOUND if one of the instances is not in the container
+     */
+    public Either<TopologyTemplate, StorageOperationStatus> deleteComponentInstancesFromTopologyTemplate(TopologyTemplate container,
+                                                                                                         List<String> componentInstanceIds) {
+        String containerComponentId = container.getUniqueId();
+        if (container.getComponentInstances() == null || !container.getComponentInstances().keySet().containsAll(componentInstanceIds)) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Some of the component instances {} are not in container component {}",
+                componentInstanceIds, containerComponentId);
+            return Either.right(StorageOperationStatus.NOT_FOUND);
+        }
+        Either<GraphVertex, JanusGraphOperationStatus> metadataVertex = janusGraphDao
+            .getVertexById(containerComponentId, JsonParseFlagEnum.ParseMetadata);
+        if (metadataVertex.isRight()) {
+            JanusGraphOperationStatus status = metadataVertex.right().value();
+            if (status == JanusGraphOperationStatus.NOT_FOUND) {
+                status = JanusGraphOperationStatus.INVALID_ID;
+            }
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(status));
+        }
+        GraphVertex containerV = metadataVertex.left().value();
+        List<ComponentInstanceDataDefinition> removedComponentInstances = componentInstanceIds.stream()
+            .map(container.getComponentInstances()::remove).collect(Collectors.toList());
+        StorageOperationStatus status = removeRelationsOfInstances(container, componentInstanceIds, containerV);
+        if (status != StorageOperationStatus.OK) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to delete relations of component instances {} in container {}. error {}",
+                componentInstanceIds, containerComponentId, status);
+            return Either.right(status);
+        }
+        containerV.setJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE, System.currentTimeMillis());
+        topologyTemplateOperation.fillToscaElementVertexData(containerV, container, JsonParseFlagEnum.ParseAll);
+        Either<GraphVertex, JanusGraphOperationStatus> updateElement = janusGraphDao.updateVertex(containerV);
+        if (updateElement.isRight()) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to update topology template {} after deleting component instances {}. ",
+                container.getName(), componentInstanceIds);
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(updateElement.right().value()));
+        }
+        status = deleteComponentInstanceToscaDataFromContainerComponent(containerV, componentInstanceIds);
+        if (status != StorageOperationStatus.OK) {
+            return Either.right(status);
+        }
+        for (ComponentInstanceDataDefinition removedComponentInstance : removedComponentInstances) {
+            status = removeInstanceEdge(containerV, new ComponentInstance(removedComponentInstance));
+            if (status != StorageOperationStatus.OK) {
+                return Either.right(status);
+            }
+        }
+        Either<ToscaElement, StorageOperationStatus> updateContainerComponentRes = topologyTemplateOperation.getToscaElement(containerComponentId);
+        if (updateContainerComponentRes.isRight()) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG,
+                "Failed to fetch updated topology template {} after deleting the component instances {}. ", container.getName(),
+                componentInstanceIds);
+            return Either.right(updateContainerComponentRes.right().value());
+        }
+        return Either.left((TopologyTemplate) updateContainerComponentRes.left().value());
+    }
+
+    private StorageOperationStatus removeRelationsOfInstances(TopologyTemplate container, Collection<String> cisToRemove, GraphVertex containerV) {
         CompositionDataDefinition composition = container.getCompositions().get(JsonConstantKeysEnum.COMPOSITION.getValue());
         if (composition != null) {
             Map<String, RelationshipInstDataDefinition> relations = composition.getRelations();
@@ -704,19 +770,19 @@ public class NodeTemplateOperation extends BaseOperation {
                 while (iterator.hasNext()) {
                     Entry<String, RelationshipInstDataDefinition> relation = iterator.next();
                     RelationshipInstDataDefinition relationToDelete = relation.getValue();
-                    if (relationToDelete.getFromId().equals(ciToRemove) || relationToDelete.getToId().equals(ciToRemove)) {
+                    if (cisToRemove.contains(relationToDelete.getFromId()) || cisToRemove.contains(relationToDelete.getToId())) {
                         iterator.remove();
-                        if (relationToDelete.getFromId().equals(ciToRemove)) {
-                            updateCalculatedRequirementsAfterDeleteRelation(calculatedRequirement, fullfilledRequirement, ciToRemove,
-                                relationToDelete, null);
+                        if (cisToRemove.contains(relationToDelete.getFromId())) {
+                            updateCalculatedRequirementsAfterDeleteRelation(calculatedRequirement, fullfilledRequirement,
+                                relationToDelete.getFromId(), relationToDelete, null);
                             updateCalculatedCapabiltyAfterDeleteRelation(calculatedCapabilty, fullFilledCapabilty, relationToDelete.getToId(),
                                 relationToDelete, null);
                         }
-                        if (relationToDelete.getToId().equals(ciToRemove)) {
+                        if (cisToRemove.contains(relationToDelete.getToId())) {
                             updateCalculatedRequirementsAfterDeleteRelation(calculatedRequirement, fullfilledRequirement,
                                 relationToDelete.getFromId(), relationToDelete, null);
-                            updateCalculatedCapabiltyAfterDeleteRelation(calculatedCapabilty, fullFilledCapabilty, ciToRemove, relationToDelete,
-                                null);
+                            updateCalculatedCapabiltyAfterDeleteRelation(calculatedCapabilty, fullFilledCapabilty, relationToDelete.getToId(),
+                                relationToDelete, null);
                         }
                     }
                 }
@@ -726,104 +792,105 @@ public class NodeTemplateOperation extends BaseOperation {
         return StorageOperationStatus.OK;
     }
 
-    private StorageOperationStatus deleteComponentInstanceToscaDataFromContainerComponent(GraphVertex containerV, String componentInstanceId) {
-        StorageOperationStatus status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.CALCULATED_CAPABILITIES,
-            VertexTypeEnum.CALCULATED_CAPABILITIES, componentInstanceId);
+    private StorageOperationStatus deleteComponentInstanceToscaDataFromContainerComponent(GraphVertex containerV,
+                                                                                          Collection<String> componentInstanceIds) {
+        StorageOperationStatus status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.CALCULATED_CAPABILITIES,
+            VertexTypeEnum.CALCULATED_CAPABILITIES, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove calculated capabilty  for instance {} in container {}. error {] ",
-                componentInstanceId, containerV.getUniqueId(), status);
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove calculated capabilty  for instances {} in container {}. error {] ",
+                componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES,
-            VertexTypeEnum.CALCULATED_CAP_PROPERTIES, componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES,
+            VertexTypeEnum.CALCULATED_CAP_PROPERTIES, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG,
-                "Failed to remove calculated capabilty properties for instance {} in container {}. error {] ", componentInstanceId,
+                "Failed to remove calculated capabilty properties for instances {} in container {}. error {] ", componentInstanceIds,
                 containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.CALCULATED_REQUIREMENTS,
-            VertexTypeEnum.CALCULATED_REQUIREMENTS, componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.CALCULATED_REQUIREMENTS,
+            VertexTypeEnum.CALCULATED_REQUIREMENTS, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility
-                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove calculated requirement  for instance {} in container {}. error {] ",
-                    componentInstanceId, containerV.getUniqueId(), status);
+                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove calculated requirement  for instances {} in container {}. error {] ",
+                    componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.FULLFILLED_CAPABILITIES,
-            VertexTypeEnum.FULLFILLED_CAPABILITIES, componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.FULLFILLED_CAPABILITIES,
+            VertexTypeEnum.FULLFILLED_CAPABILITIES, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility
-                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove fullfilled capabilities  for instance {} in container {}. error {] ",
-                    componentInstanceId, containerV.getUniqueId(), status);
+                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove fullfilled capabilities  for instances {} in container {}. error {] ",
+                    componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.FULLFILLED_REQUIREMENTS,
-            VertexTypeEnum.FULLFILLED_REQUIREMENTS, componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.FULLFILLED_REQUIREMENTS,
+            VertexTypeEnum.FULLFILLED_REQUIREMENTS, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility
-                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove fullfilled requirement  for instance {} in container {}. error {] ",
-                    componentInstanceId, containerV.getUniqueId(), status);
+                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove fullfilled requirement  for instances {} in container {}. error {] ",
+                    componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INST_ATTRIBUTES, VertexTypeEnum.INST_ATTRIBUTES,
-            componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INST_ATTRIBUTES, VertexTypeEnum.INST_ATTRIBUTES,
+            componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove attributes for instance {} in container {}. error {] ",
-                componentInstanceId, containerV.getUniqueId(), status);
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove attributes for instances {} in container {}. error {] ",
+                componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INST_PROPERTIES, VertexTypeEnum.INST_PROPERTIES,
-            componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INST_PROPERTIES, VertexTypeEnum.INST_PROPERTIES,
+            componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove properties for instance {} in container {}. error {] ",
-                componentInstanceId, containerV.getUniqueId(), status);
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove properties for instances {} in container {}. error {] ",
+                componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INST_INPUTS, VertexTypeEnum.INST_INPUTS,
-            componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INST_INPUTS, VertexTypeEnum.INST_INPUTS,
+            componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance inputs  for instance {} in container {}. error {] ",
-                componentInstanceId, containerV.getUniqueId(), status);
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance inputs  for instances {} in container {}. error {] ",
+                componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INST_GROUPS, VertexTypeEnum.INST_GROUPS,
-            componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INST_GROUPS, VertexTypeEnum.INST_GROUPS,
+            componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility
-                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove fullfilled requirement  for instance {} in container {}. error {] ",
-                    componentInstanceId, containerV.getUniqueId(), status);
+                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove fullfilled requirement  for instances {} in container {}. error {] ",
+                    componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INST_DEPLOYMENT_ARTIFACTS,
-            VertexTypeEnum.INST_DEPLOYMENT_ARTIFACTS, componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INST_DEPLOYMENT_ARTIFACTS,
+            VertexTypeEnum.INST_DEPLOYMENT_ARTIFACTS, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility
-                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance deployment artifacts  for instance {} in container {}. error {] ",
-                    componentInstanceId, containerV.getUniqueId(), status);
+                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance deployment artifacts  for instances {} in container {}. error {] ",
+                    componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INSTANCE_ARTIFACTS, VertexTypeEnum.INSTANCE_ARTIFACTS,
-            componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INSTANCE_ARTIFACTS, VertexTypeEnum.INSTANCE_ARTIFACTS,
+            componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance artifacts  for instance {} in container {}. error {] ",
-                componentInstanceId, containerV.getUniqueId(), status);
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance artifacts  for instances {} in container {}. error {] ",
+                componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.EXTERNAL_REFS, VertexTypeEnum.EXTERNAL_REF,
-            componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.EXTERNAL_REFS, VertexTypeEnum.EXTERNAL_REF,
+            componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility
-                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance external refs  for instance {} in container {}. error {] ",
-                    componentInstanceId, containerV.getUniqueId(), status);
+                .addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to remove instance external refs  for instances {} in container {}. error {] ",
+                    componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
-        status = deleteToscaDataDeepElementsBlockToToscaElement(containerV, EdgeLabelEnum.INST_INTERFACES,
-            VertexTypeEnum.INST_INTERFACES, componentInstanceId);
+        status = deleteToscaDataDeepElementsBlocksToToscaElement(containerV, EdgeLabelEnum.INST_INTERFACES,
+            VertexTypeEnum.INST_INTERFACES, componentInstanceIds);
         if (status != StorageOperationStatus.OK && status != StorageOperationStatus.NOT_FOUND) {
             CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG,
-                "Failed to remove service instance interfaces  for instance {} in container {}. " +
-                    "error {] ", componentInstanceId, containerV.getUniqueId(), status);
+                "Failed to remove service instance interfaces  for instances {} in container {}. " +
+                    "error {] ", componentInstanceIds, containerV.getUniqueId(), status);
             return status;
         }
         return StorageOperationStatus.OK;
@@ -1787,15 +1854,33 @@ public class NodeTemplateOperation extends BaseOperation {
         return StorageOperationStatus.OK;
     }
 
-    @SuppressWarnings({"unchecked"})
     public Either<RequirementCapabilityRelDef, StorageOperationStatus> dissociateResourceInstances(String componentId,
                                                                                                    RequirementCapabilityRelDef requirementDef) {
-        if (requirementDef.getRelationships() == null) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "No relation pair in request [ {} ]", requirementDef);
-            return Either.right(StorageOperationStatus.BAD_REQUEST);
+        Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> result = dissociateResourceInstances(componentId,
+            Collections.singletonList(requirementDef));
+        if (result.isRight()) {
+            return Either.right(result.right().value());
+        }
+        return Either.left(requirementDef);
+    }
+
+    /**
+     * Removes several relations from a container. The container and its calculated capabilities and requirements are read once, all the relations
+     * are removed in memory and every data vertex is written once. Nothing is written if one of the relations cannot be removed.
+     *
+     * @param componentId     the container unique id
+     * @param requirementDefs the relations to remove
+     * @return the removed relations, or the status of the first relation that could not be removed
+     */
+    @SuppressWarnings({"unchecked"})
+    public Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> dissociateResourceInstances(String componentId,
+                                                                                                         List<RequirementCapabilityRelDef> requirementDefs) {
+        for (RequirementCapabilityRelDef requirementDef : requirementDefs) {
+            if (requirementDef.getRelationships() == null) {
+                CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "No relation pair in request [ {} ]", requirementDef);
+                return Either.right(StorageOperationStatus.BAD_REQUEST);
+            }
         }
-        String fromResInstanceUid = requirementDef.getFromNode();
-        String toResInstanceUid = requirementDef.getToNode();
         Either<GraphVertex, JanusGraphOperationStatus> containerVEither = janusGraphDao.getVertexById(componentId, JsonParseFlagEnum.ParseAll);
         if (containerVEither.isRight()) {
             JanusGraphOperationStatus error = containerVEither.right().value();
@@ -1803,47 +1888,76 @@ public class NodeTemplateOperation extends BaseOperation {
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(error));
         }
         GraphVertex containerV = containerVEither.left().value();
-        // DE191707 - validations
         Map<String, CompositionDataDefinition> jsonComposition = (Map<String, CompositionDataDefinition>) containerV.getJson();
         CompositionDataDefinition compositionDataDefinition = jsonComposition.get(JsonConstantKeysEnum.COMPOSITION.getValue());
-        Map<String, ComponentInstanceDataDefinition> componentInstances = compositionDataDefinition.getComponentInstances();
-        ComponentInstanceDataDefinition ciFrom = componentInstances.get(fromResInstanceUid);
-        if (ciFrom == null) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "FROM instance {} isn't under container {}", fromResInstanceUid, componentId);
-            return Either.right(StorageOperationStatus.NOT_FOUND);
-        }
-        ComponentInstanceDataDefinition ciTo = componentInstances.get(toResInstanceUid);
-        if (ciFrom == ciTo) {
-            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "TO instance {} isn't under container {}", toResInstanceUid, componentId);
-            return Either.right(StorageOperationStatus.NOT_FOUND);
-        }
-        Map<String, RelationshipInstDataDefinition> relations = compositionDataDefinition.getRelations();
-        List<CapabilityRequirementRelationship> relationPairList = requirementDef.getRelationships();
         Either<Pair<GraphVertex, Map<String, MapListCapabilityDataDefinition>>, StorageOperationStatus> capResult = fetchContainerCalculatedCapability(
             containerV, EdgeLabelEnum.CALCULATED_CAPABILITIES);
         if (capResult.isRight()) {
             return Either.right(capResult.right().value());
         }
-        Map<String, MapListCapabilityDataDefinition> calculatedCapability = capResult.left().value().getRight();
         Either<Pair<GraphVertex, Map<String, MapListCapabilityDataDefinition>>, StorageOperationStatus> capFullResult = fetchContainerCalculatedCapability(
             containerV, EdgeLabelEnum.FULLFILLED_CAPABILITIES);
-        if (capResult.isRight()) {
-            return Either.right(capResult.right().value());
+        if (capFullResult.isRight()) {
+            return Either.right(capFullResult.right().value());
         }
-        Map<String, MapListCapabilityDataDefinition> fulfilledCapability = capFullResult.left().value().getRight();
         Either<Pair<GraphVertex, Map<String, MapListRequirementDataDefinition>>, StorageOperationStatus> reqResult = fetchContainerCalculatedRequirement(
             containerV, EdgeLabelEnum.CALCULATED_REQUIREMENTS);
         if (reqResult.isRight()) {
             return Either.right(reqResult.right().value());
         }
-        Map<String, MapListRequirementDataDefinition> calculatedRequirement = reqResult.left().value().getRight();
         Either<Pair<GraphVertex, Map<String, MapListRequirementDataDefinition>>, StorageOperationStatus> reqFullResult = fetchContainerCalculatedRequirement(
             containerV, EdgeLabelEnum.FULLFILLED_REQUIREMENTS);
-        if (reqResult.isRight()) {
-            return Either.right(reqResult.right().value());
+        if (reqFullResult.isRight()) {
+            return Either.right(reqFullResult.right().value());
+        }
+        Set<String> modifiedInstances = new LinkedHashSet<>();
+        for (RequirementCapabilityRelDef requirementDef : requirementDefs) {
+            StorageOperationStatus status = removeRelations(componentId, requirementDef, compositionDataDefinition,
+                capResult.left().value().getRight(), capFullResult.left().value().getRight(), reqResult.left().value().getRight(),
+                reqFullResult.left().value().getRight());
+            if (status != StorageOperationStatus.OK) {
+                return Either.right(status);
+            }
+            modifiedInstances.add(requirementDef.getFromNode());
+            modifiedInstances.add(requirementDef.getToNode());
+        }
+        for (String instanceId : modifiedInstances) {
+            StorageOperationStatus status = updateCustomizationUUID(instanceId, compositionDataDefinition);
+            if (status != StorageOperationStatus.OK) {
+                return Either.right(status);
+            }
+        }
+        // update metadata of container and composition json
+        StorageOperationStatus status = updateAllAndCalculatedCapReqOnGraph(componentId, containerV, capResult, capFullResult, reqResult,
+            reqFullResult);
+        if (status != StorageOperationStatus.OK) {
+            return Either.right(status);
         }
-        Map<String, MapListRequirementDataDefinition> fulfilledRequirement = reqFullResult.left().value().getRight();
-        for (CapabilityRequirementRelationship relationPair : relationPairList) {
+        return Either.left(requirementDefs);
+    }
+
+    private StorageOperationStatus removeRelations(String componentId, RequirementCapabilityRelDef requirementDef,
+                                                  CompositionDataDefinition compositionDataDefinition,
+                                                  Map<String, MapListCapabilityDataDefinition> calculatedCapability,
+                                                  Map<String, MapListCapabilityDataDefinition> fulfilledCapability,
+                                                  Map<String, MapListRequirementDataDefinition> calculatedRequirement,
+                                                  Map<String, MapListRequirementDataDefinition> fulfilledRequirement) {
+        String fromResInstanceUid = requirementDef.getFromNode();
+        String toResInstanceUid = requirementDef.getToNode();
+        // DE191707 - validations
+        Map<String, ComponentInstanceDataDefinition> componentInstances = compositionDataDefinition.getComponentInstances();
+        ComponentInstanceDataDefinition ciFrom = componentInstances.get(fromResInstanceUid);
+        if (ciFrom == null) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "FROM instance {} isn't under container {}", fromResInstanceUid, componentId);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        ComponentInstanceDataDefinition ciTo = componentInstances.get(toResInstanceUid);
+        if (ciFrom == ciTo) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "TO instance {} isn't under container {}", toResInstanceUid, componentId);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        Map<String, RelationshipInstDataDefinition> relations = compositionDataDefinition.getRelations();
+        for (CapabilityRequirementRelationship relationPair : requirementDef.getRelationships()) {
             Iterator<Entry<String, RelationshipInstDataDefinition>> iterator = relations.entrySet().iterator();
             boolean isDeleted = false;
             while (iterator.hasNext()) {
@@ -1861,12 +1975,12 @@ public class NodeTemplateOperation extends BaseOperation {
                         StorageOperationStatus status = updateCalculatedCapabiltyAfterDeleteRelation(calculatedCapability, fulfilledCapability,
                             toResInstanceUid, relationInJson, relationPair);
                         if (status != StorageOperationStatus.OK) {
-                            return Either.right(status);
+                            return status;
                         }
                         status = updateCalculatedRequirementsAfterDeleteRelation(calculatedRequirement, fulfilledRequirement, fromResInstanceUid,
                             relationInJson, relationPair);
                         if (status != StorageOperationStatus.OK) {
-                            return Either.right(status);
+                            return status;
                         }
                         isDeleted = true;
                     }
@@ -1876,25 +1990,10 @@ public class NodeTemplateOperation extends BaseOperation {
                 CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "No relation to delete from {} to {} capabilty {} capOwnerId {} reqOwnerId {} ",
                     toResInstanceUid, componentId, relationPair.getCapability(), relationPair.getRelation().getCapabilityOwnerId(),
                     relationPair.getRelation().getRequirementOwnerId());
-                return Either.right(StorageOperationStatus.NOT_FOUND);
+                return StorageOperationStatus.NOT_FOUND;
             }
         }
-        StorageOperationStatus status = updateCustomizationUUID(fromResInstanceUid, compositionDataDefinition);
-        if (status != StorageOperationStatus.OK) {
-            return Either.right(status);
-        }
-        status = updateCustomizationUUID(toResInstanceUid, compositionDataDefinition);
-        if (status != StorageOperationStatus.OK) {
-            return Either.right(status);
-        }
-        // update jsons
-
-        // update metadata of container and composition json
-        status = updateAllAndCalculatedCapReqOnGraph(componentId, containerV, capResult, capFullResult, reqResult, reqFullResult);
-        if (status != StorageOperationStatus.OK) {
-            return Either.right(status);
-        }
-        return Either.left(requirementDef);
+        return StorageOperationStatus.OK;
     }
 
     /**
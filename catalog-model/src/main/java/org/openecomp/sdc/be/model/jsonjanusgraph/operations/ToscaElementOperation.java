@@ -25,6 +25,10 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import fj.data.Either;
 import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -1327,6 +1331,55 @@ public abstract class ToscaElementOperation extends BaseOperation {
         return Either.left(existInCatalog.values().stream().collect(Collectors.toList()));
     }
 
+    /**
+     * Catalog data of the versions of a single component that are in the catalog (or archive), built as {@link #getElementCatalogData} builds
+     * it for the whole catalog.
+     */
+    public Either<List<CatalogComponent>, StorageOperationStatus> getElementCatalogDataOfComponent(boolean isCatalog, String invariantUUID) {
+        Map<GraphPropertyEnum, Object> props = new EnumMap<>(GraphPropertyEnum.class);
+        props.put(GraphPropertyEnum.INVARIANT_UUID, invariantUUID);
+        Either<List<GraphVertex>, JanusGraphOperationStatus> verticesEither = janusGraphDao.getByCriteria(null, props, JsonParseFlagEnum.NoParse);
+        if (verticesEither.isRight()) {
+            if (verticesEither.right().value() == JanusGraphOperationStatus.NOT_FOUND) {
+                return Either.left(new ArrayList<>());
+            }
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(verticesEither.right().value()));
+        }
+        String edgeLabel = isCatalog ? EdgeLabelEnum.CATALOG_ELEMENT.name() : EdgeLabelEnum.ARCHIVE_ELEMENT.name();
+        Map<String, CatalogComponent> existInCatalog = new HashMap<>();
+        for (GraphVertex graphVertex : verticesEither.left().value()) {
+            JanusGraphVertex vertex = graphVertex.getVertex();
+            if (vertex.edges(Direction.IN, edgeLabel).hasNext()) {
+                handleCatalogComponent(existInCatalog, vertex, null);
+            }
+        }
+        return Either.left(new ArrayList<>(existInCatalog.values()));
+    }
+
+    /**
+     * Version of the data returned by {@link #getElementCatalogData}, digested from the raw metadata of the catalog (or archive) elements. It
+     * changes whenever an element enters or leaves the catalog or its metadata is updated, and is computed without parsing any json.
+     */
+    public Either<String, StorageOperationStatus> getElementCatalogVersion(boolean isCatalog) {
+        Either<Iterator<Vertex>, JanusGraphOperationStatus> verticesEither = janusGraphDao.getCatalogOrArchiveVerticies(isCatalog);
+        if (verticesEither.isRight()) {
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(verticesEither.right().value()));
+        }
+        List<String> metadata = new ArrayList<>();
+        verticesEither.left().value()
+            .forEachRemaining(vertex -> metadata.add((String) vertex.property(GraphPropertiesDictionary.METADATA.getProperty()).value()));
+        // the order of the catalog edges is not guaranteed
+        Collections.sort(metadata);
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        metadata.forEach(json -> digest.update(json.getBytes(StandardCharsets.UTF_8)));
+        return Either.left(String.format("%064x", new BigInteger(1, digest.digest())));
+    }
+
     private void handleCatalogComponent(Map<String, CatalogComponent> existInCatalog, Vertex vertex, List<ResourceTypeEnum> excludeTypes) {
         VertexProperty<Object> property = vertex.property(GraphPropertiesDictionary.METADATA.getProperty());
         String json = (String) property.value();
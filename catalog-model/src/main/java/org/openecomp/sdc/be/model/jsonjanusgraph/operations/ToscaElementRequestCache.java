@@ -0,0 +1,291 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.Resource;
+import org.openecomp.sdc.be.model.category.CategoryDefinition;
+import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
+import org.openecomp.sdc.be.model.jsonjanusgraph.utils.ModelConverter;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Request scoped cache of the tosca elements read by {@link ToscaOperationFacade}. Entries are bound to the JanusGraph transaction of the current
+ * thread: they are only served while that transaction is the one they were read in and it has no pending modifications, so a commit, a rollback
+ * or any write to the graph makes them unreachable. A cached element loaded with a wider {@link ComponentParametersView} also serves narrower
+ * views, the sections that were not requested being removed with {@link ComponentParametersView#filter}. The conversion to a component creates
+ * new data definitions for the sections of the element but hands out its categories, versions, derived from lists and tags as they are, so
+ * every component converted from a cached element gets its own copy of these, see {@link #convert(ToscaElement)}.
+ * <p>
+ * Nothing is cached outside a request scope opened with {@link #beginRequest()} and closed with {@link #endRequest()}, so threads that never
+ * open one keep no entries.
+ */
+@org.springframework.stereotype.Component("tosca-element-request-cache")
+public class ToscaElementRequestCache {
+
+    private static final Logger log = Logger.getLogger(ToscaElementRequestCache.class);
+    /**
+     * Sections removed by {@link ComponentParametersView#filter} for every component type. A cached element may hold more of these than requested.
+     */
+    private static final List<Predicate<ComponentParametersView>> FILTERED_SECTIONS = List.of(
+        ComponentParametersView::isIgnoreUsers, ComponentParametersView::isIgnoreGroups, ComponentParametersView::isIgnoreComponentInstances,
+        ComponentParametersView::isIgnoreComponentInstancesProperties, ComponentParametersView::isIgnoreAttributes,
+        ComponentParametersView::isIgnoreCapabilities, ComponentParametersView::isIgnoreRequirements, ComponentParametersView::isIgnoreCategories,
+        ComponentParametersView::isIgnoreAllVersions, ComponentParametersView::isIgnoreArtifacts,
+        ComponentParametersView::isIgnoreComponentInstancesAttributes, ComponentParametersView::isIgnoreInputs,
+        ComponentParametersView::isIgnoreOutputs, ComponentParametersView::isIgnoreComponentInstancesInputs,
+        ComponentParametersView::isIgnoreComponentInstancesOutputs, ComponentParametersView::isIgnoreNodeFilterRequirements,
+        ComponentParametersView::isIgnoreNodeFilter, ComponentParametersView::isIgnoreSubstitutionFilter, ComponentParametersView::isIgnoreDataType);
+    /**
+     * Sections {@link ComponentParametersView#filter} does not remove, or only for some component types. They must match exactly.
+     */
+    private static final List<Predicate<ComponentParametersView>> EXACT_SECTIONS = List.of(
+        ComponentParametersView::isIgnoreProperties, ComponentParametersView::isIgnoreAdditionalInformation,
+        ComponentParametersView::isIgnoreInterfaces, ComponentParametersView::isIgnoreInterfaceInstances,
+        ComponentParametersView::isIgnoreComponentInstancesInterfaces, ComponentParametersView::isIgnoreDerivedFrom,
+        ComponentParametersView::isIgnoreCapabiltyProperties, ComponentParametersView::isIgnoreServicePath, ComponentParametersView::isIgnorePolicies);
+    private static final ThreadLocal<RequestEntries> requestEntries = new ThreadLocal<>();
+
+    private final HealingJanusGraphDao janusGraphDao;
+    private final Map<String, LongAdder> avoidedLoadsByEndpoint = new ConcurrentHashMap<>();
+
+    public ToscaElementRequestCache(final HealingJanusGraphDao janusGraphDao) {
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    /**
+     * Gets a component from the elements already read in the current transaction.
+     *
+     * @param componentId the component unique id
+     * @param filters     the requested view
+     * @return a new component converted from the cached element, or empty if there is no usable entry
+     */
+    public <T extends Component> Optional<T> get(final String componentId, final ComponentParametersView filters) {
+        final RequestEntries entries = getEntries();
+        if (entries == null) {
+            return Optional.empty();
+        }
+        final List<CachedElement> cachedElements = entries.elementsById.getOrDefault(componentId, Collections.emptyList());
+        final long requestedSections = ignoredSections(filters);
+        for (final CachedElement cachedElement : cachedElements) {
+            if (cachedElement.covers(requestedSections)) {
+                entries.hits++;
+                log.trace("Serving component {} from the request cache", componentId);
+                final T component = convert(cachedElement.toscaElement);
+                if (cachedElement.ignoredSections != requestedSections) {
+                    filters.filter(component, component.getComponentType());
+                }
+                return Optional.of(component);
+            }
+        }
+        entries.misses++;
+        return Optional.empty();
+    }
+
+    /**
+     * Keeps an element read from the graph for the rest of the current transaction. Nothing is kept if the transaction already holds
+     * modifications. The element must then only be converted with {@link #convert(ToscaElement)}.
+     *
+     * @param componentId  the component unique id
+     * @param filters      the view the element was read with
+     * @param toscaElement the element read from the graph
+     */
+    public void put(final String componentId, final ComponentParametersView filters, final ToscaElement toscaElement) {
+        final RequestEntries entries = getEntries();
+        if (entries == null) {
+            return;
+        }
+        entries.elementsById.computeIfAbsent(componentId, id -> new ArrayList<>()).add(new CachedElement(ignoredSections(filters), toscaElement));
+    }
+
+    /**
+     * Converts an element that may be cached to a component that does not share the views of the element left as they are by
+     * {@link ModelConverter#convertFromToscaElement}.
+     *
+     * @param toscaElement the element
+     * @return a new component, that can be changed without changing the element
+     */
+    static <T extends Component> T convert(final ToscaElement toscaElement) {
+        final T component = ModelConverter.convertFromToscaElement(toscaElement);
+        component.setCategories(copyCategories(component.getCategories()));
+        if (component.getAllVersions() != null) {
+            component.setAllVersions(new HashMap<>(component.getAllVersions()));
+        }
+        if (component.getTags() != null) {
+            component.setTags(new ArrayList<>(component.getTags()));
+        }
+        if (component instanceof Resource) {
+            final Resource resource = (Resource) component;
+            if (resource.getDerivedFrom() != null) {
+                resource.setDerivedFrom(new ArrayList<>(resource.getDerivedFrom()));
+            }
+            if (resource.getDerivedList() != null) {
+                resource.setDerivedList(new ArrayList<>(resource.getDerivedList()));
+            }
+            if (resource.getDerivedFromMapOfIdToName() != null) {
+                resource.setDerivedFromMapOfIdToName(new HashMap<>(resource.getDerivedFromMapOfIdToName()));
+            }
+        }
+        return component;
+    }
+
+    private static List<CategoryDefinition> copyCategories(final List<CategoryDefinition> categories) {
+        if (categories == null) {
+            return null;
+        }
+        final List<CategoryDefinition> copies = new ArrayList<>(categories.size());
+        for (final CategoryDefinition category : categories) {
+            final CategoryDefinition copy = new CategoryDefinition(category);
+            if (category.getSubcategories() != null) {
+                copy.setSubcategories(category.getSubcategories().stream().map(ToscaElementRequestCache::copySubCategory)
+                    .collect(Collectors.toList()));
+            }
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private static SubCategoryDefinition copySubCategory(final SubCategoryDefinition subCategory) {
+        final SubCategoryDefinition copy = new SubCategoryDefinition(subCategory);
+        if (subCategory.getGroupings() != null) {
+            copy.setGroupings(new ArrayList<>(subCategory.getGroupings()));
+        }
+        return copy;
+    }
+
+    /**
+     * Opens a request scope on the current thread, if none is open.
+     *
+     * @return true if the scope was opened by this call, and must be closed by the caller with {@link #endRequest()}
+     */
+    public boolean beginRequest() {
+        if (requestEntries.get() != null) {
+            return false;
+        }
+        requestEntries.set(new RequestEntries());
+        return true;
+    }
+
+    /**
+     * Ends the request on the current thread, dropping its entries.
+     */
+    public void endRequest() {
+        requestEntries.remove();
+    }
+
+    /**
+     * Ends the request on the current thread: drops its entries and records how many graph loads were avoided for the endpoint.
+     *
+     * @param endpoint the name of the endpoint that served the request
+     */
+    public void endRequest(final String endpoint) {
+        final RequestEntries entries = requestEntries.get();
+        requestEntries.remove();
+        if (entries == null || entries.hits == 0) {
+            return;
+        }
+        final LongAdder avoidedLoads = avoidedLoadsByEndpoint.computeIfAbsent(endpoint, key -> new LongAdder());
+        avoidedLoads.add(entries.hits);
+        log.debug("{}: {} component loads served by the request cache, {} loaded from the graph. Total avoided loads for the endpoint: {}",
+            endpoint, entries.hits, entries.misses, avoidedLoads.sum());
+    }
+
+    /**
+     * @return the number of component loads avoided so far, by endpoint
+     */
+    public Map<String, Long> getAvoidedLoadsByEndpoint() {
+        final Map<String, Long> avoidedLoads = new HashMap<>();
+        avoidedLoadsByEndpoint.forEach((endpoint, count) -> avoidedLoads.put(endpoint, count.sum()));
+        return avoidedLoads;
+    }
+
+    private RequestEntries getEntries() {
+        final RequestEntries entries = requestEntries.get();
+        if (entries == null) {
+            return null;
+        }
+        final Optional<JanusGraphTransaction> transaction = janusGraphDao.getCurrentThreadTransaction();
+        if (transaction.isEmpty() || transaction.get().hasModifications()) {
+            entries.elementsById.clear();
+            return null;
+        }
+        if (entries.transaction != transaction.get()) {
+            entries.transaction = transaction.get();
+            entries.elementsById.clear();
+        }
+        return entries;
+    }
+
+    static long ignoredSections(final ComponentParametersView view) {
+        long sections = 0;
+        int bit = 0;
+        for (final Predicate<ComponentParametersView> section : FILTERED_SECTIONS) {
+            sections |= section.test(view) ? 1L << bit : 0;
+            bit++;
+        }
+        for (final Predicate<ComponentParametersView> section : EXACT_SECTIONS) {
+            sections |= section.test(view) ? 1L << bit : 0;
+            bit++;
+        }
+        return sections;
+    }
+
+    private static final class RequestEntries {
+
+        private final Map<String, List<CachedElement>> elementsById = new HashMap<>();
+        private JanusGraphTransaction transaction;
+        private int hits;
+        private int misses;
+    }
+
+    private static final class CachedElement {
+
+        private static final long FILTERED_MASK = (1L << FILTERED_SECTIONS.size()) - 1;
+        private static final long EXACT_MASK = ((1L << EXACT_SECTIONS.size()) - 1) << FILTERED_SECTIONS.size();
+        private final long ignoredSections;
+        private final ToscaElement toscaElement;
+
+        private CachedElement(final long ignoredSections, final ToscaElement toscaElement) {
+            this.ignoredSections = ignoredSections;
+            this.toscaElement = toscaElement;
+        }
+
+        /**
+         * The element covers a view if it ignores none of the filtered sections the view needs, and all the other sections are the same.
+         */
+        private boolean covers(final long requestedSections) {
+            return (ignoredSections & ~requestedSections & FILTERED_MASK) == 0 && ((ignoredSections ^ requestedSections) & EXACT_MASK) == 0;
+        }
+    }
+}
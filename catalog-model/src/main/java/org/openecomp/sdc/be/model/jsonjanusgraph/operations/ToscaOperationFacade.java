@@ -156,6 +156,10 @@ public class ToscaOperationFacade {
     // endregion
     @Autowired
     private ContainerInstanceTypesData containerInstanceTypesData;
+    @Autowired
+    private ToscaElementRequestCache toscaElementRequestCache;
+    @Autowired
+    private CatalogProjection catalogProjection;
 
     private static Optional<CapabilityDefinition> getPropertyCapability(String propertyParentUniqueId, Component containerComponent) {
         Map<String, List<CapabilityDefinition>> componentCapabilities = containerComponent.getCapabilities();
@@ -183,15 +187,30 @@ public class ToscaOperationFacade {
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, ComponentParametersView filters) {
-        Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao.getVertexById(componentId, filters.detectParseFlag());
-        if (getVertexEither.isRight()) {
-            log.debug(COULDNT_FETCH_COMPONENT_WITH_AND_UNIQUE_ID_ERROR, componentId, getVertexEither.right().value());
-            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
+        // requests open their scope in the servlet filter, other callers only keep the entries for the duration of the call
+        boolean ownsRequestScope = toscaElementRequestCache.beginRequest();
+        try {
+            Optional<T> cachedComponent = toscaElementRequestCache.get(componentId, filters);
+            if (cachedComponent.isPresent()) {
+                return Either.left(cachedComponent.get());
+            }
+            Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao.getVertexById(componentId, filters.detectParseFlag());
+            if (getVertexEither.isRight()) {
+                log.debug(COULDNT_FETCH_COMPONENT_WITH_AND_UNIQUE_ID_ERROR, componentId, getVertexEither.right().value());
+                return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
+            }
+            return getToscaElementByOperation(getVertexEither.left().value(), filters, true);
+        } finally {
+            if (ownsRequestScope) {
+                toscaElementRequestCache.endRequest();
+            }
         }
-        return getToscaElementByOperation(getVertexEither.left().value(), filters);
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, JsonParseFlagEnum parseFlag) {
+        if (parseFlag == JsonParseFlagEnum.ParseAll) {
+            return getToscaElement(componentId, new ComponentParametersView());
+        }
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao.getVertexById(componentId, parseFlag);
         if (getVertexEither.isRight()) {
             log.debug(COULDNT_FETCH_COMPONENT_WITH_AND_UNIQUE_ID_ERROR, componentId, getVertexEither.right().value());
@@ -240,6 +259,12 @@ public class ToscaOperationFacade {
 
     private <T extends Component> Either<T, StorageOperationStatus> getToscaElementByOperation(GraphVertex componentV,
                                                                                                ComponentParametersView filters) {
+        return getToscaElementByOperation(componentV, filters, false);
+    }
+
+    private <T extends Component> Either<T, StorageOperationStatus> getToscaElementByOperation(GraphVertex componentV,
+                                                                                               ComponentParametersView filters,
+                                                                                               boolean cacheForRequest) {
         if (componentV == null) {
             log.debug("Unexpected null value for `componentV`");
             return Either.right(StorageOperationStatus.GENERAL_ERROR);
@@ -258,6 +283,10 @@ public class ToscaOperationFacade {
                 log.debug("not supported tosca type {} for id {}", label, componentId);
                 toscaElement = Either.right(StorageOperationStatus.BAD_REQUEST);
             }
+            if (cacheForRequest && toscaElement.isLeft()) {
+                toscaElementRequestCache.put(componentId, filters, toscaElement.left().value());
+                return Either.left(ToscaElementRequestCache.convert(toscaElement.left().value()));
+            }
             return toscaElement.left().map(ModelConverter::convertFromToscaElement);
         }
     }
@@ -282,6 +311,7 @@ public class ToscaOperationFacade {
         if (createToscaElement.isLeft()) {
             log.debug(COMPONENT_CREATED_SUCCESSFULLY);
             T dataModel = ModelConverter.convertFromToscaElement(createToscaElement.left().value());
+            onCatalogDataChange(dataModel);
             return Either.left(dataModel);
         }
         return Either.right(createToscaElement.right().value());
@@ -305,6 +335,7 @@ public class ToscaOperationFacade {
             if (result.isRight()) {
                 return result.right().value();
             }
+            onCatalogDataChange(componentToDelete);
             return StorageOperationStatus.OK;
         }
     }
@@ -321,6 +352,7 @@ public class ToscaOperationFacade {
             return Either.right(deleteElement.right().value());
         }
         T dataModel = ModelConverter.convertFromToscaElement(deleteElement.left().value());
+        onCatalogDataChange(dataModel);
         return Either.left(dataModel);
     }
 
@@ -646,6 +678,11 @@ public class ToscaOperationFacade {
         return nodeTemplateOperation.dissociateResourceInstances(componentId, requirementDef);
     }
 
+    public Either<List<RequirementCapabilityRelDef>, StorageOperationStatus> dissociateResourceInstances(String componentId,
+                                                                                                         List<RequirementCapabilityRelDef> requirementDefs) {
+        return nodeTemplateOperation.dissociateResourceInstances(componentId, requirementDefs);
+    }
+
     /**
      * Allows to get fulfilled requirement by relation and received predicate
      */
@@ -787,7 +824,11 @@ public class ToscaOperationFacade {
             log.debug("Null value returned by `getToscaElementOperation` with value {}", elementV);
             updateToscaElement = Either.right(StorageOperationStatus.GENERAL_ERROR);
         }
-        return updateToscaElement.bimap(ModelConverter::convertFromToscaElement, status -> {
+        return updateToscaElement.bimap(element -> {
+            T updatedComponent = ModelConverter.convertFromToscaElement(element);
+            onCatalogDataChange(updatedComponent);
+            return updatedComponent;
+        }, status -> {
             log.debug("Failed to update tosca element {} error {}", componentId, status);
             return status;
         });
@@ -927,7 +968,11 @@ public class ToscaOperationFacade {
         List<ResourceTypeEnum> excludedResourceTypes = Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream()
             .filter(type -> !type.equals(OriginTypeEnum.SERVICE)).map(type -> ResourceTypeEnum.getTypeByName(type.name()))
             .collect(Collectors.toList());
-        return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes);
+        return catalogProjection.getElements(isCatalog, excludedResourceTypes);
+    }
+
+    public Either<String, StorageOperationStatus> getCatalogOrArchiveComponentsVersion(boolean isCatalog) {
+        return catalogProjection.getVersion(isCatalog);
     }
 
     // endregion
@@ -1181,6 +1226,20 @@ public class ToscaOperationFacade {
         return result;
     }
 
+    public Either<Component, StorageOperationStatus> deleteComponentInstancesFromTopologyTemplate(Component containerComponent,
+                                                                                                  List<String> resourceInstanceIds) {
+        CommonUtility.addRecordToLog(log, LogLevelEnum.TRACE, "Going to delete the component instances {} belonging to container component {}. ",
+            resourceInstanceIds, containerComponent.getName());
+        Either<TopologyTemplate, StorageOperationStatus> updateResult = nodeTemplateOperation
+            .deleteComponentInstancesFromTopologyTemplate(ModelConverter.convertToToscaElement(containerComponent), resourceInstanceIds);
+        if (updateResult.isRight()) {
+            CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, "Failed to delete the component instances {} belonging to container component {}. ",
+                resourceInstanceIds, containerComponent.getName());
+            return Either.right(updateResult.right().value());
+        }
+        return Either.left(ModelConverter.convertFromToscaElement(updateResult.left().value()));
+    }
+
     private String getNextComponentInstanceCounter(Component containerComponent, String originResourceName) {
         Integer nextCounter = 0;
         if (CollectionUtils.isNotEmpty(containerComponent.getComponentInstances())) {
@@ -2520,6 +2579,7 @@ public class ToscaOperationFacade {
         GraphVertex serviceV = updateDistributionStatus.left().value();
         service.setDistributionStatus(distributionStatus);
         service.setLastUpdateDate((Long) serviceV.getJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE));
+        onCatalogDataChange(service);
         return Either.left(service);
     }
 
@@ -2545,10 +2605,18 @@ public class ToscaOperationFacade {
         }
         if (result == null) {
             result = Either.left(ModelConverter.convertToComponentMetadata(updateRes.left().value()));
+            onCatalogDataChange(component);
         }
         return result;
     }
 
+    /**
+     * Reports the change to the catalog projection, which shares it with the other BE instances through the catalog change feed.
+     */
+    private void onCatalogDataChange(Component component) {
+        catalogProjection.onComponentChange(component.getInvariantUUID());
+    }
+
     public HealingJanusGraphDao getJanusGraphDao() {
         return janusGraphDao;
     }
@@ -0,0 +1,141 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.tosca.validators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.openecomp.sdc.be.model.DataTypeDefinition;
+import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
+import org.openecomp.sdc.be.model.tosca.converters.PropertyValueConverter;
+
+/**
+ * Flattened, precomputed view of a {@link DataTypeDefinition} used by {@link DataTypeValidatorConverter}. The parent chain is resolved once, and
+ * for every property the TOSCA primitive type, its validator/converter and the entry schema type are looked up upfront, so validating a value only
+ * walks the json tree.
+ */
+@Getter
+final class CompiledDataType {
+
+    private final String name;
+    private final ToscaPropertyType scalarType;
+    private final Map<String, CompiledProperty> properties;
+    /**
+     * Properties list of every level of the derived from chain, as seen at compile time. Used to detect definitions mutated after compilation.
+     */
+    private final List<List<PropertyDefinition>> propertiesChain;
+    private final List<Integer> propertiesChainSizes;
+
+    private CompiledDataType(final DataTypeDefinition dataTypeDefinition) {
+        this.name = dataTypeDefinition.getName();
+        final Map<String, CompiledProperty> allParentsProps = new HashMap<>();
+        final List<List<PropertyDefinition>> chain = new ArrayList<>();
+        final List<Integer> chainSizes = new ArrayList<>();
+        ToscaPropertyType scalar = null;
+        DataTypeDefinition dataType = dataTypeDefinition;
+        while (dataType != null) {
+            if (scalar == null) {
+                scalar = ToscaPropertyType.getTypeIfScalar(dataType.getName());
+            }
+            final List<PropertyDefinition> currentParentsProps = dataType.getProperties();
+            chain.add(currentParentsProps);
+            chainSizes.add(currentParentsProps == null ? 0 : currentParentsProps.size());
+            if (currentParentsProps != null) {
+                currentParentsProps.forEach(p -> allParentsProps.put(p.getName(), new CompiledProperty(p)));
+            }
+            dataType = dataType.getDerivedFrom();
+        }
+        this.scalarType = scalar;
+        this.properties = Collections.unmodifiableMap(allParentsProps);
+        this.propertiesChain = chain;
+        this.propertiesChainSizes = chainSizes;
+    }
+
+    static CompiledDataType compile(final DataTypeDefinition dataTypeDefinition) {
+        return new CompiledDataType(dataTypeDefinition);
+    }
+
+    CompiledProperty getProperty(final String propertyName) {
+        return properties.get(propertyName);
+    }
+
+    /**
+     * Checks that the given definition still has the shape this instance was compiled from (same properties lists, with the same sizes, along the
+     * derived from chain).
+     *
+     * @param dataTypeDefinition the definition this instance was compiled from
+     * @return true if the definition was modified after compilation
+     */
+    boolean isStale(final DataTypeDefinition dataTypeDefinition) {
+        DataTypeDefinition dataType = dataTypeDefinition;
+        int level = 0;
+        while (dataType != null) {
+            if (level >= propertiesChain.size()) {
+                return true;
+            }
+            final List<PropertyDefinition> currentProps = dataType.getProperties();
+            final int currentSize = currentProps == null ? 0 : currentProps.size();
+            if (propertiesChain.get(level) != currentProps || propertiesChainSizes.get(level) != currentSize) {
+                return true;
+            }
+            dataType = dataType.getDerivedFrom();
+            level++;
+        }
+        return level != propertiesChain.size();
+    }
+
+    /**
+     * Precomputed information of a single data type property.
+     */
+    @Getter
+    static final class CompiledProperty {
+
+        private final String type;
+        private final ToscaPropertyType propertyType;
+        private final String innerType;
+        private final boolean missingInnerType;
+        private final PropertyTypeValidator validator;
+        private final PropertyValueConverter converter;
+
+        private CompiledProperty(final PropertyDefinition propertyDefinition) {
+            this.type = propertyDefinition.getType();
+            this.propertyType = ToscaPropertyType.isScalarType(type) ? ToscaPropertyType.isValidType(type) : null;
+            String schemaType = null;
+            boolean schemaWithoutType = false;
+            if ((propertyType == ToscaPropertyType.LIST || propertyType == ToscaPropertyType.MAP) && propertyDefinition.getSchema() != null
+                && propertyDefinition.getSchema().getProperty() != null) {
+                schemaType = propertyDefinition.getSchema().getProperty().getType();
+                schemaWithoutType = schemaType == null;
+            }
+            this.innerType = schemaType;
+            this.missingInnerType = schemaWithoutType;
+            this.validator = propertyType == null ? null : propertyType.getValidator();
+            this.converter = propertyType == null ? null : propertyType.getConverter();
+        }
+
+        boolean isScalar() {
+            return propertyType != null;
+        }
+    }
+}
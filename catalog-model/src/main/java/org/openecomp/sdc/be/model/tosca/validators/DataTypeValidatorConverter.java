@@ -19,27 +19,36 @@
  */
 package org.openecomp.sdc.be.model.tosca.validators;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
-import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache.DataTypesCacheChangedEvent;
 import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
 import org.openecomp.sdc.be.model.tosca.converters.PropertyValueConverter;
+import org.openecomp.sdc.be.model.tosca.validators.CompiledDataType.CompiledProperty;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.context.event.EventListener;
 
 public class DataTypeValidatorConverter {
 
     private static final Logger log = Logger.getLogger(DataTypeValidatorConverter.class.getName());
+    private static final int COMPILED_DATA_TYPES_MAX_SIZE = 10000;
     private static DataTypeValidatorConverter dataTypeValidatorConverter = new DataTypeValidatorConverter();
+    /**
+     * Compiled data types, keyed by definition instance (weak keys use identity comparison). Definitions of different models are distinct
+     * instances, so the cache is implicitly per model. Entries are dropped when the application data type cache is refreshed.
+     */
+    private final Cache<DataTypeDefinition, CompiledDataType> compiledDataTypes = CacheBuilder.newBuilder().weakKeys()
+        .maximumSize(COMPILED_DATA_TYPES_MAX_SIZE).build();
     JsonParser jsonParser = new JsonParser();
     ImmutablePair<JsonElement, Boolean> falseResult = new ImmutablePair<>(null, false);
     ImmutablePair<JsonElement, Boolean> trueEmptyResult = new ImmutablePair<>(null, true);
@@ -53,26 +62,33 @@ public class DataTypeValidatorConverter {
         return dataTypeValidatorConverter;
     }
 
-    private ToscaPropertyType isDataTypeDerviedFromScalarType(DataTypeDefinition dataTypeDef) {
-        ToscaPropertyType result = null;
-        DataTypeDefinition dataType = dataTypeDef;
-        while (dataType != null) {
-            String name = dataType.getName();
-            ToscaPropertyType typeIfScalar = ToscaPropertyType.getTypeIfScalar(name);
-            if (typeIfScalar != null) {
-                result = typeIfScalar;
-                break;
-            }
-            dataType = dataType.getDerivedFrom();
+    /**
+     * Drops all compiled data types, so they are recompiled from the refreshed definitions on next use.
+     */
+    @EventListener
+    public void onDataTypesCacheChangedEvent(final DataTypesCacheChangedEvent dataTypesCacheChangedEvent) {
+        invalidateCompiledDataTypes();
+    }
+
+    public void invalidateCompiledDataTypes() {
+        compiledDataTypes.invalidateAll();
+        log.debug("Compiled data types cache cleared.");
+    }
+
+    CompiledDataType getCompiledDataType(final DataTypeDefinition dataTypeDefinition) {
+        CompiledDataType compiledDataType = compiledDataTypes.getIfPresent(dataTypeDefinition);
+        if (compiledDataType == null || compiledDataType.isStale(dataTypeDefinition)) {
+            compiledDataType = CompiledDataType.compile(dataTypeDefinition);
+            compiledDataTypes.put(dataTypeDefinition, compiledDataType);
         }
-        return result;
+        return compiledDataType;
     }
 
     private ImmutablePair<JsonElement, Boolean> validateAndUpdate(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition,
                                                                   Map<String, DataTypeDefinition> allDataTypes) {
-        Map<String, PropertyDefinition> allProperties = getAllProperties(dataTypeDefinition);
-        ToscaPropertyType toscaPropertyType = null;
-        if ((toscaPropertyType = isDataTypeDerviedFromScalarType(dataTypeDefinition)) != null) {
+        CompiledDataType compiledDataType = getCompiledDataType(dataTypeDefinition);
+        ToscaPropertyType toscaPropertyType = compiledDataType.getScalarType();
+        if (toscaPropertyType != null) {
             PropertyTypeValidator validator = toscaPropertyType.getValidator();
             PropertyValueConverter converter = toscaPropertyType.getConverter();
             if (jsonElement == null || jsonElement.isJsonNull()) {
@@ -129,30 +145,20 @@ public class DataTypeValidatorConverter {
                     for (Entry<String, JsonElement> entry : entrySet) {
                         String propName = entry.getKey();
                         JsonElement elementValue = entry.getValue();
-                        PropertyDefinition propertyDefinition = allProperties.get(propName);
-                        if (propertyDefinition == null) {
+                        CompiledProperty compiledProperty = compiledDataType.getProperty(propName);
+                        if (compiledProperty == null) {
                             log.debug("The property {} was not found under data type {}", propName, dataTypeDefinition.getName());
                             return falseResult;
                         }
-                        String type = propertyDefinition.getType();
-                        boolean isScalarType = ToscaPropertyType.isScalarType(type);
-                        if (isScalarType) {
-                            ToscaPropertyType propertyType = ToscaPropertyType.isValidType(type);
-                            if (propertyType == null) {
-                                log.debug("cannot find the {} under default tosca property types", type);
+                        String type = compiledProperty.getType();
+                        if (compiledProperty.isScalar()) {
+                            ToscaPropertyType propertyType = compiledProperty.getPropertyType();
+                            PropertyTypeValidator validator = compiledProperty.getValidator();
+                            if (compiledProperty.isMissingInnerType()) {
+                                log.debug("Property type {} must have inner type in its declaration.", propertyType);
                                 return falseResult;
                             }
-                            PropertyTypeValidator validator = propertyType.getValidator();
-                            String innerType = null;
-                            if (propertyType == ToscaPropertyType.LIST || propertyType == ToscaPropertyType.MAP) {
-                                if (propertyDefinition.getSchema() != null && propertyDefinition.getSchema().getProperty() != null) {
-                                    innerType = propertyDefinition.getSchema().getProperty().getType();
-                                    if (innerType == null) {
-                                        log.debug("Property type {} must have inner type in its declaration.", propertyType);
-                                        return falseResult;
-                                    }
-                                }
-                            }
+                            String innerType = compiledProperty.getInnerType();
                             String value = null;
                             if (elementValue != null) {
                                 if (elementValue.isJsonPrimitive() && elementValue.getAsString().isEmpty()) {
@@ -166,7 +172,7 @@ public class DataTypeValidatorConverter {
                                 log.debug("Failed to validate the value {} from type {}", value, propertyType);
                                 return falseResult;
                             }
-                            PropertyValueConverter converter = propertyType.getConverter();
+                            PropertyValueConverter converter = compiledProperty.getConverter();
                             String convertedValue = converter.convert(value, innerType, allDataTypes);
                             JsonElement element = null;
                             if (convertedValue != null) {
@@ -221,18 +227,6 @@ public class DataTypeValidatorConverter {
         return validateAndUpdate(jsonElement, dataTypeDefinition, allDataTypes);
     }
 
-    private Map<String, PropertyDefinition> getAllProperties(DataTypeDefinition dataTypeDefinition) {
-        Map<String, PropertyDefinition> allParentsProps = new HashMap<>();
-        while (dataTypeDefinition != null) {
-            List<PropertyDefinition> currentParentsProps = dataTypeDefinition.getProperties();
-            if (currentParentsProps != null) {
-                currentParentsProps.stream().forEach(p -> allParentsProps.put(p.getName(), p));
-            }
-            dataTypeDefinition = dataTypeDefinition.getDerivedFrom();
-        }
-        return allParentsProps;
-    }
-
     public boolean isValid(String value, DataTypeDefinition dataTypeDefinition, Map<String, DataTypeDefinition> allDataTypes) {
         if (value == null || value.isEmpty()) {
             return true;
@@ -247,10 +241,10 @@ public class DataTypeValidatorConverter {
         return isValid(jsonElement, dataTypeDefinition, allDataTypes);
     }
 
-    private boolean isValid(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition, Map<String, DataTypeDefinition> allDataTypes) {
-        Map<String, PropertyDefinition> allProperties = getAllProperties(dataTypeDefinition);
-        ToscaPropertyType toscaPropertyType = null;
-        if ((toscaPropertyType = isDataTypeDerviedFromScalarType(dataTypeDefinition)) != null) {
+    boolean isValid(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition, Map<String, DataTypeDefinition> allDataTypes) {
+        CompiledDataType compiledDataType = getCompiledDataType(dataTypeDefinition);
+        ToscaPropertyType toscaPropertyType = compiledDataType.getScalarType();
+        if (toscaPropertyType != null) {
             PropertyTypeValidator validator = toscaPropertyType.getValidator();
             if (jsonElement == null || jsonElement.isJsonNull()) {
                 boolean valid = validator.isValid(null, null, allDataTypes);
@@ -297,30 +291,20 @@ public class DataTypeValidatorConverter {
                     for (Entry<String, JsonElement> entry : entrySet) {
                         String propName = entry.getKey();
                         JsonElement elementValue = entry.getValue();
-                        PropertyDefinition propertyDefinition = allProperties.get(propName);
-                        if (propertyDefinition == null) {
+                        CompiledProperty compiledProperty = compiledDataType.getProperty(propName);
+                        if (compiledProperty == null) {
                             log.debug("The property {} was not found under data type {}", propName, dataTypeDefinition.getName());
                             return false;
                         }
-                        String type = propertyDefinition.getType();
-                        boolean isScalarType = ToscaPropertyType.isScalarType(type);
-                        if (isScalarType) {
-                            ToscaPropertyType propertyType = ToscaPropertyType.isValidType(type);
-                            if (propertyType == null) {
-                                log.debug("cannot find the {} under default tosca property types", type);
+                        String type = compiledProperty.getType();
+                        if (compiledProperty.isScalar()) {
+                            ToscaPropertyType propertyType = compiledProperty.getPropertyType();
+                            PropertyTypeValidator validator = compiledProperty.getValidator();
+                            if (compiledProperty.isMissingInnerType()) {
+                                log.debug("Property type {} must have inner type in its declaration.", propertyType);
                                 return false;
                             }
-                            PropertyTypeValidator validator = propertyType.getValidator();
-                            String innerType = null;
-                            if (propertyType == ToscaPropertyType.LIST || propertyType == ToscaPropertyType.MAP) {
-                                if (propertyDefinition.getSchema() != null && propertyDefinition.getSchema().getProperty() != null) {
-                                    innerType = propertyDefinition.getSchema().getProperty().getType();
-                                    if (innerType == null) {
-                                        log.debug("Property type {} must have inner type in its declaration.", propertyType);
-                                        return false;
-                                    }
-                                }
-                            }
+                            String innerType = compiledProperty.getInnerType();
                             String value = null;
                             if (elementValue != null) {
                                 if (elementValue.isJsonPrimitive() && elementValue.getAsString().isEmpty()) {
@@ -0,0 +1,179 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.tosca.validators;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
+import org.openecomp.sdc.common.util.JsonUtils;
+
+/**
+ * Validates list, map and json property values with a pull parser, one element at a time, instead of building the whole json tree first. Parsing is
+ * lenient and rejects trailing content, the same way {@link JsonParser#parse(String)} does, and elements are handed to the validators with the same
+ * string representation {@link JsonUtils#toString(JsonElement)} gives them.
+ */
+final class JsonStreamValidator {
+
+    private static final JsonParser jsonParser = new JsonParser();
+
+    private JsonStreamValidator() {
+    }
+
+    /**
+     * Validates every element of a json array.
+     *
+     * @param value            the json value
+     * @param elementValidator validator called for each element, positioned on the element
+     * @return false if the value is not a json array or if an element is not valid
+     * @throws JsonSyntaxException if the value is not a valid json document
+     */
+    static boolean isValidArray(final String value, final ElementValidator elementValidator) {
+        final JsonReader reader = newReader(value);
+        try {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                return false;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (!elementValidator.isValid(null, reader)) {
+                    return false;
+                }
+            }
+            reader.endArray();
+            assertDocumentConsumed(reader);
+            return true;
+        } catch (final IOException | NumberFormatException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Validates every entry of a json object. As when the value is read into a json tree, only the last value of a duplicated key is taken into
+     * account.
+     *
+     * @param value          the json value
+     * @param entryValidator validator called for each entry with its key, positioned on the entry value
+     * @return false if the value is not a json object or if an entry is not valid
+     * @throws JsonSyntaxException if the value is not a valid json document
+     */
+    static boolean isValidObject(final String value, final ElementValidator entryValidator) {
+        final JsonReader reader = newReader(value);
+        try {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return false;
+            }
+            final Set<String> invalidKeys = new HashSet<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String key = reader.nextName();
+                if (entryValidator.isValid(key, reader)) {
+                    invalidKeys.remove(key);
+                } else {
+                    invalidKeys.add(key);
+                }
+            }
+            reader.endObject();
+            assertDocumentConsumed(reader);
+            return invalidKeys.isEmpty();
+        } catch (final IOException | NumberFormatException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Checks the value is a json document, without keeping it in memory.
+     *
+     * @param value the json value
+     * @throws JsonSyntaxException if the value is not a valid json document
+     */
+    static void validateDocument(final String value) {
+        final JsonReader reader = newReader(value);
+        try {
+            reader.peek();
+        } catch (final EOFException e) {
+            // empty document
+            return;
+        } catch (final IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+        try {
+            reader.skipValue();
+        } catch (final IOException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Reads the next value as {@link JsonUtils#toString(JsonElement)} would render it. Only objects and arrays are materialized as json trees.
+     */
+    static String nextValueAsString(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return Boolean.toString(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                return JsonUtils.toString(nextValue(reader));
+        }
+    }
+
+    /**
+     * Reads the next value as a json tree.
+     */
+    static JsonElement nextValue(final JsonReader reader) {
+        return jsonParser.parse(reader);
+    }
+
+    private static JsonReader newReader(final String value) {
+        final JsonReader reader = new JsonReader(new StringReader(value));
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private static void assertDocumentConsumed(final JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonSyntaxException("Did not consume the entire document.");
+        }
+    }
+
+    @FunctionalInterface
+    interface ElementValidator {
+
+        /**
+         * Validates the value the reader is positioned on. Implementations must consume the value, whether it is valid or not.
+         *
+         * @param key    the entry key, null for array elements
+         * @param reader the reader positioned on the value
+         * @return true if the value is valid
+         */
+        boolean isValid(String key, JsonReader reader) throws IOException;
+    }
+}
@@ -19,10 +19,7 @@
  */
 package org.openecomp.sdc.be.model.tosca.validators;
 
-import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.stream.JsonReader;
-import java.io.StringReader;
 import java.util.Map;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -31,7 +28,6 @@ public class JsonValidator implements PropertyTypeValidator {
 
     private static final Logger log = Logger.getLogger(JsonValidator.class.getName());
     private static JsonValidator jsonValidator = new JsonValidator();
-    private static JsonParser jsonParser = new JsonParser();
 
     public static JsonValidator getInstance() {
         return jsonValidator;
@@ -43,10 +39,7 @@ public class JsonValidator implements PropertyTypeValidator {
             return true;
         }
         try {
-            StringReader reader = new StringReader(value);
-            JsonReader jsonReader = new JsonReader(reader);
-            jsonReader.setLenient(true);
-            jsonParser.parse(jsonReader);
+            JsonStreamValidator.validateDocument(value);
         } catch (JsonSyntaxException e) {
             log.debug("Error parsing JSON property", e);
             return false;
@@ -20,21 +20,17 @@
 package org.openecomp.sdc.be.model.tosca.validators;
 
 import com.google.common.base.Strings;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonToken;
 import java.util.Map;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.JsonUtils;
 
 public class ListValidator implements PropertyTypeValidator {
 
     private static final Logger log = Logger.getLogger(ListValidator.class.getName());
     private static ListValidator listValidator = new ListValidator();
-    private static JsonParser jsonParser = new JsonParser();
     private static DataTypeValidatorConverter dataTypeValidatorConverter = DataTypeValidatorConverter.getInstance();
 
     public static ListValidator getInstance() {
@@ -80,20 +76,20 @@ public class ListValidator implements PropertyTypeValidator {
             return isValid;
         }
         try {
-            JsonArray jo = (JsonArray) jsonParser.parse(value);
             if (ToscaPropertyType.JSON == innerToscaType) {
-                return true;
+                return JsonStreamValidator.isValidArray(value, (key, reader) -> {
+                    reader.skipValue();
+                    return true;
+                });
             }
-            int size = jo.size();
-            for (int i = 0; i < size; i++) {
-                JsonElement currentValue = jo.get(i);
-                String element = JsonUtils.toString(currentValue);
+            return JsonStreamValidator.isValidArray(value, (key, reader) -> {
+                String element = JsonStreamValidator.nextValueAsString(reader);
                 if (!innerValidator.isValid(element, null, allDataTypes)) {
                     log.debug("validation of element : {} failed", element);
                     return false;
                 }
-            }
-            return true;
+                return true;
+            });
         } catch (Exception e) {
             log.debug("Failed to parse json : {}", value, e);
             BeEcompErrorManager.getInstance().logBeInvalidJsonInput("List Validator");
@@ -113,23 +109,22 @@ public class ListValidator implements PropertyTypeValidator {
             return false;
         }
         try {
-            JsonArray jo = (JsonArray) jsonParser.parse(value);
-            int size = jo.size();
-            for (int i = 0; i < size; i++) {
-                JsonElement currentValue = jo.get(i);
-                if (currentValue != null) {
-                    String element = JsonUtils.toString(currentValue);
-                    boolean isValid = dataTypeValidatorConverter.isValid(element, innerDataTypeDefinition, allDataTypes);
-                    if (!isValid) {
-                        log.debug("Cannot parse value {} from type {} in list parameter", currentValue, innerType);
-                        return false;
-                    }
+            return JsonStreamValidator.isValidArray(value, (key, reader) -> {
+                boolean isValid;
+                if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    isValid = dataTypeValidatorConverter.isValid(JsonStreamValidator.nextValue(reader), innerDataTypeDefinition, allDataTypes);
+                } else {
+                    String element = JsonStreamValidator.nextValueAsString(reader);
+                    isValid = dataTypeValidatorConverter.isValid(element, innerDataTypeDefinition, allDataTypes);
                 }
-            }
+                if (!isValid) {
+                    log.debug("Cannot parse value of type {} in list parameter", innerType);
+                }
+                return isValid;
+            });
         } catch (Exception e) {
             log.debug("Error when parsing JSON of object of type ", e);
             return false;
         }
-        return true;
     }
 }
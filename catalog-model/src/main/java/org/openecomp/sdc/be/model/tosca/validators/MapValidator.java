@@ -19,19 +19,14 @@
  */
 package org.openecomp.sdc.be.model.tosca.validators;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonToken;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.JsonUtils;
 
 /*
  * Property Type Map correct usage:
@@ -54,7 +49,6 @@ public class MapValidator implements PropertyTypeValidator {
     private static final Logger log = Logger.getLogger(MapValidator.class.getName());
     private static MapValidator mapValidator = new MapValidator();
     private static DataTypeValidatorConverter dataTypeValidatorConverter = DataTypeValidatorConverter.getInstance();
-    private static JsonParser jsonParser = new JsonParser();
 
     public static MapValidator getInstance() {
         return mapValidator;
@@ -99,12 +93,14 @@ public class MapValidator implements PropertyTypeValidator {
             return isValid;
         }
         try {
-            JsonElement jsonObject = jsonParser.parse(value);
-            if (!jsonObject.isJsonObject()) {
-                return false;
-            }
-            JsonObject valueAsJson = jsonObject.getAsJsonObject();
-            return validateJsonObject(allDataTypes, innerValidator, keyValidator, valueAsJson);
+            return JsonStreamValidator.isValidObject(value, (currentKey, reader) -> {
+                String element = JsonStreamValidator.nextValueAsString(reader);
+                if (!innerValidator.isValid(element, null, allDataTypes) || !keyValidator.isValid(currentKey, null, allDataTypes)) {
+                    log.debug("validation of key : {}, element : {} failed", currentKey, element);
+                    return false;
+                }
+                return true;
+            });
         } catch (JsonSyntaxException e) {
             log.debug("Failed to parse json : {}", value, e);
             BeEcompErrorManager.getInstance().logBeInvalidJsonInput("Map Validator");
@@ -112,21 +108,6 @@ public class MapValidator implements PropertyTypeValidator {
         return false;
     }
 
-    private boolean validateJsonObject(Map<String, DataTypeDefinition> allDataTypes, PropertyTypeValidator innerValidator,
-                                       PropertyTypeValidator keyValidator, JsonObject asJsonObject) {
-        Set<Entry<String, JsonElement>> entrySet = asJsonObject.entrySet();
-        for (Entry<String, JsonElement> entry : entrySet) {
-            String currentKey = entry.getKey();
-            JsonElement jsonValue = entry.getValue();
-            String element = JsonUtils.toString(jsonValue);
-            if (!innerValidator.isValid(element, null, allDataTypes) || !keyValidator.isValid(entry.getKey(), null, allDataTypes)) {
-                log.debug("validation of key : {}, element : {} failed", currentKey, entry.getValue());
-                return false;
-            }
-        }
-        return true;
-    }
-
     private boolean validateComplexInnerType(String value, String innerType, Map<String, DataTypeDefinition> allDataTypes) {
         DataTypeDefinition innerDataTypeDefinition = allDataTypes.get(innerType);
         if (innerDataTypeDefinition == null) {
@@ -134,26 +115,23 @@ public class MapValidator implements PropertyTypeValidator {
             return false;
         }
         try {
-            JsonElement jsonObject = jsonParser.parse(value);
-            JsonObject asJsonObject = jsonObject.getAsJsonObject();
-            Set<Entry<String, JsonElement>> entrySet = asJsonObject.entrySet();
-            for (Entry<String, JsonElement> entry : entrySet) {
-                String currentKey = entry.getKey();
-                JsonElement currentValue = entry.getValue();
-                if (currentValue != null) {
-                    String element = JsonUtils.toString(currentValue);
-                    boolean isValid = dataTypeValidatorConverter.isValid(element, innerDataTypeDefinition, allDataTypes);
-                    if (!isValid) {
-                        log.debug("Cannot parse value {} from type {} of key {}", currentValue, innerType, currentKey);
-                        return false;
-                    }
+            return JsonStreamValidator.isValidObject(value, (currentKey, reader) -> {
+                boolean isValid;
+                if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    isValid = dataTypeValidatorConverter.isValid(JsonStreamValidator.nextValue(reader), innerDataTypeDefinition, allDataTypes);
+                } else {
+                    String element = JsonStreamValidator.nextValueAsString(reader);
+                    isValid = dataTypeValidatorConverter.isValid(element, innerDataTypeDefinition, allDataTypes);
                 }
-            }
+                if (!isValid) {
+                    log.debug("Cannot parse value from type {} of key {}", innerType, currentKey);
+                }
+                return isValid;
+            });
         } catch (Exception e) {
             log.debug("Cannot parse value {} of map from inner type {}", value, innerType, e);
             return false;
         }
-        return true;
     }
 
     @Override
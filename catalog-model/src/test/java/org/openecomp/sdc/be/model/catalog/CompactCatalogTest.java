@@ -0,0 +1,72 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.catalog;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactCatalogTest {
+
+    @Test
+    public void repeatedValuesAreEncodedOnce() {
+        CatalogComponent first = buildComponent("vf1", "CERTIFIED", Arrays.asList("vf1", "network"));
+        CatalogComponent second = buildComponent("vf2", "CERTIFIED", Collections.singletonList("network"));
+
+        CompactCatalog catalog = CompactCatalog
+            .of(Arrays.asList(first, second), Arrays.asList(CatalogField.NAME, CatalogField.LIFECYCLE_STATE, CatalogField.TAGS));
+
+        Assert.assertEquals(2, catalog.getCount());
+        Assert.assertEquals(Arrays.asList("CERTIFIED", "vf1", "network"), catalog.getDictionary());
+        Assert.assertEquals(Arrays.asList("vf1", "vf2"), catalog.getColumns().get("name"));
+        Assert.assertEquals(Arrays.asList(0, 0), catalog.getColumns().get("lifecycleState"));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(2)), catalog.getColumns().get("tags"));
+    }
+
+    @Test
+    public void onlySelectedFieldsAreKept() {
+        CompactCatalog catalog = CompactCatalog
+            .of(Collections.singletonList(buildComponent("vf1", null, Collections.emptyList())), Collections.singletonList(CatalogField.NAME));
+
+        Assert.assertEquals(Collections.singleton("name"), catalog.getColumns().keySet());
+        Assert.assertTrue(catalog.getDictionary().isEmpty());
+    }
+
+    @Test
+    public void nullValuesAreNotEncoded() {
+        CompactCatalog catalog = CompactCatalog
+            .of(Collections.singletonList(buildComponent("vf1", null, Collections.emptyList())), Collections.singletonList(CatalogField.LIFECYCLE_STATE));
+
+        List<Object> states = catalog.getColumns().get("lifecycleState");
+        Assert.assertNull(states.get(0));
+        Assert.assertTrue(catalog.getDictionary().isEmpty());
+    }
+
+    private static CatalogComponent buildComponent(String name, String lifecycleState, List<String> tags) {
+        CatalogComponent component = new CatalogComponent();
+        component.setName(name);
+        component.setLifecycleState(lifecycleState);
+        component.setTags(tags);
+        return component;
+    }
+}
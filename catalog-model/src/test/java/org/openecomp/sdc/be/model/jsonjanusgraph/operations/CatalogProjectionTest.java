@@ -0,0 +1,234 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogChangeCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+class CatalogProjectionTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+    private TopologyTemplateOperation topologyTemplateOperation;
+    private CatalogChangeCassandraDao catalogChangeCassandraDao;
+    private CatalogProjection catalogProjection;
+
+    @BeforeEach
+    void setUp() {
+        topologyTemplateOperation = mock(TopologyTemplateOperation.class);
+        catalogChangeCassandraDao = mock(CatalogChangeCassandraDao.class);
+        catalogProjection = new CatalogProjection(topologyTemplateOperation, catalogChangeCassandraDao, now::get);
+        when(catalogChangeCassandraDao.addChange(anyString())).thenReturn(CassandraOperationStatus.OK);
+        when(catalogChangeCassandraDao.getChangesSince(anyLong())).thenReturn(Either.left(Collections.emptySet()));
+    }
+
+    @Test
+    void readsGoToTheGraphUntilTheProjectionIsLoaded() {
+        final List<CatalogComponent> elements = Collections.singletonList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF));
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.left(elements));
+
+        assertFalse(catalogProjection.isLoaded());
+        assertEquals(elements, catalogProjection.getElements(true, null).left().value());
+
+        stubArchive();
+        assertEquals(StorageOperationStatus.OK, catalogProjection.reconcile());
+        assertTrue(catalogProjection.isLoaded());
+        assertEquals(elements, catalogProjection.getElements(true, null).left().value());
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void excludedResourceTypesAreFilteredOut() {
+        final CatalogComponent vf = buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF);
+        final CatalogComponent vfcmt = buildElement("vfcmt1", "invariant2", 1L, ResourceTypeEnum.VFCMT);
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.left(Arrays.asList(vf, vfcmt)));
+        stubArchive();
+        catalogProjection.reconcile();
+
+        final List<CatalogComponent> elements = catalogProjection.getElements(true, Collections.singletonList(ResourceTypeEnum.VFCMT))
+            .left().value();
+
+        assertEquals(Collections.singletonList(vf), elements);
+    }
+
+    @Test
+    void reportedComponentsAreReadAgainUntilTheChangeSettles() {
+        when(topologyTemplateOperation.getElementCatalogData(true, null))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF))));
+        stubArchive();
+        catalogProjection.reconcile();
+        final String version = catalogProjection.getVersion(true).left().value();
+        final CatalogComponent newVersion = buildElement("vf2", "invariant1", 2L, ResourceTypeEnum.VF);
+        when(topologyTemplateOperation.getElementCatalogDataOfComponent(true, "invariant1"))
+            .thenReturn(Either.left(Collections.singletonList(newVersion)));
+        when(topologyTemplateOperation.getElementCatalogDataOfComponent(false, "invariant1")).thenReturn(Either.left(new ArrayList<>()));
+
+        catalogProjection.onComponentChange("invariant1");
+
+        assertEquals(Collections.singletonList("vf2"), uniqueIds(catalogProjection.getElements(true, null).left().value()));
+        assertNotEquals(version, catalogProjection.getVersion(true).left().value());
+        assertEquals(1, catalogProjection.getAppliedChanges());
+        verify(catalogChangeCassandraDao).addChange("invariant1");
+
+        now.addAndGet(CatalogProjection.CHANGE_SETTLE_MILLIS + 1);
+        catalogProjection.getElements(true, null);
+        catalogProjection.getElements(true, null);
+        verify(topologyTemplateOperation, times(3)).getElementCatalogDataOfComponent(true, "invariant1");
+    }
+
+    @Test
+    void reconciliationCountsTheChangesThatWereNotReported() {
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.left(
+            Arrays.asList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF), buildElement("vf2", "invariant2", 1L, ResourceTypeEnum.VF))));
+        stubArchive();
+        catalogProjection.reconcile();
+
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.left(
+            Arrays.asList(buildElement("vf1", "invariant1", 5L, ResourceTypeEnum.VF), buildElement("vf2", "invariant2", 1L, ResourceTypeEnum.VF))));
+        catalogProjection.reconcile();
+
+        assertEquals(2, catalogProjection.getReconciliations());
+        assertEquals(1, catalogProjection.getLastDrift());
+        assertEquals(5L, catalogProjection.getElements(true, null).left().value().stream()
+            .filter(element -> "vf1".equals(element.getUniqueId())).findFirst().get().getLastUpdateDate());
+    }
+
+    @Test
+    void reconciliationDoesNotCountTheChangesOfTheFeedAsDrift() {
+        when(topologyTemplateOperation.getElementCatalogData(true, null))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF))));
+        stubArchive();
+        catalogProjection.reconcile();
+
+        when(topologyTemplateOperation.getElementCatalogData(true, null))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 5L, ResourceTypeEnum.VF))));
+        when(catalogChangeCassandraDao.getChangesSince(anyLong())).thenReturn(Either.left(Set.of("invariant1")));
+        catalogProjection.reconcile();
+
+        assertEquals(0, catalogProjection.getLastDrift());
+    }
+
+    @Test
+    void changesOfTheOtherInstancesAreReadFromTheFeed() {
+        when(topologyTemplateOperation.getElementCatalogData(true, null))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF))));
+        stubArchive();
+        catalogProjection.reconcile();
+        final String version = catalogProjection.getVersion(true).left().value();
+        verify(catalogChangeCassandraDao, never()).getChangesSince(anyLong());
+
+        // changed by another BE instance, the change is not reported to this one
+        when(catalogChangeCassandraDao.getChangesSince(anyLong())).thenReturn(Either.left(Set.of("invariant1")));
+        when(topologyTemplateOperation.getElementCatalogDataOfComponent(true, "invariant1"))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 5L, ResourceTypeEnum.VF))));
+        when(topologyTemplateOperation.getElementCatalogDataOfComponent(false, "invariant1")).thenReturn(Either.left(new ArrayList<>()));
+        now.addAndGet(CatalogProjection.FEED_SCAN_INTERVAL_MILLIS);
+
+        assertNotEquals(version, catalogProjection.getVersion(true).left().value());
+        assertEquals(5L, catalogProjection.getElements(true, null).left().value().get(0).getLastUpdateDate());
+        assertEquals(0, catalogProjection.getReloads());
+        verify(catalogChangeCassandraDao).getChangesSince(1000 - CatalogProjection.FEED_SCAN_OVERLAP_MILLIS);
+        verify(topologyTemplateOperation).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void aScanOlderThanTheFeedKeepsReloadsTheProjection() {
+        when(topologyTemplateOperation.getElementCatalogData(true, null))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF))));
+        stubArchive();
+        catalogProjection.reconcile();
+
+        when(topologyTemplateOperation.getElementCatalogData(true, null))
+            .thenReturn(Either.left(Collections.singletonList(buildElement("vf1", "invariant1", 5L, ResourceTypeEnum.VF))));
+        now.addAndGet(CatalogProjection.FEED_MAX_AGE_MILLIS + 1);
+
+        assertEquals(5L, catalogProjection.getElements(true, null).left().value().get(0).getLastUpdateDate());
+        assertEquals(1, catalogProjection.getReloads());
+        verify(catalogChangeCassandraDao, never()).getChangesSince(anyLong());
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void readsGoToTheGraphWhenTheFeedCantBeScanned() {
+        final List<CatalogComponent> elements = Collections.singletonList(buildElement("vf1", "invariant1", 1L, ResourceTypeEnum.VF));
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.left(elements));
+        stubArchive();
+        catalogProjection.reconcile();
+        when(catalogChangeCassandraDao.getChangesSince(anyLong())).thenReturn(Either.right(CassandraOperationStatus.GENERAL_ERROR));
+        when(topologyTemplateOperation.getElementCatalogVersion(true)).thenReturn(Either.left("digest"));
+        now.addAndGet(CatalogProjection.FEED_SCAN_INTERVAL_MILLIS);
+
+        assertEquals(elements, catalogProjection.getElements(true, null).left().value());
+        assertEquals("digest", catalogProjection.getVersion(true).left().value());
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(true, null);
+    }
+
+    @Test
+    void failedReconciliationKeepsTheProjection() {
+        when(topologyTemplateOperation.getElementCatalogData(true, null)).thenReturn(Either.right(StorageOperationStatus.GENERAL_ERROR));
+
+        assertEquals(StorageOperationStatus.GENERAL_ERROR, catalogProjection.reconcile());
+        assertFalse(catalogProjection.isLoaded());
+    }
+
+    private void stubArchive() {
+        when(topologyTemplateOperation.getElementCatalogData(false, null)).thenReturn(Either.left(new ArrayList<>()));
+    }
+
+    private static List<String> uniqueIds(List<CatalogComponent> elements) {
+        return elements.stream().map(CatalogComponent::getUniqueId).collect(Collectors.toList());
+    }
+
+    private static CatalogComponent buildElement(String uniqueId, String invariantUUID, long lastUpdateDate, ResourceTypeEnum resourceType) {
+        final CatalogComponent element = new CatalogComponent();
+        element.setUniqueId(uniqueId);
+        element.setInvariantUUID(invariantUUID);
+        element.setLastUpdateDate(lastUpdateDate);
+        element.setComponentType(ComponentTypeEnum.RESOURCE);
+        element.setResourceType(resourceType.name());
+        return element;
+    }
+}
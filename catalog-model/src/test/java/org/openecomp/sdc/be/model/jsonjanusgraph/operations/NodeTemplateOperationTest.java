@@ -138,6 +138,22 @@ class NodeTemplateOperationTest extends ModelTestBase {
         buildDataDefinition();
     }
 
+    @Test
+    void deleteComponentInstancesNotInTheContainerLeavesItUnchanged() {
+        final TopologyTemplate container = new TopologyTemplate();
+        container.setUniqueId(COMPONENT_ID);
+        final Map<String, ComponentInstanceDataDefinition> componentInstances = new HashMap<>();
+        componentInstances.put(FROM_INSTANCE_ID, new ComponentInstanceDataDefinition());
+        container.setComponentInstances(componentInstances);
+
+        final Either<TopologyTemplate, StorageOperationStatus> result = operation
+            .deleteComponentInstancesFromTopologyTemplate(container, List.of(FROM_INSTANCE_ID, TO_INSTANCE_ID));
+
+        assertTrue(result.isRight());
+        assertEquals(StorageOperationStatus.NOT_FOUND, result.right().value());
+        assertTrue(container.getComponentInstances().containsKey(FROM_INSTANCE_ID));
+    }
+
     private static void buildDataDefinition() {
         buildCapabiltyDataDefinition();
         buildRequirementDataDefinition();
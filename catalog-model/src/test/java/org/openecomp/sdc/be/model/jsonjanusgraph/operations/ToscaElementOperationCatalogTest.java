@@ -43,6 +43,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -120,4 +121,18 @@ public class ToscaElementOperationCatalogTest {
         assertEquals(UPDATER_ID, componentList.get(0).getLastUpdaterUserId());
     }
 
+    @Test
+    public void catalogVersionChangesWithTheMetadataOfTheElements() {
+        final String vertexJson = "{\"lifecycleState\":\"CERTIFIED\",\"componentType\":\"RESOURCE\",\"lastUpdateDate\":1496119811038,\"version\":\"1.0\",\"name\":\"Cloud\",\"uniqueId\":\"9674e7e1-bc1a-41fe-b503-fbe996801475\",\"resourceType\":\"VFC\"}";
+        when(property.value()).thenReturn(vertexJson);
+        String version = toscaOperation.getElementCatalogVersion(true).left().value();
+
+        when(janusGraphDao.getCatalogOrArchiveVerticies(true)).thenReturn(Either.left(vertexList.iterator()));
+        assertEquals(version, toscaOperation.getElementCatalogVersion(true).left().value());
+
+        when(property.value()).thenReturn(vertexJson.replace("1496119811038", "1496119899999"));
+        when(janusGraphDao.getCatalogOrArchiveVerticies(true)).thenReturn(Either.left(vertexList.iterator()));
+        assertNotEquals(version, toscaOperation.getElementCatalogVersion(true).left().value());
+    }
+
 }
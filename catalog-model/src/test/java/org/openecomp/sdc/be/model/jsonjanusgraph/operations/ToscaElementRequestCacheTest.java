@@ -0,0 +1,197 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.category.CategoryDefinition;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
+
+public class ToscaElementRequestCacheTest {
+
+    private static final String COMPONENT_ID = "componentId";
+
+    @Mock
+    private HealingJanusGraphDao janusGraphDao;
+    @Mock
+    private JanusGraphTransaction transaction;
+
+    private ToscaElementRequestCache cache;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(janusGraphDao.getCurrentThreadTransaction()).thenReturn(Optional.of(transaction));
+        cache = new ToscaElementRequestCache(janusGraphDao);
+        cache.beginRequest();
+    }
+
+    @After
+    public void tearDown() {
+        cache.endRequest("test");
+    }
+
+    @Test
+    public void servesSameViewWithNewComponentInstances() {
+        final ComponentParametersView view = new ComponentParametersView();
+        cache.put(COMPONENT_ID, view, buildToscaElement());
+
+        final Optional<Component> first = cache.get(COMPONENT_ID, view);
+        final Optional<Component> second = cache.get(COMPONENT_ID, new ComponentParametersView());
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(COMPONENT_ID, first.get().getUniqueId());
+        assertNotSame(first.get(), second.get());
+    }
+
+    @Test
+    public void servedComponentsDoNotShareTheirCollections() {
+        final ToscaElement toscaElement = buildToscaElement();
+        cache.put(COMPONENT_ID, new ComponentParametersView(), toscaElement);
+        final Component loaded = ToscaElementRequestCache.convert(toscaElement);
+        loaded.getCategories().get(0).setName("changed by the loading request");
+        loaded.getAllVersions().clear();
+
+        final Component first = cache.get(COMPONENT_ID, new ComponentParametersView()).get();
+        first.getDeploymentArtifacts().clear();
+        first.getCategories().get(0).setName("changed");
+        final Component second = cache.get(COMPONENT_ID, new ComponentParametersView()).get();
+
+        assertEquals(1, second.getDeploymentArtifacts().size());
+        assertTrue(second.getDeploymentArtifacts().containsKey("heat"));
+        assertEquals("category", second.getCategories().get(0).getName());
+        assertNotSame(first.getCategories(), second.getCategories());
+        assertEquals("1.0", second.getAllVersions().get(COMPONENT_ID));
+    }
+
+    @Test
+    public void nothingIsCachedOutsideARequestScope() {
+        cache.endRequest();
+        cache.put(COMPONENT_ID, new ComponentParametersView(), buildToscaElement());
+
+        assertTrue(cache.beginRequest());
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+        assertFalse(cache.beginRequest());
+    }
+
+    @Test
+    public void narrowerViewIsFilteredFromWiderEntry() {
+        cache.put(COMPONENT_ID, new ComponentParametersView(), buildToscaElement());
+        final ComponentParametersView narrowView = new ComponentParametersView();
+        narrowView.setIgnoreArtifacts(true);
+
+        final Optional<Component> component = cache.get(COMPONENT_ID, narrowView);
+
+        assertTrue(component.isPresent());
+        assertNull(component.get().getDeploymentArtifacts());
+    }
+
+    @Test
+    public void widerViewIsNotServedFromNarrowerEntry() {
+        final ComponentParametersView narrowView = new ComponentParametersView();
+        narrowView.setIgnoreArtifacts(true);
+        cache.put(COMPONENT_ID, narrowView, buildToscaElement());
+
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+    }
+
+    @Test
+    public void entriesAreDroppedOnModifications() {
+        cache.put(COMPONENT_ID, new ComponentParametersView(), buildToscaElement());
+        when(transaction.hasModifications()).thenReturn(true);
+
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+
+        when(transaction.hasModifications()).thenReturn(false);
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+    }
+
+    @Test
+    public void entriesAreDroppedWhenTransactionChanges() {
+        cache.put(COMPONENT_ID, new ComponentParametersView(), buildToscaElement());
+        final JanusGraphTransaction newTransaction = mock(JanusGraphTransaction.class);
+        when(janusGraphDao.getCurrentThreadTransaction()).thenReturn(Optional.of(newTransaction));
+
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+    }
+
+    @Test
+    public void nothingIsCachedWithoutTransaction() {
+        when(janusGraphDao.getCurrentThreadTransaction()).thenReturn(Optional.empty());
+        cache.put(COMPONENT_ID, new ComponentParametersView(), buildToscaElement());
+
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+    }
+
+    @Test
+    public void avoidedLoadsAreCountedByEndpoint() {
+        cache.put(COMPONENT_ID, new ComponentParametersView(), buildToscaElement());
+        cache.get(COMPONENT_ID, new ComponentParametersView());
+        cache.get(COMPONENT_ID, new ComponentParametersView());
+
+        cache.endRequest("ComponentServlet.getComponent");
+
+        assertEquals(Long.valueOf(2), cache.getAvoidedLoadsByEndpoint().get("ComponentServlet.getComponent"));
+        assertFalse(cache.get(COMPONENT_ID, new ComponentParametersView()).isPresent());
+    }
+
+    private ToscaElement buildToscaElement() {
+        final TopologyTemplate toscaElement = new TopologyTemplate();
+        toscaElement.setComponentType(ComponentTypeEnum.RESOURCE);
+        toscaElement.setMetadata(new HashMap<>());
+        toscaElement.getMetadata().put(JsonPresentationFields.COMPONENT_TYPE.getPresentation(), "RESOURCE");
+        toscaElement.getMetadata().put(JsonPresentationFields.UNIQUE_ID.getPresentation(), COMPONENT_ID);
+        final HashMap<String, ArtifactDataDefinition> deploymentArtifacts = new HashMap<>();
+        deploymentArtifacts.put("heat", new ArtifactDataDefinition());
+        toscaElement.setDeploymentArtifacts(deploymentArtifacts);
+        final CategoryDefinition category = new CategoryDefinition();
+        category.setName("category");
+        toscaElement.setCategories(new ArrayList<>(List.of(category)));
+        final HashMap<String, String> allVersions = new HashMap<>();
+        allVersions.put(COMPONENT_ID, "1.0");
+        toscaElement.setAllVersions(allVersions);
+        return toscaElement;
+    }
+}
@@ -42,6 +42,7 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +56,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -95,6 +97,7 @@ import org.openecomp.sdc.be.model.ComponentInstanceOutput;
 import org.openecomp.sdc.be.model.ComponentInstanceProperty;
 import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
+import org.openecomp.sdc.be.model.DistributionStatusEnum;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.OutputDefinition;
 import org.openecomp.sdc.be.model.PolicyDefinition;
@@ -137,6 +140,12 @@ public class ToscaOperationFacadeTest {
     @Mock
     private NodeTemplateOperation nodeTemplateOperationMock;
 
+    @Mock
+    private ToscaElementRequestCache toscaElementRequestCacheMock;
+
+    @Mock
+    private CatalogProjection catalogProjectionMock;
+
     @Before
     public void setUp() throws Exception {
         testInstance = new ToscaOperationFacade();
@@ -405,6 +414,19 @@ public class ToscaOperationFacadeTest {
             .thenReturn(Either.left(toscaElement));
         result = testInstance.getToscaElement(id, JsonParseFlagEnum.ParseAll);
         assertTrue(result.isLeft());
+        verify(toscaElementRequestCacheMock).put(eq(id), any(ComponentParametersView.class), eq(toscaElement));
+    }
+
+    @Test
+    public void testGetToscaElementFromRequestCache() {
+        String id = "id";
+        Resource cachedResource = new Resource();
+        ComponentParametersView filters = new ComponentParametersView();
+        when(toscaElementRequestCacheMock.get(id, filters)).thenReturn(Optional.of(cachedResource));
+        Either<Component, StorageOperationStatus> result = testInstance.getToscaElement(id, filters);
+        assertTrue(result.isLeft());
+        assertSame(cachedResource, result.left().value());
+        verify(janusGraphDaoMock, never()).getVertexById(eq(id), any(JsonParseFlagEnum.class));
     }
 
     @Test
@@ -420,6 +442,49 @@ public class ToscaOperationFacadeTest {
         assertEquals(StorageOperationStatus.OK, result);
     }
 
+    @Test
+    public void testUpdateToscaElementReportsTheCatalogChange() {
+        Resource resource = new Resource();
+        resource.setUniqueId("id");
+        resource.setInvariantUUID("invariantUUID");
+        GraphVertex graphVertex = getTopologyTemplateVertex();
+        ToscaElement toscaElement = getToscaElementForTest();
+        toscaElement.setMetadataValue(JsonPresentationFields.INVARIANT_UUID, "invariantUUID");
+        when(janusGraphDaoMock.getVertexById("id", JsonParseFlagEnum.ParseAll)).thenReturn(Either.left(graphVertex));
+        when(topologyTemplateOperationMock.updateToscaElement(any(ToscaElement.class), eq(graphVertex), any(ComponentParametersView.class)))
+            .thenReturn(Either.left(toscaElement));
+
+        assertTrue(testInstance.updateToscaElement(resource).isLeft());
+        verify(catalogProjectionMock).onComponentChange("invariantUUID");
+    }
+
+    @Test
+    public void testUpdateDistributionStatusReportsTheCatalogChange() {
+        Service service = new Service();
+        service.setUniqueId("id");
+        service.setInvariantUUID("invariantUUID");
+        User user = new User();
+        GraphVertex graphVertex = getTopologyTemplateVertex();
+        graphVertex.setJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE, 5L);
+        when(topologyTemplateOperationMock.updateDistributionStatus("id", user, DistributionStatusEnum.DISTRIBUTED))
+            .thenReturn(Either.left(graphVertex));
+
+        assertTrue(testInstance.updateDistributionStatus(service, user, DistributionStatusEnum.DISTRIBUTED).isLeft());
+        verify(catalogProjectionMock).onComponentChange("invariantUUID");
+    }
+
+    @Test
+    public void testFailedUpdateDistributionStatusDoesNotReportTheCatalogChange() {
+        Service service = new Service();
+        service.setUniqueId("id");
+        User user = new User();
+        when(topologyTemplateOperationMock.updateDistributionStatus("id", user, DistributionStatusEnum.DISTRIBUTED))
+            .thenReturn(Either.right(StorageOperationStatus.NOT_FOUND));
+
+        assertTrue(testInstance.updateDistributionStatus(service, user, DistributionStatusEnum.DISTRIBUTED).isRight());
+        verify(catalogProjectionMock, never()).onComponentChange(any());
+    }
+
     @Test
     public void testDelToscaComponent() {
         Either<Component, StorageOperationStatus> result;
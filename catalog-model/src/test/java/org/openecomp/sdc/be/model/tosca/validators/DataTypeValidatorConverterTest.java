@@ -0,0 +1,137 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.tosca.validators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonElement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.Test;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+import org.openecomp.sdc.be.datatypes.elements.SchemaDefinition;
+import org.openecomp.sdc.be.model.DataTypeDefinition;
+import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
+
+public class DataTypeValidatorConverterTest {
+
+    private final DataTypeValidatorConverter dataTypeValidatorConverter = DataTypeValidatorConverter.getInstance();
+
+    @Test
+    public void compiledDataTypeFlattensParentProperties() {
+        final DataTypeDefinition root = buildDataType("tosca.datatypes.Root", null, Collections.emptyList());
+        final DataTypeDefinition parent = buildDataType("parent", root, List.of(buildProperty("name", "string", null)));
+        final DataTypeDefinition child = buildDataType("child", parent,
+            new ArrayList<>(List.of(buildProperty("ports", "list", "integer"))));
+
+        final CompiledDataType compiledDataType = dataTypeValidatorConverter.getCompiledDataType(child);
+
+        assertNull(compiledDataType.getScalarType());
+        assertEquals(2, compiledDataType.getProperties().size());
+        assertEquals(ToscaPropertyType.STRING, compiledDataType.getProperty("name").getPropertyType());
+        assertEquals("integer", compiledDataType.getProperty("ports").getInnerType());
+        assertSame(compiledDataType, dataTypeValidatorConverter.getCompiledDataType(child));
+    }
+
+    @Test
+    public void compiledDataTypeResolvesScalarParent() {
+        final DataTypeDefinition integer = buildDataType("integer", null, null);
+        final DataTypeDefinition myInteger = buildDataType("myinteger", integer, null);
+
+        assertEquals(ToscaPropertyType.INTEGER, dataTypeValidatorConverter.getCompiledDataType(myInteger).getScalarType());
+        assertTrue(dataTypeValidatorConverter.isValid("5", myInteger, Collections.emptyMap()));
+        assertFalse(dataTypeValidatorConverter.isValid("\"five\"", myInteger, Collections.emptyMap()));
+    }
+
+    @Test
+    public void compiledDataTypeIsRecompiledWhenDefinitionChanges() {
+        final List<PropertyDefinition> properties = new ArrayList<>(List.of(buildProperty("name", "string", null)));
+        final DataTypeDefinition dataType = buildDataType("person", null, properties);
+        final Map<String, DataTypeDefinition> allDataTypes = new HashMap<>();
+
+        assertFalse(dataTypeValidatorConverter.validateAndUpdate("{\"age\": 5}", dataType, allDataTypes).getRight());
+        final CompiledDataType before = dataTypeValidatorConverter.getCompiledDataType(dataType);
+
+        properties.add(buildProperty("age", "integer", null));
+
+        final ImmutablePair<JsonElement, Boolean> result = dataTypeValidatorConverter.validateAndUpdate("{\"age\": 5}", dataType, allDataTypes);
+        assertTrue(result.getRight());
+        assertEquals("{\"age\":5}", result.getLeft().toString());
+        assertNotSame(before, dataTypeValidatorConverter.getCompiledDataType(dataType));
+    }
+
+    @Test
+    public void invalidateDropsCompiledDataTypes() {
+        final DataTypeDefinition dataType = buildDataType("city", null, List.of(buildProperty("address", "string", null)));
+        final CompiledDataType before = dataTypeValidatorConverter.getCompiledDataType(dataType);
+
+        dataTypeValidatorConverter.invalidateCompiledDataTypes();
+
+        final CompiledDataType after = dataTypeValidatorConverter.getCompiledDataType(dataType);
+        assertNotNull(after);
+        assertNotSame(before, after);
+    }
+
+    @Test
+    public void listPropertyWithoutEntrySchemaTypeIsInvalid() {
+        final PropertyDefinition ports = buildProperty("ports", "list", null);
+        final SchemaDefinition schema = new SchemaDefinition();
+        schema.setProperty(new PropertyDataDefinition());
+        ports.setSchema(schema);
+        final DataTypeDefinition dataType = buildDataType("server", null, List.of(ports));
+
+        assertTrue(dataTypeValidatorConverter.getCompiledDataType(dataType).getProperty("ports").isMissingInnerType());
+        assertFalse(dataTypeValidatorConverter.isValid("{\"ports\": [1]}", dataType, Collections.emptyMap()));
+    }
+
+    private DataTypeDefinition buildDataType(final String name, final DataTypeDefinition derivedFrom, final List<PropertyDefinition> properties) {
+        final DataTypeDefinition dataTypeDefinition = new DataTypeDefinition();
+        dataTypeDefinition.setName(name);
+        dataTypeDefinition.setDerivedFrom(derivedFrom);
+        dataTypeDefinition.setProperties(properties);
+        return dataTypeDefinition;
+    }
+
+    private PropertyDefinition buildProperty(final String name, final String type, final String entrySchemaType) {
+        final PropertyDefinition propertyDefinition = new PropertyDefinition();
+        propertyDefinition.setName(name);
+        propertyDefinition.setType(type);
+        if (entrySchemaType != null) {
+            final PropertyDataDefinition entrySchema = new PropertyDataDefinition();
+            entrySchema.setType(entrySchemaType);
+            final SchemaDefinition schemaDefinition = new SchemaDefinition();
+            schemaDefinition.setProperty(entrySchema);
+            propertyDefinition.setSchema(schemaDefinition);
+        }
+        return propertyDefinition;
+    }
+}
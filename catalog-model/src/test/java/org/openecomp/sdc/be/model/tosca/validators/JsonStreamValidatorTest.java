@@ -0,0 +1,86 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.tosca.validators;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonSyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamValidatorTest {
+
+    @Test
+    void isValidArrayReadsElementsAsStrings() {
+        final List<String> elements = new ArrayList<>();
+        assertTrue(JsonStreamValidator.isValidArray("[\"a b\", 1.50, true, null, test, {\"key\": 1}]", (key, reader) -> {
+            elements.add(JsonStreamValidator.nextValueAsString(reader));
+            return true;
+        }));
+        assertEquals(Arrays.asList("a b", "1.50", "true", null, "test", "{\"key\":1}"), elements);
+    }
+
+    @Test
+    void isValidArrayStopsOnFirstInvalidElement() {
+        final List<String> elements = new ArrayList<>();
+        assertFalse(JsonStreamValidator.isValidArray("[1, 2, 3]", (key, reader) -> {
+            final String element = JsonStreamValidator.nextValueAsString(reader);
+            elements.add(element);
+            return !"2".equals(element);
+        }));
+        assertEquals(Arrays.asList("1", "2"), elements);
+    }
+
+    @Test
+    void isValidArrayRejectsNonArrayAndMalformedValues() {
+        assertFalse(JsonStreamValidator.isValidArray("{\"key\": 1}", (key, reader) -> true));
+        assertThrows(JsonSyntaxException.class, () -> JsonStreamValidator.isValidArray("[1, 2", (key, reader) -> {
+            reader.skipValue();
+            return true;
+        }));
+        assertThrows(JsonSyntaxException.class, () -> JsonStreamValidator.isValidArray("[1] [2]", (key, reader) -> {
+            reader.skipValue();
+            return true;
+        }));
+    }
+
+    @Test
+    void isValidObjectTakesLastValueOfDuplicatedKey() {
+        final JsonStreamValidator.ElementValidator notOne = (key, reader) -> !"1".equals(JsonStreamValidator.nextValueAsString(reader));
+        assertTrue(JsonStreamValidator.isValidObject("{\"a\": 1, \"a\": 2}", notOne));
+        assertFalse(JsonStreamValidator.isValidObject("{\"a\": 2, \"a\": 1}", notOne));
+        assertFalse(JsonStreamValidator.isValidObject("[1]", notOne));
+    }
+
+    @Test
+    void validateDocument() {
+        assertDoesNotThrow(() -> JsonStreamValidator.validateDocument(" "));
+        assertDoesNotThrow(() -> JsonStreamValidator.validateDocument("{\"a\": [1, {\"b\": null}]}"));
+        assertThrows(JsonSyntaxException.class, () -> JsonStreamValidator.validateDocument("{\"a\": }"));
+        assertThrows(JsonSyntaxException.class, () -> JsonStreamValidator.validateDocument("{\"a\""));
+    }
+}
@@ -80,6 +80,15 @@ public class Configuration extends BasicConfiguration {
     private Long janusGraphReconnectIntervalInSeconds;
     private List<String> healthStatusExclude;
     private Long janusGraphHealthCheckReadTimeout;
+    private Long janusGraphSlowOperationThresholdInMillis;
+    /**
+     * The graph modifications of GET requests are rolled back instead of being committed.
+     */
+    private boolean janusGraphReadOnlyGetRequests;
+    /**
+     * The transactions of GET requests that did not modify the graph are closed after the response body is written.
+     */
+    private boolean releaseReadOnlyTransactionsAfterResponse;
     private Long uebHealthCheckReconnectIntervalInSeconds;
     private Long uebHealthCheckReadTimeout;
     private List<Map<String, Map<String, String>>> defaultImports;
@@ -158,6 +167,10 @@ public class Configuration extends BasicConfiguration {
         return janusGraphReconnectIntervalInSeconds == null ? defaultVal : janusGraphReconnectIntervalInSeconds;
     }
 
+    public Long getJanusGraphSlowOperationThresholdInMillis(long defaultVal) {
+        return janusGraphSlowOperationThresholdInMillis == null ? defaultVal : janusGraphSlowOperationThresholdInMillis;
+    }
+
     public Map<String, Set<String>> getExcludedPolicyTypesMapping() {
         return safeGetCapsInsensitiveMap(excludedPolicyTypesMapping);
     }
@@ -0,0 +1,115 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2021 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.csar.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Calculates the digests of an artifact for any number of algorithms in a single pass over its content.
+ */
+public final class ArtifactDigestCalculator {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ArtifactDigestCalculator() {
+    }
+
+    /**
+     * Reads the given stream to its end, updating the digest of each algorithm with every chunk read.
+     *
+     * @param artifactStream the artifact content, not closed
+     * @param algorithms     the digest algorithms
+     * @return the digests of the artifact
+     * @throws IOException when the stream could not be read
+     */
+    public static ArtifactDigests calculate(final InputStream artifactStream, final Set<DigestAlgorithm> algorithms) throws IOException {
+        final Map<DigestAlgorithm, MessageDigest> messageDigests = new EnumMap<>(DigestAlgorithm.class);
+        for (final DigestAlgorithm algorithm : algorithms) {
+            messageDigests.put(algorithm, createMessageDigest(algorithm));
+        }
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = artifactStream.read(buffer)) != -1) {
+            for (final MessageDigest messageDigest : messageDigests.values()) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        final Map<DigestAlgorithm, byte[]> digests = new EnumMap<>(DigestAlgorithm.class);
+        messageDigests.forEach((algorithm, messageDigest) -> digests.put(algorithm, messageDigest.digest()));
+        return new ArtifactDigests(digests);
+    }
+
+    /**
+     * Calculates the digests of an artifact already in memory.
+     *
+     * @param artifact   the artifact content
+     * @param algorithms the digest algorithms
+     * @return the digests of the artifact
+     */
+    public static ArtifactDigests calculate(final byte[] artifact, final Set<DigestAlgorithm> algorithms) {
+        try {
+            return calculate(new ByteArrayInputStream(artifact), algorithms);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Calculates the SDC checksum of an artifact already in memory.
+     *
+     * @param artifact the artifact content
+     * @return the Base64 encoding of the hexadecimal MD5 digest of the artifact
+     */
+    public static String calculateSdcChecksum(final byte[] artifact) {
+        return calculate(artifact, EnumSet.of(DigestAlgorithm.MD5)).getSdcChecksum();
+    }
+
+    /**
+     * Calculates the SDC checksum of the remaining bytes of a buffer, without copying them or moving the buffer position.
+     *
+     * @param artifact the artifact content
+     * @return the Base64 encoding of the hexadecimal MD5 digest of the artifact
+     */
+    public static String calculateSdcChecksum(final ByteBuffer artifact) {
+        final MessageDigest messageDigest = createMessageDigest(DigestAlgorithm.MD5);
+        messageDigest.update(artifact.duplicate());
+        final Map<DigestAlgorithm, byte[]> digests = new EnumMap<>(DigestAlgorithm.class);
+        digests.put(DigestAlgorithm.MD5, messageDigest.digest());
+        return new ArtifactDigests(digests).getSdcChecksum();
+    }
+
+    private static MessageDigest createMessageDigest(final DigestAlgorithm algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm.getAlgorithmName());
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support MD5 and SHA-256, and the JDK providers support SHA-384 and SHA-512
+            throw new IllegalStateException(String.format("Digest algorithm '%s' is not available", algorithm.getAlgorithmName()), e);
+        }
+    }
+}
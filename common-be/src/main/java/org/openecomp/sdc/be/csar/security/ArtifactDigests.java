@@ -0,0 +1,66 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2021 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.csar.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The digests of an artifact, as calculated by {@link ArtifactDigestCalculator}.
+ */
+public class ArtifactDigests {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private final Map<DigestAlgorithm, byte[]> digests;
+
+    ArtifactDigests(final Map<DigestAlgorithm, byte[]> digests) {
+        this.digests = digests;
+    }
+
+    public Optional<byte[]> getDigest(final DigestAlgorithm algorithm) {
+        return Optional.ofNullable(digests.get(algorithm)).map(byte[]::clone);
+    }
+
+    /**
+     * @return the lower case hexadecimal digest of the given algorithm, as in a manifest 'Hash' entry
+     * @throws IllegalArgumentException when the digest of the algorithm was not calculated
+     */
+    public String getHexDigest(final DigestAlgorithm algorithm) {
+        final byte[] digest = digests.get(algorithm);
+        if (digest == null) {
+            throw new IllegalArgumentException(String.format("The %s digest was not calculated", algorithm.getAlgorithmName()));
+        }
+        final char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * @return the SDC artifact checksum: the Base64 encoding of the hexadecimal MD5 digest
+     * @throws IllegalArgumentException when the MD5 digest was not calculated
+     */
+    public String getSdcChecksum() {
+        return Base64.getEncoder().encodeToString(getHexDigest(DigestAlgorithm.MD5).getBytes(StandardCharsets.UTF_8));
+    }
+}
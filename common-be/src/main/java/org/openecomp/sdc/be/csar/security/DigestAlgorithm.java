@@ -0,0 +1,53 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2021 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.csar.security;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The digest algorithms of the artifact checksums: MD5 for the SDC artifact checksum and the SHA-2 algorithms of the ETSI SOL004 manifest
+ * source hashes.
+ */
+public enum DigestAlgorithm {
+    MD5("MD5"),
+    SHA_256("SHA-256"),
+    SHA_384("SHA-384"),
+    SHA_512("SHA-512");
+
+    private final String algorithmName;
+
+    DigestAlgorithm(final String algorithmName) {
+        this.algorithmName = algorithmName;
+    }
+
+    /**
+     * Finds the algorithm of the given name, as in a manifest 'Algorithm' entry, ignoring case.
+     *
+     * @param algorithmName the algorithm name
+     * @return the algorithm, if supported
+     */
+    public static Optional<DigestAlgorithm> findByName(final String algorithmName) {
+        return Arrays.stream(values()).filter(algorithm -> algorithm.algorithmName.equalsIgnoreCase(algorithmName)).findFirst();
+    }
+
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+}
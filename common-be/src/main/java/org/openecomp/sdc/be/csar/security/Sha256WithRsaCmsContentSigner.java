@@ -37,6 +37,8 @@ import org.bouncycastle.cms.jcajce.JcaSignerInfoGeneratorBuilder;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
 import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.DigestCalculatorProvider;
+import org.bouncycastle.operator.OperatorCreationException;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
 import org.openecomp.sdc.be.csar.security.api.CmsContentSigner;
@@ -46,6 +48,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class Sha256WithRsaCmsContentSigner implements CmsContentSigner {
 
+    // thread safe, unlike the content signer which holds the signature state of a single signing
+    private volatile DigestCalculatorProvider digestCalculatorProvider;
+
     @Override
     public byte[] signData(final byte[] data, final Certificate signingCertificate, final Key signingKey) throws CmsSignatureException {
         final CMSTypedData cmsData = new CMSProcessableByteArray(data);
@@ -55,8 +60,7 @@ public class Sha256WithRsaCmsContentSigner implements CmsContentSigner {
                 .build((PrivateKey) signingKey);
             final CMSSignedDataGenerator cmsGenerator = new CMSSignedDataGenerator();
             cmsGenerator.addSignerInfoGenerator(
-                new JcaSignerInfoGeneratorBuilder(new JcaDigestCalculatorProviderBuilder().setProvider(BouncyCastleProvider.PROVIDER_NAME).build())
-                    .build(contentSigner, (X509Certificate) signingCertificate));
+                new JcaSignerInfoGeneratorBuilder(getDigestCalculatorProvider()).build(contentSigner, (X509Certificate) signingCertificate));
             cmsGenerator.addCertificates(certStore);
             final CMSSignedData cms = cmsGenerator.generate(cmsData, false);
             return cms.getEncoded();
@@ -77,6 +81,13 @@ public class Sha256WithRsaCmsContentSigner implements CmsContentSigner {
         return sw.toString();
     }
 
+    private DigestCalculatorProvider getDigestCalculatorProvider() throws OperatorCreationException {
+        if (digestCalculatorProvider == null) {
+            digestCalculatorProvider = new JcaDigestCalculatorProviderBuilder().setProvider(BouncyCastleProvider.PROVIDER_NAME).build();
+        }
+        return digestCalculatorProvider;
+    }
+
     private JcaCertStore createCertificateStore(final Certificate signingCertificate) throws CmsSignatureException {
         try {
             return new JcaCertStore(Collections.singletonList(signingCertificate));
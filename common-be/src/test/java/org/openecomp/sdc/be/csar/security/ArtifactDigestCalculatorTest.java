@@ -0,0 +1,78 @@
+/*
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2021 Nordix Foundation
+ *  ================================================================================
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *  ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.csar.security;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ArtifactDigestCalculatorTest {
+
+    private static final byte[] ARTIFACT = "abc".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void calculateAllAlgorithmsInOnePassTest() throws IOException {
+        final ArtifactDigests artifactDigests = ArtifactDigestCalculator
+            .calculate(new ByteArrayInputStream(ARTIFACT), EnumSet.allOf(DigestAlgorithm.class));
+        assertThat(artifactDigests.getHexDigest(DigestAlgorithm.MD5), is("900150983cd24fb0d6963f7d28e17f72"));
+        assertThat(artifactDigests.getHexDigest(DigestAlgorithm.SHA_256), is("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"));
+        assertThat(artifactDigests.getHexDigest(DigestAlgorithm.SHA_384),
+            is("cb00753f45a35e8bb5a03d699ac65007272c32ab0eded1631a8b605a43ff5bed8086072ba1e7cc2358baeca134c825a7"));
+        assertThat(artifactDigests.getHexDigest(DigestAlgorithm.SHA_512),
+            is("ddaf35a193617abacc417349ae20413112e6fa4e89a97ea20a9eeee64b55d39a2192992a274fc1a836ba3c23a3feebbd454d4423643ce80e2a9ac94fa54ca49f"));
+    }
+
+    @Test
+    void sdcChecksumTest() {
+        final ArtifactDigests artifactDigests = ArtifactDigestCalculator.calculate(ARTIFACT, EnumSet.of(DigestAlgorithm.MD5));
+        assertThat(artifactDigests.getSdcChecksum(), is("OTAwMTUwOTgzY2QyNGZiMGQ2OTYzZjdkMjhlMTdmNzI="));
+        assertThat(ArtifactDigestCalculator.calculateSdcChecksum(ARTIFACT), is("OTAwMTUwOTgzY2QyNGZiMGQ2OTYzZjdkMjhlMTdmNzI="));
+    }
+
+    @Test
+    void sdcChecksumOfBufferTest() {
+        final ByteBuffer buffer = ByteBuffer.wrap("--abc--".getBytes(StandardCharsets.UTF_8), 2, ARTIFACT.length);
+        assertThat(ArtifactDigestCalculator.calculateSdcChecksum(buffer), is("OTAwMTUwOTgzY2QyNGZiMGQ2OTYzZjdkMjhlMTdmNzI="));
+        assertThat(buffer.position(), is(2));
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(ARTIFACT.length).put(ARTIFACT);
+        directBuffer.flip();
+        assertThat(ArtifactDigestCalculator.calculateSdcChecksum(directBuffer), is("OTAwMTUwOTgzY2QyNGZiMGQ2OTYzZjdkMjhlMTdmNzI="));
+    }
+
+    @Test
+    void digestNotCalculatedTest() {
+        final ArtifactDigests artifactDigests = ArtifactDigestCalculator.calculate(ARTIFACT, EnumSet.of(DigestAlgorithm.SHA_256));
+        assertThat(artifactDigests.getDigest(DigestAlgorithm.MD5).isPresent(), is(false));
+        assertThrows(IllegalArgumentException.class, artifactDigests::getSdcChecksum);
+    }
+
+    @Test
+    void findByNameTest() {
+        assertThat(DigestAlgorithm.findByName("sha-256"), is(Optional.of(DigestAlgorithm.SHA_256)));
+        assertThat(DigestAlgorithm.findByName("SHA-abc"), is(Optional.empty()));
+    }
+}
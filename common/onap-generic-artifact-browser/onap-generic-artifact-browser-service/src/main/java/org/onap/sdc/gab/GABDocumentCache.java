@@ -0,0 +1,92 @@
+/*
+ * ============LICENSE_START=======================================================
+ * GAB
+ * ================================================================================
+ * Copyright (C) 2019 Nokia Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.sdc.gab;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.io.IOUtils;
+import org.onap.sdc.gab.model.GABQuery;
+import org.onap.sdc.gab.model.GABQuery.GABQueryType;
+import org.onap.sdc.gab.yaml.IndexedYamlDocuments;
+
+/**
+ * Parsed yaml documents of the queries, so that the queries the UI sends for the same artifact do not parse it again. Contents are keyed
+ * by their checksum, files by their path. The cache is bounded by the size of the documents it holds.
+ */
+public class GABDocumentCache {
+
+    /**
+     * Chars of json documents kept in the cache, counting the values they can index.
+     */
+    static final long DEFAULT_MAX_WEIGHT = 32L * 1024 * 1024;
+    private final Cache<String, IndexedYamlDocuments> documents;
+
+    public GABDocumentCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    GABDocumentCache(long maxWeight) {
+        documents = CacheBuilder.newBuilder().maximumWeight(maxWeight)
+            .weigher((String key, IndexedYamlDocuments value) -> (int) Math.min(Integer.MAX_VALUE, Math.max(1, value.getWeight()))).build();
+    }
+
+    /**
+     * Gets the parsed documents of a query.
+     *
+     * @param gabQuery the query
+     * @return the documents of the query file or content
+     * @throws IOException Means that yaml file has invalid content.
+     */
+    public IndexedYamlDocuments get(GABQuery gabQuery) throws IOException {
+        try {
+            return documents.get(getKey(gabQuery), () -> load(gabQuery));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    long size() {
+        return documents.size();
+    }
+
+    private static String getKey(GABQuery gabQuery) {
+        return gabQuery.getType() == GABQueryType.PATH ? "path:" + gabQuery.getDocument()
+            : "sha256:" + Hashing.sha256().hashString(gabQuery.getDocument(), StandardCharsets.UTF_8);
+    }
+
+    private IndexedYamlDocuments load(GABQuery gabQuery) throws IOException {
+        try (InputStream inputStream = gabQuery.getType() == GABQueryType.PATH ? getClass().getClassLoader()
+            .getResourceAsStream(gabQuery.getDocument()) : IOUtils.toInputStream(gabQuery.getDocument(), StandardCharsets.UTF_8)) {
+            if (Objects.isNull(inputStream) || inputStream.available() <= 0) {
+                return IndexedYamlDocuments.EMPTY;
+            }
+            return IndexedYamlDocuments.parse(inputStream);
+        }
+    }
+}
@@ -21,21 +21,22 @@ package org.onap.sdc.gab;
 
 import java.io.IOException;
 import org.onap.sdc.gab.model.GABQuery;
-import org.onap.sdc.gab.model.GABQuery.GABQueryType;
 import org.onap.sdc.gab.model.GABResults;
 import org.onap.sdc.gab.yaml.GABYamlParser;
-import org.onap.sdc.gab.yaml.YamlParser;
 
 public class GABServiceImpl implements GABService {
 
-    public GABResults searchFor(GABQuery gabQuery) throws IOException {
-        try (GABYamlParser gabYamlParser = new GABYamlParser(new YamlParser())) {
-            return parse(gabQuery, gabYamlParser).filter(gabQuery.getFields()).collect();
-        }
+    private final GABDocumentCache documentCache;
+
+    public GABServiceImpl() {
+        this(new GABDocumentCache());
     }
 
-    private GABYamlParser parse(GABQuery gabQuery, GABYamlParser gabYamlParser) {
-        return gabQuery.getType() == GABQueryType.PATH ? gabYamlParser.parseFile(gabQuery.getDocument())
-            : gabYamlParser.parseContent(gabQuery.getDocument());
+    GABServiceImpl(GABDocumentCache documentCache) {
+        this.documentCache = documentCache;
+    }
+
+    public GABResults searchFor(GABQuery gabQuery) throws IOException {
+        return GABYamlParser.toGabResults(documentCache.get(gabQuery).find(gabQuery.getFields()));
     }
 }
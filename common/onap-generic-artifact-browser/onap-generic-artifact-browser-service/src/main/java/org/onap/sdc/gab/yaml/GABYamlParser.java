@@ -97,11 +97,20 @@ public class GABYamlParser implements AutoCloseable {
      * @throws IOException Means that yaml file has invalid content.
      */
     public GABResults collect() throws IOException {
-        return new GABResults(
-            yamlParser.collect().stream().map(results -> new GABResult(createGabResultEntryList(results))).collect(Collectors.toList()));
+        return toGabResults(yamlParser.collect());
     }
 
-    private List<GABResultEntry> createGabResultEntryList(List<SimpleEntry<String, ? extends Collection<Object>>> parsedContent) {
+    /**
+     * Creates the results of the data found in the documents of a yaml file.
+     *
+     * @param parsedContent the data found, one list of 'key: collection of data' entries per document
+     * @return {@link GABResults}
+     */
+    public static GABResults toGabResults(List<List<SimpleEntry<String, ? extends Collection<Object>>>> parsedContent) {
+        return new GABResults(parsedContent.stream().map(results -> new GABResult(createGabResultEntryList(results))).collect(Collectors.toList()));
+    }
+
+    private static List<GABResultEntry> createGabResultEntryList(List<SimpleEntry<String, ? extends Collection<Object>>> parsedContent) {
         return Objects.isNull(parsedContent) ? Collections.emptyList() : parsedContent.stream()
             .map(result -> result.getValue().stream().map(entry -> new GABResultEntry(result.getKey(), entry)).collect(Collectors.toList()))
             .flatMap(Collection::stream).collect(Collectors.toList());
@@ -0,0 +1,165 @@
+/*
+ * ============LICENSE_START=======================================================
+ * GAB
+ * ================================================================================
+ * Copyright (C) 2019 Nokia Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.sdc.gab.yaml;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.jsfr.json.JsonSurferGson;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * The documents of a yaml file, converted once to json, with the values already found for each searched json path. Searching a path
+ * again is a lookup. Gives the same results as {@link YamlParser}.
+ */
+public class IndexedYamlDocuments {
+
+    /**
+     * Json paths kept per document, further paths are searched on every query. The values kept for a document are also bounded by the size
+     * of its json, further values being searched on every query.
+     */
+    static final int MAX_INDEXED_PATHS = 256;
+    public static final IndexedYamlDocuments EMPTY = new IndexedYamlDocuments(Collections.emptyList());
+    private static final Logger LOGGER = Logger.getLogger(IndexedYamlDocuments.class.getName());
+    private final List<IndexedDocument> documents;
+    private final long weight;
+
+    private IndexedYamlDocuments(List<IndexedDocument> documents) {
+        this.documents = documents;
+        this.weight = documents.stream().mapToLong(document -> 2L * document.json.length()).sum();
+    }
+
+    /**
+     * Parses all the documents of a yaml stream.
+     *
+     * @param inputStream the yaml content, closed by the caller
+     * @return the parsed documents
+     * @throws IOException Means that yaml file has invalid content.
+     */
+    public static IndexedYamlDocuments parse(InputStream inputStream) throws IOException {
+        try {
+            List<IndexedDocument> documents = new ArrayList<>();
+            Gson gson = new Gson();
+            for (Object document : new Yaml().loadAll(inputStream)) {
+                documents.add(new IndexedDocument(gson.toJsonTree(document).toString()));
+            }
+            return new IndexedYamlDocuments(documents);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Unexpected document content. Please check body of the yaml file.", e);
+            throw new IOException("Unexpected document content");
+        }
+    }
+
+    /**
+     * Searches json paths in every document.
+     *
+     * @param filters correct json paths for searching resources.
+     * @return List of List of simple entry 'key: collection of data', one list per document holding data
+     * @throws IOException Means that yaml file has invalid content.
+     */
+    public List<List<SimpleEntry<String, ? extends Collection<Object>>>> find(Set<String> filters) throws IOException {
+        Set<String> keys = new HashSet<>();
+        keys.addAll(filters);
+        try {
+            return documents.stream().map(document -> document.find(keys)).filter(entries -> !entries.isEmpty()).collect(Collectors.toList());
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Unexpected document content. Please check body of the yaml file.", e);
+            throw new IOException("Unexpected document content");
+        }
+    }
+
+    /**
+     * @return the size of the json documents and of the most indexed values they can hold, in chars
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    long getIndexedChars() {
+        return documents.stream().mapToLong(document -> document.indexedChars.get()).sum();
+    }
+
+    private static final class IndexedDocument {
+
+        private final String json;
+        private final Map<String, Collection<Object>> valuesByPath = new ConcurrentHashMap<>();
+        private final AtomicLong indexedChars = new AtomicLong();
+
+        private IndexedDocument(String json) {
+            this.json = json;
+        }
+
+        private List<SimpleEntry<String, ? extends Collection<Object>>> find(Set<String> keys) {
+            return keys.stream().map(key -> new SimpleEntry<>(key, getValues(key))).filter(entry -> !entry.getValue().isEmpty())
+                .collect(Collectors.toList());
+        }
+
+        private Collection<Object> getValues(String key) {
+            Collection<Object> values = valuesByPath.get(key);
+            if (values == null) {
+                values = search(key);
+                long chars = key.length() + getChars(values);
+                if (valuesByPath.size() < MAX_INDEXED_PATHS && reserve(chars) && valuesByPath.putIfAbsent(key, values) != null) {
+                    indexedChars.addAndGet(-chars);
+                }
+            }
+            return values;
+        }
+
+        // the values are bounded by the size of the json, so that the weight of the documents in the cache stays an upper bound
+        private boolean reserve(long chars) {
+            long current;
+            do {
+                current = indexedChars.get();
+                if (current + chars > json.length()) {
+                    return false;
+                }
+            } while (!indexedChars.compareAndSet(current, current + chars));
+            return true;
+        }
+
+        private static long getChars(Collection<Object> values) {
+            return values.stream().mapToLong(value -> String.valueOf(value).length()).sum();
+        }
+
+        private Collection<Object> search(String key) {
+            try {
+                return Collections.unmodifiableCollection(JsonSurferGson.INSTANCE.collectAll(json, "$." + key));
+            } catch (ParseCancellationException e) {
+                LOGGER.log(Level.WARNING, "Invalid filter key: " + key, e);
+                return Collections.emptyList();
+            }
+        }
+    }
+}
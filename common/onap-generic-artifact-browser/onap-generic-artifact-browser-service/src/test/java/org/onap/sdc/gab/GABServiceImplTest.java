@@ -0,0 +1,113 @@
+/*
+ * ============LICENSE_START=======================================================
+ * GAB
+ * ================================================================================
+ * Copyright (C) 2019 Nokia Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.gab;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.Sets;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.gab.model.GABQuery;
+import org.onap.sdc.gab.model.GABQuery.GABQueryType;
+import org.onap.sdc.gab.model.GABResults;
+import org.onap.sdc.gab.yaml.GABYamlParser;
+import org.onap.sdc.gab.yaml.YamlParser;
+
+class GABServiceImplTest {
+
+    private static final String FAULT_REGISTRATION_YML = "yaml/faultRegistration.yml";
+    private static final String PM_DICT_YML = "yaml/pmDictionary.yml";
+    private static final String INVALID_YML = "yaml/invalid.yml";
+    private static final Set<String> FAULT_FIELDS = Sets.newHashSet("event.structure.commonEventHeader.structure.domain.value",
+        "event.presence", "event.heartbeatAction[1]", "event.heartbeatAction.[1]");
+    private static final Set<String> PM_FIELDS = Sets.newHashSet("pmMetaData.pmFields.measType", "pmMetaData.pmFields.measDescription");
+
+    private GABDocumentCache documentCache;
+    private GABServiceImpl gabService;
+
+    @BeforeEach
+    void setUp() {
+        documentCache = new GABDocumentCache();
+        gabService = new GABServiceImpl(documentCache);
+    }
+
+    @Test
+    void shouldFindTheSameResultsAsTheParserInFile() throws Exception {
+        GABResults result = gabService.searchFor(new GABQuery(FAULT_FIELDS, FAULT_REGISTRATION_YML, GABQueryType.PATH));
+
+        assertThat(result.toString(), is(equalTo(parseFile(FAULT_REGISTRATION_YML, FAULT_FIELDS).toString())));
+    }
+
+    @Test
+    void shouldParseTheSameContentOnce() throws Exception {
+        String content = IOUtils.toString(getClass().getClassLoader().getResourceAsStream(PM_DICT_YML), StandardCharsets.UTF_8);
+        GABResults expected = parseFile(PM_DICT_YML, PM_FIELDS);
+
+        GABResults first = gabService.searchFor(new GABQuery(PM_FIELDS, content, GABQueryType.CONTENT));
+        GABResults second = gabService.searchFor(new GABQuery(PM_FIELDS, new String(content), GABQueryType.CONTENT));
+        GABResults other = gabService.searchFor(new GABQuery(Collections.singleton("pmMetaData.pmFields.measType"), content,
+            GABQueryType.CONTENT));
+
+        assertThat(documentCache.size(), is(equalTo(1L)));
+        assertThat(first.toString(), is(equalTo(expected.toString())));
+        assertThat(second.toString(), is(equalTo(expected.toString())));
+        assertThat(other.getRows().size(), is(equalTo(expected.getRows().size())));
+    }
+
+    @Test
+    void shouldNotCacheDocumentsBeyondTheLimit() throws Exception {
+        gabService = new GABServiceImpl(new GABDocumentCache(1));
+
+        GABResults result = gabService.searchFor(new GABQuery(PM_FIELDS, PM_DICT_YML, GABQueryType.PATH));
+
+        assertThat(result.getRows().size(), is(equalTo(3)));
+    }
+
+    @Test
+    void shouldReturnNoResultsForNonexistentFile() throws Exception {
+        GABResults result = gabService.searchFor(new GABQuery(PM_FIELDS, "nonexistent.file", GABQueryType.PATH));
+
+        assertThat(result.getRows(), is(equalTo(Collections.emptyList())));
+    }
+
+    @Test
+    void shouldThrowIOExceptionForInvalidYamlEveryTime() {
+        GABQuery query = new GABQuery(Collections.singleton("event"), INVALID_YML, GABQueryType.PATH);
+
+        assertThrows(IOException.class, () -> gabService.searchFor(query));
+        assertThrows(IOException.class, () -> gabService.searchFor(query));
+        assertThat(documentCache.size(), is(equalTo(0L)));
+    }
+
+    private static GABResults parseFile(String path, Set<String> fields) throws IOException {
+        try (GABYamlParser yamlParser = new GABYamlParser(new YamlParser())) {
+            return yamlParser.parseFile(path).filter(fields).collect();
+        }
+    }
+}
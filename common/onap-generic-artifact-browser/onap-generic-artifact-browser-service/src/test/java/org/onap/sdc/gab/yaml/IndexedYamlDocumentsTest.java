@@ -0,0 +1,61 @@
+/*
+ * ============LICENSE_START=======================================================
+ * GAB
+ * ================================================================================
+ * Copyright (C) 2019 Nokia Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.gab.yaml;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+class IndexedYamlDocumentsTest {
+
+    private static final String JSON = "{\"a\":{\"b\":\"value\"}}";
+
+    @Test
+    void shouldWeighTheJsonAndTheValuesItCanIndex() throws IOException {
+        IndexedYamlDocuments documents = parse("a: {b: value}");
+
+        assertThat(documents.getWeight(), is(equalTo(2L * JSON.length())));
+    }
+
+    @Test
+    void shouldNotIndexValuesBeyondTheSizeOfTheJson() throws IOException {
+        IndexedYamlDocuments documents = parse("a: {b: value}");
+
+        String whole = documents.find(Collections.singleton("a")).toString();
+        long indexedChars = documents.getIndexedChars();
+        String value = documents.find(Collections.singleton("a.b")).toString();
+
+        assertThat(indexedChars, is(equalTo((long) "a{\"b\":\"value\"}".length())));
+        assertThat(documents.getIndexedChars(), is(equalTo(indexedChars)));
+        assertThat(documents.find(Collections.singleton("a")).toString(), is(equalTo(whole)));
+        assertThat(documents.find(Collections.singleton("a.b")).toString(), is(equalTo(value)));
+    }
+
+    private static IndexedYamlDocuments parse(String yaml) throws IOException {
+        return IndexedYamlDocuments.parse(IOUtils.toInputStream(yaml, StandardCharsets.UTF_8));
+    }
+}
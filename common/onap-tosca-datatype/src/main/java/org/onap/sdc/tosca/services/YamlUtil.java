@@ -17,6 +17,7 @@ package org.onap.sdc.tosca.services;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,9 @@ import org.yaml.snakeyaml.representer.Representer;
 
 /**
  * The type Yaml util.
+ * <p>
+ * SnakeYAML {@link Yaml} instances are not thread safe, but building one for each call redoes the bean introspection of the target
+ * classes. The instances are therefore kept per thread and reused: one loader per util class and target class, and one dumper.
  */
 @SuppressWarnings("unchecked")
 public class YamlUtil {
@@ -45,6 +49,10 @@ public class YamlUtil {
     static final String DEFAULT = "default";
     static final String DEFAULT_STR = "_default";
     private static final Logger LOGGER = LoggerFactory.getLogger(YamlUtil.class.getName());
+    private static final ThreadLocal<Yaml> PLAIN_YAML = ThreadLocal.withInitial(Yaml::new);
+    private static final ThreadLocal<Yaml> DUMPER = ThreadLocal.withInitial(YamlUtil::createDumper);
+    // util class -> target class -> loader
+    private static final ThreadLocal<Map<Class<?>, Map<Class<?>, Yaml>>> LOADERS = ThreadLocal.withInitial(HashMap::new);
 
     /**
      * Parse a YAML file to List
@@ -71,7 +79,17 @@ public class YamlUtil {
      * @return The YAML Object
      */
     public static Object read(final InputStream yamlFileInputStream) {
-        return new Yaml().load(yamlFileInputStream);
+        return PLAIN_YAML.get().load(yamlFileInputStream);
+    }
+
+    /**
+     * Parse a YAML string to Object, with a parser reused by the calling thread.
+     *
+     * @param yamlContent the yaml content
+     * @return The YAML Object
+     */
+    public static Object read(final String yamlContent) {
+        return PLAIN_YAML.get().load(yamlContent);
     }
 
     /**
@@ -83,12 +101,7 @@ public class YamlUtil {
      * @return the t
      */
     public <T> T yamlToObject(String yamlContent, Class<T> typClass) {
-        Constructor constructor = getConstructor(typClass);
-        constructor.setPropertyUtils(getPropertyUtils());
-        TypeDescription yamlFileDescription = new TypeDescription(typClass);
-        constructor.addTypeDescription(yamlFileDescription);
-        T yamlObj = new Yaml(constructor, new Representer(), new DumperOptions(), getLoaderOptions()).load(yamlContent);
-        ;
+        T yamlObj = getLoader(typClass).load(yamlContent);
         //noinspection ResultOfMethodCallIgnored
         yamlObj.toString();
         return yamlObj;
@@ -108,13 +121,7 @@ public class YamlUtil {
      */
     public <T> T yamlToObject(InputStream yamlContent, Class<T> typClass) {
         try {
-            Constructor constructor = getConstructor(typClass);
-            constructor.setAllowDuplicateKeys(false);
-            constructor.setPropertyUtils(getPropertyUtils());
-            TypeDescription yamlFileDescription = new TypeDescription(typClass);
-            constructor.addTypeDescription(yamlFileDescription);
-            //No Yaml Constructor takes only Constructor and LoaderOptions, that is why I had to pass anonymous Representer and DumperOptions objects
-            T yamlObj = new Yaml(constructor, new Representer(), new DumperOptions(), getLoaderOptions()).load(yamlContent);
+            T yamlObj = getLoader(typClass).load(yamlContent);
             if (yamlObj != null) {
                 //noinspection ResultOfMethodCallIgnored
                 yamlObj.toString();
@@ -135,6 +142,29 @@ public class YamlUtil {
         }
     }
 
+    private <T> Yaml getLoader(Class<T> typClass) {
+        return LOADERS.get().computeIfAbsent(getClass(), utilClass -> new HashMap<>()).computeIfAbsent(typClass, this::createLoader);
+    }
+
+    private Yaml createLoader(Class<?> typClass) {
+        Constructor constructor = getConstructor(typClass);
+        constructor.setAllowDuplicateKeys(false);
+        constructor.setPropertyUtils(getPropertyUtils());
+        TypeDescription yamlFileDescription = new TypeDescription(typClass);
+        constructor.addTypeDescription(yamlFileDescription);
+        //No Yaml Constructor takes only Constructor and LoaderOptions, that is why I had to pass anonymous Representer and DumperOptions objects
+        return new Yaml(constructor, new Representer(), new DumperOptions(), getLoaderOptions());
+    }
+
+    private static Yaml createDumper() {
+        DumperOptions options = new DumperOptions();
+        options.setPrettyFlow(true);
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        Representer representer = new CustomRepresenter();
+        representer.setPropertyUtils(new MyPropertyUtils());
+        return new Yaml(representer, options);
+    }
+
     private LoaderOptions getLoaderOptions() {
         LoaderOptions options = new LoaderOptions();
         options.setAllowDuplicateKeys(false);
@@ -169,7 +199,7 @@ public class YamlUtil {
      * @return the map
      */
     public Map<String, LinkedHashMap<String, Object>> yamlToMap(InputStream yamlContent) {
-        return new Yaml().load(yamlContent);
+        return PLAIN_YAML.get().load(yamlContent);
     }
 
     /**
@@ -179,14 +209,8 @@ public class YamlUtil {
      * @return the string
      */
     public String objectToYaml(Object obj) {
-        DumperOptions options = new DumperOptions();
-        options.setPrettyFlow(true);
-        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        Representer representer = new CustomRepresenter();
-        representer.addClassTag(obj.getClass(), Tag.MAP);
-        representer.setPropertyUtils(new MyPropertyUtils());
-        Yaml yaml = new Yaml(representer, options);
-        return yaml.dump(obj);
+        // the representer tags every java bean, the root object included, as a map
+        return DUMPER.get().dump(obj);
     }
 
     /**
@@ -197,13 +221,13 @@ public class YamlUtil {
      */
     public boolean isYamlFileContentValid(String yamlFullFileName) {
         try {
-            return new Yaml().load(yamlFullFileName) != null;
+            return PLAIN_YAML.get().load(yamlFullFileName) != null;
         } catch (Exception exception) {
             return false;
         }
     }
 
-    private class CustomRepresenter extends Representer {
+    private static class CustomRepresenter extends Representer {
 
         @Override
         protected MappingNode representJavaBean(Set<Property> properties, Object javaBean) {
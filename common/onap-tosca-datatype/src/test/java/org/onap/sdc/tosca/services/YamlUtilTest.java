@@ -23,14 +23,19 @@ package org.onap.sdc.tosca.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 public class YamlUtilTest {
@@ -77,4 +82,36 @@ public class YamlUtilTest {
         boolean res2 = yamlUtil.isYamlFileContentValid(yamlString2);
         assertFalse(res2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testYamlToObjectAfterFailedLoad() {
+        String yamlString = "field1: 1\nfield2: value\ntestModelInternalClass:\n  field1: 2\n  field2: internal";
+        assertThrows(RuntimeException.class, () -> yamlUtil.yamlToObject("field1: 1\nfield1: 2", TestModel.class));
+
+        TestModel testModel = yamlUtil.yamlToObject(yamlString, TestModel.class);
+        assertEquals(1, testModel.getField1());
+        assertEquals("value", testModel.getField2());
+        assertEquals("internal", testModel.getTestModelInternalClass().getField2());
+        assertEquals(yamlUtil.objectToYaml(testModel), yamlUtil.objectToYaml(yamlUtil.yamlToObject(yamlString, TestModel.class)));
+    }
+
+    @Test
+    public void testYamlToObjectFromSeveralThreads() throws Exception {
+        TestModel testModel = new TestModel();
+        testModel.setField1(1);
+        testModel.setField2("value");
+        String yamlString = yamlUtil.objectToYaml(testModel);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executorService.submit(() -> yamlUtil.objectToYaml(yamlUtil.yamlToObject(yamlString, TestModel.class))));
+            }
+            for (Future<String> result : results) {
+                assertEquals(yamlString, result.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
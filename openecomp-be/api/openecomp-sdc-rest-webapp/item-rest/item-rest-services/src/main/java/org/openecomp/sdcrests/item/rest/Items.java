@@ -61,6 +61,10 @@ public interface Items {
                   @QueryParam("permission") String permissionFilter,
                   @Parameter(description = "Filter by onboarding method", schema = @Schema(type = "string", allowableValues = {"NetworkPackage", "manual"}))
                   @QueryParam("onboardingMethod") String onboardingMethodFilter,
+                  @Parameter(description = "Index of the first item of the page, in the matching items sorted by descending modification time")
+                  @QueryParam("offset") Integer offset,
+                  @Parameter(description = "Maximum number of items of the page, all the matching items if not set")
+                  @QueryParam("limit") Integer limit,
                   @NotNull(message = USER_MISSING_ERROR_MSG) @HeaderParam(USER_ID_HEADER_PARAM) String user);
 
     @GET
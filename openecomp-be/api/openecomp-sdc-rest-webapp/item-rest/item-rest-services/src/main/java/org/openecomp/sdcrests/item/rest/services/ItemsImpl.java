@@ -29,7 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.inject.Named;
@@ -44,6 +44,8 @@ import org.openecomp.sdc.notification.dtos.Event;
 import org.openecomp.sdc.versioning.dao.types.Version;
 import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
 import org.openecomp.sdc.versioning.types.ItemStatus;
 import org.openecomp.sdc.versioning.types.NotificationEventTypes;
 import org.openecomp.sdcrests.item.rest.Items;
@@ -65,7 +67,6 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class ItemsImpl implements Items {
 
-    private static final String ONBOARDING_METHOD = "onboardingMethod";
     private static final Logger LOGGER = LoggerFactory.getLogger(ItemsImpl.class);
     private Map<ItemAction, ActionSideAffects> actionSideAffectsMap = new EnumMap<>(ItemAction.class);
     private ManagersProvider managersProvider;
@@ -103,14 +104,15 @@ public class ItemsImpl implements Items {
 
     @Override
     public Response list(String itemStatusFilter, String versionStatusFilter, String itemTypeFilter, String permissionFilter,
-                         String onboardingMethodFilter, String user) {
-        Predicate<Item> itemPredicate = createItemPredicate(itemStatusFilter, versionStatusFilter, itemTypeFilter, onboardingMethodFilter,
-            permissionFilter, user);
+                         String onboardingMethodFilter, Integer offset, Integer limit, String user) {
+        ItemQuery query = createItemQuery(itemStatusFilter, versionStatusFilter, itemTypeFilter, onboardingMethodFilter, permissionFilter, user);
+        query.setOffset(offset == null ? 0 : offset);
+        query.setLimit(limit);
+        ItemPage page = getManagersProvider().getItemManager().list(query);
         GenericCollectionWrapper<ItemDto> results = new GenericCollectionWrapper<>();
         MapItemToDto mapper = new MapItemToDto();
-        getManagersProvider().getItemManager().list(itemPredicate).stream()
-            .sorted((o1, o2) -> o2.getModificationTime().compareTo(o1.getModificationTime()))
-            .forEach(item -> results.add(mapper.applyMapping(item, ItemDto.class)));
+        page.getItems().forEach(item -> results.add(mapper.applyMapping(item, ItemDto.class)));
+        results.setListCount(page.getTotal());
         return Response.ok(results).build();
     }
 
@@ -121,61 +123,43 @@ public class ItemsImpl implements Items {
         return Response.ok(itemDto).build();
     }
 
-    private Predicate<Item> createItemPredicate(String itemStatusFilter, String versionStatusFilter, String itemTypeFilter,
-                                                String onboardingMethodFilter, String permissionsFilter, String user) {
-        Predicate<Item> itemPredicate = item -> true;
+    private ItemQuery createItemQuery(String itemStatusFilter, String versionStatusFilter, String itemTypeFilter, String onboardingMethodFilter,
+                                      String permissionsFilter, String user) {
+        ItemQuery query = new ItemQuery();
         if (itemStatusFilter != null) {
             validateItemStatusValue(itemStatusFilter);
-            itemPredicate = itemPredicate.and(createItemStatusPredicate(itemStatusFilter));
+            query.getItemStatuses().addAll(parseFilter(itemStatusFilter, ItemStatus::valueOf));
         }
         if (versionStatusFilter != null) {
             validateVersionStatusValue(versionStatusFilter);
-            itemPredicate = itemPredicate.and(createVersionStatusPredicate(versionStatusFilter));
+            query.getVersionStatuses().addAll(parseFilter(versionStatusFilter, VersionStatus::valueOf));
         }
         if (itemTypeFilter != null) {
             validateItemTypeValue(itemTypeFilter);
-            itemPredicate = itemPredicate.and(createItemTypePredicate(itemTypeFilter));
+            query.getItemTypes().addAll(parseFilter(itemTypeFilter, Function.identity()));
         }
         if (onboardingMethodFilter != null) {
             validateOnboardingMethodValue(onboardingMethodFilter);
-            itemPredicate = itemPredicate.and(createOnboardingMethodPredicate(onboardingMethodFilter));
+            query.getOnboardingMethods().addAll(parseFilter(onboardingMethodFilter, Function.identity()));
         }
         if (permissionsFilter != null) {
             validatePermissionValue(permissionsFilter);
-            itemPredicate = itemPredicate.and(createPermissionsPredicate(user, permissionsFilter));
+            query.setItemIds(getPermittedItemIds(user, permissionsFilter));
         }
-        return itemPredicate;
+        return query;
     }
 
-    private String formatFilter(String filterValue) {
-        return filterValue.replace(",", "|");
+    private <T> Set<T> parseFilter(String filterValue, Function<String, T> valueParser) {
+        return Arrays.stream(filterValue.split(",")).map(valueParser).collect(Collectors.toSet());
     }
 
-    private Predicate<Item> createItemStatusPredicate(String filterValue) {
-        return item -> item.getStatus().name().matches(formatFilter(filterValue));
-    }
-
-    private Predicate<Item> createVersionStatusPredicate(String filterValue) {
-        Set<VersionStatus> versionStatuses = Arrays.stream(filterValue.split(",")).map(VersionStatus::valueOf).collect(Collectors.toSet());
-        return item -> item.getVersionStatusCounters().keySet().stream().anyMatch(versionStatuses::contains);
-    }
-
-    private Predicate<Item> createItemTypePredicate(String filterValue) {
-        return item -> item.getType().matches(formatFilter(filterValue));
-    }
-
-    private Predicate<Item> createOnboardingMethodPredicate(String filterValue) {
-        return item -> !ItemType.vsp.name().equals(item.getType()) || ((String) item.getProperties().get(ONBOARDING_METHOD))
-            .matches(formatFilter(filterValue));
-    }
-
-    private Predicate<Item> createPermissionsPredicate(String user, String filterValue) {
+    private Set<String> getPermittedItemIds(String user, String filterValue) {
         String[] permissions = filterValue.split(",");
         Set<String> itemIds = new HashSet<>();
         for (String permission : permissions) {
             itemIds.addAll(getManagersProvider().getPermissionsManager().listUserPermittedItems(user, permission));
         }
-        return item -> itemIds.contains(item.getId());
+        return itemIds;
     }
 
     private void validateItemStatusValue(String itemStatusFilter) {
@@ -20,14 +20,18 @@
 package org.openecomp.sdcrests.item.rest.services;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.openecomp.sdcrests.item.types.ItemAction.ARCHIVE;
 import static org.openecomp.sdcrests.item.types.ItemAction.RESTORE;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import javax.ws.rs.core.Response;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -35,8 +39,14 @@ import org.openecomp.sdc.activitylog.ActivityLogManager;
 import org.openecomp.sdc.versioning.ItemManager;
 import org.openecomp.sdc.versioning.VersioningManager;
 import org.openecomp.sdc.versioning.dao.types.Version;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
+import org.openecomp.sdc.versioning.types.ItemStatus;
 import org.openecomp.sdcrests.item.types.ItemActionRequestDto;
+import org.openecomp.sdcrests.item.types.ItemDto;
+import org.openecomp.sdcrests.wrappers.GenericCollectionWrapper;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ItemsImplTest {
@@ -121,10 +131,39 @@ public class ItemsImplTest {
         items.initActionSideAffectsMap();
         items.setManagersProvider(managersProvider);
         Mockito.when(managersProvider.getItemManager()).thenReturn(itemManager);
-        Response response = items.list(null, null, null, null, null, USER);
+        Mockito.when(itemManager.list(Mockito.any(ItemQuery.class))).thenReturn(new ItemPage(new ArrayList<>(), 0));
+        Response response = items.list(null, null, null, null, null, null, null, USER);
         assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
     }
 
+    @Test
+    public void shouldListPageWithFiltersAndTotalCount() {
+        ItemsImpl items = new ItemsImpl();
+        items.initActionSideAffectsMap();
+        items.setManagersProvider(managersProvider);
+        Mockito.when(managersProvider.getItemManager()).thenReturn(itemManager);
+        Item listedItem = new Item();
+        listedItem.setId(ITEM_ID);
+        listedItem.setType("vsp");
+        listedItem.setStatus(ItemStatus.ACTIVE);
+        ArgumentCaptor<ItemQuery> queryCaptor = ArgumentCaptor.forClass(ItemQuery.class);
+        Mockito.when(itemManager.list(queryCaptor.capture())).thenReturn(new ItemPage(Collections.singletonList(listedItem), 42));
+
+        Response response = items.list("ACTIVE", "Draft,Certified", "vsp", null, "NetworkPackage", 10, 1, USER);
+
+        GenericCollectionWrapper<ItemDto> results = (GenericCollectionWrapper<ItemDto>) response.getEntity();
+        assertEquals(42, results.getListCount());
+        assertEquals(1, results.getResults().size());
+        ItemQuery query = queryCaptor.getValue();
+        assertEquals(EnumSet.of(ItemStatus.ACTIVE), query.getItemStatuses());
+        assertEquals(EnumSet.of(VersionStatus.Draft, VersionStatus.Certified), query.getVersionStatuses());
+        assertEquals(Collections.singleton("vsp"), query.getItemTypes());
+        assertEquals(Collections.singleton("NetworkPackage"), query.getOnboardingMethods());
+        assertNull(query.getItemIds());
+        assertEquals(10, query.getOffset());
+        assertEquals(Integer.valueOf(1), query.getLimit());
+    }
+
     private List<Version> getVersions() {
         List<Version> versions = new ArrayList<>();
         versions.add(new Version("1"));
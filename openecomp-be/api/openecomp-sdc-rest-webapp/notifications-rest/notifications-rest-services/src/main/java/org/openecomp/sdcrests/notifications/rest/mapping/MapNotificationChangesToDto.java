@@ -0,0 +1,35 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdcrests.notifications.rest.mapping;
+
+import java.util.HashMap;
+import org.openecomp.sdc.notification.dtos.NotificationChanges;
+import org.openecomp.sdcrests.mapping.MappingBase;
+import org.openecomp.sdcrests.notifications.types.NotificationChangesDto;
+
+public class MapNotificationChangesToDto extends MappingBase<NotificationChanges, NotificationChangesDto> {
+
+    @Override
+    public void doMapping(NotificationChanges source, NotificationChangesDto target) {
+        target.setChangedOwners(new HashMap<>(source.getChangedOwners()));
+        target.setLastScanned(source.getLastScanned());
+        target.setCatchUpRequired(source.isCatchUpRequired());
+    }
+}
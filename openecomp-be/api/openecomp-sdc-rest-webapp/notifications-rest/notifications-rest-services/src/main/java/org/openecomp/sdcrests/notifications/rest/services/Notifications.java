@@ -44,6 +44,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.openecomp.sdcrests.notifications.types.NotificationChangesDto;
 import org.openecomp.sdcrests.notifications.types.NotificationsStatusDto;
 import org.openecomp.sdcrests.notifications.types.UpdateNotificationResponseStatus;
 import org.springframework.validation.annotation.Validated;
@@ -57,6 +58,7 @@ public interface Notifications {
 
     String LIMIT_QUERY_PARAM = "NOTIFICATION_ROWS_LIMIT";
     String END_OF_PAGE_QUERY_PARAM = "END_OF_PAGE_EVENT_ID";
+    String LAST_SCANNED_QUERY_PARAM = "LAST_SCANNED_EVENT_ID";
 
     @GET
     @Operation(description = "Retrieve all user notifications", responses = @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = NotificationsStatusDto.class)))))
@@ -82,4 +84,9 @@ public interface Notifications {
     @Operation(description = "Retrive user not delivered notifications", responses = @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = NotificationsStatusDto.class)))))
     Response getNewNotificationsByOwnerId(@NotNull(message = USER_MISSING_ERROR_MSG) @HeaderParam(USER_ID_HEADER_PARAM) String user,
                                           @QueryParam(LAST_DELIVERED_QUERY_PARAM) String eventId, @QueryParam(LIMIT_QUERY_PARAM) String limit);
+
+    @GET
+    @Path("/worker/changes")
+    @Operation(description = "Retrieve the owners notified since the last scanned notification change", responses = @ApiResponse(content = @Content(schema = @Schema(implementation = NotificationChangesDto.class))))
+    Response getNotificationChanges(@QueryParam(LAST_SCANNED_QUERY_PARAM) String lastScanned);
 }
@@ -31,13 +31,16 @@ import org.openecomp.sdc.datatypes.error.ErrorMessage;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dtos.NotificationChanges;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 import org.openecomp.sdc.notification.factories.NotificationsServiceFactory;
 import org.openecomp.sdc.notification.services.NotificationsService;
+import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationChangesToDto;
 import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationsStatusToDto;
 import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationsToDto;
 import org.openecomp.sdcrests.notifications.rest.services.Notifications;
+import org.openecomp.sdcrests.notifications.types.NotificationChangesDto;
 import org.openecomp.sdcrests.notifications.types.NotificationsStatusDto;
 import org.openecomp.sdcrests.notifications.types.UpdateNotificationResponseStatus;
 import org.springframework.context.annotation.Scope;
@@ -108,4 +111,21 @@ public class NotificationsImpl implements Notifications {
         converter.doMapping(notifications, notificationsStatusDto);
         return Response.ok(notificationsStatusDto).build();
     }
+
+    @Override
+    public Response getNotificationChanges(String lastScanned) {
+        UUID lastScannedChange = null;
+        if (Objects.nonNull(lastScanned)) {
+            try {
+                lastScannedChange = UUID.fromString(lastScanned);
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Invalid last scanned notification change specified: " + lastScanned);
+            }
+        }
+        NotificationChanges notificationChanges = notificationsService.getNotificationChanges(lastScannedChange);
+        MapNotificationChangesToDto converter = new MapNotificationChangesToDto();
+        NotificationChangesDto notificationChangesDto = new NotificationChangesDto();
+        converter.doMapping(notificationChanges, notificationChangesDto);
+        return Response.ok(notificationChangesDto).build();
+    }
 }
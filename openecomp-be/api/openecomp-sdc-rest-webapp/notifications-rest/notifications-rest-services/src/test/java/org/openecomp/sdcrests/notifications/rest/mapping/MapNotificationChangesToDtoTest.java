@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdcrests.notifications.rest.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.Test;
+import org.openecomp.sdc.notification.dtos.NotificationChanges;
+import org.openecomp.sdcrests.notifications.types.NotificationChangesDto;
+
+public class MapNotificationChangesToDtoTest {
+
+    @Test
+    public void testConversion() {
+        final Map<String, UUID> changedOwners = Collections.singletonMap("owner", UUID.randomUUID());
+        final UUID lastScanned = UUID.randomUUID();
+
+        final NotificationChangesDto target = new NotificationChangesDto();
+        new MapNotificationChangesToDto().doMapping(NotificationChanges.of(changedOwners, lastScanned), target);
+
+        assertEquals(changedOwners, target.getChangedOwners());
+        assertEquals(lastScanned, target.getLastScanned());
+        assertFalse(target.isCatchUpRequired());
+    }
+
+    @Test
+    public void testCatchUpConversion() {
+        final UUID lastScanned = UUID.randomUUID();
+
+        final NotificationChangesDto target = new NotificationChangesDto();
+        new MapNotificationChangesToDto().doMapping(NotificationChanges.catchUp(lastScanned), target);
+
+        assertTrue(target.getChangedOwners().isEmpty());
+        assertEquals(lastScanned, target.getLastScanned());
+        assertTrue(target.isCatchUpRequired());
+    }
+}
@@ -0,0 +1,61 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2026 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdcrests.notifications.types;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The owners notified since the last scanned notification change, each with the id of its latest notification.
+ */
+public class NotificationChangesDto {
+
+    private Map<String, UUID> changedOwners = new HashMap<>();
+    private UUID lastScanned;
+    private boolean catchUpRequired;
+
+    public NotificationChangesDto() {
+    }
+
+    public Map<String, UUID> getChangedOwners() {
+        return changedOwners;
+    }
+
+    public void setChangedOwners(Map<String, UUID> changedOwners) {
+        this.changedOwners = changedOwners;
+    }
+
+    public UUID getLastScanned() {
+        return lastScanned;
+    }
+
+    public void setLastScanned(UUID lastScanned) {
+        this.lastScanned = lastScanned;
+    }
+
+    public boolean isCatchUpRequired() {
+        return catchUpRequired;
+    }
+
+    public void setCatchUpRequired(boolean catchUpRequired) {
+        this.catchUpRequired = catchUpRequired;
+    }
+}
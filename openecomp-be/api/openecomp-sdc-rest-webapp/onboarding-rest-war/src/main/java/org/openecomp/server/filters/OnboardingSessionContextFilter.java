@@ -21,12 +21,36 @@ package org.openecomp.server.filters;
 
 import static org.openecomp.sdcrests.common.RestConstants.USER_ID_HEADER_PARAM;
 
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
+import org.openecomp.core.zusammen.api.ZusammenRoundTrips;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdcrests.filters.SessionContextFilter;
 
 public class OnboardingSessionContextFilter extends SessionContextFilter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(OnboardingSessionContextFilter.class);
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
+        throws IOException, ServletException {
+        ZusammenRoundTrips.startRequest();
+        try {
+            super.doFilter(servletRequest, servletResponse, filterChain);
+        } finally {
+            int roundTrips = ZusammenRoundTrips.endRequest();
+            if (servletRequest instanceof HttpServletRequest) {
+                HttpServletRequest request = (HttpServletRequest) servletRequest;
+                LOGGER.debug("{} {} made {} round trips to zusammen", request.getMethod(), request.getRequestURI(), roundTrips);
+            }
+        }
+    }
+
     @Override
     public String getUser(ServletRequest servletRequest) {
         return ((HttpServletRequest) servletRequest).getHeader(USER_ID_HEADER_PARAM);
@@ -393,7 +393,8 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         }
         final EnrichmentManager<ToscaServiceModel> enrichmentManager = EnrichmentManagerFactory.getInstance().createInterface();
         enrichmentManager.init(vendorSoftwareProductId, version);
-        enrichmentManager.setModel(serviceModel);
+        //the enrichment modifies the service templates, which are shared with the service model dao cache
+        enrichmentManager.setModel(ToscaServiceModel.getClonedServiceModel(serviceModel));
         final Map<String, List<ErrorMessage>> enrichErrors = enrichmentManager.enrich();
         enrichedServiceModelDao.storeServiceModel(vendorSoftwareProductId, version, enrichmentManager.getModel());
         return enrichErrors;
@@ -492,15 +493,21 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
             throw new CoreException(new PackageNotFoundErrorBuilder(vspId, version).build());
         }
         ByteBuffer translatedFileBuffer = packageInfo.getTranslatedFile();
-        if (translatedFileBuffer == null) {
-            throw new CoreException(new PackageInvalidErrorBuilder(vspId, version).build());
-        }
         File translatedFile = new File(VendorSoftwareProductConstants.VSP_PACKAGE_ZIP);
+        boolean written;
         try (FileOutputStream fos = new FileOutputStream(translatedFile)) {
-            fos.write(translatedFileBuffer.array());
+            if (translatedFileBuffer != null) {
+                fos.write(translatedFileBuffer.array());
+                written = true;
+            } else {
+                written = packageInfoDao.writeTranslatedFileChunks(packageInfo, fos);
+            }
         } catch (IOException exception) {
             throw new CoreException(new TranslationFileCreationErrorBuilder(vspId, version).build(), exception);
         }
+        if (!written) {
+            throw new CoreException(new PackageInvalidErrorBuilder(vspId, version).build());
+        }
         return translatedFile;
     }
 
@@ -559,8 +566,8 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
                 packageInfo.setVendorRelease(etsiService.getHighestCompatibleSpecificationVersion(handler).getOriginalValue());
             }
         }
-        packageInfo.setTranslatedFile(ByteBuffer.wrap(toscaServiceTemplateServiceCsar.createOutputFile(toscaServiceModel, licenseArtifacts)));
-        packageInfoDao.create(packageInfo);
+        packageInfoDao.create(packageInfo,
+            translatedFile -> toscaServiceTemplateServiceCsar.createOutputFile(toscaServiceModel, licenseArtifacts, translatedFile));
         return packageInfo;
     }
 
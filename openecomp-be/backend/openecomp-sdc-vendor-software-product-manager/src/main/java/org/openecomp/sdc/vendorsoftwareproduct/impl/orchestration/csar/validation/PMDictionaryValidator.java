@@ -23,14 +23,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.onap.validation.yaml.YamlContentValidator;
 import org.onap.validation.yaml.error.YamlDocumentValidationError;
 
 public class PMDictionaryValidator {
 
+    /**
+     * Validates the files in parallel, reporting their errors on the calling thread in the order of the files.
+     */
     public void validate(Stream<byte[]> pmDictionaryFiles, Consumer<String> errorReporter) {
-        pmDictionaryFiles.map(this::validate).flatMap(Collection::stream).forEach(errorReporter);
+        List<List<String>> errorsByFile = pmDictionaryFiles.parallel().map(this::validate).collect(Collectors.toList());
+        errorsByFile.stream().flatMap(Collection::stream).forEach(errorReporter);
     }
 
     private List<String> validate(byte[] fileContent) {
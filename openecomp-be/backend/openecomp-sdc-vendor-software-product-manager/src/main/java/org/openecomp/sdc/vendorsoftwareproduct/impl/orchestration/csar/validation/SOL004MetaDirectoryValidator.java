@@ -43,16 +43,19 @@ import static org.openecomp.sdc.tosca.csar.ToscaMetadataFileInfo.TOSCA_META_FILE
 import static org.openecomp.sdc.tosca.csar.ToscaMetadataFileInfo.TOSCA_META_PATH_FILE_NAME;
 
 import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Getter;
@@ -63,12 +66,16 @@ import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.sdc.be.config.NonManoArtifactType;
 import org.openecomp.sdc.be.csar.pnf.PnfSoftwareInformation;
 import org.openecomp.sdc.be.csar.pnf.SoftwareInformationArtifactYamlParser;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
+import org.openecomp.sdc.be.csar.security.ArtifactDigests;
+import org.openecomp.sdc.be.csar.security.DigestAlgorithm;
 import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.common.errors.Messages;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
+import org.openecomp.sdc.tosca.csar.AlgorithmDigest;
 import org.openecomp.sdc.tosca.csar.Manifest;
 import org.openecomp.sdc.tosca.csar.OnboardingToscaMetadata;
 import org.openecomp.sdc.tosca.csar.SOL004ManifestOnboarding;
@@ -95,6 +102,8 @@ public class SOL004MetaDirectoryValidator implements Validator {
     private static final String MANIFEST_NON_MANO_SOURCE = "Non-MANO Source";
     protected final ValidatorUtils validatorUtils = new ValidatorUtils();
     private final List<ErrorMessage> errorsByFile = new CopyOnWriteArrayList<>();
+    // errors of the item being validated by the current thread, see validateInParallel
+    private final ThreadLocal<List<ErrorMessage>> itemErrors = new ThreadLocal<>();
     private final SecurityManager securityManager;
     private final InternalFilesFilter internalFilesFilter = new InternalFilesFilter();
     private OnboardingPackageContentHandler contentHandler;
@@ -162,7 +171,7 @@ public class SOL004MetaDirectoryValidator implements Validator {
             verifyManifestNameAndExtension();
             handleMetadataEntries();
         } else {
-            errorsByFile.addAll(toscaMetadata.getErrors());
+            addErrors(toscaMetadata.getErrors());
         }
     }
 
@@ -173,7 +182,9 @@ public class SOL004MetaDirectoryValidator implements Validator {
         if (packageCert == null) {
             throw new MissingCertificateException("Expected package certificate");
         }
-        signedFileMap.entrySet().stream().filter(entry -> entry.getValue() != null).forEach(entry -> {
+        final List<Map.Entry<String, String>> signedFiles = signedFileMap.entrySet().stream().filter(entry -> entry.getValue() != null)
+            .collect(Collectors.toList());
+        validateInParallel(signedFiles, entry -> {
             final String filePath = entry.getKey();
             final String fileSignaturePath = entry.getValue();
             final byte[] fileBytes = contentHandler.getFileContent(filePath);
@@ -227,7 +238,7 @@ public class SOL004MetaDirectoryValidator implements Validator {
     }
 
     private void handleMetadataEntries() {
-        toscaMetadata.getMetaEntries().entrySet().parallelStream().forEach(this::handleEntry);
+        validateInParallel(new ArrayList<>(toscaMetadata.getMetaEntries().entrySet()), this::handleEntry);
     }
 
     protected void handleEntry(final Map.Entry<String, String> entry) {
@@ -288,7 +299,7 @@ public class SOL004MetaDirectoryValidator implements Validator {
 
     protected void verifyMetadataEntryVersions(final String key, final String version) {
         if (!(isValidTOSCAVersion(key, version) || isValidCSARVersion(key, version) || CREATED_BY_ENTRY.getName().equals(key))) {
-            errorsByFile.add(new ErrorMessage(ErrorLevel.ERROR, String.format(Messages.METADATA_INVALID_VERSION.getErrorMessage(), key, version)));
+            reportError(ErrorLevel.ERROR, String.format(Messages.METADATA_INVALID_VERSION.getErrorMessage(), key, version));
             LOGGER.error("{}: key {} - value {} ", Messages.METADATA_INVALID_VERSION.getErrorMessage(), key, version);
         }
     }
@@ -307,7 +318,7 @@ public class SOL004MetaDirectoryValidator implements Validator {
             final var toscaDefinitionImportHandler = new ToscaDefinitionImportHandler(contentHandler.getFiles(), filePath);
             final List<ErrorMessage> validationErrorList = toscaDefinitionImportHandler.getErrors();
             if (CollectionUtils.isNotEmpty(validationErrorList)) {
-                errorsByFile.addAll(validationErrorList);
+                addErrors(validationErrorList);
             }
         } else {
             reportError(ErrorLevel.ERROR, String.format(Messages.MISSING_DEFINITION_FILE.getErrorMessage(), filePath));
@@ -331,6 +342,7 @@ public class SOL004MetaDirectoryValidator implements Validator {
                     LOGGER.error(e.getMessage(), e);
                 }
                 verifyManifestSources(onboardingManifest);
+                verifyManifestSourceHashes(onboardingManifest);
             } else {
                 final List<String> manifestErrors = onboardingManifest.getErrors();
                 manifestErrors.forEach(error -> reportError(ErrorLevel.ERROR, error));
@@ -377,7 +389,7 @@ public class SOL004MetaDirectoryValidator implements Validator {
             nonManoValidFilePaths.addAll(internalNonManoFileList);
             final var nonManoArtifactType = NonManoArtifactType.parse(nonManoType).orElse(null);
             if (nonManoArtifactType == ONAP_PM_DICTIONARY || nonManoArtifactType == ONAP_VES_EVENTS) {
-                internalNonManoFileList.forEach(this::validateYaml);
+                validateInParallel(internalNonManoFileList, this::validateYaml);
             } else if (nonManoArtifactType == ONAP_SW_INFORMATION) {
                 validateSoftwareInformationNonManoArtifact(files);
             } else if (nonManoArtifactType == ONAP_CNF_HELM) {
@@ -391,6 +403,41 @@ public class SOL004MetaDirectoryValidator implements Validator {
         verifyFilesBeingReferred(allReferredFiles, packageFiles);
     }
 
+    /**
+     * Checks the hash of each manifest source having one against the source content, reading each source once. Hashes of unsupported
+     * algorithms are not checked. As packages onboarded before were not checked, a hash that doesn't match is reported as a warning.
+     *
+     * @param onboardingManifest The manifest
+     */
+    private void verifyManifestSourceHashes(final Manifest onboardingManifest) {
+        final Map<String, AlgorithmDigest> sourceHashMap = onboardingManifest.getSourceAndChecksumMap().orElse(Map.of());
+        final List<String> hashedSources = sourceHashMap.keySet().stream().filter(contentHandler::containsFile).sorted()
+            .collect(Collectors.toList());
+        validateInParallel(hashedSources, sourcePath -> verifySourceHash(sourcePath, sourceHashMap.get(sourcePath)));
+    }
+
+    private void verifySourceHash(final String sourcePath, final AlgorithmDigest algorithmDigest) {
+        final DigestAlgorithm digestAlgorithm = DigestAlgorithm.findByName(algorithmDigest.getHashAlgorithm()).orElse(null);
+        if (digestAlgorithm == null) {
+            LOGGER.debug("Hash of artifact '{}' not checked, unsupported algorithm '{}'", sourcePath, algorithmDigest.getHashAlgorithm());
+            return;
+        }
+        final ArtifactDigests artifactDigests;
+        try (final InputStream sourceContent = contentHandler.getFileContentAsStream(sourcePath)) {
+            artifactDigests = ArtifactDigestCalculator
+                .calculate(sourceContent == null ? new ByteArrayInputStream(new byte[0]) : sourceContent, Set.of(digestAlgorithm));
+        } catch (final IOException e) {
+            final String errorMessage = Messages.ARTIFACT_HASH_VALIDATION_ERROR.formatMessage(sourcePath, e.getMessage());
+            reportError(ErrorLevel.WARNING, errorMessage);
+            LOGGER.warn(errorMessage, e);
+            return;
+        }
+        if (!artifactDigests.getHexDigest(digestAlgorithm).equalsIgnoreCase(algorithmDigest.getDigest())) {
+            reportError(ErrorLevel.WARNING,
+                Messages.ARTIFACT_INVALID_HASH.formatMessage(digestAlgorithm.getAlgorithmName(), algorithmDigest.getDigest(), sourcePath));
+        }
+    }
+
     private void validateSoftwareInformationNonManoArtifact(final List<String> files) {
         if (CollectionUtils.isEmpty(files)) {
             reportError(ErrorLevel.ERROR, Messages.EMPTY_SW_INFORMATION_NON_MANO_ERROR.getErrorMessage());
@@ -500,7 +547,46 @@ public class SOL004MetaDirectoryValidator implements Validator {
     }
 
     protected void reportError(final ErrorLevel errorLevel, final String errorMessage) {
-        errorsByFile.add(new ErrorMessage(errorLevel, errorMessage));
+        addErrors(List.of(new ErrorMessage(errorLevel, errorMessage)));
+    }
+
+    /**
+     * Validates the given independent items in parallel. The errors reported while validating an item are kept apart and added in the order
+     * of the items, so the reported errors do not depend on how the validations were scheduled.
+     *
+     * @param items      the items to validate
+     * @param validation the validation of an item, reporting its errors through {@link #reportError(ErrorLevel, String)}
+     */
+    protected <T> void validateInParallel(final List<T> items, final Consumer<T> validation) {
+        final List<List<ErrorMessage>> errorsByItem = items.parallelStream().map(item -> validateItem(item, validation))
+            .collect(Collectors.toList());
+        errorsByItem.forEach(this::addErrors);
+    }
+
+    private <T> List<ErrorMessage> validateItem(final T item, final Consumer<T> validation) {
+        // the thread may be running this item while waiting on a nested parallel validation of another item
+        final List<ErrorMessage> outerItemErrors = itemErrors.get();
+        final List<ErrorMessage> errors = new ArrayList<>();
+        itemErrors.set(errors);
+        try {
+            validation.accept(item);
+        } finally {
+            if (outerItemErrors == null) {
+                itemErrors.remove();
+            } else {
+                itemErrors.set(outerItemErrors);
+            }
+        }
+        return errors;
+    }
+
+    private void addErrors(final Collection<ErrorMessage> errors) {
+        final List<ErrorMessage> currentItemErrors = itemErrors.get();
+        if (currentItemErrors == null) {
+            errorsByFile.addAll(errors);
+        } else {
+            currentItemErrors.addAll(errors);
+        }
     }
 
     protected boolean validMetaLimit(Map<String, String> metadata) {
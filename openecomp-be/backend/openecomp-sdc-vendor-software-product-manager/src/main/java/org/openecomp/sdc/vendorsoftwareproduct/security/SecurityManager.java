@@ -19,8 +19,6 @@
  */
 package org.openecomp.sdc.vendorsoftwareproduct.security;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-
 import com.google.common.collect.ImmutableSet;
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -28,8 +26,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
@@ -51,8 +53,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -61,15 +61,14 @@ import org.bouncycastle.asn1.cms.ContentInfo;
 import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSProcessableByteArray;
-import org.bouncycastle.cms.CMSProcessableFile;
 import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.CMSTypedData;
 import org.bouncycastle.cms.SignerInformation;
 import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.openecomp.sdc.be.csar.storage.ArtifactInfo;
-import org.openecomp.sdc.common.errors.SdcRuntimeException;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.types.OnboardSignedPackage;
@@ -93,9 +92,12 @@ public class SecurityManager {
         }
     }
 
-    private Set<X509Certificate> trustedCertificates = new HashSet<>();
-    private Set<X509Certificate> trustedCertificatesFromPackage = new HashSet<>();
+    private volatile Set<X509Certificate> trustedCertificates = Set.of();
     private File certificateDirectory;
+    private boolean trustedCertificatesLoaded;
+    private long certificateDirectoryLastModified;
+    private WatchService certificateDirectoryWatchService;
+    private WatchKey certificateDirectoryWatchKey;
 
     private SecurityManager() {
         certificateDirectory = this.getcertDirectory(System.getenv("SDC_CERT_DIR"));
@@ -111,22 +113,23 @@ public class SecurityManager {
     }
 
     /**
-     * Checks the configured location for available trustedCertificates
+     * Checks the configured location for available trustedCertificates. The certificates are loaded once and reloaded only when the
+     * certificate directory changes, either its entries or, as reported by a watch service, the content of its files.
      *
      * @return set of trustedCertificates
      * @throws SecurityManagerException
      */
     public Set<X509Certificate> getTrustedCertificates() throws SecurityManagerException {
-        //if file number in certificate directory changed reload certs
-        String[] certFiles = certificateDirectory.list();
-        if (certFiles == null) {
+        return getTrustedCertificates(Set.of());
+    }
+
+    // the package certificates are passed along rather than kept, so that packages and their files can be verified concurrently
+    private Set<X509Certificate> getTrustedCertificates(final Set<X509Certificate> trustedCertificatesFromPackage) throws SecurityManagerException {
+        if (!certificateDirectory.isDirectory()) {
             logger.error("Certificate directory is empty!");
             return ImmutableSet.copyOf(new HashSet<>());
         }
-        if (trustedCertificates.size() != certFiles.length) {
-            trustedCertificates = new HashSet<>();
-            processCertificateDir();
-        }
+        refreshTrustedCertificates();
         if (!trustedCertificatesFromPackage.isEmpty()) {
             return Stream.concat(trustedCertificatesFromPackage.stream(), trustedCertificates.stream()).collect(Collectors.toUnmodifiableSet());
         }
@@ -136,8 +139,53 @@ public class SecurityManager {
     /**
      * Cleans certificate collection
      */
-    public void cleanTrustedCertificates() {
-        trustedCertificates.clear();
+    public synchronized void cleanTrustedCertificates() {
+        trustedCertificates = Set.of();
+        trustedCertificatesLoaded = false;
+    }
+
+    private synchronized void refreshTrustedCertificates() throws SecurityManagerException {
+        if (isCertificateDirectoryChanged()) {
+            reloadTrustedCertificates();
+        }
+    }
+
+    private boolean isCertificateDirectoryChanged() {
+        if (!trustedCertificatesLoaded || certificateDirectory.lastModified() != certificateDirectoryLastModified) {
+            return true;
+        }
+        return certificateDirectoryWatchKey != null && hasPendingEvents(certificateDirectoryWatchKey);
+    }
+
+    private void reloadTrustedCertificates() throws SecurityManagerException {
+        trustedCertificatesLoaded = false;
+        certificateDirectoryLastModified = certificateDirectory.lastModified();
+        watchCertificateDirectory();
+        final Set<X509Certificate> certificates = new HashSet<>();
+        processCertificateDir(certificates);
+        trustedCertificates = certificates;
+        trustedCertificatesLoaded = true;
+    }
+
+    private void watchCertificateDirectory() {
+        if (certificateDirectoryWatchKey != null) {
+            if (certificateDirectoryWatchKey.isValid()) {
+                hasPendingEvents(certificateDirectoryWatchKey);
+                return;
+            }
+            certificateDirectoryWatchKey = null;
+        }
+        try {
+            if (certificateDirectoryWatchService == null) {
+                certificateDirectoryWatchService = FileSystems.getDefault().newWatchService();
+            }
+            certificateDirectoryWatchKey = certificateDirectory.toPath()
+                .register(certificateDirectoryWatchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.warn("Could not watch the certificate directory '{}', changes to its files are detected by the directory entries only",
+                certificateDirectory, e);
+        }
     }
 
     /**
@@ -175,7 +223,6 @@ public class SecurityManager {
             packageCert = fileContentHandler.getFileContent(certificateFilePath.get());
         }
         final var path = artifactInfo.getPath();
-        final var target = Path.of(path.toString() + "." + UUID.randomUUID());
 
         try (final var signatureStream = new ByteArrayInputStream(fileContentHandler.getFileContent(signedPackage.getSignatureFilePath()));
             final var pemParser = new PEMParser(new InputStreamReader(signatureStream))) {
@@ -185,11 +232,12 @@ public class SecurityManager {
                 throw new SecurityManagerException("Signature is not recognized");
             }
 
-            if (!findCSARandExtract(path, target)) {
+            final Optional<CMSTypedData> signedContent = findSignedContent(signedPackage, path);
+            if (signedContent.isEmpty()) {
                 fail = true;
                 return false;
             }
-            final var verify = verify(packageCert, new CMSSignedData(new CMSProcessableFile(target.toFile()), ContentInfo.getInstance(parsedObject)));
+            final var verify = verify(packageCert, new CMSSignedData(signedContent.get(), ContentInfo.getInstance(parsedObject)));
             fail = !verify;
             return verify;
         } catch (final IOException e) {
@@ -203,13 +251,18 @@ public class SecurityManager {
             fail = true;
             throw e;
         } finally {
-            deleteFile(target);
             if (fail) {
                 deleteFile(path);
             }
         }
     }
 
+    private static boolean hasPendingEvents(final WatchKey watchKey) {
+        final boolean hasPendingEvents = !watchKey.pollEvents().isEmpty();
+        watchKey.reset();
+        return hasPendingEvents;
+    }
+
     private void deleteFile(final Path filePath) {
         try {
             Files.delete(filePath);
@@ -235,8 +288,8 @@ public class SecurityManager {
             cert = readSignCert(certs, firstSigner)
                 .orElseThrow(() -> new SecurityManagerException("No matching certificate found in certificate file that should contain one!"));
         }
-        trustedCertificatesFromPackage = readTrustedCerts(certs, firstSigner);
-        if (verifyCertificate(cert, getTrustedCertificates()) == null) {
+        final Set<X509Certificate> trustedCertificatesFromPackage = readTrustedCerts(certs, firstSigner);
+        if (verifyCertificate(cert, getTrustedCertificates(trustedCertificatesFromPackage)) == null) {
             return false;
         }
         try {
@@ -246,22 +299,33 @@ public class SecurityManager {
         }
     }
 
-    private boolean findCSARandExtract(final Path path, final Path target) throws IOException {
-        final AtomicBoolean found = new AtomicBoolean(false);
+    /**
+     * The signed inner package is digested from the bytes already read into the package content when available, otherwise it is streamed
+     * from its entry in the stored package. Neither way extracts it to a temporary file.
+     */
+    private Optional<CMSTypedData> findSignedContent(final OnboardSignedPackage signedPackage, final Path path) throws IOException {
+        final String internalPackageFilePath = signedPackage.getInternalPackageFilePath();
+        if (internalPackageFilePath != null && internalPackageFilePath.toLowerCase().endsWith(".csar")) {
+            final byte[] internalPackage = signedPackage.getFileContentHandler().getFileContent(internalPackageFilePath);
+            if (internalPackage != null) {
+                return Optional.of(new CMSProcessableByteArray(internalPackage));
+            }
+        }
+        return findCsarEntryName(path).map(entryName -> new ZipEntryCmsProcessable(path, entryName));
+    }
+
+    private Optional<String> findCsarEntryName(final Path path) throws IOException {
+        String csarEntryName = null;
         try (final var zf = new ZipFile(path.toString())) {
-            zf.entries().asIterator().forEachRemaining(entry -> {
-                final var entryName = entry.getName();
-                if (!entry.isDirectory() && entryName.toLowerCase().endsWith(".csar")) {
-                    try {
-                        Files.copy(zf.getInputStream(entry), target, REPLACE_EXISTING);
-                    } catch (final IOException e) {
-                        throw new SdcRuntimeException(UNEXPECTED_ERROR_OCCURRED_DURING_SIGNATURE_VALIDATION, e);
-                    }
-                    found.set(true);
+            final var entries = zf.entries();
+            while (entries.hasMoreElements()) {
+                final var entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().toLowerCase().endsWith(".csar")) {
+                    csarEntryName = entry.getName();
                 }
-            });
+            }
         }
-        return found.get();
+        return Optional.ofNullable(csarEntryName);
     }
 
     private Optional<X509Certificate> readSignCert(final Collection<X509CertificateHolder> certs, final SignerInformation firstSigner) {
@@ -287,7 +351,7 @@ public class SecurityManager {
         return allCerts;
     }
 
-    private void processCertificateDir() throws SecurityManagerException {
+    private void processCertificateDir(final Set<X509Certificate> certificates) throws SecurityManagerException {
         if (!certificateDirectory.exists() || !certificateDirectory.isDirectory()) {
             logger.error("Issue with certificate directory, check if exists!");
             return;
@@ -298,7 +362,7 @@ public class SecurityManager {
             return;
         }
         for (File f : files) {
-            trustedCertificates.add(loadCertificate(f));
+            certificates.add(loadCertificate(f));
         }
     }
 
@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021, Nordix Foundation. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.ZipFile;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.cms.CMSException;
+import org.bouncycastle.cms.CMSTypedData;
+
+/**
+ * Signed content read from an entry of a zip file. The entry is streamed to the CMS digest calculator each time the content is written, so
+ * it is never extracted to disk nor held in memory.
+ */
+class ZipEntryCmsProcessable implements CMSTypedData {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final Path zipPath;
+    private final String entryName;
+
+    ZipEntryCmsProcessable(final Path zipPath, final String entryName) {
+        this.zipPath = zipPath;
+        this.entryName = entryName;
+    }
+
+    @Override
+    public ASN1ObjectIdentifier getContentType() {
+        return CMSObjectIdentifiers.data;
+    }
+
+    @Override
+    public void write(final OutputStream out) throws IOException, CMSException {
+        try (final var zipFile = new ZipFile(zipPath.toFile())) {
+            final var entry = zipFile.getEntry(entryName);
+            if (entry == null) {
+                throw new CMSException(String.format("Entry '%s' not found in '%s'", entryName, zipPath));
+            }
+            try (final InputStream in = zipFile.getInputStream(entry)) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object getContent() {
+        return zipPath.toString() + "!" + entryName;
+    }
+}
@@ -21,14 +21,18 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -38,8 +42,12 @@ import static org.openecomp.sdc.tosca.csar.CSARConstants.MAIN_SERVICE_TEMPLATE_M
 import static org.openecomp.sdc.tosca.csar.CSARConstants.TOSCA_META_ORIG_PATH_FILE_NAME;
 import static org.openecomp.sdc.tosca.csar.ToscaMetadataFileInfo.TOSCA_META_PATH_FILE_NAME;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -79,6 +87,7 @@ import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDependencyModelDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.DeploymentFlavorDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.OrchestrationTemplateDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDao.TranslatedFileWriter;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.DeploymentFlavorEntity;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.OrchestrationTemplateCandidateData;
@@ -140,10 +149,16 @@ class VendorSoftwareProductManagerImplTest {
 
     @Captor
     private ArgumentCaptor<ActivityLogEntity> activityLogEntityArg;
+    private ByteArrayOutputStream translatedFileChunks;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        translatedFileChunks = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            invocation.getArgument(1, TranslatedFileWriter.class).write(translatedFileChunks);
+            return null;
+        }).when(packageInfoDao).create(any(PackageInfo.class), any(TranslatedFileWriter.class));
     }
 
     @AfterEach
@@ -469,6 +484,32 @@ class VendorSoftwareProductManagerImplTest {
         PackageInfo packageInfo = vendorSoftwareProductManager.createPackage(VSP_ID, VERSION10);
         assertNotNull(packageInfo.getVspId());
         assertEquals("1.0", packageInfo.getVendorRelease());
+        assertNull(packageInfo.getTranslatedFile());
+        assertTrue(translatedFileChunks.size() > 0);
+        verify(packageInfoDao).create(eq(packageInfo), any(TranslatedFileWriter.class));
+    }
+
+    @Test
+    void testGetTranslatedFileStoredInChunks() throws IOException {
+        final PackageInfo packageInfo = new PackageInfo(VSP_ID, VERSION10);
+        doReturn(packageInfo).when(packageInfoDao).get(any(PackageInfo.class));
+        final byte[] content = "translated file".getBytes();
+        when(packageInfoDao.writeTranslatedFileChunks(any(), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(content);
+            return true;
+        });
+
+        final File translatedFile = vendorSoftwareProductManager.getTranslatedFile(VSP_ID, VERSION10);
+
+        assertArrayEquals(content, Files.readAllBytes(translatedFile.toPath()));
+        Files.delete(translatedFile.toPath());
+    }
+
+    @Test
+    void testGetTranslatedFileWithoutContent() {
+        doReturn(new PackageInfo(VSP_ID, VERSION10)).when(packageInfoDao).get(any(PackageInfo.class));
+
+        assertThrows(CoreException.class, () -> vendorSoftwareProductManager.getTranslatedFile(VSP_ID, VERSION10));
     }
 
     @Test
@@ -65,6 +65,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -73,6 +74,8 @@ import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.csar.security.ArtifactDigestCalculator;
+import org.openecomp.sdc.be.csar.security.DigestAlgorithm;
 import org.openecomp.sdc.common.errors.Messages;
 import org.openecomp.sdc.common.utils.SdcCommon;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
@@ -685,6 +688,31 @@ class SOL004MetaDirectoryValidatorTest {
         assertExpectedErrors("Manifest with valid pnf mandatory values should not return any errors", validationResult.getErrors(), 0);
     }
 
+    @Test
+    void testGivenManifestFile_withSourceHashes_thenMismatchingHashesAreReportedAsWarnings() {
+        final ManifestBuilder manifestBuilder = getPnfManifestSampleBuilder();
+
+        handler.addFile(TOSCA_META_PATH_FILE_NAME, metaFileBuilder.toString().getBytes(StandardCharsets.UTF_8));
+        manifestBuilder.withSource(TOSCA_META_PATH_FILE_NAME);
+
+        final byte[] changeLog = "changelog".getBytes(StandardCharsets.UTF_8);
+        handler.addFile(TOSCA_CHANGELOG_FILEPATH, changeLog);
+        manifestBuilder.withSignedSource(TOSCA_CHANGELOG_FILEPATH, "SHA-512", "0123456789abcdef");
+
+        final byte[] definition = getResourceBytesOrFail(SAMPLE_DEFINITION_FILE_PATH);
+        handler.addFile(TOSCA_DEFINITION_FILEPATH, definition);
+        manifestBuilder.withSignedSource(TOSCA_DEFINITION_FILEPATH, "SHA-256",
+            ArtifactDigestCalculator.calculate(definition, EnumSet.of(DigestAlgorithm.SHA_256)).getHexDigest(DigestAlgorithm.SHA_256));
+
+        manifestBuilder.withSource(TOSCA_MANIFEST_FILEPATH);
+        handler.addFile(TOSCA_MANIFEST_FILEPATH, manifestBuilder.build().getBytes(StandardCharsets.UTF_8));
+
+        final ValidationResult validationResult = sol004MetaDirectoryValidator.validate(handler);
+        final List<ErrorMessage> expectedErrorList = Collections.singletonList(new ErrorMessage(ErrorLevel.WARNING,
+            Messages.ARTIFACT_INVALID_HASH.formatMessage("SHA-512", "0123456789abcdef", TOSCA_CHANGELOG_FILEPATH)));
+        assertExpectedErrors(validationResult.getErrors(), expectedErrorList);
+    }
+
     /**
      * Manifest with mixed metadata should return error.
      */
@@ -1239,6 +1267,55 @@ class SOL004MetaDirectoryValidatorTest {
         assertExpectedErrors(validationResult.getErrors(), expectedErrorList);
     }
 
+    @Test
+    void signedPackageWithManyArtifactsReportsErrorsInTheSameOrder() throws SecurityManagerException {
+        //given
+        final ManifestBuilder manifestBuilder = getPnfManifestSampleBuilder();
+        final String fakeCertificatePath = "certificate.cert";
+        final int artifactCount = 50;
+        final List<ErrorMessage> expectedErrorList = new ArrayList<>();
+        for (int i = 0; i < artifactCount; i++) {
+            final String fakeArtifactPath = "Artifacts/artifact" + i + ".yaml";
+            final String fakeArtifactCmsPath = "Artifacts/artifact" + i + ".cms";
+            handler.addFile(fakeArtifactPath, new byte[0]);
+            manifestBuilder.withSource(fakeArtifactPath);
+            handler.addFile(fakeArtifactCmsPath, new byte[0]);
+            manifestBuilder.withSource(fakeArtifactCmsPath);
+            expectedErrorList.add(new ErrorMessage(ErrorLevel.ERROR,
+                Messages.ARTIFACT_INVALID_SIGNATURE.formatMessage(fakeArtifactCmsPath, fakeArtifactPath)));
+        }
+        handler.addFile(fakeCertificatePath, new byte[0]);
+        manifestBuilder.withSource(fakeCertificatePath);
+        handler.addFile(TOSCA_CHANGELOG_FILEPATH, "".getBytes(StandardCharsets.UTF_8));
+        manifestBuilder.withSource(TOSCA_CHANGELOG_FILEPATH);
+        handler.addFile(TOSCA_DEFINITION_FILEPATH, getResourceBytesOrFail(SAMPLE_DEFINITION_FILE_PATH));
+        manifestBuilder.withSource(TOSCA_DEFINITION_FILEPATH);
+
+        metaFileBuilder.append(ETSI_ENTRY_CERTIFICATE.getName())
+                .append(ATTRIBUTE_VALUE_SEPARATOR.getToken()).append(" ").append(fakeCertificatePath).append("\n");
+        handler.addFile(TOSCA_META_PATH_FILE_NAME,
+                metaFileBuilder.toString().getBytes(StandardCharsets.UTF_8));
+        manifestBuilder.withSource(TOSCA_META_PATH_FILE_NAME);
+
+        manifestBuilder.withSource(TOSCA_MANIFEST_FILEPATH);
+        handler.addFile(TOSCA_MANIFEST_FILEPATH, manifestBuilder.build().getBytes(StandardCharsets.UTF_8));
+
+        final SecurityManager securityManagerMock = mock(SecurityManager.class);
+        when(securityManagerMock.verifySignedData(any(), any(), any())).thenReturn(false);
+
+        //when
+        final List<ErrorMessage> firstErrorList = getSol004WithSecurity(securityManagerMock).validate(handler).getErrors();
+        final List<ErrorMessage> secondErrorList = getSol004WithSecurity(securityManagerMock).validate(handler).getErrors();
+
+        //then
+        assertExpectedErrors(firstErrorList, expectedErrorList);
+        assertEquals(toMessages(firstErrorList), toMessages(secondErrorList));
+    }
+
+    private static List<String> toMessages(final List<ErrorMessage> errorMessages) {
+        return errorMessages.stream().map(ErrorMessage::getMessage).collect(Collectors.toList());
+    }
+
     protected void assertExpectedErrors(final String testCase, final Map<String, List<ErrorMessage>> errors, final int expectedErrors){
         assertExpectedErrors(testCase, errors.get(SdcCommon.UPLOAD_FILE), expectedErrors);
     }
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.sdc.be.csar.storage.PersistentStorageArtifactInfo;
 import org.openecomp.sdc.vendorsoftwareproduct.impl.onboarding.OnboardingPackageProcessor;
 import org.openecomp.sdc.vendorsoftwareproduct.impl.onboarding.validation.CnfPackageValidator;
@@ -137,6 +138,18 @@ class SecurityManagerTest {
             .verifyPackageSignedData((OnboardSignedPackage) onboardPackageInfo.getOriginalOnboardPackage(), onboardPackageInfo.getArtifactInfo()));
     }
 
+    @Test
+    void verifySignedDataTestInternalPackageStreamedFromStoredPackage() throws IOException, URISyntaxException, SecurityManagerException {
+        prepareCertFiles("/cert/rootCA.cert", cerDirPath + "root.cert");
+        final var fileContentHandler = new FileContentHandler();
+        fileContentHandler.addFile("dummyPnfv4.cms", readAllBytes("/cert/2-file-signed-package/dummyPnfv4.cms"));
+        final var signedPackage = new OnboardSignedPackage("2-file-signed-package", "zip", null, fileContentHandler, "dummyPnfv4.cms",
+            "dummyPnfv4.csar", null);
+
+        assertTrue(securityManager.verifyPackageSignedData(signedPackage,
+            new PersistentStorageArtifactInfo(Path.of("src/test/resources/cert/2-file-signed-package/2-file-signed-package.zip"))));
+    }
+
     @Test
     void verifySignedDataTestCertNotIncludedIntoSignatureButExpected() throws IOException, URISyntaxException, SecurityManagerException {
         Assertions.assertThrows(SecurityManagerException.class, () -> {
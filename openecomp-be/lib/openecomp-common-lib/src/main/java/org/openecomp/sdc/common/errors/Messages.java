@@ -88,6 +88,8 @@ public enum Messages {
     FAILED_TO_VALIDATE_METADATA("Failed to validate metadata file"),
     ARTIFACT_INVALID_SIGNATURE("Invalid signature '%s' provided for artifact '%s'"),
     ARTIFACT_SIGNATURE_VALIDATION_ERROR("Could not validate signature '%s' provided for artifact '%s' with certificate '%s': %s"),
+    ARTIFACT_INVALID_HASH("Invalid %s hash '%s' provided for artifact '%s'"),
+    ARTIFACT_HASH_VALIDATION_ERROR("Could not validate the hash provided for artifact '%s': %s"),
     FAILED_TO_TRANSLATE_ZIP_FILE("Failed to translate zip file"),
     ZIP_NOT_EXIST("Zip file doesn't exist"),
     PERMISSIONS_ERROR("Permissions Error. The user does not have permission to perform this action."),
@@ -84,6 +84,13 @@ public interface ZusammenAdaptor {
 
     Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId);
 
+    /**
+     * Lists the sub elements of parentElementId with their data, each one holding its own sub elements with their data down to the given depth,
+     * a depth of 0 returning the sub elements only. The sub elements of an element are read by the ids it holds. Each element is still read
+     * on its own, the elements of a level being read concurrently on threads started for the listing.
+     */
+    Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId, int depth);
+
     /**
      * Lists the sub elements of the element named elementName which is a sub element of parentElementId
      */
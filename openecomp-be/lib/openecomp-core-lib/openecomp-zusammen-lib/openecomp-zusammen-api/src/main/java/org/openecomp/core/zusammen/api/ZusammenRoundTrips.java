@@ -0,0 +1,79 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.core.zusammen.api;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the round trips to the collaboration store made by the current request, between {@link #startRequest()} and {@link #endRequest()}.
+ */
+public class ZusammenRoundTrips {
+
+    private static final ThreadLocal<AtomicInteger> REQUEST_ROUND_TRIPS = new ThreadLocal<>();
+
+    private ZusammenRoundTrips() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void startRequest() {
+        REQUEST_ROUND_TRIPS.set(new AtomicInteger());
+    }
+
+    /**
+     * @return the round trips made since {@link #startRequest()}, 0 if it was not called
+     */
+    public static int endRequest() {
+        AtomicInteger roundTrips = REQUEST_ROUND_TRIPS.get();
+        REQUEST_ROUND_TRIPS.remove();
+        return roundTrips == null ? 0 : roundTrips.get();
+    }
+
+    public static void record() {
+        AtomicInteger roundTrips = REQUEST_ROUND_TRIPS.get();
+        if (roundTrips != null) {
+            roundTrips.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the callable, counting the round trips it makes on any thread in the request of the calling thread
+     */
+    public static <V> Callable<V> inCurrentRequest(Callable<V> callable) {
+        AtomicInteger requestRoundTrips = REQUEST_ROUND_TRIPS.get();
+        return () -> {
+            AtomicInteger previous = REQUEST_ROUND_TRIPS.get();
+            set(requestRoundTrips);
+            try {
+                return callable.call();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    private static void set(AtomicInteger roundTrips) {
+        if (roundTrips == null) {
+            REQUEST_ROUND_TRIPS.remove();
+        } else {
+            REQUEST_ROUND_TRIPS.set(roundTrips);
+        }
+    }
+}
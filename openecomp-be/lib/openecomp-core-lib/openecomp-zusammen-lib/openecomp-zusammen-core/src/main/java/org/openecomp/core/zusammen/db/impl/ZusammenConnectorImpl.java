@@ -39,6 +39,7 @@ import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import com.amdocs.zusammen.datatypes.response.Response;
 import java.util.Collection;
+import org.openecomp.core.zusammen.api.ZusammenRoundTrips;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
 import org.openecomp.core.zusammen.impl.CassandraConnectionInitializer;
 import org.openecomp.sdc.common.errors.SdcRuntimeException;
@@ -63,16 +64,19 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Collection<HealthInfo> checkHealth(SessionContext sessionContext) {
+        ZusammenRoundTrips.record();
         return healthAdaptorFactory.createInterface(sessionContext).getHealthStatus(sessionContext);
     }
 
     @Override
     public String getVersion(SessionContext sessionContext) {
+        ZusammenRoundTrips.record();
         return healthAdaptorFactory.createInterface(sessionContext).getVersion();
     }
 
     @Override
     public Collection<Item> listItems(SessionContext context) {
+        ZusammenRoundTrips.record();
         Response<Collection<Item>> response = itemAdaptorFactory.createInterface(context).list(context);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException("Failed to list Items. message:" + response.getReturnCode().toString());
@@ -82,6 +86,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Item getItem(SessionContext context, Id itemId) {
+        ZusammenRoundTrips.record();
         Response<Item> response = itemAdaptorFactory.createInterface(context).get(context, itemId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException("Failed to get Item. message:" + response.getReturnCode().toString());
@@ -91,6 +96,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Id createItem(SessionContext context, Info info) {
+        ZusammenRoundTrips.record();
         Response<Id> response = itemAdaptorFactory.createInterface(context).create(context, info);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException("Failed to create Item. message:" + response.getReturnCode().toString());
@@ -100,6 +106,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void deleteItem(SessionContext context, Id itemId) {
+        ZusammenRoundTrips.record();
         Response<Void> response = itemAdaptorFactory.createInterface(context).delete(context, itemId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException("Failed to delete Item. message:" + response.getReturnCode().toString());
@@ -108,6 +115,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void updateItem(SessionContext context, Id itemId, Info info) {
+        ZusammenRoundTrips.record();
         Response<Void> response = itemAdaptorFactory.createInterface(context).update(context, itemId, info);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException("failed to update Item . ItemId:" + itemId + "" + " message:" + response.getReturnCode().toString());
@@ -116,6 +124,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Collection<ItemVersion> listPublicVersions(SessionContext context, Id itemId) {
+        ZusammenRoundTrips.record();
         Response<Collection<ItemVersion>> versions = versionAdaptorFactory.createInterface(context).list(context, Space.PUBLIC, itemId);
         if (!versions.isSuccessful()) {
             throw new SdcRuntimeException("failed to list public versions. message: " + versions.getReturnCode().toString());
@@ -125,6 +134,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ItemVersion getPublicVersion(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<ItemVersion> response = versionAdaptorFactory.createInterface(context).get(context, Space.PUBLIC, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -136,6 +146,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Id createVersion(SessionContext context, Id itemId, Id baseVersionId, ItemVersionData itemVersionData) {
+        ZusammenRoundTrips.record();
         Response<Id> response = versionAdaptorFactory.createInterface(context).create(context, itemId, baseVersionId, itemVersionData);
         if (response.isSuccessful()) {
             return response.getValue();
@@ -148,6 +159,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void updateVersion(SessionContext context, Id itemId, Id versionId, ItemVersionData itemVersionData) {
+        ZusammenRoundTrips.record();
         Response<Void> response = versionAdaptorFactory.createInterface(context).update(context, itemId, versionId, itemVersionData);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -158,6 +170,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ItemVersion getVersion(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<ItemVersion> response = versionAdaptorFactory.createInterface(context).get(context, Space.PRIVATE, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -169,6 +182,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ItemVersionStatus getVersionStatus(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<ItemVersionStatus> response = versionAdaptorFactory.createInterface(context).getStatus(context, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -180,6 +194,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void tagVersion(SessionContext context, Id itemId, Id versionId, Tag tag) {
+        ZusammenRoundTrips.record();
         Response<Void> response = versionAdaptorFactory.createInterface(context).tag(context, itemId, versionId, null, tag);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -190,6 +205,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void resetVersionRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        ZusammenRoundTrips.record();
         Response<Void> response = versionAdaptorFactory.createInterface(context).resetRevision(context, itemId, versionId, revisionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -200,6 +216,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void revertVersionRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        ZusammenRoundTrips.record();
         Response<Void> response = versionAdaptorFactory.createInterface(context).revertRevision(context, itemId, versionId, revisionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -210,6 +227,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ItemVersionRevisions listVersionRevisions(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<ItemVersionRevisions> response = versionAdaptorFactory.createInterface(context).listRevisions(context, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -221,6 +239,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void publishVersion(SessionContext context, Id itemId, Id versionId, String message) {
+        ZusammenRoundTrips.record();
         Response<Void> response = versionAdaptorFactory.createInterface(context).publish(context, itemId, versionId, message);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -231,6 +250,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void syncVersion(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<MergeResult> response = versionAdaptorFactory.createInterface(context).sync(context, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -241,6 +261,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void forceSyncVersion(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<MergeResult> response = versionAdaptorFactory.createInterface(context).forceSync(context, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -251,6 +272,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void cleanVersion(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<Void> response = versionAdaptorFactory.createInterface(context).delete(context, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -261,6 +283,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ItemVersionConflict getVersionConflict(SessionContext context, Id itemId, Id versionId) {
+        ZusammenRoundTrips.record();
         Response<ItemVersionConflict> response = versionAdaptorFactory.createInterface(context).getConflict(context, itemId, versionId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -272,6 +295,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext, Id parentElementId) {
+        ZusammenRoundTrips.record();
         Response<Collection<ElementInfo>> response = elementAdaptorFactory.createInterface(context).list(context, elementContext, parentElementId);
         if (response.isSuccessful()) {
             return response.getValue();
@@ -282,6 +306,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ElementInfo getElementInfo(SessionContext context, ElementContext elementContext, Id elementId) {
+        ZusammenRoundTrips.record();
         Response<ElementInfo> response = elementAdaptorFactory.createInterface(context).getInfo(context, elementContext, elementId);
         if (!response.isSuccessful()) {
             throw buildGetElementException(elementContext, elementId, response.getReturnCode().toString());
@@ -291,6 +316,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Element getElement(SessionContext context, ElementContext elementContext, Id elementId) {
+        ZusammenRoundTrips.record();
         Response<Element> response = elementAdaptorFactory.createInterface(context).get(context, elementContext, elementId);
         if (!response.isSuccessful()) {
             throw buildGetElementException(elementContext, elementId, response.getReturnCode().toString());
@@ -300,6 +326,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId) {
+        ZusammenRoundTrips.record();
         Response<ElementConflict> response = elementAdaptorFactory.createInterface(context).getConflict(context, elementContext, elementId);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String.format("Failed to get element conflict. Item Id: %s, version Id: %s, element Id: %s message: %s",
@@ -311,6 +338,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public Element saveElement(SessionContext context, ElementContext elementContext, Element element, String message) {
+        ZusammenRoundTrips.record();
         Response<Element> response = elementAdaptorFactory.createInterface(context).save(context, elementContext, element, message);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException(String
@@ -322,6 +350,7 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
 
     @Override
     public void resolveElementConflict(SessionContext context, ElementContext elementContext, Element element, Resolution resolution) {
+        ZusammenRoundTrips.record();
         Response<Void> response = elementAdaptorFactory.createInterface(context).resolveConflict(context, elementContext, element, resolution);
         if (!response.isSuccessful()) {
             throw new SdcRuntimeException("Failed to resolve conflict. message:" + response.getReturnCode().toString());
@@ -35,14 +35,28 @@ import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.core.zusammen.api.ZusammenRoundTrips;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
+import org.openecomp.sdc.common.errors.SdcRuntimeException;
+import org.openecomp.sdc.common.session.SessionContextProvider;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.logging.api.LoggingContext;
 
 public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
+    // zusammen has no read of several elements, the elements of a level are read one by one, at most this many at once for a listing
+    private static final int MAX_CONCURRENT_ELEMENT_READS = 8;
     private ZusammenConnector connector;
 
     public ZusammenAdaptorImpl(ZusammenConnector connector) {
@@ -81,6 +95,122 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId, int depth) {
+        Collection<ElementInfo> elementInfoList = connector.listElements(context, elementContext, parentElementId);
+        if (elementInfoList == null) {
+            return new ArrayList<>();
+        }
+        // the reader threads are started on demand and stopped once the listing is read
+        ExecutorService elementReader = Executors.newFixedThreadPool(MAX_CONCURRENT_ELEMENT_READS, runnable -> {
+            Thread thread = new Thread(runnable, "zusammen-element-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return getElementTrees(context, elementContext, elementInfoList.stream().map(ElementInfo::getId).collect(Collectors.toList()), depth,
+                elementReader);
+        } finally {
+            elementReader.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the elements with their sub elements down to the depth one level at a time, the sub elements of all the elements of a level being
+     * read together.
+     */
+    private List<Element> getElementTrees(SessionContext context, ElementContext elementContext, List<Id> elementIds, int depth,
+                                          ExecutorService elementReader) {
+        List<Element> elements = getElements(context, elementContext, elementIds, elementReader);
+        if (depth == 0) {
+            return elements;
+        }
+        List<Element> elementTrees = new ArrayList<>(elements.size());
+        List<ZusammenElement> parents = new ArrayList<>();
+        List<Integer> subElementCounts = new ArrayList<>();
+        List<Id> subElementIds = new ArrayList<>();
+        for (Element element : elements) {
+            if (element == null || element.getSubElements() == null || element.getSubElements().isEmpty()) {
+                elementTrees.add(element);
+                continue;
+            }
+            element.getSubElements().forEach(subElement -> subElementIds.add(subElement.getElementId()));
+            subElementCounts.add(element.getSubElements().size());
+            ZusammenElement elementTree = toZusammenElement(element);
+            parents.add(elementTree);
+            elementTrees.add(elementTree);
+        }
+        Iterator<Element> subElementTrees = getElementTrees(context, elementContext, subElementIds, depth - 1, elementReader).iterator();
+        for (int i = 0; i < parents.size(); i++) {
+            List<Element> subElements = new ArrayList<>(subElementCounts.get(i));
+            for (int j = 0; j < subElementCounts.get(i); j++) {
+                subElements.add(subElementTrees.next());
+            }
+            parents.get(i).setSubElements(subElements);
+        }
+        return elementTrees;
+    }
+
+    /**
+     * Reads the elements on the element reader threads, the calling thread waiting for them. The logging context and the round trips count of
+     * the calling thread, and the session of the context, are carried to the reader threads.
+     */
+    private List<Element> getElements(SessionContext context, ElementContext elementContext, List<Id> elementIds, ExecutorService elementReader) {
+        if (elementIds.size() < 2) {
+            return elementIds.stream().map(elementId -> connector.getElement(context, elementContext, elementId)).collect(Collectors.toList());
+        }
+        List<Future<Element>> elements = elementIds.stream().map(elementId -> elementReader.submit(LoggingContext.copyToCallable(
+            ZusammenRoundTrips.inCurrentRequest(inSession(context, () -> connector.getElement(context, elementContext, elementId))))))
+            .collect(Collectors.toList());
+        try {
+            List<Element> readElements = new ArrayList<>(elements.size());
+            for (Future<Element> element : elements) {
+                readElements.add(element.get());
+            }
+            return readElements;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdcRuntimeException("Interrupted while reading the elements " + elementIds, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SdcRuntimeException("Failed to read the elements " + elementIds, e.getCause());
+        } finally {
+            elements.forEach(element -> element.cancel(true));
+        }
+    }
+
+    /**
+     * @return the callable, run in the session of the user and tenant of the context
+     */
+    private static <V> Callable<V> inSession(SessionContext context, Callable<V> callable) {
+        if (context.getUser() == null) {
+            return callable;
+        }
+        return () -> {
+            SessionContextProvider sessionContextProvider = SessionContextProviderFactory.getInstance().createInterface();
+            sessionContextProvider.create(context.getUser().getUserName(), context.getTenant());
+            try {
+                return callable.call();
+            } finally {
+                sessionContextProvider.close();
+            }
+        };
+    }
+
+    private static ZusammenElement toZusammenElement(Element element) {
+        if (element instanceof ZusammenElement) {
+            return (ZusammenElement) element;
+        }
+        ZusammenElement zusammenElement = new ZusammenElement();
+        zusammenElement.setElementId(element.getElementId());
+        zusammenElement.setInfo(element.getInfo());
+        zusammenElement.setRelations(element.getRelations());
+        zusammenElement.setData(element.getData());
+        return zusammenElement;
+    }
+
     @Override
     public Collection<ElementInfo> listElementsByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
         Optional<ElementInfo> elementInfoByName = getElementInfoByName(context, elementContext, parentElementId, elementName);
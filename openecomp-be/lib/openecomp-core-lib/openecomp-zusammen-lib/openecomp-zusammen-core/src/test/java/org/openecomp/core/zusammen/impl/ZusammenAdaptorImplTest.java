@@ -21,8 +21,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
@@ -30,11 +33,14 @@ import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
 import com.amdocs.zusammen.datatypes.Id;
 import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.UserInfo;
 import com.amdocs.zusammen.datatypes.item.Action;
 import com.amdocs.zusammen.datatypes.item.ElementContext;
 import com.amdocs.zusammen.datatypes.item.Info;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.junit.Before;
@@ -45,6 +51,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
 
 public class ZusammenAdaptorImplTest {
 
@@ -127,6 +134,48 @@ public class ZusammenAdaptorImplTest {
         assertEquals(returnedElements, elements);
     }
 
+    @Test
+    public void listElementsWithTheirSubElementsDataUpToDepth() {
+        doReturn(ELEMENTS.subList(0, 2)).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        Id firstSubElementId = new Id("sub1");
+        Id secondSubElementId = new Id("sub2");
+        Id subSubElementId = new Id("subSub1");
+        ZusammenElement firstElement = createElementWithSubElements(ELEMENTS.get(0).getId(), firstSubElementId, secondSubElementId);
+        ZusammenElement secondElement = createElementWithSubElements(ELEMENTS.get(1).getId());
+        ZusammenElement firstSubElement = createElementWithSubElements(firstSubElementId, subSubElementId);
+        ZusammenElement secondSubElement = createElementWithSubElements(secondSubElementId);
+        doReturn(firstElement).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
+        doReturn(secondElement).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(1).getId());
+        doReturn(firstSubElement).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, firstSubElementId);
+        doReturn(secondSubElement).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, secondSubElementId);
+
+        Collection<Element> elements = zusammenAdaptor.listElementData(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, 1);
+
+        assertEquals(Arrays.asList(firstElement, secondElement), elements);
+        assertEquals(Arrays.asList(firstSubElement, secondSubElement), new ArrayList<>(firstElement.getSubElements()));
+        assertEquals(1, firstSubElement.getSubElements().size());
+        verify(connector, never()).getElement(CONTEXT, ELEMENT_CONTEXT, subSubElementId);
+        verify(connector, never()).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
+    }
+
+    @Test
+    public void readElementsInTheSessionOfTheContext() {
+        SessionContext context = new SessionContext();
+        context.setUser(new UserInfo("user"));
+        context.setTenant("tenant");
+        doReturn(ELEMENTS.subList(0, 2)).when(connector).listElements(context, ELEMENT_CONTEXT, ELEMENT_ID);
+        List<String> sessionTenants = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            sessionTenants.add(SessionContextProviderFactory.getInstance().createInterface().get().getTenant());
+            return createElementWithSubElements(invocation.getArgument(2));
+        }).when(connector).getElement(eq(context), eq(ELEMENT_CONTEXT), any(Id.class));
+
+        Collection<Element> elements = zusammenAdaptor.listElementData(context, ELEMENT_CONTEXT, ELEMENT_ID, 1);
+
+        assertEquals(2, elements.size());
+        assertEquals(Arrays.asList("tenant", "tenant"), sessionTenants);
+    }
+
     @Test
     public void getEmptyListWhenParentElementNameNotExist() {
         doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
@@ -313,4 +362,15 @@ public class ZusammenAdaptorImplTest {
         elementInfo.setInfo(info);
         return elementInfo;
     }
+
+    private static ZusammenElement createElementWithSubElements(Id id, Id... subElementIds) {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(id);
+        for (Id subElementId : subElementIds) {
+            ZusammenElement subElement = new ZusammenElement();
+            subElement.setElementId(subElementId);
+            element.addSubElement(subElement);
+        }
+        return element;
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.itempermissions.dao.impl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
+
+/**
+ * Per node read-through cache of the permission of a user on an item and of the items a user has a permission on. Entries expire after a short
+ * time, so that permissions changed through another node are seen, and are invalidated when permissions are changed through this node.
+ */
+public class PermissionsCache {
+
+    static final long DEFAULT_TIME_TO_LIVE_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final Logger LOGGER = LoggerFactory.getLogger(PermissionsCache.class);
+    private static final int MAX_ENTRIES = 10000;
+    private static final int STATISTICS_LOG_INTERVAL = 1000;
+    private final long timeToLiveMillis;
+    private final LongSupplier clock;
+    private final Map<String, Map<String, CacheEntry<Optional<String>>>> itemUserPermissions = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, CacheEntry<Set<String>>>> userPermittedItems = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAccumulator maxServedAgeMillis = new LongAccumulator(Long::max, 0);
+
+    PermissionsCache() {
+        this(DEFAULT_TIME_TO_LIVE_MILLIS, System::currentTimeMillis);
+    }
+
+    PermissionsCache(long timeToLiveMillis, LongSupplier clock) {
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.clock = clock;
+    }
+
+    Optional<String> getUserItemPermission(String itemId, String userId, Supplier<Optional<String>> loader) {
+        return get(itemUserPermissions, itemId, userId, loader);
+    }
+
+    Set<String> listUserPermittedItems(String userId, String permission, Supplier<Set<String>> loader) {
+        return new HashSet<>(get(userPermittedItems, userId, permission, () -> new HashSet<>(loader.get())));
+    }
+
+    /**
+     * Invalidates the permissions of all users on an item, and the items the given users have a permission on.
+     */
+    void invalidate(String itemId, Collection<String> userIds) {
+        invalidations.increment();
+        itemUserPermissions.remove(itemId);
+        userIds.forEach(userPermittedItems::remove);
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), expirations.sum(), invalidations.sum(), maxServedAgeMillis.get(), timeToLiveMillis);
+    }
+
+    private <T> T get(Map<String, Map<String, CacheEntry<T>>> cache, String key, String subKey, Supplier<T> loader) {
+        long now = clock.getAsLong();
+        Map<String, CacheEntry<T>> entries = cache.get(key);
+        CacheEntry<T> entry = entries == null ? null : entries.get(subKey);
+        if (entry != null && now - entry.loadTime < timeToLiveMillis) {
+            hits.increment();
+            maxServedAgeMillis.accumulate(now - entry.loadTime);
+            logStatistics();
+            return entry.value;
+        }
+        misses.increment();
+        if (entry != null) {
+            expirations.increment();
+        }
+        logStatistics();
+        T value = loader.get();
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(subKey, new CacheEntry<>(value, now));
+        return value;
+    }
+
+    private void logStatistics() {
+        if (LOGGER.isDebugEnabled() && (hits.sum() + misses.sum()) % STATISTICS_LOG_INTERVAL == 0) {
+            LOGGER.debug("Permissions cache: {}", getStatistics());
+        }
+    }
+
+    private static class CacheEntry<T> {
+
+        private final T value;
+        private final long loadTime;
+
+        private CacheEntry(T value, long loadTime) {
+            this.value = value;
+            this.loadTime = loadTime;
+        }
+    }
+
+    /**
+     * Hit rate and staleness of the cache since the node started.
+     */
+    public static class Statistics {
+
+        private final long hits;
+        private final long misses;
+        private final long expirations;
+        private final long invalidations;
+        private final long maxServedAgeMillis;
+        private final long timeToLiveMillis;
+
+        Statistics(long hits, long misses, long expirations, long invalidations, long maxServedAgeMillis, long timeToLiveMillis) {
+            this.hits = hits;
+            this.misses = misses;
+            this.expirations = expirations;
+            this.invalidations = invalidations;
+            this.maxServedAgeMillis = maxServedAgeMillis;
+            this.timeToLiveMillis = timeToLiveMillis;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return the misses on an entry which was cached but had expired
+         */
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        /**
+         * @return the age of the oldest entry served from the cache, the longest a permission change made on another node went unseen
+         */
+        public long getMaxServedAgeMillis() {
+            return maxServedAgeMillis;
+        }
+
+        public long getTimeToLiveMillis() {
+            return timeToLiveMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d expirations=%d invalidations=%d hitRate=%.2f maxServedAgeMillis=%d timeToLiveMillis=%d", hits,
+                misses, expirations, invalidations, getHitRate(), maxServedAgeMillis, timeToLiveMillis);
+        }
+    }
+}
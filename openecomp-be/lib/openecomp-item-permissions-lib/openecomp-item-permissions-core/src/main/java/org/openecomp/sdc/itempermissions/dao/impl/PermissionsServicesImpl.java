@@ -16,6 +16,8 @@
 package org.openecomp.sdc.itempermissions.dao.impl;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import org.openecomp.sdc.common.session.SessionContextProviderFactory;
@@ -34,6 +36,7 @@ public class PermissionsServicesImpl implements PermissionsServices {
     private ItemPermissionsDao itemPermissionsDao;
     private UserPermissionsDao userPermissionsDao;
     private PermissionsRules permissionsRules;
+    private final PermissionsCache permissionsCache = new PermissionsCache();
 
     public PermissionsServicesImpl(PermissionsRules permissionsRules, ItemPermissionsDao itemPermissionsDao, UserPermissionsDao userPermissionsDao) {
         this.itemPermissionsDao = itemPermissionsDao;
@@ -48,7 +51,7 @@ public class PermissionsServicesImpl implements PermissionsServices {
 
     @Override
     public Set<String> listUserPermittedItems(String userId, String permission) {
-        return userPermissionsDao.listUserPermittedItems(userId, permission);
+        return permissionsCache.listUserPermittedItems(userId, permission, () -> userPermissionsDao.listUserPermittedItems(userId, permission));
     }
 
     @Override
@@ -58,12 +61,14 @@ public class PermissionsServicesImpl implements PermissionsServices {
         permissionsRules.updatePermission(itemId, currentUserId, permission, addedUsersIds, removedUsersIds);
         itemPermissionsDao.updateItemPermissions(itemId, permission, addedUsersIds, removedUsersIds);
         userPermissionsDao.updatePermissions(itemId, permission, addedUsersIds, removedUsersIds);
+        Set<String> changedUsersIds = new HashSet<>(addedUsersIds);
+        changedUsersIds.addAll(removedUsersIds);
+        permissionsCache.invalidate(itemId, changedUsersIds);
     }
 
     @Override
     public boolean isAllowed(String itemId, String userId, String action) {
-        return itemPermissionsDao.getUserItemPermission(itemId, userId).map(permission -> permissionsRules.isAllowed(permission, action))
-            .orElse(false);
+        return getUserItemPermission(itemId, userId).map(permission -> permissionsRules.isAllowed(permission, action)).orElse(false);
     }
 
     @Override
@@ -73,11 +78,16 @@ public class PermissionsServicesImpl implements PermissionsServices {
 
     @Override
     public Optional<String> getUserItemPermission(String itemId, String userId) {
-        return itemPermissionsDao.getUserItemPermission(itemId, userId);
+        return permissionsCache.getUserItemPermission(itemId, userId, () -> itemPermissionsDao.getUserItemPermission(itemId, userId));
     }
 
     @Override
     public void deleteItemPermissions(String itemId) {
         itemPermissionsDao.deleteItemPermissions(itemId);
+        permissionsCache.invalidate(itemId, Collections.emptySet());
+    }
+
+    public PermissionsCache.Statistics getCacheStatistics() {
+        return permissionsCache.getStatistics();
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdc.itempermissions.dao.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PermissionsCacheTest {
+
+    private static final String ITEM_ID = "item1";
+    private static final String USER_ID = "user1";
+    private static final String PERMISSION = "Owner";
+    private static final long TIME_TO_LIVE = 1000;
+
+    private final AtomicLong now = new AtomicLong(10000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private PermissionsCache permissionsCache;
+
+    @Before
+    public void setUp() {
+        permissionsCache = new PermissionsCache(TIME_TO_LIVE, now::get);
+    }
+
+    @Test
+    public void permissionIsLoadedOnceWithinTimeToLive() {
+        assertEquals(Optional.of(PERMISSION), getPermission());
+        now.addAndGet(TIME_TO_LIVE - 1);
+        assertEquals(Optional.of(PERMISSION), getPermission());
+
+        assertEquals(1, loads.get());
+        PermissionsCache.Statistics statistics = permissionsCache.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0.5, statistics.getHitRate(), 0);
+        assertEquals(TIME_TO_LIVE - 1, statistics.getMaxServedAgeMillis());
+    }
+
+    @Test
+    public void permissionIsReloadedWhenExpired() {
+        getPermission();
+        now.addAndGet(TIME_TO_LIVE);
+        getPermission();
+
+        assertEquals(2, loads.get());
+        assertEquals(1, permissionsCache.getStatistics().getExpirations());
+    }
+
+    @Test
+    public void missingPermissionIsCached() {
+        assertFalse(permissionsCache.getUserItemPermission(ITEM_ID, USER_ID, this::loadNoPermission).isPresent());
+        assertFalse(permissionsCache.getUserItemPermission(ITEM_ID, USER_ID, this::loadNoPermission).isPresent());
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void invalidatedItemAndUsersAreReloaded() {
+        getPermission();
+        getPermittedItems();
+
+        permissionsCache.invalidate(ITEM_ID, Collections.singleton(USER_ID));
+        getPermission();
+        getPermittedItems();
+
+        assertEquals(4, loads.get());
+        assertEquals(1, permissionsCache.getStatistics().getInvalidations());
+    }
+
+    @Test
+    public void permittedItemsAreCopied() {
+        getPermittedItems().add("item2");
+
+        Set<String> permittedItems = getPermittedItems();
+
+        assertEquals(Collections.singleton(ITEM_ID), permittedItems);
+        assertTrue(permissionsCache.getStatistics().getHits() > 0);
+    }
+
+    private Optional<String> getPermission() {
+        return permissionsCache.getUserItemPermission(ITEM_ID, USER_ID, () -> {
+            loads.incrementAndGet();
+            return Optional.of(PERMISSION);
+        });
+    }
+
+    private Optional<String> loadNoPermission() {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private Set<String> getPermittedItems() {
+        return permissionsCache.listUserPermittedItems(USER_ID, PERMISSION, () -> {
+            loads.incrementAndGet();
+            return Collections.singleton(ITEM_ID);
+        });
+    }
+}
@@ -158,6 +158,31 @@ public class PermissionsServicesImplTest {
         verify(permissionsDaoMock).updateItemPermissions(ITEM1_ID, PERMISSION, addedUsers, new HashSet<>());
     }
 
+    @Test
+    public void shouldReadUserItemPermissionOnceUntilPermissionsAreUpdated() {
+        doReturn(Optional.of(PERMISSION)).when(permissionsDaoMock).getUserItemPermission(ITEM1_ID, USER2_ID);
+
+        permissionsServices.getUserItemPermission(ITEM1_ID, USER2_ID);
+        permissionsServices.isAllowed(ITEM1_ID, USER2_ID, ACTION_SUBMIT);
+        permissionsServices.updateItemPermissions(ITEM1_ID, PERMISSION, Collections.singleton(USER2_ID), new HashSet<>());
+        permissionsServices.getUserItemPermission(ITEM1_ID, USER2_ID);
+
+        verify(permissionsDaoMock, times(2)).getUserItemPermission(ITEM1_ID, USER2_ID);
+        Assert.assertEquals(1, permissionsServices.getCacheStatistics().getHits());
+    }
+
+    @Test
+    public void shouldReadUserPermittedItemsAgainWhenUserPermissionsAreUpdated() {
+        doReturn(Collections.singleton(ITEM1_ID)).when(userPermissionsDao).listUserPermittedItems(USER2_ID, PERMISSION);
+
+        permissionsServices.listUserPermittedItems(USER2_ID, PERMISSION);
+        permissionsServices.listUserPermittedItems(USER2_ID, PERMISSION);
+        permissionsServices.updateItemPermissions(ITEM1_ID, PERMISSION, new HashSet<>(), Collections.singleton(USER2_ID));
+        permissionsServices.listUserPermittedItems(USER2_ID, PERMISSION);
+
+        verify(userPermissionsDao, times(2)).listUserPermittedItems(USER2_ID, PERMISSION);
+    }
+
     @Test
     public void shouldExecutePermissionRules() {
         permissionsServices.execute(ITEM1_ID, USER1_ID, ACTION_SUBMIT);
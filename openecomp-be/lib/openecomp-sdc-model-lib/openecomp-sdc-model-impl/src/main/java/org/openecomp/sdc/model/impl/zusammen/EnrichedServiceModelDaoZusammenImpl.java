@@ -57,6 +57,7 @@ public class EnrichedServiceModelDaoZusammenImpl extends ServiceModelDaoZusammen
         vspModel.addSubElement(enrichedServiceModel);
         SessionContext context = ZusammenUtil.createSessionContext();
         ElementContext elementContext = new ElementContext(serviceArtifact.getVspId(), serviceArtifact.getVersion().getId());
+        invalidateCachedServiceModel(serviceArtifact.getVspId(), serviceArtifact.getVersion().getId());
         zusammenAdaptor.saveElement(context, elementContext, vspModel, "add service external artifact.");
         logger.info("Finished adding artifact to enriched service model for VendorSoftwareProduct id -> {}", elementContext.getItemId().getValue());
     }
@@ -0,0 +1,129 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.model.impl.zusammen;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import org.openecomp.core.utilities.file.FileContentHandler;
+import org.openecomp.sdc.common.session.SessionContext;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+/**
+ * Cache of the service models read from zusammen, by tenant, vsp and version, bounded by its number of entries and by the size of the
+ * artifacts of the models it keeps. An entry is only used while the revision it was read at, the modification time of the version, is still
+ * the current one, so that a model changed by another instance, a sync, a revert or in the private workspace of another user is read again.
+ * Models are handed out as copies whose service template map and artifacts can be changed, the service templates themselves are shared and
+ * must not be modified in place.
+ */
+class ServiceModelCache {
+
+    private final int maxEntries;
+    private final long maxArtifactBytes;
+    private final LinkedHashMap<String, CachedServiceModel> serviceModels = new LinkedHashMap<>(16, 0.75f, true);
+    private long artifactBytes;
+
+    ServiceModelCache(int maxEntries, long maxArtifactBytes) {
+        this.maxEntries = maxEntries;
+        this.maxArtifactBytes = maxArtifactBytes;
+    }
+
+    /**
+     * @return the key of a version of a vsp of the tenant of the current session
+     */
+    static String createKey(String vspId, String versionId) {
+        SessionContext context = SessionContextProviderFactory.getInstance().createInterface().get();
+        return context.getTenant() + '|' + vspId + '|' + versionId;
+    }
+
+    synchronized Optional<ToscaServiceModel> get(String key, Date revision) {
+        if (revision == null) {
+            return Optional.empty();
+        }
+        CachedServiceModel cachedServiceModel = serviceModels.get(key);
+        if (cachedServiceModel == null || !revision.equals(cachedServiceModel.revision)) {
+            return Optional.empty();
+        }
+        return Optional.of(copy(cachedServiceModel.serviceModel));
+    }
+
+    /**
+     * Keeps a model, evicting the least recently used ones over the bounds. A model whose artifacts alone are over the size bound isn't kept.
+     */
+    synchronized void put(String key, Date revision, ToscaServiceModel serviceModel) {
+        if (revision == null || serviceModel == null) {
+            return;
+        }
+        invalidate(key);
+        long weight = getArtifactBytes(serviceModel);
+        if (weight > maxArtifactBytes) {
+            return;
+        }
+        serviceModels.put(key, new CachedServiceModel(revision, copy(serviceModel), weight));
+        artifactBytes += weight;
+        Iterator<CachedServiceModel> eldest = serviceModels.values().iterator();
+        while (serviceModels.size() > maxEntries || artifactBytes > maxArtifactBytes) {
+            artifactBytes -= eldest.next().weight;
+            eldest.remove();
+        }
+    }
+
+    synchronized void invalidate(String key) {
+        CachedServiceModel removed = serviceModels.remove(key);
+        if (removed != null) {
+            artifactBytes -= removed.weight;
+        }
+    }
+
+    synchronized long getArtifactBytes() {
+        return artifactBytes;
+    }
+
+    private static long getArtifactBytes(ToscaServiceModel serviceModel) {
+        if (serviceModel.getArtifactFiles() == null) {
+            return 0;
+        }
+        return serviceModel.getArtifactFiles().getFiles().values().stream().filter(Objects::nonNull).mapToLong(content -> content.length).sum();
+    }
+
+    private static ToscaServiceModel copy(ToscaServiceModel serviceModel) {
+        return new ToscaServiceModel(serviceModel.getModelList() == null ? null : new ArrayList<>(serviceModel.getModelList()),
+            serviceModel.getArtifactFiles() == null ? null : new FileContentHandler(serviceModel.getArtifactFiles()),
+            new HashMap<>(serviceModel.getServiceTemplates()), serviceModel.getEntryDefinitionServiceTemplate());
+    }
+
+    private static class CachedServiceModel {
+
+        private final Date revision;
+        private final ToscaServiceModel serviceModel;
+        private final long weight;
+
+        private CachedServiceModel(Date revision, ToscaServiceModel serviceModel, long weight) {
+            this.revision = revision;
+            this.serviceModel = serviceModel;
+            this.weight = weight;
+        }
+    }
+}
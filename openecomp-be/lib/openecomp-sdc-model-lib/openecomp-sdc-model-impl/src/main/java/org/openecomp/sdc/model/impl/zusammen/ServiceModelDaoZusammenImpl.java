@@ -32,9 +32,11 @@ import com.amdocs.zusammen.datatypes.SessionContext;
 import com.amdocs.zusammen.datatypes.item.Action;
 import com.amdocs.zusammen.datatypes.item.ElementContext;
 import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
 import java.io.ByteArrayInputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -59,6 +61,10 @@ import org.openecomp.types.ElementPropertyName;
 public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaServiceModel> {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceModelDaoZusammenImpl.class);
+    private static final int SERVICE_MODEL_CACHE_MAX_ENTRIES = 20;
+    private static final long SERVICE_MODEL_CACHE_MAX_ARTIFACT_BYTES = 64L * 1024 * 1024;
+    private final ServiceModelCache serviceModelCache = new ServiceModelCache(SERVICE_MODEL_CACHE_MAX_ENTRIES,
+        SERVICE_MODEL_CACHE_MAX_ARTIFACT_BYTES);
     protected ZusammenAdaptor zusammenAdaptor;
     protected ElementType elementType;
 
@@ -74,6 +80,12 @@ public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaService
     @Override
     public ToscaServiceModel getServiceModel(final String vspId, final Version version) {
         final var context = ZusammenUtil.createSessionContext();
+        final String cacheKey = ServiceModelCache.createKey(vspId, version.getId());
+        final Date revision = getRevision(context, vspId, version);
+        final Optional<ToscaServiceModel> cachedServiceModel = serviceModelCache.get(cacheKey, revision);
+        if (cachedServiceModel.isPresent()) {
+            return cachedServiceModel.get();
+        }
         final var elementContext = new ElementContext(vspId, version.getId());
         final Optional<ElementInfo> serviceModelOpt = getServiceModelElementInfo(context, elementContext);
         if (serviceModelOpt.isEmpty()) {
@@ -88,7 +100,9 @@ public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaService
         final FileContentHandler artifacts = getArtifacts(context, elementContext, serviceModelElementId);
         final String entryDefinitionServiceTemplate = serviceModelElementInfo.getInfo().getProperty(BASE.getName());
         final List<String> modelList = serviceModelElementInfo.getInfo().getProperty(MODELS.getName());
-        return new ToscaServiceModel(modelList, artifacts, serviceTemplates, entryDefinitionServiceTemplate);
+        final var serviceModel = new ToscaServiceModel(modelList, artifacts, serviceTemplates, entryDefinitionServiceTemplate);
+        serviceModelCache.put(cacheKey, revision, serviceModel);
+        return serviceModel;
     }
 
     @Override
@@ -112,6 +126,7 @@ public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaService
         vspModel.addSubElement(serviceModelElement);
         final var context = ZusammenUtil.createSessionContext();
         final var elementContext = new ElementContext(vspId, version.getId());
+        invalidateCachedServiceModel(vspId, version.getId());
         zusammenAdaptor.saveElement(context, elementContext, vspModel, "Store service model");
         logger.info("Finished storing {} for VendorSoftwareProduct id -> {}", elementType.name(), vspId);
     }
@@ -121,6 +136,7 @@ public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaService
         logger.info("Started deleting content of Templates and Artifacts of {} of vsp {} version {}", elementType.name(), vspId, version.getId());
         SessionContext context = ZusammenUtil.createSessionContext();
         ElementContext elementContext = new ElementContext(vspId, version.getId());
+        invalidateCachedServiceModel(vspId, version.getId());
         Optional<ElementInfo> serviceModel = getServiceModelElementInfo(context, elementContext);
         if (serviceModel.isEmpty()) {
             logger.info("{} of vsp {} version {} does not exist - nothing to delete", elementType.name(), vspId, version.getId());
@@ -150,6 +166,7 @@ public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaService
     public void overrideServiceModel(String vspId, Version version, ToscaServiceModel serviceModel) {
         SessionContext context = ZusammenUtil.createSessionContext();
         ElementContext elementContext = new ElementContext(vspId, version.getId());
+        invalidateCachedServiceModel(vspId, version.getId());
         Optional<ElementInfo> origServiceModel = getServiceModelElementInfo(context, elementContext);
         if (!origServiceModel.isPresent()) {
             return;
@@ -161,6 +178,18 @@ public class ServiceModelDaoZusammenImpl implements ServiceModelDao<ToscaService
         zusammenAdaptor.saveElement(context, elementContext, serviceModelElement, "Override service model");
     }
 
+    protected void invalidateCachedServiceModel(String vspId, String versionId) {
+        serviceModelCache.invalidate(ServiceModelCache.createKey(vspId, versionId));
+    }
+
+    /**
+     * @return the modification time of the version, which changes with every change of its elements, null if the version was not found
+     */
+    private Date getRevision(SessionContext context, String vspId, Version version) {
+        ItemVersion itemVersion = zusammenAdaptor.getVersion(context, new Id(vspId), new Id(version.getId()));
+        return itemVersion == null ? null : itemVersion.getModificationTime();
+    }
+
     private void overrideServiceTemplates(Id serviceModelElementId, ToscaServiceModel serviceModel, SessionContext context,
                                           ElementContext elementContext, ZusammenElement serviceModelElement) {
         Optional<ElementInfo> elementInfo = zusammenAdaptor
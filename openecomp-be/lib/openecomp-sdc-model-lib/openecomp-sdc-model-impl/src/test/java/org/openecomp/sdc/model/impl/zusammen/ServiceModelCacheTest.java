@@ -0,0 +1,115 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.model.impl.zusammen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+import org.openecomp.core.utilities.file.FileContentHandler;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+class ServiceModelCacheTest {
+
+    private static final Date REVISION = new Date(1000);
+
+    @Test
+    void modelIsOnlyServedForTheRevisionItWasReadAt() {
+        ServiceModelCache cache = new ServiceModelCache(10, 100);
+        cache.put("vsp1", REVISION, createServiceModel(10));
+
+        assertTrue(cache.get("vsp1", new Date(REVISION.getTime())).isPresent());
+        assertFalse(cache.get("vsp1", new Date(2000)).isPresent());
+        assertFalse(cache.get("vsp1", null).isPresent());
+        assertFalse(cache.get("vsp2", REVISION).isPresent());
+    }
+
+    @Test
+    void servedModelsAreCopies() {
+        ServiceModelCache cache = new ServiceModelCache(10, 100);
+        cache.put("vsp1", REVISION, createServiceModel(10));
+
+        cache.get("vsp1", REVISION).get().getArtifactFiles().addFile("other", new byte[5]);
+
+        assertEquals(1, cache.get("vsp1", REVISION).get().getArtifactFiles().getFiles().size());
+        assertEquals(10, cache.getArtifactBytes());
+    }
+
+    @Test
+    void leastRecentlyUsedModelsAreEvictedOverTheArtifactSizeBound() {
+        ServiceModelCache cache = new ServiceModelCache(10, 100);
+        cache.put("vsp1", REVISION, createServiceModel(40));
+        cache.put("vsp2", REVISION, createServiceModel(40));
+        cache.get("vsp1", REVISION);
+
+        cache.put("vsp3", REVISION, createServiceModel(40));
+
+        assertTrue(cache.get("vsp1", REVISION).isPresent());
+        assertFalse(cache.get("vsp2", REVISION).isPresent());
+        assertTrue(cache.get("vsp3", REVISION).isPresent());
+        assertEquals(80, cache.getArtifactBytes());
+    }
+
+    @Test
+    void leastRecentlyUsedModelsAreEvictedOverTheEntryBound() {
+        ServiceModelCache cache = new ServiceModelCache(2, 100);
+        cache.put("vsp1", REVISION, createServiceModel(0));
+        cache.put("vsp2", REVISION, createServiceModel(0));
+        cache.put("vsp3", REVISION, createServiceModel(0));
+
+        assertFalse(cache.get("vsp1", REVISION).isPresent());
+        assertTrue(cache.get("vsp2", REVISION).isPresent());
+        assertTrue(cache.get("vsp3", REVISION).isPresent());
+    }
+
+    @Test
+    void modelOverTheArtifactSizeBoundIsNotKept() {
+        ServiceModelCache cache = new ServiceModelCache(10, 100);
+        cache.put("vsp1", REVISION, createServiceModel(40));
+
+        cache.put("vsp2", REVISION, createServiceModel(101));
+
+        assertTrue(cache.get("vsp1", REVISION).isPresent());
+        assertFalse(cache.get("vsp2", REVISION).isPresent());
+        assertEquals(40, cache.getArtifactBytes());
+    }
+
+    @Test
+    void replacedAndInvalidatedModelsReleaseTheirArtifactSize() {
+        ServiceModelCache cache = new ServiceModelCache(10, 100);
+        cache.put("vsp1", REVISION, createServiceModel(40));
+        cache.put("vsp1", new Date(2000), createServiceModel(30));
+        assertEquals(30, cache.getArtifactBytes());
+
+        cache.invalidate("vsp1");
+
+        assertFalse(cache.get("vsp1", new Date(2000)).isPresent());
+        assertEquals(0, cache.getArtifactBytes());
+    }
+
+    private static ToscaServiceModel createServiceModel(int artifactBytes) {
+        FileContentHandler artifacts = new FileContentHandler();
+        artifacts.addFile("artifact", new byte[artifactBytes]);
+        return new ToscaServiceModel(null, artifacts, new HashMap<>(), "MainServiceTemplate.yaml");
+    }
+}
@@ -21,6 +21,7 @@ package org.openecomp.sdc.notification.dao;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.openecomp.core.dao.BaseDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
@@ -42,5 +43,14 @@ public interface NotificationsDao extends BaseDao<NotificationEntity> {
 
     void markNotificationAsRead(String ownerId, Collection<UUID> eventIds);
 
+    /**
+     * Creates the notifications, recording each of them in the notification changes.
+     */
     void createBatch(List<NotificationEntity> notificationEntities);
+
+    /**
+     * @return the owners of the notifications recorded in the notification changes from the given time on, each with the id of its latest
+     * notification
+     */
+    Map<String, UUID> getOwnersNotifiedSince(long time);
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2016-2017 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.notification.dao.types;
+
+import com.datastax.driver.mapping.annotations.ClusteringColumn;
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Records that a notification was created for an owner, so that the notification workers of every node can find the owners to read
+ * notifications for with a single query. The changes of an hour share a bucket, and expire with the time to live of the table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(keyspace = "dox", name = "notification_changes")
+public class NotificationChangeEntity {
+
+    @PartitionKey
+    @Column(name = "bucket")
+    private String bucket;
+    @ClusteringColumn
+    @Column(name = "event_id")
+    private UUID eventId;
+    @ClusteringColumn(1)
+    @Column(name = "owner_id")
+    private String ownerId;
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2016-2017 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.notification.dtos;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * The owners notified since a previous scan of the notification changes, each with the id of its latest notification.
+ */
+@Getter
+public class NotificationChanges {
+
+    private final Map<String, UUID> changedOwners;
+    private final UUID lastScanned;
+    private final boolean catchUpRequired;
+
+    private NotificationChanges(Map<String, UUID> changedOwners, UUID lastScanned, boolean catchUpRequired) {
+        this.changedOwners = changedOwners;
+        this.lastScanned = lastScanned;
+        this.catchUpRequired = catchUpRequired;
+    }
+
+    public static NotificationChanges of(Map<String, UUID> changedOwners, UUID lastScanned) {
+        return new NotificationChanges(changedOwners, lastScanned, false);
+    }
+
+    /**
+     * The changes since the previous scan are unknown, so the notifications of every owner must be read.
+     */
+    public static NotificationChanges catchUp(UUID lastScanned) {
+        return new NotificationChanges(Collections.emptyMap(), lastScanned, true);
+    }
+}
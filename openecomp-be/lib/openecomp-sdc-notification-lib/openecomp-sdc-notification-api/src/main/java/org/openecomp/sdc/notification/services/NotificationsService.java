@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.UUID;
 import org.openecomp.sdc.notification.dao.types.LastSeenNotificationEntity;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dtos.NotificationChanges;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 
@@ -45,4 +46,9 @@ public interface NotificationsService {
     List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId);
 
     List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId, int limit);
+
+    /**
+     * @param lastScanned the last scanned change returned by the previous call, null on the first one
+     */
+    NotificationChanges getNotificationChanges(UUID lastScanned);
 }
@@ -29,18 +29,25 @@ import com.datastax.driver.mapping.Mapper;
 import com.datastax.driver.mapping.Result;
 import com.datastax.driver.mapping.annotations.Accessor;
 import com.datastax.driver.mapping.annotations.Query;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.openecomp.core.dao.impl.CassandraBaseDao;
 import org.openecomp.core.nosqldb.api.NoSqlDb;
 import org.openecomp.core.nosqldb.factory.NoSqlDbFactory;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
+import org.openecomp.sdc.notification.dao.types.NotificationChangeEntity;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 //import org.openecomp.sdc.notification.dao.types.LastSeenNotificationEntity;
@@ -51,6 +58,9 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
     private static final NoSqlDb noSqlDb = NoSqlDbFactory.getInstance().createInterface();
     private static final Mapper<NotificationEntity> mapper = noSqlDb.getMappingManager().mapper(NotificationEntity.class);
     private static final NotificationsAccessor accessor = noSqlDb.getMappingManager().createAccessor(NotificationsAccessor.class);
+    private static final Mapper<NotificationChangeEntity> changeMapper = noSqlDb.getMappingManager().mapper(NotificationChangeEntity.class);
+    private static final long CHANGES_BUCKET_MSEC = TimeUnit.HOURS.toMillis(1);
+    private static final DateTimeFormatter CHANGES_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
 
     @Override
     protected Mapper<NotificationEntity> getMapper() {
@@ -175,9 +185,28 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
         BatchStatement batch = new BatchStatement();
         List<Statement> statements = notificationEntities.stream().map(mapper::saveQuery).collect(Collectors.toList());
         batch.addAll(statements);
+        notificationEntities.forEach(notification -> batch.add(changeMapper.saveQuery(
+            new NotificationChangeEntity(getChangesBucket(UUIDs.unixTimestamp(notification.getEventId())), notification.getEventId(),
+                notification.getOwnerId()))));
         getSession().execute(batch);
     }
 
+    @Override
+    public Map<String, UUID> getOwnersNotifiedSince(long time) {
+        Map<String, UUID> owners = new HashMap<>();
+        UUID since = UUIDs.startOf(time);
+        long now = System.currentTimeMillis();
+        for (long bucketTime = time; bucketTime < now + CHANGES_BUCKET_MSEC; bucketTime += CHANGES_BUCKET_MSEC) {
+            // the changes of a bucket are in the order of their event ids, so the last one of an owner is its latest
+            accessor.getChanges(getChangesBucket(bucketTime), since).forEach(change -> owners.put(change.getOwnerId(), change.getEventId()));
+        }
+        return owners;
+    }
+
+    private static String getChangesBucket(long time) {
+        return CHANGES_BUCKET_FORMAT.format(Instant.ofEpochMilli(time));
+    }
+
     @Accessor
     interface NotificationsAccessor {
 
@@ -198,6 +227,9 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
 
         @Query("update notifications set read=true where owner_id=? and event_id=?")
         ResultSet markAsRead(String ownerId, UUID eventId);
+
+        @Query("select * from notification_changes where bucket=? and event_id >= ?")
+        Result<NotificationChangeEntity> getChanges(String bucket, UUID since);
     }
 
     private class NotificationsStatusImpl implements NotificationsStatus {
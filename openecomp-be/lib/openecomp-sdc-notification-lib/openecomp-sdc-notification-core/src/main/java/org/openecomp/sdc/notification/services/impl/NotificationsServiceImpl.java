@@ -19,13 +19,16 @@
  */
 package org.openecomp.sdc.notification.services.impl;
 
+import com.datastax.driver.core.utils.UUIDs;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.openecomp.sdc.notification.dao.LastNotificationDao;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.LastSeenNotificationEntity;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dtos.NotificationChanges;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 import org.openecomp.sdc.notification.services.NotificationsService;
@@ -36,6 +39,10 @@ import org.openecomp.sdc.notification.services.NotificationsService;
  */
 public class NotificationsServiceImpl implements NotificationsService {
 
+    // a scan reaches back before the last scanned change, for the changes recorded late or by a node with a clock behind
+    private static final long CHANGES_OVERLAP_MSEC = TimeUnit.SECONDS.toMillis(30);
+    // well within the time to live of the notification changes
+    private static final long MAX_CHANGES_AGE_MSEC = TimeUnit.HOURS.toMillis(1);
     private LastNotificationDao lastNotificationDao;
     private NotificationsDao notificationsDao;
 
@@ -98,4 +105,18 @@ public class NotificationsServiceImpl implements NotificationsService {
     public List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId, int limit) {
         return notificationsDao.getNewNotificationsByOwnerId(ownerId, eventId, limit);
     }
+
+    /**
+     * The owners found in the overlap of two scans are found twice, the caller telling them apart with the id of their latest
+     * notification. When the last scanned change is unknown, or older than the changes kept, every owner has to be caught up.
+     */
+    @Override
+    public NotificationChanges getNotificationChanges(UUID lastScanned) {
+        long now = System.currentTimeMillis();
+        UUID scanned = UUIDs.startOf(now);
+        if (Objects.isNull(lastScanned) || lastScanned.version() != 1 || now - UUIDs.unixTimestamp(lastScanned) > MAX_CHANGES_AGE_MSEC) {
+            return NotificationChanges.catchUp(scanned);
+        }
+        return NotificationChanges.of(notificationsDao.getOwnersNotifiedSince(UUIDs.unixTimestamp(lastScanned) - CHANGES_OVERLAP_MSEC), scanned);
+    }
 }
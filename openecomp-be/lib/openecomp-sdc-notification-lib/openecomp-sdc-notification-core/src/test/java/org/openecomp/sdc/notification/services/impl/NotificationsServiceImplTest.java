@@ -20,6 +20,7 @@
 
 package org.openecomp.sdc.notification.services.impl;
 
+import com.datastax.driver.core.utils.UUIDs;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -29,11 +30,20 @@ import org.mockito.Spy;
 import org.openecomp.sdc.notification.dao.LastNotificationDao;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dtos.NotificationChanges;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -65,4 +75,31 @@ public class NotificationsServiceImplTest {
         doReturn(null).when(notificationsDao).get(any());
         notificationsService.markAsRead("ownerId", UUID.randomUUID().toString());
     }
+
+    @Test
+    public void shouldCatchUpWithoutLastScannedChange() {
+        NotificationChanges changes = notificationsService.getNotificationChanges(null);
+        assertTrue(changes.isCatchUpRequired());
+        assertTrue(changes.getChangedOwners().isEmpty());
+        assertNotNull(changes.getLastScanned());
+        verify(notificationsDao, never()).getOwnersNotifiedSince(anyLong());
+    }
+
+    @Test
+    public void shouldCatchUpWhenLastScannedChangeIsTooOld() {
+        UUID lastScanned = UUIDs.startOf(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+        assertTrue(notificationsService.getNotificationChanges(lastScanned).isCatchUpRequired());
+        verify(notificationsDao, never()).getOwnersNotifiedSince(anyLong());
+    }
+
+    @Test
+    public void shouldScanTheChangesFromBeforeTheLastScannedOne() {
+        long lastScannedTime = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(2);
+        Map<String, UUID> owners = Collections.singletonMap("ownerId", UUIDs.timeBased());
+        doReturn(owners).when(notificationsDao).getOwnersNotifiedSince(lastScannedTime - TimeUnit.SECONDS.toMillis(30));
+        NotificationChanges changes = notificationsService.getNotificationChanges(UUIDs.startOf(lastScannedTime));
+        assertFalse(changes.isCatchUpRequired());
+        assertEquals(owners, changes.getChangedOwners());
+        assertTrue(UUIDs.unixTimestamp(changes.getLastScanned()) > lastScannedTime);
+    }
 }
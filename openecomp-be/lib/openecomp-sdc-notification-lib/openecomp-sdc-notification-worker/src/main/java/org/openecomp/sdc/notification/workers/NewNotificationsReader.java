@@ -20,9 +20,18 @@
 package org.openecomp.sdc.notification.workers;
 
 import java.util.UUID;
+import org.openecomp.sdc.notification.types.NotificationChangesDto;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 
 public interface NewNotificationsReader {
 
     NotificationsStatusDto getNewNotifications(String ownerId, UUID eventId, int limit);
+
+    /**
+     * Reads the owners notified since the last scanned notification change. Returns null when the changes cannot be read, in which case
+     * the notifications of every registered owner are read.
+     */
+    default NotificationChangesDto getNotificationChanges(UUID lastScanned) {
+        return null;
+    }
 }
@@ -22,24 +22,37 @@ package org.openecomp.sdc.notification.workers;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.config.NotificationConfigurationManager;
+import org.openecomp.sdc.notification.types.NotificationChangesDto;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 
+/**
+ * Delivers the new notifications of the users registered with this worker. Every pollingIntervalMsec the worker scans the notification
+ * changes recorded by the onboarding backend and only reads the notifications of the registered users who were notified since the previous
+ * scan. The notifications of every registered user are read when the changes are unavailable or too old to be scanned. A user who just
+ * registered is polled right away, without waiting for the next scan.
+ */
 public class NotificationWorker {
 
     private static final int DEFAULT_POLLING_INTERVAL = 2000;
     private static final String POLLING_INTERVAL = "pollingIntervalMsec";
     private static final int DEFAULT_SELECTION_LIMIT = 10;
     private static final String SELECTION_SIZE = "selectionSize";
+    private static final int TIME_BASED_UUID_VERSION = 1;
     private static final Logger LOGGER = LoggerFactory.getLogger(NotificationWorker.class);
-    private static boolean stopRunning = false;
-    private static Map<String, NotificationReceiver> activeUsers = new ConcurrentHashMap<>();
+    private final Map<String, NotificationReceiver> activeUsers = new ConcurrentHashMap<>();
+    private final Queue<String> registeredOwners = new ConcurrentLinkedQueue<>();
+    private final Object pollingSignal = new Object();
+    private boolean pollingRequested = false;
+    private volatile boolean stopRunning = false;
     private int selectionLimit = DEFAULT_SELECTION_LIMIT;
     private int pollingSleepInterval = DEFAULT_POLLING_INTERVAL;
     private NewNotificationsReader news = null;
@@ -63,6 +76,8 @@ public class NotificationWorker {
         NotificationReceiver receiver = new NotificationReceiver(ownerId, lastDelivered, notesProcessor);
         activeUsers.put(ownerId, receiver);
         LOGGER.debug("User {} is registered with eventId: {}", ownerId, receiver.getLastEventId());
+        registeredOwners.add(ownerId);
+        signalPolling();
     }
 
     public void unregister(String ownerId) {
@@ -73,16 +88,42 @@ public class NotificationWorker {
     public void stopPolling() {
         LOGGER.debug("Stop notification polling.");
         stopRunning = true;
+        signalPolling();
+    }
+
+    private void signalPolling() {
+        synchronized (pollingSignal) {
+            pollingRequested = true;
+            pollingSignal.notifyAll();
+        }
+    }
+
+    /**
+     * Whether the event was created after the last delivered one. Event ids which are not time based are always considered newer, so
+     * that their owner is polled rather than missed.
+     */
+    static boolean isNewer(UUID eventId, UUID lastEventId) {
+        if (Objects.isNull(lastEventId) || eventId.version() != TIME_BASED_UUID_VERSION || lastEventId.version() != TIME_BASED_UUID_VERSION) {
+            return !eventId.equals(lastEventId);
+        }
+        return eventId.timestamp() > lastEventId.timestamp() || (eventId.timestamp() == lastEventId.timestamp() && !eventId.equals(lastEventId));
     }
 
     public class Poller extends Thread {
 
+        private UUID lastScannedChange = null;
+
         @Override
         public void run() {
             try {
+                long nextScan = 0;
                 while (!stopRunning) {
-                    pollNotifications();
-                    Thread.sleep(pollingSleepInterval);
+                    if (System.currentTimeMillis() >= nextScan) {
+                        pollChangedOwners();
+                        nextScan = System.currentTimeMillis() + pollingSleepInterval;
+                    }
+                    pollRegisteredOwners();
+                    waitForPolling(nextScan - System.currentTimeMillis());
                 }
             } catch (InterruptedException e) {
                 LOGGER.error("Interrupted Exception during Notification poller launch.", e);
@@ -90,17 +131,52 @@ public class NotificationWorker {
             }
         }
 
-        private void pollNotifications() {
-            Map<String, NotificationReceiver> currUsers = new HashMap<>();
-            currUsers.putAll(getActiveUsers());
-            for (NotificationReceiver receiver : currUsers.values()) {
-                String ownerId = receiver.getOwnerId();
-                UUID eventId = receiver.getLastEventId();
-                NotificationsStatusDto status = news.getNewNotifications(ownerId, eventId, selectionLimit);
-                if (Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
-                    receiver.setLastEventId(status.getLastScanned());
-                    receiver.getNotesProcessor().accept(status);
+        private void pollChangedOwners() {
+            NotificationChangesDto changes = news.getNotificationChanges(lastScannedChange);
+            if (Objects.isNull(changes) || changes.isCatchUpRequired()) {
+                pollAllOwners();
+            } else {
+                changes.getChangedOwners().forEach((ownerId, eventId) -> {
+                    NotificationReceiver receiver = activeUsers.get(ownerId);
+                    if (Objects.nonNull(receiver) && isNewer(eventId, receiver.getLastEventId())) {
+                        pollOwner(receiver);
+                    }
+                });
+            }
+            if (Objects.nonNull(changes)) {
+                lastScannedChange = changes.getLastScanned();
+            }
+        }
+
+        private void pollAllOwners() {
+            Map<String, NotificationReceiver> currUsers = new HashMap<>(getActiveUsers());
+            currUsers.values().forEach(this::pollOwner);
+        }
+
+        private void pollRegisteredOwners() {
+            String ownerId;
+            while ((ownerId = registeredOwners.poll()) != null) {
+                NotificationReceiver receiver = activeUsers.get(ownerId);
+                if (Objects.nonNull(receiver)) {
+                    pollOwner(receiver);
+                }
+            }
+        }
+
+        private void pollOwner(NotificationReceiver receiver) {
+            NotificationsStatusDto status = news.getNewNotifications(receiver.getOwnerId(), receiver.getLastEventId(), selectionLimit);
+            if (Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
+                receiver.setLastEventId(status.getLastScanned());
+                receiver.getNotesProcessor().accept(status);
+            }
+        }
+
+        private void waitForPolling(long timeout) throws InterruptedException {
+            synchronized (pollingSignal) {
+                if (!pollingRequested && timeout > 0) {
+                    pollingSignal.wait(timeout);
                 }
+                pollingRequested = false;
             }
         }
     }
@@ -25,12 +25,14 @@ import java.util.UUID;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.config.NotificationConfigurationManager;
+import org.openecomp.sdc.notification.types.NotificationChangesDto;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 import org.openecomp.sdc.notification.workers.NewNotificationsReader;
 
@@ -39,11 +41,13 @@ public class NewNotificationsReaderRestImpl implements NewNotificationsReader {
     private static final String USER_ID_HEADER_PARAM = "USER_ID";
     private static final String LAST_DELIVERED_QUERY_PARAM = "LAST_DELIVERED_EVENT_ID";
     private static final String LIMIT_QUERY_PARAM = "NOTIFICATION_ROWS_LIMIT";
+    private static final String LAST_SCANNED_QUERY_PARAM = "LAST_SCANNED_EVENT_ID";
     private static final String BE_HOST = "beHost";
     private static final String BE_PORT = "beHttpPort";
     private static final String DEFAULT_BE_HOST = "localhost";
     private static final int DEFAULT_BE_PORT = 8080;
     private static final String URL = "http://%s:%d/onboarding-api/v1.0/notifications/worker?";
+    private static final String CHANGES_URL = "http://%s:%d/onboarding-api/v1.0/notifications/worker/changes";
     private static final ObjectMapper mapper = new ObjectMapper();
     private static final Logger LOGGER = LoggerFactory.getLogger(NewNotificationsReaderRestImpl.class);
     private static String beHost;
@@ -74,4 +78,26 @@ public class NewNotificationsReaderRestImpl implements NewNotificationsReader {
             return null;
         }
     }
+
+    @Override
+    public NotificationChangesDto getNotificationChanges(UUID lastScanned) {
+        HttpClient client = HttpClientBuilder.create().build();
+        String url = String.format(CHANGES_URL, beHost, bePort);
+        if (lastScanned != null) {
+            url = url + "?" + LAST_SCANNED_QUERY_PARAM + "=" + lastScanned;
+        }
+        HttpGet request = new HttpGet(url);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        try {
+            HttpResponse response = client.execute(request);
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                LOGGER.error("Failed to read the notification changes from {}, status {}", url, response.getStatusLine());
+                return null;
+            }
+            return mapper.readValue(new InputStreamReader(response.getEntity().getContent()), NotificationChangesDto.class);
+        } catch (Exception e) {
+            LOGGER.error("Failed to execute the request {}", url, e);
+            return null;
+        }
+    }
 }
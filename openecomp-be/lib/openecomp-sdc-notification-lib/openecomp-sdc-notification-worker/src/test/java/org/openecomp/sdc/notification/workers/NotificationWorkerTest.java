@@ -21,56 +21,201 @@
 package org.openecomp.sdc.notification.workers;
 
 import com.datastax.driver.core.utils.UUIDs;
-import org.junit.BeforeClass;
 import org.junit.Test;
 import org.openecomp.core.utilities.json.JsonUtil;
+import org.openecomp.sdc.notification.types.NotificationChangesDto;
 import org.openecomp.sdc.notification.types.NotificationEntityDto;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 
 import java.io.*;
 import java.text.DateFormat;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-//import org.junit.Before;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 
 public class NotificationWorkerTest {
 
     private static final String OWNER = "owner_1";
+    private static final long TIMEOUT_SEC = 10;
 
-    private String fileName = null;
-    private NewNotificationsReader news = this.new SimNewNotificationsReader();
-    private NotificationWorker worker = new NotificationWorker(news);
+    private volatile String fileName = null;
 
-    @BeforeClass
-    public static void beforeClass() throws Exception {
+    @Test
+    public void testBasicResourceCreation() throws InterruptedException {
+        BlockingQueue<NotificationsStatusDto> receivedNotes = new LinkedBlockingQueue<>();
+        NotificationWorker worker = new NotificationWorker(new SimNewNotificationsReader());
+        try {
+            fileName = "notification_1.csv";
+
+            worker.register(OWNER, null, receivedNotes::add);
+            worker.register("owner_2", null, receivedNotes::add);
+            worker.register("owner_3", null, receivedNotes::add);
+
+            assertNotNull(receivedNotes.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+
+            worker.unregister("owner_2");
+
+            fileName = "notification_2.csv";
+
+            assertNotNull(receivedNotes.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+            assertFalse(worker.getActiveUsers().containsKey("owner_2"));
+        } finally {
+            worker.stopPolling();
+        }
     }
 
     @Test
-    public void testBasicResourceCreation() throws IOException, InterruptedException {
+    public void testOnlyTheRegisteredOwnerIsPolledOnRegister() throws InterruptedException {
+        ChangesReader reader = new ChangesReader();
+        NotificationWorker worker = new NotificationWorker(reader);
+        try {
+            worker.register(OWNER, null, this::notifyReceiver);
+            assertEquals(OWNER, reader.polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
 
-        Consumer<NotificationsStatusDto> notesProcessor = this::notifyReceiver;
+            worker.register("owner_2", null, this::notifyReceiver);
+            assertEquals("owner_2", reader.polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+            reader.scans.clear();
 
-        fileName = "notification_1.csv";
+            assertNotNull(reader.scans.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+            assertTrue(reader.polledOwners.isEmpty());
+        } finally {
+            worker.stopPolling();
+        }
+    }
 
-        worker.register(OWNER, null, notesProcessor);
-        worker.register("owner_2", null, notesProcessor);
-        worker.register("owner_3", null, notesProcessor);
+    @Test
+    public void testOnlyTheChangedOwnersArePolled() throws InterruptedException {
+        UUID delivered = UUIDs.timeBased();
+        UUID created = UUIDs.timeBased();
+        ChangesReader reader = new ChangesReader();
+        NotificationWorker worker = new NotificationWorker(reader);
+        try {
+            worker.register(OWNER, delivered, this::notifyReceiver);
+            worker.register("owner_2", delivered, this::notifyReceiver);
+            assertTrue(awaitPoll(reader.polledOwners, OWNER));
+            assertTrue(awaitPoll(reader.polledOwners, "owner_2"));
 
-        int pollInterval = 2000;
-        Thread.sleep(pollInterval);
+            Map<String, UUID> changedOwners = new HashMap<>();
+            changedOwners.put(OWNER, created);
+            changedOwners.put("owner_2", delivered);
+            changedOwners.put("other_owner", created);
+            UUID lastScanned = UUIDs.timeBased();
+            reader.changes.add(changes(changedOwners, lastScanned, false));
 
-        worker.unregister("owner_2");
+            assertEquals(OWNER, reader.polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+            assertEquals(lastScanned, awaitScanAfter(reader.scans, lastScanned));
+            assertTrue(reader.polledOwners.isEmpty());
+        } finally {
+            worker.stopPolling();
+        }
+    }
 
-        fileName = "notification_2.csv";
+    @Test
+    public void testAllOwnersArePolledToCatchUp() throws InterruptedException {
+        ChangesReader reader = new ChangesReader();
+        NotificationWorker worker = new NotificationWorker(reader);
+        try {
+            worker.register(OWNER, null, this::notifyReceiver);
+            worker.register("owner_2", null, this::notifyReceiver);
+            assertTrue(awaitPoll(reader.polledOwners, OWNER));
+            assertTrue(awaitPoll(reader.polledOwners, "owner_2"));
+
+            reader.changes.add(changes(Collections.emptyMap(), UUIDs.timeBased(), true));
 
-        Thread.sleep(pollInterval);
+            Set<String> polled = new HashSet<>();
+            polled.add(reader.polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+            polled.add(reader.polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+            assertEquals(new HashSet<>(Arrays.asList(OWNER, "owner_2")), polled);
+        } finally {
+            worker.stopPolling();
+        }
+    }
 
-        worker.stopPolling();
+    @Test
+    public void testAllOwnersArePolledWhenTheChangesAreUnavailable() throws InterruptedException {
+        BlockingQueue<String> polledOwners = new LinkedBlockingQueue<>();
+        NotificationWorker worker = new NotificationWorker((ownerId, eventId, limit) -> {
+            polledOwners.add(ownerId);
+            return null;
+        });
+        try {
+            worker.register(OWNER, null, this::notifyReceiver);
+            assertEquals(OWNER, polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
 
+            assertEquals(OWNER, polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS));
+        } finally {
+            worker.stopPolling();
+        }
+    }
+
+    @Test
+    public void testWorkersOnlyPollTheirOwnOwners() throws InterruptedException {
+        BlockingQueue<String> polledOwners = new LinkedBlockingQueue<>();
+        NotificationWorker firstWorker = new NotificationWorker((ownerId, eventId, limit) -> {
+            polledOwners.add(ownerId);
+            return null;
+        });
+        NotificationWorker secondWorker = new NotificationWorker((ownerId, eventId, limit) -> null);
+        try {
+            secondWorker.register("other_owner", null, this::notifyReceiver);
+            firstWorker.register(OWNER, null, this::notifyReceiver);
+
+            assertTrue(awaitPoll(polledOwners, OWNER));
+            assertFalse(firstWorker.getActiveUsers().containsKey("other_owner"));
+            assertFalse(polledOwners.contains("other_owner"));
+        } finally {
+            firstWorker.stopPolling();
+            secondWorker.stopPolling();
+        }
+    }
+
+    @Test
+    public void testNewerEvents() {
+        UUID delivered = UUIDs.timeBased();
+        UUID created = UUIDs.timeBased();
+
+        assertTrue(NotificationWorker.isNewer(created, delivered));
+        assertTrue(NotificationWorker.isNewer(created, null));
+        assertFalse(NotificationWorker.isNewer(delivered, delivered));
+        assertFalse(NotificationWorker.isNewer(delivered, created));
+    }
+
+    private boolean awaitPoll(BlockingQueue<String> polledOwners, String owner) throws InterruptedException {
+        String polled;
+        while ((polled = polledOwners.poll(TIMEOUT_SEC, TimeUnit.SECONDS)) != null) {
+            if (owner.equals(polled)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private UUID awaitScanAfter(BlockingQueue<Optional<UUID>> scans, UUID lastScanned) throws InterruptedException {
+        Optional<UUID> scanned;
+        while ((scanned = scans.poll(TIMEOUT_SEC, TimeUnit.SECONDS)) != null) {
+            if (scanned.filter(lastScanned::equals).isPresent()) {
+                return lastScanned;
+            }
+        }
+        return null;
+    }
+
+    private NotificationChangesDto changes(Map<String, UUID> changedOwners, UUID lastScanned, boolean catchUpRequired) {
+        NotificationChangesDto changes = new NotificationChangesDto();
+        changes.setChangedOwners(changedOwners);
+        changes.setLastScanned(lastScanned);
+        changes.setCatchUpRequired(catchUpRequired);
+        return changes;
     }
 
     private void notifyReceiver(NotificationsStatusDto notes) {
@@ -81,6 +226,30 @@ public class NotificationWorkerTest {
     }
 
 
+    /**
+     * Records the polled owners and the scans of the notification changes, which are served from the changes queue.
+     */
+    private static class ChangesReader implements NewNotificationsReader {
+
+        private final BlockingQueue<String> polledOwners = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Optional<UUID>> scans = new LinkedBlockingQueue<>();
+        private final BlockingQueue<NotificationChangesDto> changes = new LinkedBlockingQueue<>();
+        private final Map<String, NotificationsStatusDto> notifications = new ConcurrentHashMap<>();
+
+        @Override
+        public NotificationsStatusDto getNewNotifications(String ownerId, UUID eventId, int limit) {
+            polledOwners.add(ownerId);
+            return notifications.remove(ownerId);
+        }
+
+        @Override
+        public NotificationChangesDto getNotificationChanges(UUID lastScanned) {
+            NotificationChangesDto next = changes.poll();
+            scans.add(Optional.ofNullable(lastScanned));
+            return Objects.nonNull(next) ? next : new NotificationChangesDto();
+        }
+    }
+
     private class SimNewNotificationsReader implements NewNotificationsReader {
 
 
@@ -19,6 +19,8 @@
  */
 package org.openecomp.sdc.vendorsoftwareproduct.dao;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import org.openecomp.core.dao.BaseDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageInfo;
@@ -26,4 +28,29 @@ import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageInfo;
 public interface PackageInfoDao extends BaseDao<PackageInfo> {
 
     List<PackageInfo> listByCategory(String category, String subCategory);
+
+    /**
+     * Creates a package with its translated file, which is stored in chunks of a new generation of the package content. The package is saved
+     * with the new generation only once the whole translated file is stored, then the chunks of its previous generation are deleted. When the
+     * writer fails, the chunks it stored are deleted and the package keeps its previous content.
+     *
+     * @param packageInfo          the package
+     * @param translatedFileWriter writes the translated file to the stream storing the chunks
+     */
+    void create(PackageInfo packageInfo, TranslatedFileWriter translatedFileWriter) throws IOException;
+
+    /**
+     * Writes the translated file of a package stored in chunks to a stream, one chunk at a time, from the generation the package was saved with.
+     *
+     * @param packageInfo  the package
+     * @param outputStream the stream to write the translated file to
+     * @return false if the package has no chunks
+     */
+    boolean writeTranslatedFileChunks(PackageInfo packageInfo, OutputStream outputStream) throws IOException;
+
+    @FunctionalInterface
+    interface TranslatedFileWriter {
+
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
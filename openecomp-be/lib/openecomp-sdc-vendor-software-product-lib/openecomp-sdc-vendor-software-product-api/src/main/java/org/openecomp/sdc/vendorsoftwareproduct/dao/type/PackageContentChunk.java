@@ -0,0 +1,53 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.type;
+
+import com.datastax.driver.mapping.annotations.ClusteringColumn;
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A chunk of the translated file of a {@link PackageInfo}, stored apart so that large packages are neither written nor read as a single blob. The
+ * chunks of each creation of the package are stored under a generation of their own, the package referencing the generation of its content.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(keyspace = "dox", name = "package_content_chunk")
+public class PackageContentChunk {
+
+    @PartitionKey
+    @Column(name = "vsp_id")
+    private String vspId;
+    @PartitionKey(value = 1)
+    private String version;
+    @PartitionKey(value = 2)
+    private UUID generation;
+    @ClusteringColumn
+    @Column(name = "chunk_index")
+    private int chunkIndex;
+    private ByteBuffer content;
+}
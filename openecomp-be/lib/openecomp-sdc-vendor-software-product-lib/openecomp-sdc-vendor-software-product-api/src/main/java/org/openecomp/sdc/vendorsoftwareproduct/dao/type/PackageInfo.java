@@ -24,6 +24,7 @@ import com.datastax.driver.mapping.annotations.PartitionKey;
 import com.datastax.driver.mapping.annotations.Table;
 import java.nio.ByteBuffer;
 import java.util.Set;
+import java.util.UUID;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
@@ -60,6 +61,8 @@ public class PackageInfo {
     private String packageType;
     @Column(name = "translate_content")
     private ByteBuffer translatedFile;
+    @Column(name = "content_generation")
+    private UUID contentGeneration;
     @Column(name = "resource_type")
     private String resourceType = ResourceTypeEnum.VF.name();
     @Column(name = "models")
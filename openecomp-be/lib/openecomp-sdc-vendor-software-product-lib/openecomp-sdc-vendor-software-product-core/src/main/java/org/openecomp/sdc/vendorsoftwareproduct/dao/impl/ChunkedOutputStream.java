@@ -0,0 +1,94 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Hands the bytes written to it over to a chunk writer in chunks of a fixed size, the last chunk holding the remaining bytes when the stream is
+ * closed. Only one chunk is held in memory.
+ */
+class ChunkedOutputStream extends OutputStream {
+
+    private final ObjIntConsumer<ByteBuffer> chunkWriter;
+    private final byte[] buffer;
+    private int position;
+    private int chunkIndex;
+    private boolean closed;
+
+    /**
+     * @param chunkSize   the size of the chunks
+     * @param chunkWriter stores a chunk with its index
+     */
+    ChunkedOutputStream(int chunkSize, ObjIntConsumer<ByteBuffer> chunkWriter) {
+        this.chunkWriter = chunkWriter;
+        this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        buffer[position++] = (byte) b;
+        if (position == buffer.length) {
+            writeChunk();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        int written = 0;
+        while (written < length) {
+            int copied = Math.min(length - written, buffer.length - position);
+            System.arraycopy(bytes, offset + written, buffer, position, copied);
+            position += copied;
+            written += copied;
+            if (position == buffer.length) {
+                writeChunk();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (position > 0) {
+            writeChunk();
+        }
+    }
+
+    private void writeChunk() {
+        chunkWriter.accept(ByteBuffer.wrap(Arrays.copyOf(buffer, position)), chunkIndex++);
+        position = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -19,23 +19,35 @@
  */
 package org.openecomp.sdc.vendorsoftwareproduct.dao.impl;
 
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.utils.UUIDs;
 import com.datastax.driver.mapping.Mapper;
 import com.datastax.driver.mapping.Result;
 import com.datastax.driver.mapping.annotations.Accessor;
 import com.datastax.driver.mapping.annotations.Query;
+import com.datastax.driver.mapping.annotations.QueryParameters;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 import org.openecomp.core.dao.impl.CassandraBaseDao;
 import org.openecomp.core.nosqldb.api.NoSqlDb;
 import org.openecomp.core.nosqldb.factory.NoSqlDbFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageContentChunk;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageInfo;
 
 public class PackageInfoDaoImpl extends CassandraBaseDao<PackageInfo> implements PackageInfoDao {
 
+    static final int CHUNK_SIZE = 1024 * 1024;
+    private static final String CONTENT_GENERATION = "content_generation";
     private static final NoSqlDb noSqlDb = NoSqlDbFactory.getInstance().createInterface();
     private static final Mapper<PackageInfo> mapper = noSqlDb.getMappingManager().mapper(PackageInfo.class);
+    private static final Mapper<PackageContentChunk> chunkMapper = noSqlDb.getMappingManager().mapper(PackageContentChunk.class);
     private static final PackageInfoAccessor accessor = noSqlDb.getMappingManager().createAccessor(PackageInfoAccessor.class);
 
     @Override
@@ -73,11 +85,58 @@ public class PackageInfoDaoImpl extends CassandraBaseDao<PackageInfo> implements
         return filteredPackages;
     }
 
+    @Override
+    public void create(PackageInfo packageInfo, TranslatedFileWriter translatedFileWriter) throws IOException {
+        final String vspId = packageInfo.getVspId();
+        final String version = packageInfo.getVersion();
+        final UUID generation = UUIDs.timeBased();
+        final ChunkedOutputStream translatedFile = new ChunkedOutputStream(CHUNK_SIZE,
+            (content, chunkIndex) -> chunkMapper.save(new PackageContentChunk(vspId, version, generation, chunkIndex, content)));
+        try {
+            translatedFileWriter.write(translatedFile);
+            // the last chunk is only stored once the whole translated file is written
+            translatedFile.close();
+        } catch (IOException | RuntimeException exception) {
+            accessor.deleteChunks(vspId, version, generation);
+            throw exception;
+        }
+        final Row previous = accessor.getContentGeneration(vspId, version).one();
+        packageInfo.setContentGeneration(generation);
+        create(packageInfo);
+        if (previous != null && !previous.isNull(CONTENT_GENERATION)) {
+            accessor.deleteChunks(vspId, version, previous.getUUID(CONTENT_GENERATION));
+        }
+    }
+
+    @Override
+    public boolean writeTranslatedFileChunks(PackageInfo packageInfo, OutputStream outputStream) throws IOException {
+        if (packageInfo.getContentGeneration() == null) {
+            return false;
+        }
+        boolean found = false;
+        for (PackageContentChunk chunk : accessor.listChunks(packageInfo.getVspId(), packageInfo.getVersion(), packageInfo.getContentGeneration())) {
+            ByteBuffer content = chunk.getContent();
+            outputStream.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            found = true;
+        }
+        return found;
+    }
+
     @Accessor
     interface PackageInfoAccessor {
 
         @Query("SELECT vsp_id, version, version_id, display_name, vsp_name, vsp_description, vendor_name, category"
             + " , sub_category, vendor_release, package_checksum, package_type, resource_type, models FROM package_details")
         Result<PackageInfo> listInfo();
+
+        @Query("SELECT content_generation FROM package_details WHERE vsp_id = ? AND version = ?")
+        ResultSet getContentGeneration(String vspId, String version);
+
+        @Query("SELECT vsp_id, version, generation, chunk_index, content FROM package_content_chunk WHERE vsp_id = ? AND version = ? AND generation = ?")
+        @QueryParameters(fetchSize = 1)
+        Result<PackageContentChunk> listChunks(String vspId, String version, UUID generation);
+
+        @Query("DELETE FROM package_content_chunk WHERE vsp_id = ? AND version = ? AND generation = ?")
+        ResultSet deleteChunks(String vspId, String version, UUID generation);
     }
 }
@@ -22,6 +22,8 @@ package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildStructuralElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.createSessionContext;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.VspZusammenUtil.getSubElementData;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.VspZusammenUtil.listComponentElementsData;
 
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
@@ -153,10 +155,18 @@ public class ComputeDaoZusammenImpl implements ComputeDao {
         SessionContext context = createSessionContext();
         ElementContext elementContext = new ElementContext(vspId, version.getId());
         Collection<ComponentEntity> components = ComponentDaoZusammenImpl.listComponents(zusammenAdaptor, context, vspId, version);
+        ElementToComputeConvertor convertor = new ElementToComputeConvertor();
         return components.stream().map(
-            component -> listComputes(context, elementContext, new ComputeEntity(vspId, version, component.getId(), null)).stream()
-                .map(compute -> getQuestionnaire(context, elementContext, compute)).collect(Collectors.toList())).flatMap(Collection::stream)
-            .collect(Collectors.toList());
+            component -> listComponentElementsData(zusammenAdaptor, context, elementContext, component.getId(), ElementType.Computes).stream()
+                .map(computeElement -> {
+                    ComputeEntity compute = convertor.convert(computeElement);
+                    compute.setVspId(vspId);
+                    compute.setVersion(version);
+                    compute.setComponentId(component.getId());
+                    compute.setQuestionnaireData(getSubElementData(computeElement, ElementType.ComputeQuestionnaire));
+                    // as when reading the questionnaire by name, a compute without questionnaire data is listed as null
+                    return compute.getQuestionnaireData() == null ? null : compute;
+                }).collect(Collectors.toList())).flatMap(Collection::stream).collect(Collectors.toList());
     }
 
     @Override
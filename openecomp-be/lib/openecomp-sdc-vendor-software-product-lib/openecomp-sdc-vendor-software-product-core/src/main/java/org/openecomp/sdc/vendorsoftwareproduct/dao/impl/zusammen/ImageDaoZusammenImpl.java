@@ -22,6 +22,8 @@ package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildStructuralElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.createSessionContext;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.VspZusammenUtil.getSubElementData;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.VspZusammenUtil.listComponentElementsData;
 
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
@@ -141,10 +143,18 @@ public class ImageDaoZusammenImpl implements ImageDao {
         SessionContext context = createSessionContext();
         ElementContext elementContext = new ElementContext(vspId, version.getId());
         Collection<ComponentEntity> components = ComponentDaoZusammenImpl.listComponents(zusammenAdaptor, context, vspId, version);
+        ElementToImageConvertor convertor = new ElementToImageConvertor();
         return components.stream().map(
-            component -> listImages(context, elementContext, new ImageEntity(vspId, version, component.getId(), null)).stream()
-                .map(image -> getQuestionnaire(context, elementContext, image)).collect(Collectors.toList())).flatMap(Collection::stream)
-            .collect(Collectors.toList());
+            component -> listComponentElementsData(zusammenAdaptor, context, elementContext, component.getId(), ElementType.Images).stream()
+                .map(imageElement -> {
+                    ImageEntity image = convertor.convert(imageElement);
+                    image.setVspId(vspId);
+                    image.setVersion(version);
+                    image.setComponentId(component.getId());
+                    image.setQuestionnaireData(getSubElementData(imageElement, ElementType.ImageQuestionnaire));
+                    // as when reading the questionnaire by name, a image without questionnaire data is listed as null
+                    return image.getQuestionnaireData() == null ? null : image;
+                }).collect(Collectors.toList())).flatMap(Collection::stream).collect(Collectors.toList());
     }
 
     @Override
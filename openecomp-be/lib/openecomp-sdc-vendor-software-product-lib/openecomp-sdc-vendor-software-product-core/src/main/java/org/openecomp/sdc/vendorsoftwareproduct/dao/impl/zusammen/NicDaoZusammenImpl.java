@@ -22,6 +22,8 @@ package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildStructuralElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.createSessionContext;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.VspZusammenUtil.getSubElementData;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.VspZusammenUtil.listComponentElementsData;
 
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
@@ -150,11 +152,17 @@ public class NicDaoZusammenImpl implements NicDao {
         SessionContext context = createSessionContext();
         Collection<ComponentEntity> components = ComponentDaoZusammenImpl.listComponents(zusammenAdaptor, context, vspId, version);
         ElementContext elementContext = new ElementContext(vspId, version.getId());
-        return components.stream()
-            .map(component -> listNics(context, elementContext, new NicEntity(vspId, version, component.getId(), null)).stream().map(nic -> {
-                nic.setQuestionnaireData(getQuestionnaire(context, elementContext, nic).getQuestionnaireData());
-                return nic;
-            }).collect(Collectors.toList())).flatMap(Collection::stream).collect(Collectors.toList());
+        ElementToNicConvertor convertor = new ElementToNicConvertor();
+        return components.stream().map(
+            component -> listComponentElementsData(zusammenAdaptor, context, elementContext, component.getId(), ElementType.Nics).stream()
+                .map(nicElement -> {
+                    NicEntity nic = convertor.convert(nicElement);
+                    nic.setVspId(vspId);
+                    nic.setVersion(version);
+                    nic.setComponentId(component.getId());
+                    nic.setQuestionnaireData(getSubElementData(nicElement, ElementType.NicQuestionnaire));
+                    return nic;
+                }).collect(Collectors.toList())).flatMap(Collection::stream).collect(Collectors.toList());
     }
 
     @Override
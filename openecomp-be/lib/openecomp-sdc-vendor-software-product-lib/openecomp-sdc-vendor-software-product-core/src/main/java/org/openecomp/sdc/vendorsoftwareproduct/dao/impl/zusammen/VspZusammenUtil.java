@@ -19,12 +19,21 @@
  */
 package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
 
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import org.apache.commons.io.IOUtils;
+import org.openecomp.core.utilities.file.FileUtils;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.datatypes.model.ElementType;
 
 class VspZusammenUtil {
 
@@ -47,6 +56,27 @@ class VspZusammenUtil {
         return head;
     }
 
+    /**
+     * Lists the elements of a component held under its elementsType element, e.g. its nics, each one with its sub elements read along.
+     */
+    static Collection<Element> listComponentElementsData(ZusammenAdaptor zusammenAdaptor, SessionContext context, ElementContext elementContext,
+                                                         String componentId, ElementType elementsType) {
+        return zusammenAdaptor.getElementInfoByName(context, elementContext, new Id(componentId), elementsType.name())
+            .map(elementsInfo -> zusammenAdaptor.listElementData(context, elementContext, elementsInfo.getId(), 1)).orElseGet(ArrayList::new);
+    }
+
+    /**
+     * @return the data of the sub element of the given type, null if the element has no such sub element or it has no data
+     */
+    static String getSubElementData(Element element, ElementType subElementType) {
+        if (element.getSubElements() == null) {
+            return null;
+        }
+        return element.getSubElements().stream()
+            .filter(subElement -> subElement.getInfo() != null && subElementType.name().equals(subElement.getInfo().getName())).findFirst()
+            .map(Element::getData).map(data -> new String(FileUtils.toByteArray(data))).orElse(null);
+    }
+
     static boolean hasEmptyData(InputStream elementData) {
         String EMPTY_DATA = "{}";
         byte[] byteElementData;
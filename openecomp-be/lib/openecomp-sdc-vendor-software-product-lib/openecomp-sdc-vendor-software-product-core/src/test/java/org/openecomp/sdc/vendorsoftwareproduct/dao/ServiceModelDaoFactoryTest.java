@@ -240,6 +240,14 @@ public class ServiceModelDaoFactoryTest {
       return elements;
     }
 
+    @Override
+    public Collection<Element> listElementData(SessionContext context,
+                                               ElementContext elementContext,
+                                               Id parentElementId,
+                                               int depth) {
+      return elements;
+    }
+
     @Override
     public Collection<ElementInfo> listElementsByName(SessionContext context,
                                                       ElementContext elementContext,
@@ -0,0 +1,91 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ChunkedOutputStreamTest {
+
+    private final List<Integer> chunkIndexes = new ArrayList<>();
+    private final List<byte[]> chunks = new ArrayList<>();
+
+    @Test
+    void bytesAreWrittenInChunksOfTheChunkSize() throws IOException {
+        final ChunkedOutputStream outputStream = new ChunkedOutputStream(4, this::addChunk);
+
+        outputStream.write("0123".getBytes());
+        outputStream.write('4');
+        outputStream.write("56789ab".getBytes(), 1, 5);
+        assertEquals(1, chunks.size());
+        outputStream.close();
+
+        assertEquals(List.of(0, 1, 2), chunkIndexes);
+        assertArrayEquals("0123".getBytes(), chunks.get(0));
+        assertArrayEquals("4678".getBytes(), chunks.get(1));
+        assertArrayEquals("9a".getBytes(), chunks.get(2));
+    }
+
+    @Test
+    void noChunkIsWrittenForAnEmptyStream() {
+        new ChunkedOutputStream(4, this::addChunk).close();
+
+        assertEquals(0, chunks.size());
+    }
+
+    @Test
+    void largeWritesAreSplitIntoChunks() throws IOException {
+        final byte[] content = new byte[10];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        try (final ChunkedOutputStream outputStream = new ChunkedOutputStream(3, this::addChunk)) {
+            outputStream.write(content);
+        }
+
+        final ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        chunks.forEach(joined::writeBytes);
+        assertEquals(4, chunks.size());
+        assertArrayEquals(content, joined.toByteArray());
+    }
+
+    @Test
+    void writeAfterCloseFails() {
+        final ChunkedOutputStream outputStream = new ChunkedOutputStream(4, this::addChunk);
+        outputStream.close();
+
+        assertThrows(IOException.class, () -> outputStream.write(1));
+    }
+
+    private void addChunk(final ByteBuffer content, final int chunkIndex) {
+        final byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        chunks.add(bytes);
+        chunkIndexes.add(chunkIndex);
+    }
+}
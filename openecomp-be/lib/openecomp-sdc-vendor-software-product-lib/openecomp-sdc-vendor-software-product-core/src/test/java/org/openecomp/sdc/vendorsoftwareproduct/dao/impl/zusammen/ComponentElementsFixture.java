@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.CompositionEntity;
+import org.openecomp.sdc.vendorsoftwareproduct.types.composition.CompositionEntityId;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+/**
+ * The elements of a vsp with two components, the first one holding elements of a type with their questionnaires, for the tests of the daos of
+ * the elements of a component.
+ */
+final class ComponentElementsFixture {
+
+    static final String VSP_ID = "vspId";
+    static final Version VERSION = new Version("versionId");
+    static final String QUESTIONNAIRE_DATA = "{\"questionnaire\":\"data\"}";
+    private static final String VSP_MODEL_ID = "vspModelId";
+    private static final String COMPONENT_ID = "componentId";
+    private static final String OTHER_COMPONENT_ID = "otherComponentId";
+    private static final String ELEMENTS_ID = "elementsId";
+
+    private ComponentElementsFixture() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Stubs the vsp model, its two components and the element holding the elements of the type in the first component only.
+     */
+    static void stubComponents(ZusammenAdaptor zusammenAdaptor, ElementType elementsType) {
+        doReturn(Optional.of(createElementInfo(VSP_MODEL_ID))).when(zusammenAdaptor)
+            .getElementInfoByName(any(), any(), isNull(), eq(ElementType.VspModel.name()));
+        doReturn(Arrays.asList(createElementInfo(COMPONENT_ID), createElementInfo(OTHER_COMPONENT_ID))).when(zusammenAdaptor)
+            .listElementsByName(any(), any(), eq(new Id(VSP_MODEL_ID)), eq(ElementType.Components.name()));
+        doReturn(Optional.of(createElementInfo(ELEMENTS_ID))).when(zusammenAdaptor)
+            .getElementInfoByName(any(), any(), eq(new Id(COMPONENT_ID)), eq(elementsType.name()));
+        doReturn(Optional.empty()).when(zusammenAdaptor)
+            .getElementInfoByName(any(), any(), eq(new Id(OTHER_COMPONENT_ID)), eq(elementsType.name()));
+    }
+
+    /**
+     * Stubs the elements of the first component, read with their questionnaires.
+     */
+    static void stubElements(ZusammenAdaptor zusammenAdaptor, List<ZusammenElement> elements) {
+        doReturn(elements).when(zusammenAdaptor).listElementData(any(), any(), eq(new Id(ELEMENTS_ID)), eq(1));
+    }
+
+    /**
+     * @return an element holding a questionnaire of the type with the data, or no questionnaire when the data is null
+     */
+    static ZusammenElement createElement(String id, ElementType questionnaireType, String questionnaireData) {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(new Id(id));
+        element.setInfo(createInfo(id));
+        element.setData(new ByteArrayInputStream(new byte[0]));
+        if (questionnaireData != null) {
+            ZusammenElement questionnaireElement = new ZusammenElement();
+            questionnaireElement.setElementId(new Id(id + "Questionnaire"));
+            Info info = new Info();
+            info.setName(questionnaireType.name());
+            questionnaireElement.setInfo(info);
+            questionnaireElement.setData(new ByteArrayInputStream(questionnaireData.getBytes()));
+            element.addSubElement(questionnaireElement);
+        }
+        return element;
+    }
+
+    static void assertEntity(CompositionEntity entity, String id, String questionnaireData) {
+        assertEquals(new CompositionEntityId(id, new CompositionEntityId(COMPONENT_ID, new CompositionEntityId(VSP_ID, null))),
+            entity.getCompositionEntityId());
+        assertEquals(VERSION, entity.getVersion());
+        assertEquals("{\"name\":\"" + id + "\"}", entity.getCompositionData());
+        assertEquals(questionnaireData, entity.getQuestionnaireData());
+    }
+
+    private static ElementInfo createElementInfo(String id) {
+        ElementInfo elementInfo = new ElementInfo();
+        elementInfo.setId(new Id(id));
+        elementInfo.setInfo(createInfo(id));
+        return elementInfo;
+    }
+
+    private static Info createInfo(String id) {
+        Info info = new Info();
+        info.setName(id);
+        info.addProperty("compositionData", "{\"name\":\"" + id + "\"}");
+        return info;
+    }
+}
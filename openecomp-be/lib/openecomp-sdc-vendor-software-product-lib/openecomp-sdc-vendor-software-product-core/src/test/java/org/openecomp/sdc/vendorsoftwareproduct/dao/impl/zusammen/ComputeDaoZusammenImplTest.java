@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.QUESTIONNAIRE_DATA;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.VERSION;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.VSP_ID;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.assertEntity;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.createElement;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.stubComponents;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.stubElements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ComputeEntity;
+
+public class ComputeDaoZusammenImplTest {
+
+    @Mock
+    private ZusammenAdaptor zusammenAdaptor;
+    private ComputeDaoZusammenImpl computeDao;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        SessionContextProviderFactory.getInstance().createInterface().create("user", "dox");
+        computeDao = new ComputeDaoZusammenImpl(zusammenAdaptor);
+        stubComponents(zusammenAdaptor, ElementType.Computes);
+    }
+
+    @After
+    public void tearDown() {
+        SessionContextProviderFactory.getInstance().createInterface().close();
+    }
+
+    @Test
+    public void listByVspReadsComputesWithTheirQuestionnaires() {
+        stubElements(zusammenAdaptor, Arrays.asList(createElement("compute1", ElementType.ComputeQuestionnaire, QUESTIONNAIRE_DATA),
+            createElement("compute2", ElementType.ComputeQuestionnaire, "{}")));
+
+        List<ComputeEntity> computes = new ArrayList<>(computeDao.listByVsp(VSP_ID, VERSION));
+
+        assertEquals(2, computes.size());
+        assertEntity(computes.get(0), "compute1", QUESTIONNAIRE_DATA);
+        assertEntity(computes.get(1), "compute2", "{}");
+        verify(zusammenAdaptor, never()).getElementByName(any(), any(), any(), anyString());
+    }
+
+    @Test
+    public void listByVspListsComputesWithoutQuestionnaireAsNull() {
+        stubElements(zusammenAdaptor, Collections.singletonList(createElement("compute1", ElementType.ComputeQuestionnaire, null)));
+
+        List<ComputeEntity> computes = new ArrayList<>(computeDao.listByVsp(VSP_ID, VERSION));
+
+        assertEquals(1, computes.size());
+        assertNull(computes.get(0));
+    }
+}
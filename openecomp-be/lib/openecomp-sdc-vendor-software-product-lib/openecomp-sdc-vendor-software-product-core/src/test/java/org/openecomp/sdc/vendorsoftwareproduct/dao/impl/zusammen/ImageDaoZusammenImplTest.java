@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.QUESTIONNAIRE_DATA;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.VERSION;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.VSP_ID;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.assertEntity;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.createElement;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.stubComponents;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.stubElements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ImageEntity;
+
+public class ImageDaoZusammenImplTest {
+
+    @Mock
+    private ZusammenAdaptor zusammenAdaptor;
+    private ImageDaoZusammenImpl imageDao;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        SessionContextProviderFactory.getInstance().createInterface().create("user", "dox");
+        imageDao = new ImageDaoZusammenImpl(zusammenAdaptor);
+        stubComponents(zusammenAdaptor, ElementType.Images);
+    }
+
+    @After
+    public void tearDown() {
+        SessionContextProviderFactory.getInstance().createInterface().close();
+    }
+
+    @Test
+    public void listByVspReadsImagesWithTheirQuestionnaires() {
+        stubElements(zusammenAdaptor, Arrays.asList(createElement("image1", ElementType.ImageQuestionnaire, QUESTIONNAIRE_DATA),
+            createElement("image2", ElementType.ImageQuestionnaire, "{}")));
+
+        List<ImageEntity> images = new ArrayList<>(imageDao.listByVsp(VSP_ID, VERSION));
+
+        assertEquals(2, images.size());
+        assertEntity(images.get(0), "image1", QUESTIONNAIRE_DATA);
+        assertEntity(images.get(1), "image2", "{}");
+        verify(zusammenAdaptor, never()).getElementByName(any(), any(), any(), anyString());
+    }
+
+    @Test
+    public void listByVspListsImagesWithoutQuestionnaireAsNull() {
+        stubElements(zusammenAdaptor, Collections.singletonList(createElement("image1", ElementType.ImageQuestionnaire, null)));
+
+        List<ImageEntity> images = new ArrayList<>(imageDao.listByVsp(VSP_ID, VERSION));
+
+        assertEquals(1, images.size());
+        assertNull(images.get(0));
+    }
+}
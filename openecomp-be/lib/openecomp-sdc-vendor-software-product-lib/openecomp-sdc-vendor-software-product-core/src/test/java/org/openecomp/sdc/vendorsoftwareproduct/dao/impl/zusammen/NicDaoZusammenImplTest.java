@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.QUESTIONNAIRE_DATA;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.VERSION;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.VSP_ID;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.assertEntity;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.createElement;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.stubComponents;
+import static org.openecomp.sdc.vendorsoftwareproduct.dao.impl.zusammen.ComponentElementsFixture.stubElements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.core.zusammen.api.ZusammenAdaptor;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.datatypes.model.ElementType;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.NicEntity;
+
+public class NicDaoZusammenImplTest {
+
+    @Mock
+    private ZusammenAdaptor zusammenAdaptor;
+    private NicDaoZusammenImpl nicDao;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        SessionContextProviderFactory.getInstance().createInterface().create("user", "dox");
+        nicDao = new NicDaoZusammenImpl(zusammenAdaptor);
+        stubComponents(zusammenAdaptor, ElementType.Nics);
+    }
+
+    @After
+    public void tearDown() {
+        SessionContextProviderFactory.getInstance().createInterface().close();
+    }
+
+    @Test
+    public void listByVspReadsNicsWithTheirQuestionnaires() {
+        stubElements(zusammenAdaptor, Arrays.asList(createElement("nic1", ElementType.NicQuestionnaire, QUESTIONNAIRE_DATA),
+            createElement("nic2", ElementType.NicQuestionnaire, "{}")));
+
+        List<NicEntity> nics = new ArrayList<>(nicDao.listByVsp(VSP_ID, VERSION));
+
+        assertEquals(2, nics.size());
+        assertEntity(nics.get(0), "nic1", QUESTIONNAIRE_DATA);
+        assertEntity(nics.get(1), "nic2", "{}");
+        verify(zusammenAdaptor, never()).getElementByName(any(), any(), any(), anyString());
+    }
+
+    @Test
+    public void listByVspListsNicsWithoutQuestionnaire() {
+        stubElements(zusammenAdaptor, Collections.singletonList(createElement("nic1", ElementType.NicQuestionnaire, null)));
+
+        List<NicEntity> nics = new ArrayList<>(nicDao.listByVsp(VSP_ID, VERSION));
+
+        assertEquals(1, nics.size());
+        assertEntity(nics.get(0), "nic1", null);
+    }
+}
@@ -19,11 +19,15 @@ import java.util.Collection;
 import java.util.function.Predicate;
 import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
 
 public interface ItemManager {
 
     Collection<Item> list(Predicate<Item> predicate);
 
+    ItemPage list(ItemQuery query);
+
     Item get(String itemId);
 
     Item create(Item item);
@@ -21,11 +21,17 @@ package org.openecomp.sdc.versioning.dao;
 
 import java.util.Collection;
 import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
 
 public interface ItemDao {
 
     Collection<Item> list();
 
+    default ItemPage list(ItemQuery query) {
+        return query.apply(list());
+    }
+
     Item get(Item item);
 
     Item create(Item item);
@@ -0,0 +1,90 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.versioning.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.Setter;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
+
+/**
+ * Filters, sorts by descending modification time and pages items. An empty filter matches every item, the onboarding method filter only applies
+ * to vsp items.
+ */
+@Getter
+@Setter
+public class ItemQuery {
+
+    public static final String VSP_ITEM_TYPE = "vsp";
+    public static final String ONBOARDING_METHOD = "onboardingMethod";
+    public static final Comparator<Item> LATEST_MODIFIED_FIRST = Comparator.comparing(Item::getModificationTime,
+        Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(Item::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+    private Set<ItemStatus> itemStatuses = EnumSet.noneOf(ItemStatus.class);
+    private Set<VersionStatus> versionStatuses = EnumSet.noneOf(VersionStatus.class);
+    private Set<String> itemTypes = new HashSet<>();
+    private Set<String> onboardingMethods = new HashSet<>();
+    /**
+     * The ids of the items the query is restricted to, null to not restrict it.
+     */
+    private Set<String> itemIds;
+    private int offset;
+    /**
+     * The maximum number of items of the page, null for all the items.
+     */
+    private Integer limit;
+
+    public boolean matches(Item item) {
+        return (itemIds == null || itemIds.contains(item.getId())) && (itemStatuses.isEmpty() || itemStatuses.contains(item.getStatus())) && (
+            itemTypes.isEmpty() || itemTypes.contains(item.getType())) && (versionStatuses.isEmpty() || item.getVersionStatusCounters().keySet()
+            .stream().anyMatch(versionStatuses::contains)) && matchesOnboardingMethod(item);
+    }
+
+    public boolean matchesOnboardingMethod(Item item) {
+        return onboardingMethods.isEmpty() || !VSP_ITEM_TYPE.equals(item.getType()) || onboardingMethods
+            .contains(item.getProperties().get(ONBOARDING_METHOD));
+    }
+
+    /**
+     * @param items the items to query
+     * @return the page of the matching items
+     */
+    public ItemPage apply(Collection<Item> items) {
+        return page(items.stream().filter(this::matches).collect(Collectors.toList()));
+    }
+
+    /**
+     * @param matchingItems the items matching the query, in any order
+     * @return the page of the items
+     */
+    public ItemPage page(List<Item> matchingItems) {
+        List<Item> sorted = new ArrayList<>(matchingItems);
+        sorted.sort(LATEST_MODIFIED_FIRST);
+        int from = Math.min(Math.max(offset, 0), sorted.size());
+        int to = limit == null ? sorted.size() : Math.min(from + Math.max(limit, 0), sorted.size());
+        return new ItemPage(new ArrayList<>(sorted.subList(from, to)), sorted.size());
+    }
+}
@@ -0,0 +1,299 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.versioning.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.openecomp.sdc.versioning.dao.ItemDao;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
+import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
+import org.openecomp.sdc.versioning.types.ItemStatus;
+
+/**
+ * Answers item queries from an in memory index of the items of each tenant, kept up to date with the items created, updated and deleted through
+ * this dao. Created and updated items are indexed as read back from the underlying dao, with the times it stored. The index is reloaded from
+ * the underlying dao once it is older than the refresh interval, to pick up the changes made by other instances. A single caller reloads a
+ * stale index, the others waiting for its reload. The listing of all the items is always read from the underlying dao.
+ */
+public class IndexedItemDao implements ItemDao {
+
+    private final ItemDao itemDao;
+    private final Supplier<String> tenantSupplier;
+    private final long refreshIntervalNanos;
+    private final Map<String, ItemIndex> indexByTenant = new ConcurrentHashMap<>();
+
+    public IndexedItemDao(ItemDao itemDao, Supplier<String> tenantSupplier, long refreshIntervalMillis) {
+        this.itemDao = itemDao;
+        this.tenantSupplier = tenantSupplier;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+    }
+
+    @Override
+    public Collection<Item> list() {
+        return itemDao.list();
+    }
+
+    @Override
+    public ItemPage list(ItemQuery query) {
+        return getFreshIndex().query(query);
+    }
+
+    @Override
+    public Item get(Item item) {
+        Item fetched = itemDao.get(item);
+        if (fetched != null) {
+            getIndex().put(fetched);
+        }
+        return fetched;
+    }
+
+    @Override
+    public Item create(Item item) {
+        Item created = itemDao.create(item);
+        indexStoredItem(created);
+        return created;
+    }
+
+    @Override
+    public void delete(Item item) {
+        itemDao.delete(item);
+        getIndex().remove(item.getId());
+    }
+
+    @Override
+    public void update(Item item) {
+        itemDao.update(item);
+        indexStoredItem(item);
+    }
+
+    private void indexStoredItem(Item item) {
+        Item stored = itemDao.get(item);
+        if (stored != null) {
+            getIndex().put(stored);
+        } else {
+            getIndex().remove(item.getId());
+        }
+    }
+
+    private ItemIndex getFreshIndex() {
+        ItemIndex index = getIndex();
+        index.reloadIfStale(itemDao::list, refreshIntervalNanos);
+        return index;
+    }
+
+    private ItemIndex getIndex() {
+        return indexByTenant.computeIfAbsent(String.valueOf(tenantSupplier.get()), tenant -> new ItemIndex());
+    }
+
+    private static Item copy(Item item) {
+        Item copy = new Item();
+        copy.setId(item.getId());
+        copy.setType(item.getType());
+        copy.setName(item.getName());
+        copy.setOwner(item.getOwner());
+        copy.setStatus(item.getStatus());
+        copy.setDescription(item.getDescription());
+        copy.getProperties().putAll(item.getProperties());
+        copy.getVersionStatusCounters().putAll(item.getVersionStatusCounters());
+        copy.setCreationTime(item.getCreationTime());
+        copy.setModificationTime(item.getModificationTime());
+        return copy;
+    }
+
+    /**
+     * The items of a tenant by id, with the ids of the items by type, status and version status.
+     */
+    private static class ItemIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Lock reloadLock = new ReentrantLock();
+        private final Map<String, Item> itemsById = new HashMap<>();
+        private final Map<String, Set<String>> idsByType = new HashMap<>();
+        private final Map<ItemStatus, Set<String>> idsByStatus = new HashMap<>();
+        private final Map<VersionStatus, Set<String>> idsByVersionStatus = new HashMap<>();
+        // the items put, or removed when null, while the items are read from the underlying dao, applied again once they are loaded
+        private Map<String, Item> changesDuringReload;
+        private volatile boolean loaded;
+        private volatile long loadTime;
+
+        private boolean isStale(long refreshIntervalNanos) {
+            return !loaded || System.nanoTime() - loadTime >= refreshIntervalNanos;
+        }
+
+        private void reloadIfStale(Supplier<Collection<Item>> itemsSupplier, long refreshIntervalNanos) {
+            if (!isStale(refreshIntervalNanos)) {
+                return;
+            }
+            reloadLock.lock();
+            try {
+                if (isStale(refreshIntervalNanos)) {
+                    reload(itemsSupplier);
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+
+        private void reload(Supplier<Collection<Item>> itemsSupplier) {
+            setChangesDuringReload(new HashMap<>());
+            try {
+                Collection<Item> items = itemsSupplier.get();
+                lock.writeLock().lock();
+                try {
+                    itemsById.clear();
+                    idsByType.clear();
+                    idsByStatus.clear();
+                    idsByVersionStatus.clear();
+                    items.forEach(item -> add(copy(item)));
+                    changesDuringReload.forEach((itemId, item) -> {
+                        removeFromIndex(itemId);
+                        if (item != null) {
+                            add(item);
+                        }
+                    });
+                    loadTime = System.nanoTime();
+                    loaded = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                setChangesDuringReload(null);
+            }
+        }
+
+        private void setChangesDuringReload(Map<String, Item> changes) {
+            lock.writeLock().lock();
+            try {
+                changesDuringReload = changes;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void put(Item item) {
+            lock.writeLock().lock();
+            try {
+                removeFromIndex(item.getId());
+                Item indexed = copy(item);
+                add(indexed);
+                if (changesDuringReload != null) {
+                    changesDuringReload.put(indexed.getId(), indexed);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(String itemId) {
+            lock.writeLock().lock();
+            try {
+                removeFromIndex(itemId);
+                if (changesDuringReload != null) {
+                    changesDuringReload.put(itemId, null);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private ItemPage query(ItemQuery query) {
+            lock.readLock().lock();
+            try {
+                List<Item> matchingItems = getCandidateIds(query).stream().map(itemsById::get).filter(item -> item != null && query.matches(item))
+                    .collect(Collectors.toList());
+                ItemPage page = query.page(matchingItems);
+                return new ItemPage(page.getItems().stream().map(IndexedItemDao::copy).collect(Collectors.toList()), page.getTotal());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * @return the ids of the smallest set of items the query can match according to the indexed fields
+         */
+        private Collection<String> getCandidateIds(ItemQuery query) {
+            List<Collection<String>> candidates = new ArrayList<>();
+            candidates.add(itemsById.keySet());
+            if (query.getItemIds() != null) {
+                candidates.add(query.getItemIds());
+            }
+            if (!query.getItemTypes().isEmpty()) {
+                candidates.add(union(idsByType, query.getItemTypes()));
+            }
+            if (!query.getItemStatuses().isEmpty()) {
+                candidates.add(union(idsByStatus, query.getItemStatuses()));
+            }
+            if (!query.getVersionStatuses().isEmpty()) {
+                candidates.add(union(idsByVersionStatus, query.getVersionStatuses()));
+            }
+            return candidates.stream().min((first, second) -> Integer.compare(first.size(), second.size())).orElse(Collections.emptySet());
+        }
+
+        private static <K> Set<String> union(Map<K, Set<String>> idsByKey, Set<K> keys) {
+            Set<String> ids = new HashSet<>();
+            keys.forEach(key -> ids.addAll(idsByKey.getOrDefault(key, Collections.emptySet())));
+            return ids;
+        }
+
+        private void add(Item item) {
+            itemsById.put(item.getId(), item);
+            idsByType.computeIfAbsent(item.getType(), type -> new HashSet<>()).add(item.getId());
+            idsByStatus.computeIfAbsent(item.getStatus(), status -> new HashSet<>()).add(item.getId());
+            item.getVersionStatusCounters().keySet()
+                .forEach(versionStatus -> idsByVersionStatus.computeIfAbsent(versionStatus, status -> new HashSet<>()).add(item.getId()));
+        }
+
+        private void removeFromIndex(String itemId) {
+            Item item = itemsById.remove(itemId);
+            if (item == null) {
+                return;
+            }
+            removeId(idsByType, item.getType(), itemId);
+            removeId(idsByStatus, item.getStatus(), itemId);
+            item.getVersionStatusCounters().keySet().forEach(versionStatus -> removeId(idsByVersionStatus, versionStatus, itemId));
+        }
+
+        private static <K> void removeId(Map<K, Set<String>> idsByKey, K key, String itemId) {
+            Set<String> ids = idsByKey.get(key);
+            if (ids != null) {
+                ids.remove(itemId);
+                if (ids.isEmpty()) {
+                    idsByKey.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -19,14 +19,18 @@
  */
 package org.openecomp.sdc.versioning.dao.impl;
 
+import java.util.concurrent.TimeUnit;
 import org.openecomp.core.zusammen.api.ZusammenAdaptorFactory;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
 import org.openecomp.sdc.versioning.dao.ItemDao;
 import org.openecomp.sdc.versioning.dao.ItemDaoFactory;
 import org.openecomp.sdc.versioning.dao.impl.zusammen.ItemZusammenDaoImpl;
 
 public class ItemDaoFactoryImpl extends ItemDaoFactory {
 
-    private static ItemDao INSTANCE = new ItemZusammenDaoImpl(ZusammenAdaptorFactory.getInstance().createInterface());
+    private static final long INDEX_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static ItemDao INSTANCE = new IndexedItemDao(new ItemZusammenDaoImpl(ZusammenAdaptorFactory.getInstance().createInterface()),
+        () -> SessionContextProviderFactory.getInstance().createInterface().get().getTenant(), INDEX_REFRESH_INTERVAL_MILLIS);
 
     @Override
     public ItemDao createInterface() {
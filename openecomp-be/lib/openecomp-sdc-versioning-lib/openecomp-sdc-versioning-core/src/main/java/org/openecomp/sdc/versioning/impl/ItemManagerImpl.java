@@ -25,6 +25,8 @@ import org.openecomp.sdc.versioning.ItemManager;
 import org.openecomp.sdc.versioning.dao.ItemDao;
 import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
 import org.openecomp.sdc.versioning.types.ItemStatus;
 
 public class ItemManagerImpl implements ItemManager {
@@ -40,6 +42,11 @@ public class ItemManagerImpl implements ItemManager {
         return itemDao.list().stream().filter(predicate).collect(Collectors.toList());
     }
 
+    @Override
+    public ItemPage list(ItemQuery query) {
+        return itemDao.list(query);
+    }
+
     @Override
     public Item get(String itemId) {
         Item item = new Item();
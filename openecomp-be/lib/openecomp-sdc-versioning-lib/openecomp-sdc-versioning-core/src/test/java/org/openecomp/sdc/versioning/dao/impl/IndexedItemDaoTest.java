@@ -0,0 +1,256 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.versioning.dao.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.versioning.dao.ItemDao;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
+import org.openecomp.sdc.versioning.types.Item;
+import org.openecomp.sdc.versioning.types.ItemPage;
+import org.openecomp.sdc.versioning.types.ItemQuery;
+import org.openecomp.sdc.versioning.types.ItemStatus;
+
+public class IndexedItemDaoTest {
+
+    private static final int ITEM_COUNT = 10000;
+    private static final long REFRESH_INTERVAL_MILLIS = 60000;
+    private static final String TENANT = "dox";
+    @Mock
+    private ItemDao itemDao;
+    private IndexedItemDao indexedItemDao;
+    private List<Item> items;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        items = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            items.add(createItem(i));
+        }
+        when(itemDao.list()).thenReturn(items);
+        when(itemDao.get(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        indexedItemDao = new IndexedItemDao(itemDao, () -> TENANT, REFRESH_INTERVAL_MILLIS);
+    }
+
+    @Test
+    public void queriesMatchTheItemsOfTheUnderlyingDao() {
+        List<ItemQuery> queries = Arrays.asList(new ItemQuery(), createQuery("vsp", ItemStatus.ACTIVE, VersionStatus.Certified, "NetworkPackage"),
+            createQuery("vlm", ItemStatus.ARCHIVED, null, null), createQuery(null, null, VersionStatus.Draft, "Manual"));
+        for (ItemQuery query : queries) {
+            ItemPage expected = query.apply(items);
+            ItemPage actual = indexedItemDao.list(query);
+            assertEquals(expected.getTotal(), actual.getTotal());
+            assertEquals(getIds(expected.getItems()), getIds(actual.getItems()));
+        }
+        verify(itemDao, times(1)).list();
+    }
+
+    @Test
+    public void queryIsPagedByDescendingModificationTime() {
+        ItemQuery query = createQuery("vsp", null, null, null);
+        query.setOffset(100);
+        query.setLimit(50);
+
+        ItemPage page = indexedItemDao.list(query);
+
+        assertEquals(ITEM_COUNT / 2, page.getTotal());
+        assertEquals(50, page.getItems().size());
+        assertEquals("item-" + (ITEM_COUNT - 202), page.getItems().get(0).getId());
+        for (int i = 1; i < page.getItems().size(); i++) {
+            assertTrue(page.getItems().get(i - 1).getModificationTime().after(page.getItems().get(i).getModificationTime()));
+        }
+    }
+
+    @Test
+    public void queryIsRestrictedToTheGivenItemIds() {
+        ItemQuery query = new ItemQuery();
+        query.setItemIds(new HashSet<>(Arrays.asList("item-1", "item-2", "unknown")));
+
+        ItemPage page = indexedItemDao.list(query);
+
+        assertEquals(Arrays.asList("item-2", "item-1"), getIds(page.getItems()));
+    }
+
+    @Test
+    public void indexIsUpdatedOnCreateUpdateAndDelete() {
+        indexedItemDao.list(new ItemQuery());
+        Item created = createItem(ITEM_COUNT);
+        when(itemDao.create(created)).thenReturn(created);
+        indexedItemDao.create(created);
+        Item archived = createItem(0);
+        archived.setStatus(ItemStatus.ARCHIVED);
+        Item storedArchived = createItem(0);
+        storedArchived.setStatus(ItemStatus.ARCHIVED);
+        storedArchived.setModificationTime(new Date(ITEM_COUNT + 1));
+        when(itemDao.get(archived)).thenReturn(storedArchived);
+        indexedItemDao.update(archived);
+        indexedItemDao.delete(createItem(1));
+
+        ItemQuery query = new ItemQuery();
+        query.setLimit(2);
+        ItemPage page = indexedItemDao.list(query);
+
+        assertEquals(ITEM_COUNT, page.getTotal());
+        assertEquals(Arrays.asList("item-0", "item-" + ITEM_COUNT), getIds(page.getItems()));
+        assertEquals(ItemStatus.ARCHIVED, page.getItems().get(0).getStatus());
+        assertEquals(storedArchived.getModificationTime(), page.getItems().get(0).getModificationTime());
+        verify(itemDao, times(1)).list();
+    }
+
+    @Test
+    public void updatedItemIsRemovedWhenItIsNoLongerStored() {
+        indexedItemDao.list(new ItemQuery());
+        Item deleted = createItem(0);
+        when(itemDao.get(deleted)).thenReturn(null);
+        indexedItemDao.update(deleted);
+
+        assertEquals(ITEM_COUNT - 1, indexedItemDao.list(new ItemQuery()).getTotal());
+    }
+
+    @Test
+    public void queriedItemsAreCopies() {
+        ItemQuery query = new ItemQuery();
+        query.setLimit(1);
+        indexedItemDao.list(query).getItems().get(0).setStatus(ItemStatus.ARCHIVED);
+
+        assertEquals(ItemStatus.ACTIVE, indexedItemDao.list(query).getItems().get(0).getStatus());
+    }
+
+    @Test
+    public void indexIsReloadedOnceOlderThanTheRefreshInterval() {
+        IndexedItemDao refreshedItemDao = new IndexedItemDao(itemDao, () -> TENANT, 0);
+        refreshedItemDao.list(new ItemQuery());
+        when(itemDao.list()).thenReturn(Collections.singletonList(createItem(0)));
+
+        assertEquals(1, refreshedItemDao.list(new ItemQuery()).getTotal());
+    }
+
+    @Test
+    public void listingAllItemsIsReadFromTheUnderlyingDao() {
+        assertEquals(ITEM_COUNT, indexedItemDao.list().size());
+        assertEquals(ITEM_COUNT, indexedItemDao.list().size());
+
+        verify(itemDao, times(2)).list();
+    }
+
+    @Test
+    public void concurrentQueriesReloadAStaleIndexOnce() throws Exception {
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch reloadReleased = new CountDownLatch(1);
+        when(itemDao.list()).thenAnswer(invocation -> {
+            reloadStarted.countDown();
+            reloadReleased.await(10, TimeUnit.SECONDS);
+            return items;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ItemPage>> pages = new ArrayList<>();
+            pages.add(executor.submit(() -> indexedItemDao.list(new ItemQuery())));
+            assertTrue(reloadStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                pages.add(executor.submit(() -> indexedItemDao.list(new ItemQuery())));
+            }
+            reloadReleased.countDown();
+
+            for (Future<ItemPage> page : pages) {
+                assertEquals(ITEM_COUNT, page.get(10, TimeUnit.SECONDS).getTotal());
+            }
+            verify(itemDao, times(1)).list();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void changesMadeWhileReloadingAreKept() {
+        when(itemDao.list()).thenAnswer(invocation -> {
+            indexedItemDao.delete(createItem(0));
+            Item archived = createItem(1);
+            archived.setStatus(ItemStatus.ARCHIVED);
+            indexedItemDao.update(archived);
+            return items;
+        });
+        ItemQuery query = new ItemQuery();
+        query.setItemIds(new HashSet<>(Arrays.asList("item-0", "item-1")));
+
+        ItemPage page = indexedItemDao.list(query);
+
+        assertEquals(Collections.singletonList("item-1"), getIds(page.getItems()));
+        assertEquals(ItemStatus.ARCHIVED, page.getItems().get(0).getStatus());
+    }
+
+    private static ItemQuery createQuery(String type, ItemStatus status, VersionStatus versionStatus, String onboardingMethod) {
+        ItemQuery query = new ItemQuery();
+        if (type != null) {
+            query.getItemTypes().add(type);
+        }
+        if (status != null) {
+            query.getItemStatuses().add(status);
+        }
+        if (versionStatus != null) {
+            query.getVersionStatuses().add(versionStatus);
+        }
+        if (onboardingMethod != null) {
+            query.getOnboardingMethods().add(onboardingMethod);
+        }
+        return query;
+    }
+
+    private static Item createItem(int index) {
+        Item item = new Item();
+        item.setId("item-" + index);
+        item.setName("item " + index);
+        item.setType(index % 2 == 0 ? "vsp" : "vlm");
+        item.setStatus(index % 5 == 0 ? ItemStatus.ARCHIVED : ItemStatus.ACTIVE);
+        item.addVersionStatus(index % 3 == 0 ? VersionStatus.Certified : VersionStatus.Draft);
+        if (index % 2 == 0) {
+            item.addProperty(ItemQuery.ONBOARDING_METHOD, index % 4 == 0 ? "NetworkPackage" : "Manual");
+        }
+        item.setCreationTime(new Date(index));
+        item.setModificationTime(new Date(index));
+        return item;
+    }
+
+    private static List<String> getIds(List<Item> items) {
+        return items.stream().map(Item::getId).collect(Collectors.toList());
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.openecomp.sdc.tosca.services;
 
+import java.io.OutputStream;
 import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 
@@ -26,6 +27,15 @@ public interface ToscaFileOutputService {
 
     byte[] createOutputFile(ToscaServiceModel toscaServiceModel, FileContentHandler externalArtifacts);
 
+    /**
+     * Writes the output file to a stream instead of holding it in memory. The stream is left open.
+     *
+     * @param toscaServiceModel the service model to pack
+     * @param externalArtifacts the artifacts to add to the output file, may be null
+     * @param outputStream      the stream to write the output file to
+     */
+    void createOutputFile(ToscaServiceModel toscaServiceModel, FileContentHandler externalArtifacts, OutputStream outputStream);
+
     String createMetaFile(String entryDefinitionsFileName);
 
     String getArtifactsFolderName();
@@ -24,8 +24,10 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -60,7 +62,13 @@ public class ToscaFileOutputServiceCsarImpl implements ToscaFileOutputService {
     @Override
     public byte[] createOutputFile(ToscaServiceModel toscaServiceModel, FileContentHandler externalArtifacts) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(baos))) {
+        createOutputFile(toscaServiceModel, externalArtifacts, baos);
+        return baos.toByteArray();
+    }
+
+    @Override
+    public void createOutputFile(ToscaServiceModel toscaServiceModel, FileContentHandler externalArtifacts, OutputStream outputStream) {
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new NonClosingOutputStream(outputStream)))) {
             packDefinitions(zos, toscaServiceModel.getServiceTemplates());
             FileContentHandler artifactFiles = toscaServiceModel.getArtifactFiles();
             if (artifactFiles != null && !artifactFiles.isEmpty()) {
@@ -76,7 +84,6 @@ public class ToscaFileOutputServiceCsarImpl implements ToscaFileOutputService {
         } catch (IOException ex) {
             throw new CoreException(new CsarCreationErrorBuilder().build(), ex);
         }
-        return baos.toByteArray();
     }
 
     @Override
@@ -147,4 +154,24 @@ public class ToscaFileOutputServiceCsarImpl implements ToscaFileOutputService {
             IOUtils.copy(is, zos);
         }
     }
+
+    /**
+     * Leaves the output stream of the caller open when the zip stream written to it is closed.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 }
@@ -20,6 +20,7 @@
 
 package org.openecomp.sdc.tosca.services.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -29,6 +30,7 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -177,6 +179,40 @@ public class ToscaFileOutputServiceCsarImplTest {
         Files.delete(Paths.get(file.getAbsolutePath()));
     }
 
+    @Test
+    public void testCSARFileStreamedToOutputStream() throws IOException {
+        ServiceTemplate serviceTemplate = new ServiceTemplate();
+        serviceTemplate.setTosca_definitions_version("tosca_simple_yaml_1_0_0");
+        serviceTemplate.setMetadata(Collections.singletonMap(ToscaConstants.ST_METADATA_TEMPLATE_NAME, "Test"));
+        Map<String, ServiceTemplate> definitionsInput = new HashMap<>();
+        String serviceTemplateFileName = ToscaUtil.getServiceTemplateFileName(serviceTemplate);
+        definitionsInput.put(serviceTemplateFileName, serviceTemplate);
+        FileContentHandler licenseArtifactsFiles = new FileContentHandler();
+        licenseArtifactsFiles.addFile(ToscaFileOutputServiceCsarImpl.EXTERNAL_ARTIFACTS_FOLDER_NAME + File.separator + "license.xml",
+                "license".getBytes());
+        ToscaServiceModel toscaServiceModel = new ToscaServiceModel(null, definitionsInput, serviceTemplateFileName);
+
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        toscaFileOutputServiceCsarImpl.createOutputFile(toscaServiceModel, licenseArtifactsFiles, outputStream);
+        Assert.assertFalse(closed.get());
+
+        File file = File.createTempFile("resultFile", "zip");
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            outputStream.writeTo(fos);
+        }
+        try (ZipFile zipFile = new ZipFile(file)) {
+            Assert.assertEquals(3, zipFile.size());
+            Assert.assertNotNull(zipFile.getEntry(ToscaFileOutputServiceCsarImpl.EXTERNAL_ARTIFACTS_FOLDER_NAME + File.separator + "license.xml"));
+        }
+        Files.delete(Paths.get(file.getAbsolutePath()));
+    }
+
     @Test(expected = CoreException.class)
     public void testCreateOutputFileEntryDefinitionServiceTemplateIsNull() {
         ToscaServiceModel toscaServiceModel = new ToscaServiceModel();